@@ -25,6 +25,7 @@ import com.djrapitops.plan.system.BukkitSystem;
 import com.djrapitops.plan.system.locale.Locale;
 import com.djrapitops.plan.system.locale.lang.PluginLang;
 import com.djrapitops.plan.system.processing.importing.ImporterManager;
+import com.djrapitops.plan.system.processing.importing.importers.FileImporter;
 import com.djrapitops.plan.system.processing.importing.importers.OfflinePlayerImporter;
 import com.djrapitops.plan.system.settings.theme.PlanColorScheme;
 import com.djrapitops.plan.utilities.metrics.BStatsBukkit;
@@ -69,6 +70,7 @@ public class Plan extends BukkitPlugin implements PlanPlugin {
             system.enable();
 
             ImporterManager.registerImporter(new OfflinePlayerImporter());
+            ImporterManager.registerImporter(new FileImporter());
 
             new BStatsBukkit(this).registerMetrics();
 
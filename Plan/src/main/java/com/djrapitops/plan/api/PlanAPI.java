@@ -7,6 +7,7 @@ package com.djrapitops.plan.api;
 import com.djrapitops.plan.data.plugin.PluginData;
 import com.djrapitops.plan.system.PlanSystem;
 import com.djrapitops.plan.system.database.databases.operation.FetchOperations;
+import com.djrapitops.plan.system.database.databases.operation.QueryOperations;
 
 import java.util.Map;
 import java.util.UUID;
@@ -35,4 +36,14 @@ public interface PlanAPI {
     Map<UUID, String> getKnownPlayerNames();
 
     FetchOperations fetchFromPlanDB();
+
+    /**
+     * Get operations for reading large amounts of data a page at a time.
+     * <p>
+     * Prefer these over {@link #fetchFromPlanDB()} when reading data of all players, as they do not load whole
+     * tables to memory.
+     *
+     * @return QueryOperations of the active database.
+     */
+    QueryOperations queryPlanDB();
 }
@@ -7,6 +7,7 @@ package com.djrapitops.plan.api;
 import com.djrapitops.plan.data.plugin.PluginData;
 import com.djrapitops.plan.system.ServerSystem;
 import com.djrapitops.plan.system.database.databases.operation.FetchOperations;
+import com.djrapitops.plan.system.database.databases.operation.QueryOperations;
 
 import java.util.UUID;
 
@@ -37,4 +38,9 @@ public class ServerAPI extends CommonAPI {
     public FetchOperations fetchFromPlanDB() {
         return serverSystem.getDatabaseSystem().getActiveDatabase().fetch();
     }
+
+    @Override
+    public QueryOperations queryPlanDB() {
+        return serverSystem.getDatabaseSystem().getActiveDatabase().query();
+    }
 }
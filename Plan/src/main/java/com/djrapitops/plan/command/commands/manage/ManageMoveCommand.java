@@ -36,7 +36,7 @@ public class ManageMoveCommand extends CommandNode {
 
         locale = plugin.getSystem().getLocaleSystem().getLocale();
 
-        setArguments("<fromDB>", "<toDB>", "[-a]");
+        setArguments("<fromDB>", "<toDB>", "[-a]", "[-c]");
         setShortHelp(locale.getString(CmdHelpLang.MANAGE_MOVE));
         setInDepthHelp(locale.getArray(DeepHelpLang.MANAGE_MOVE));
     }
@@ -68,20 +68,26 @@ public class ManageMoveCommand extends CommandNode {
             final Database fromDatabase = DBSystem.getActiveDatabaseByName(fromDB);
             final Database toDatabase = DBSystem.getActiveDatabaseByName(toDB);
 
-            runMoveTask(fromDatabase, toDatabase, sender);
+            // -c continues a move that was interrupted instead of starting over.
+            boolean continueMove = Verify.contains("-c", args);
+            runMoveTask(fromDatabase, toDatabase, continueMove, sender);
         } catch (Exception e) {
             sender.sendMessage(locale.getString(ManageLang.PROGRESS_FAIL, e.getMessage()));
         }
     }
 
-    private void runMoveTask(final Database fromDatabase, final Database toDatabase, ISender sender) {
+    private void runMoveTask(final Database fromDatabase, final Database toDatabase, boolean continueMove, ISender sender) {
         RunnableFactory.createNew(new AbsRunnable("DBMoveTask") {
             @Override
             public void run() {
                 try {
                     sender.sendMessage(locale.getString(ManageLang.PROGRESS_START));
 
-                    fromDatabase.backup().backup(toDatabase);
+                    if (continueMove) {
+                        fromDatabase.backup().continueBackup(toDatabase);
+                    } else {
+                        fromDatabase.backup().backup(toDatabase);
+                    }
 
                     sender.sendMessage(locale.getString(ManageLang.PROGRESS_SUCCESS));
 
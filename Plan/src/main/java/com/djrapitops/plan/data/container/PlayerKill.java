@@ -4,6 +4,7 @@ import com.djrapitops.plan.data.store.objects.DateHolder;
 
 import java.io.Serializable;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -14,6 +15,7 @@ import java.util.UUID;
  */
 public class PlayerKill implements DateHolder, Serializable {
 
+    private final UUID killer;
     private final UUID victim;
     private final long date;
     private final String weapon;
@@ -26,11 +28,35 @@ public class PlayerKill implements DateHolder, Serializable {
      * @param date   Epoch millisecond at which the kill occurred.
      */
     public PlayerKill(UUID victim, String weapon, long date) {
+        this(null, victim, weapon, date);
+    }
+
+    /**
+     * Creates a PlayerKill object that knows the killer.
+     *
+     * @param killer UUID of the killer.
+     * @param victim UUID of the victim.
+     * @param weapon Weapon used.
+     * @param date   Epoch millisecond at which the kill occurred.
+     */
+    public PlayerKill(UUID killer, UUID victim, String weapon, long date) {
+        this.killer = killer;
         this.victim = victim;
         this.weapon = weapon;
         this.date = date;
     }
 
+    /**
+     * Get the killer's UUID.
+     * <p>
+     * Only known when the kill is not inside a Session of the killer.
+     *
+     * @return Optional UUID of the killer.
+     */
+    public Optional<UUID> getKiller() {
+        return Optional.ofNullable(killer);
+    }
+
     /**
      * Get the victim's UUID.
      *
@@ -60,18 +86,20 @@ public class PlayerKill implements DateHolder, Serializable {
         if (o == null || getClass() != o.getClass()) return false;
         PlayerKill that = (PlayerKill) o;
         return date == that.date &&
+                Objects.equals(killer, that.killer) &&
                 Objects.equals(victim, that.victim) &&
                 Objects.equals(weapon, that.weapon);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(victim, date, weapon);
+        return Objects.hash(killer, victim, date, weapon);
     }
 
     @Override
     public String toString() {
         return "PlayerKill{" +
+                (killer != null ? "killer=" + killer + ", " : "") +
                 "victim=" + victim + ", " +
                 "date=" + date + ", " +
                 "weapon='" + weapon + "'}";
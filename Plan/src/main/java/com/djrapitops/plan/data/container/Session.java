@@ -9,9 +9,14 @@ import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.settings.WorldAliasSettings;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * DataContainer for information about a player's play session.
+ * <p>
+ * Changes to an active session are synchronized on the session, use {@link #snapshot(long)} to read it
+ * from other threads. Mob kills and deaths are counted without locking, so that they can be counted on the server
+ * thread.
  *
  * @author Rsl1122
  * @see SessionKeys for Key objects.
@@ -22,8 +27,8 @@ public class Session extends DataContainer implements DateHolder {
     private WorldTimes worldTimes;
     private List<PlayerKill> playerKills;
 
-    private int mobKills;
-    private int deaths;
+    private final AtomicInteger mobKills;
+    private final AtomicInteger deaths;
     private long afkTime;
 
     /**
@@ -39,8 +44,8 @@ public class Session extends DataContainer implements DateHolder {
         worldTimes = new WorldTimes(world, gm, sessionStart);
         playerKills = new ArrayList<>();
 
-        mobKills = 0;
-        deaths = 0;
+        mobKills = new AtomicInteger();
+        deaths = new AtomicInteger();
         afkTime = 0;
 
         putRawData(SessionKeys.UUID, uuid);
@@ -80,8 +85,8 @@ public class Session extends DataContainer implements DateHolder {
         worldTimes = new WorldTimes(new HashMap<>());
         playerKills = new ArrayList<>();
 
-        this.mobKills = mobKills;
-        this.deaths = deaths;
+        this.mobKills = new AtomicInteger(mobKills);
+        this.deaths = new AtomicInteger(deaths);
         this.afkTime = afkTime;
 
         putRawData(SessionKeys.DB_ID, id);
@@ -104,6 +109,58 @@ public class Session extends DataContainer implements DateHolder {
         putSupplier(SessionKeys.LONGEST_WORLD_PLAYED, this::getLongestWorldPlayed);
     }
 
+    /**
+     * Creates a copy of an active session for reading.
+     *
+     * @param original Session to copy, lock of the session is held.
+     * @param now      Epoch ms the WorldTimes of the copy are updated to, if the session has not ended.
+     */
+    private Session(Session original, long now) {
+        sessionStart = original.sessionStart;
+        worldTimes = original.worldTimes.copy();
+        playerKills = new ArrayList<>(original.playerKills);
+
+        mobKills = new AtomicInteger(original.mobKills.get());
+        deaths = new AtomicInteger(original.deaths.get());
+        afkTime = original.afkTime;
+
+        putRawData(SessionKeys.UUID, original.getUnsafe(SessionKeys.UUID));
+        original.getValue(SessionKeys.DB_ID).ifPresent(id -> putRawData(SessionKeys.DB_ID, id));
+        putSupplier(SessionKeys.SERVER_UUID, original.getSupplier(SessionKeys.SERVER_UUID));
+        putSupplier(SessionKeys.START, this::getSessionStart);
+        Optional<Long> end = original.getValue(SessionKeys.END);
+        end.ifPresent(time -> putRawData(SessionKeys.END, time));
+        putSupplier(SessionKeys.WORLD_TIMES, this::getWorldTimes);
+        putSupplier(SessionKeys.PLAYER_KILLS, this::getPlayerKills);
+        putRawData(SessionKeys.PLAYER_DEATHS, new ArrayList<>(original.getValue(SessionKeys.PLAYER_DEATHS).orElse(new ArrayList<>())));
+        putSupplier(SessionKeys.MOB_KILL_COUNT, this::getMobKills);
+        putSupplier(SessionKeys.DEATH_COUNT, this::getDeaths);
+        putSupplier(SessionKeys.AFK_TIME, this::getAfkTime);
+
+        putSupplier(SessionKeys.PLAYER_KILL_COUNT, () -> getUnsafe(SessionKeys.PLAYER_KILLS).size());
+        putSupplier(SessionKeys.LENGTH, () ->
+                getValue(SessionKeys.END).orElse(System.currentTimeMillis()) - getUnsafe(SessionKeys.START));
+        putSupplier(SessionKeys.ACTIVE_TIME, () -> getUnsafe(SessionKeys.LENGTH) - getUnsafe(SessionKeys.AFK_TIME));
+
+        putSupplier(SessionKeys.LONGEST_WORLD_PLAYED, this::getLongestWorldPlayed);
+
+        if (!end.isPresent() && worldTimes.getCurrentWorld() != null) {
+            worldTimes.updateState(now);
+        }
+    }
+
+    /**
+     * Get a copy of the session that is not changed by later events.
+     * <p>
+     * WorldTimes of the copy include the time in the current world up to the given time.
+     *
+     * @param now Epoch ms.
+     * @return New Session object.
+     */
+    public synchronized Session snapshot(long now) {
+        return new Session(this, now);
+    }
+
     /**
      * Ends the session with given end point.
      * <p>
@@ -111,7 +168,7 @@ public class Session extends DataContainer implements DateHolder {
      *
      * @param endOfSession Epoch millisecond the session ended.
      */
-    public void endSession(long endOfSession) {
+    public synchronized void endSession(long endOfSession) {
         putRawData(SessionKeys.END, endOfSession);
         worldTimes.updateState(endOfSession);
     }
@@ -123,20 +180,20 @@ public class Session extends DataContainer implements DateHolder {
      * @param gm    GameMode the player is in.
      * @param time  Epoch ms of the event.
      */
-    public void changeState(String world, String gm, long time) {
+    public synchronized void changeState(String world, String gm, long time) {
         worldTimes.updateState(world, gm, time);
     }
 
-    public void playerKilled(PlayerKill kill) {
+    public synchronized void playerKilled(PlayerKill kill) {
         playerKills.add(kill);
     }
 
     public void mobKilled() {
-        mobKills++;
+        mobKills.incrementAndGet();
     }
 
     public void died() {
-        deaths++;
+        deaths.incrementAndGet();
     }
 
     /**
@@ -153,11 +210,11 @@ public class Session extends DataContainer implements DateHolder {
         return getUnsafe(SessionKeys.START);
     }
 
-    public void setWorldTimes(WorldTimes worldTimes) {
+    public synchronized void setWorldTimes(WorldTimes worldTimes) {
         this.worldTimes = worldTimes;
     }
 
-    public void setPlayerKills(List<PlayerKill> playerKills) {
+    public synchronized void setPlayerKills(List<PlayerKill> playerKills) {
         this.playerKills = playerKills;
     }
 
@@ -165,7 +222,7 @@ public class Session extends DataContainer implements DateHolder {
         return supports(SessionKeys.DB_ID);
     }
 
-    public void addAFKTime(long timeAFK) {
+    public synchronized void addAFKTime(long timeAFK) {
         afkTime += timeAFK;
     }
 
@@ -180,15 +237,15 @@ public class Session extends DataContainer implements DateHolder {
         Session session = (Session) o;
         return getUnsafe(SessionKeys.START).equals(session.getUnsafe(SessionKeys.START)) &&
                 getValue(SessionKeys.END).orElse(-1L).equals(session.getValue(SessionKeys.END).orElse(-1L)) &&
-                mobKills == session.mobKills &&
-                deaths == session.deaths &&
+                mobKills.get() == session.mobKills.get() &&
+                deaths.get() == session.deaths.get() &&
                 Objects.equals(playerKills, session.playerKills) &&
                 Objects.equals(worldTimes, session.worldTimes);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), mobKills, deaths, afkTime);
+        return Objects.hash(super.hashCode(), mobKills.get(), deaths.get(), afkTime);
     }
 
     private long getSessionStart() {
@@ -204,11 +261,11 @@ public class Session extends DataContainer implements DateHolder {
     }
 
     private int getMobKills() {
-        return mobKills;
+        return mobKills.get();
     }
 
     private int getDeaths() {
-        return deaths;
+        return deaths.get();
     }
 
     private long getAfkTime() {
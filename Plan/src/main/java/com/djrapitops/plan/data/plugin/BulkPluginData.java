@@ -0,0 +1,34 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.data.plugin;
+
+import com.djrapitops.plan.data.element.AnalysisContainer;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Interface for PluginData objects that can give the player table values of all players with one call.
+ * <p>
+ * When a PluginData implements this interface, {@link HookHandler} adds the values returned by
+ * {@link #getPlayerTableValues(Collection)} to the AnalysisContainer, so
+ * {@link PluginData#getServerData(Collection, AnalysisContainer)} should not add player table values itself.
+ *
+ * @author Rsl1122
+ */
+public interface BulkPluginData {
+
+    /**
+     * Get values of the players for the players table of Analysis page.
+     *
+     * @param uuids UUIDs of the players.
+     * @return Map of Column name - (Map of UUID - value), players without a value can be left out.
+     * @throws Exception If the values could not be loaded.
+     */
+    Map<String, Map<UUID, ? extends Serializable>> getPlayerTableValues(Collection<UUID> uuids) throws Exception;
+
+}
@@ -1,6 +1,7 @@
 package com.djrapitops.plan.data.plugin;
 
 import com.djrapitops.plan.PlanPlugin;
+import com.djrapitops.plan.data.element.AnalysisContainer;
 import com.djrapitops.plan.data.element.InspectContainer;
 import com.djrapitops.plan.system.PlanSystem;
 import com.djrapitops.plan.system.SubSystem;
@@ -9,6 +10,7 @@ import com.djrapitops.plugin.api.utility.log.Log;
 import com.djrapitops.plugin.utilities.Verify;
 import com.djrapitops.pluginbridge.plan.Bridge;
 
+import java.io.Serializable;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -95,6 +97,28 @@ public class HookHandler implements SubSystem {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get the Analysis data of a PluginData source.
+     * <p>
+     * Player table values of {@link BulkPluginData} sources are loaded with one call.
+     *
+     * @param pluginData PluginData source.
+     * @param uuids      UUIDs of the players in the Analysis.
+     * @return AnalysisContainer filled by the source, or null if the source returned null.
+     * @throws Exception If the source threw an exception.
+     */
+    public AnalysisContainer getServerData(PluginData pluginData, Collection<UUID> uuids) throws Exception {
+        AnalysisContainer container = pluginData.getServerData(uuids, new AnalysisContainer());
+        if (container == null || !(pluginData instanceof BulkPluginData)) {
+            return container;
+        }
+        Map<String, Map<UUID, ? extends Serializable>> columns = ((BulkPluginData) pluginData).getPlayerTableValues(uuids);
+        if (columns != null) {
+            columns.forEach(container::addPlayerTableValues);
+        }
+        return container;
+    }
+
     public Map<PluginData, InspectContainer> getInspectContainersFor(UUID uuid) {
         List<PluginData> plugins = getAdditionalDataSources();
         Map<PluginData, InspectContainer> containers = new HashMap<>();
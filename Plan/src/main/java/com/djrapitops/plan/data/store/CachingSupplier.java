@@ -2,21 +2,29 @@ package com.djrapitops.plan.data.store;
 
 import com.djrapitops.plugin.api.TimeAmount;
 
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 /**
  * Caching layer between Supplier and caller.
- *
+ * <p>
  * Refreshes the value if 30 seconds have passed since the last call.
+ * <p>
+ * Thread safe: The original Supplier is called only once even if multiple threads request
+ * the value at the same time. When the value expires, one caller refreshes it while other callers
+ * get the previous value instead of waiting.
  *
  * @author Rsl1122
  */
 public class CachingSupplier<T> implements Supplier<T> {
 
     private final Supplier<T> original;
-    private T cachedValue;
-    private long cacheTime;
-    private long timeToLive;
+    private final long timeToLive;
+    private final AtomicBoolean refreshing;
+
+    private volatile T cachedValue;
+    private volatile long cacheTime;
+    private volatile boolean cached;
 
     public CachingSupplier(Supplier<T> original) {
         this(original, TimeAmount.SECOND.ms() * 30L);
@@ -25,24 +33,42 @@ public class CachingSupplier<T> implements Supplier<T> {
     public CachingSupplier(Supplier<T> original, long timeToLive) {
         this.original = original;
         this.timeToLive = timeToLive;
+        refreshing = new AtomicBoolean(false);
 
         cacheTime = 0L;
     }
 
     @Override
     public T get() {
-        if (cachedValue == null || System.currentTimeMillis() - cacheTime > timeToLive) {
+        long now = System.currentTimeMillis();
+        if (!cached) {
+            return computeFirst(now);
+        }
+        if (now - cacheTime > timeToLive && refreshing.compareAndSet(false, true)) {
+            try {
+                cachedValue = original.get();
+                cacheTime = now;
+            } finally {
+                refreshing.set(false);
+            }
+        }
+        return cachedValue;
+    }
+
+    private synchronized T computeFirst(long now) {
+        if (!cached) {
             cachedValue = original.get();
-            cacheTime = System.currentTimeMillis();
+            cacheTime = now;
+            cached = true;
         }
         return cachedValue;
     }
 
     public boolean isCached() {
-        return cachedValue != null;
+        return cached;
     }
 
     public long getCacheTime() {
         return cacheTime;
     }
-}
\ No newline at end of file
+}
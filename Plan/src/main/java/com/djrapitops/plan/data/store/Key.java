@@ -12,6 +12,7 @@ public class Key<T> {
 
     private final Type<T> type;
     private final String keyName;
+    private int slot = -1; // Racy single-check, resolving the slot is idempotent
 
     /**
      * Create a new key.
@@ -52,6 +53,20 @@ public class Key<T> {
         return keyName;
     }
 
+    /**
+     * Get the slot of the Key, equal Keys have the same slot.
+     *
+     * @return Index used by DataContainers to store the value of this Key.
+     */
+    public int getSlot() {
+        int resolved = slot;
+        if (resolved < 0) {
+            resolved = KeySlots.slotOf(this);
+            slot = resolved;
+        }
+        return resolved;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
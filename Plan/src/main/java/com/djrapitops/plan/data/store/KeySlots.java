@@ -0,0 +1,50 @@
+package com.djrapitops.plan.data.store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry that gives every distinct {@link Key} a slot number.
+ * <p>
+ * Keys that are equal share the same slot, so DataContainers can look values up by the slot
+ * instead of hashing the Key on every lookup.
+ *
+ * @author Rsl1122
+ * @see com.djrapitops.plan.data.store.containers.DataContainer
+ */
+public final class KeySlots {
+
+    private static final Map<Key, Integer> SLOTS = new ConcurrentHashMap<>();
+    private static final List<Key> KEYS = new ArrayList<>();
+
+    private KeySlots() {
+        /* Static method class */
+    }
+
+    static int slotOf(Key key) {
+        Integer slot = SLOTS.get(key);
+        if (slot != null) {
+            return slot;
+        }
+        synchronized (KEYS) {
+            return SLOTS.computeIfAbsent(key, newKey -> {
+                KEYS.add(newKey);
+                return KEYS.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * Get the Key that was given a slot.
+     *
+     * @param slot Slot number given by {@link Key#getSlot()}.
+     * @return First Key instance registered for the slot.
+     */
+    public static Key keyOf(int slot) {
+        synchronized (KEYS) {
+            return KEYS.get(slot);
+        }
+    }
+}
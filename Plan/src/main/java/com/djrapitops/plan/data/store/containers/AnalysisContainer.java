@@ -14,7 +14,7 @@ import com.djrapitops.plan.data.time.WorldTimes;
 import com.djrapitops.plan.system.database.databases.Database;
 import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.info.server.properties.ServerProperties;
-import com.djrapitops.plan.system.settings.Settings;
+import com.djrapitops.plan.system.settings.SettingsSnapshot;
 import com.djrapitops.plan.system.settings.theme.Theme;
 import com.djrapitops.plan.system.settings.theme.ThemeVal;
 import com.djrapitops.plan.utilities.MiscUtils;
@@ -48,6 +48,13 @@ import java.util.stream.Collectors;
  */
 public class AnalysisContainer extends DataContainer {
 
+    /**
+     * Time-windowed data (Pings) older than this is not used by the analysis.
+     *
+     * @see com.djrapitops.plan.system.database.databases.operation.FetchOperations#getServerContainer(UUID, long)
+     */
+    public static final long DATA_WINDOW = TimeAmount.MONTH.ms();
+
     private final ServerContainer serverContainer;
 
     private static final Key<Map<UUID, String>> serverNames = new Key<>(new Type<Map<UUID, String>>() {}, "SERVER_NAMES");
@@ -93,8 +100,8 @@ public class AnalysisContainer extends DataContainer {
         putRawData(AnalysisKeys.VERSION, PlanPlugin.getInstance().getVersion());
         putSupplier(AnalysisKeys.TIME_ZONE, MiscUtils::getTimeZoneOffsetHours);
         putRawData(AnalysisKeys.FIRST_DAY, 1);
-        putRawData(AnalysisKeys.TPS_MEDIUM, Settings.THEME_GRAPH_TPS_THRESHOLD_MED.getNumber());
-        putRawData(AnalysisKeys.TPS_HIGH, Settings.THEME_GRAPH_TPS_THRESHOLD_HIGH.getNumber());
+        putRawData(AnalysisKeys.TPS_MEDIUM, SettingsSnapshot.get().getTpsThresholdMedium());
+        putRawData(AnalysisKeys.TPS_HIGH, SettingsSnapshot.get().getTpsThresholdHigh());
 
         addServerProperties();
         addThemeColors();
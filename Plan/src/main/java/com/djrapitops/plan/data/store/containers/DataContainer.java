@@ -2,12 +2,15 @@ package com.djrapitops.plan.data.store.containers;
 
 import com.djrapitops.plan.data.store.CachingSupplier;
 import com.djrapitops.plan.data.store.Key;
+import com.djrapitops.plan.data.store.KeySlots;
 import com.djrapitops.plan.data.store.mutators.formatting.Formatter;
 import com.djrapitops.plugin.api.TimeAmount;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Supplier;
 
 /**
@@ -15,12 +18,16 @@ import java.util.function.Supplier;
  * <p>
  * The methods in this object are used for placing and fetching the data from the container.
  * Methods to use depend on your use case.
+ * <p>
+ * Values are stored in a small open addressing table keyed by {@link Key#getSlot()}, sized by the amount of values
+ * in the container. Reads do not lock, writes are synchronized so that the container can be read by multiple threads
+ * while it is filled.
  *
  * @author Rsl1122
  */
 public class DataContainer {
 
-    private final Map<Key, Supplier> map;
+    private volatile SlotTable suppliers;
     private long timeToLive;
 
     public DataContainer() {
@@ -29,7 +36,7 @@ public class DataContainer {
 
     public DataContainer(long timeToLive) {
         this.timeToLive = timeToLive;
-        map = new HashMap<>();
+        suppliers = SlotTable.EMPTY_TABLE;
     }
 
     /**
@@ -47,11 +54,23 @@ public class DataContainer {
         if (supplier == null) {
             return;
         }
-        map.put(key, new CachingSupplier<>(supplier, timeToLive));
+        put(key.getSlot(), new CachingSupplier<>(supplier, timeToLive));
+    }
+
+    private synchronized void put(int slot, Supplier supplier) {
+        SlotTable current = suppliers;
+        while (!current.put(slot, supplier)) {
+            current = current.grow();
+            suppliers = current;
+        }
+    }
+
+    private Supplier get(Key key) {
+        return suppliers.get(key.getSlot());
     }
 
     public <T> Supplier<T> getSupplier(Key<T> key) {
-        return (Supplier<T>) map.get(key);
+        return (Supplier<T>) get(key);
     }
 
     /**
@@ -62,7 +81,7 @@ public class DataContainer {
      * @return true if found, false if not.
      */
     public <T> boolean supports(Key<T> key) {
-        return map.containsKey(key);
+        return get(key) != null;
     }
 
     /**
@@ -90,7 +109,7 @@ public class DataContainer {
     }
 
     public <T> T getUnsafe(Key<T> key) {
-        Supplier supplier = map.get(key);
+        Supplier supplier = get(key);
         if (supplier == null) {
             throw new IllegalArgumentException("Unsupported Key: " + key.getKeyName());
         }
@@ -108,18 +127,123 @@ public class DataContainer {
     }
 
     public void putAll(Map<Key, Supplier> toPut) {
-        map.putAll(toPut);
+        for (Map.Entry<Key, Supplier> entry : toPut.entrySet()) {
+            put(entry.getKey().getSlot(), entry.getValue());
+        }
     }
 
     public void putAll(DataContainer dataContainer) {
-        putAll(dataContainer.map);
+        SlotTable toPut = dataContainer.suppliers;
+        for (int i = 0; i < toPut.capacity(); i++) {
+            int slot = toPut.slotAt(i);
+            if (slot != SlotTable.NO_SLOT) {
+                put(slot, toPut.supplierAt(i));
+            }
+        }
     }
 
-    public void clear() {
-        map.clear();
+    public synchronized void clear() {
+        suppliers = SlotTable.EMPTY_TABLE;
     }
 
+    /**
+     * Get a snapshot of the Keys and Suppliers in the container.
+     *
+     * @return Map: Key - Supplier, changes to the map are not reflected in the container.
+     */
     public Map<Key, Supplier> getMap() {
+        Map<Key, Supplier> map = new LinkedHashMap<>();
+        SlotTable current = suppliers;
+        for (int i = 0; i < current.capacity(); i++) {
+            int slot = current.slotAt(i);
+            if (slot != SlotTable.NO_SLOT) {
+                map.put(KeySlots.keyOf(slot), current.supplierAt(i));
+            }
+        }
         return map;
     }
-}
\ No newline at end of file
+
+    /**
+     * Open addressing table of slot - Supplier pairs.
+     * <p>
+     * The Supplier is set before the slot, so a reader that finds the slot also sees its Supplier.
+     * Writes are done by the synchronized methods of the container, a full table is replaced with a larger copy.
+     */
+    private static class SlotTable {
+
+        private static final int NO_SLOT = -1;
+        private static final SlotTable EMPTY_TABLE = new SlotTable(1);
+
+        private final AtomicIntegerArray slots;
+        private final AtomicReferenceArray<Supplier> suppliers;
+        private final int mask;
+        private int size;
+
+        private SlotTable(int capacity) {
+            slots = new AtomicIntegerArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                slots.set(i, NO_SLOT);
+            }
+            suppliers = new AtomicReferenceArray<>(capacity);
+            mask = capacity - 1;
+        }
+
+        private Supplier get(int slot) {
+            for (int i = slot & mask; ; i = (i + 1) & mask) {
+                int found = slots.get(i);
+                if (found == slot) {
+                    return suppliers.get(i);
+                }
+                if (found == NO_SLOT) {
+                    return null;
+                }
+            }
+        }
+
+        /**
+         * @return false if the table is too full for a new slot.
+         */
+        private boolean put(int slot, Supplier supplier) {
+            for (int i = slot & mask; ; i = (i + 1) & mask) {
+                int found = slots.get(i);
+                if (found == slot) {
+                    suppliers.set(i, supplier);
+                    return true;
+                }
+                if (found == NO_SLOT) {
+                    // At most 3/4 full, so that lookups of missing slots find an empty index.
+                    if ((size + 1) * 4 > capacity() * 3) {
+                        return false;
+                    }
+                    suppliers.set(i, supplier);
+                    slots.set(i, slot);
+                    size++;
+                    return true;
+                }
+            }
+        }
+
+        private SlotTable grow() {
+            SlotTable grown = new SlotTable(capacity() * 2);
+            for (int i = 0; i < capacity(); i++) {
+                int slot = slots.get(i);
+                if (slot != NO_SLOT) {
+                    grown.put(slot, suppliers.get(i));
+                }
+            }
+            return grown;
+        }
+
+        private int capacity() {
+            return mask + 1;
+        }
+
+        private int slotAt(int index) {
+            return slots.get(index);
+        }
+
+        private Supplier supplierAt(int index) {
+            return suppliers.get(index);
+        }
+    }
+}
@@ -70,7 +70,8 @@ public class NetworkContainer extends DataContainer {
             return Optional.of(container);
         }
         try {
-            AnalysisContainer analysisContainer = new AnalysisContainer(Database.getActive().fetch().getServerContainer(serverUUID));
+            long after = System.currentTimeMillis() - AnalysisContainer.DATA_WINDOW;
+            AnalysisContainer analysisContainer = new AnalysisContainer(Database.getActive().fetch().getServerContainer(serverUUID, after));
             serverContainers.put(serverUUID, analysisContainer);
             return Optional.of(analysisContainer);
         } catch (DBOpException e) {
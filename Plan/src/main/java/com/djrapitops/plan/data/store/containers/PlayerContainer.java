@@ -1,10 +1,13 @@
 package com.djrapitops.plan.data.store.containers;
 
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.keys.PlayerKeys;
 import com.djrapitops.plan.data.store.mutators.ActivityIndex;
+import com.djrapitops.plan.data.store.mutators.ActivityIndexEngine;
 import com.djrapitops.plan.data.store.mutators.SessionsMutator;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * DataContainer about a Player.
@@ -16,18 +19,47 @@ import java.util.Map;
  */
 public class PlayerContainer extends DataContainer {
 
-    private Map<Long, ActivityIndex> activityIndexCache;
+    private volatile EngineForSessions activityIndexEngine;
 
-    public PlayerContainer() {
-        activityIndexCache = new HashMap<>();
+    public ActivityIndex getActivityIndex(long date) {
+        return getActivityIndexEngine().getActivityIndex(date);
     }
 
-    public ActivityIndex getActivityIndex(long date) {
-        return activityIndexCache.computeIfAbsent(date, time -> new ActivityIndex(this, time));
+    /**
+     * Get the engine that calculates ActivityIndex of this player from the sessions.
+     * <p>
+     * The engine is built again if the sessions in the container have changed since it was built.
+     *
+     * @return ActivityIndexEngine shared by activity calculations of this player.
+     */
+    public ActivityIndexEngine getActivityIndexEngine() {
+        List<Session> sessions = getValue(PlayerKeys.SESSIONS).orElse(new ArrayList<>());
+        EngineForSessions built = activityIndexEngine;
+        if (built == null || !built.isBuiltFrom(sessions)) {
+            // Racy single-check, concurrent callers build equal engines.
+            built = new EngineForSessions(sessions);
+            activityIndexEngine = built;
+        }
+        return built.engine;
     }
 
     public boolean playedBetween(long after, long before) {
         return SessionsMutator.forContainer(this).playedBetween(after, before);
     }
 
-}
\ No newline at end of file
+    private static class EngineForSessions {
+        private final List<Session> sessions;
+        private final int sessionCount;
+        private final ActivityIndexEngine engine;
+
+        private EngineForSessions(List<Session> sessions) {
+            this.sessions = sessions;
+            sessionCount = sessions.size();
+            engine = new ActivityIndexEngine(sessions);
+        }
+
+        private boolean isBuiltFrom(List<Session> current) {
+            return sessions == current && sessionCount == current.size();
+        }
+    }
+}
@@ -1,71 +1,41 @@
 package com.djrapitops.plan.data.store.mutators;
 
-import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.store.containers.DataContainer;
 import com.djrapitops.plan.data.store.keys.PlayerKeys;
-import com.djrapitops.plan.system.settings.Settings;
 import com.djrapitops.plan.utilities.FormatUtils;
-import com.djrapitops.plugin.api.TimeAmount;
-
-import java.util.List;
-import java.util.Optional;
 
 public class ActivityIndex {
 
     private final double value;
 
     public ActivityIndex(DataContainer container, long date) {
-        value = calculate(container, date);
+        value = container.getValue(PlayerKeys.SESSIONS)
+                .map(sessions -> new ActivityIndexEngine(sessions).calculate(date))
+                .orElse(0.0);
     }
 
-    public static String[] getGroups() {
-        return new String[]{"Very Active", "Active", "Regular", "Irregular", "Inactive"};
+    ActivityIndex(double value) {
+        this.value = value;
     }
 
-    private long loadSetting(long value) {
-        return value <= 0 ? 1 : value;
-    }
-
-    private int loadSetting(int value) {
-        return value <= 0 ? 1 : value;
+    public static String[] getGroups() {
+        return new String[]{"Very Active", "Active", "Regular", "Irregular", "Inactive"};
     }
 
-    private double calculate(DataContainer container, long date) {
-        long week = TimeAmount.WEEK.ms();
-        long weekAgo = date - week;
-        long twoWeeksAgo = date - 2L * week;
-        long threeWeeksAgo = date - 3L * week;
-
-        long activePlayThreshold = loadSetting(Settings.ACTIVE_PLAY_THRESHOLD.getNumber() * TimeAmount.MINUTE.ms());
-        int activeLoginThreshold = loadSetting(Settings.ACTIVE_LOGIN_THRESHOLD.getNumber());
-
-        Optional<List<Session>> sessionsValue = container.getValue(PlayerKeys.SESSIONS);
-        if (!sessionsValue.isPresent()) {
-            return 0.0;
-        }
-        SessionsMutator sessionsMutator = new SessionsMutator(sessionsValue.get());
-        if (sessionsMutator.all().isEmpty()) {
-            return 0.0;
-        }
-
-        SessionsMutator weekOne = sessionsMutator.filterSessionsBetween(weekAgo, date);
-        SessionsMutator weekTwo = sessionsMutator.filterSessionsBetween(twoWeeksAgo, weekAgo);
-        SessionsMutator weekThree = sessionsMutator.filterSessionsBetween(threeWeeksAgo, twoWeeksAgo);
-
+    static double calculate(long playtimeWeek, long playtimeWeek2, long playtimeWeek3,
+                            int loginsWeek, int loginsWeek2, int loginsWeek3,
+                            long activePlayThreshold, int activeLoginThreshold) {
         // Playtime per week multipliers, max out to avoid too high values.
         double max = 4.0;
 
-        long playtimeWeek = weekOne.toActivePlaytime();
         double weekPlay = (playtimeWeek * 1.0 / activePlayThreshold);
         if (weekPlay > max) {
             weekPlay = max;
         }
-        long playtimeWeek2 = weekTwo.toActivePlaytime();
         double week2Play = (playtimeWeek2 * 1.0 / activePlayThreshold);
         if (week2Play > max) {
             week2Play = max;
         }
-        long playtimeWeek3 = weekThree.toActivePlaytime();
         double week3Play = (playtimeWeek3 * 1.0 / activePlayThreshold);
         if (week3Play > max) {
             week3Play = max;
@@ -89,9 +59,9 @@ public class ActivityIndex {
 
         double playAvg = (weekPlay + week2Play + week3Play) / 3.0;
 
-        double weekLogin = weekOne.count() >= activeLoginThreshold ? 1.0 : 0.5;
-        double week2Login = weekTwo.count() >= activeLoginThreshold ? 1.0 : 0.5;
-        double week3Login = weekThree.count() >= activeLoginThreshold ? 1.0 : 0.5;
+        double weekLogin = loginsWeek >= activeLoginThreshold ? 1.0 : 0.5;
+        double week2Login = loginsWeek2 >= activeLoginThreshold ? 1.0 : 0.5;
+        double week3Login = loginsWeek3 >= activeLoginThreshold ? 1.0 : 0.5;
 
         double loginMultiplier = 1.0;
         double loginTotal = weekLogin + week2Login + week3Login;
@@ -0,0 +1,169 @@
+/*
+ * Licence is provided in the jar as license.yml also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/license.yml
+ */
+package com.djrapitops.plan.data.store.mutators;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.system.settings.SettingsSnapshot;
+import com.djrapitops.plugin.api.TimeAmount;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Calculates {@link ActivityIndex} of a single player for any number of dates.
+ * <p>
+ * Sessions are sorted once and summed into weekly buckets of active playtime and login counts,
+ * stored as prefix sums. A week is a window {@code [end - week, end]} like in {@link ActivityIndex}, so a session
+ * is counted in a week if it starts or ends inside it.
+ * <p>
+ * Buckets are built for the phase of the week ({@code date % week}) of the last calculated date, after which every
+ * date with the same phase (eg. the weekly points of the activity graph) is resolved in constant time. Only the last
+ * phase is kept, so calculating dates of different phases rebuilds the buckets.
+ *
+ * @author Rsl1122
+ */
+public class ActivityIndexEngine {
+
+    private static final long WEEK = TimeAmount.WEEK.ms();
+
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] activeTimes;
+    private final long latestEnd;
+
+    private final long activePlayThreshold;
+    private final int activeLoginThreshold;
+
+    private volatile WeeklyBuckets lastBuckets;
+
+    public ActivityIndexEngine(List<Session> sessions) {
+        this(
+                sessions,
+                SettingsSnapshot.get().getActivePlayThresholdMs(),
+                SettingsSnapshot.get().getActiveLoginThreshold()
+        );
+    }
+
+    public ActivityIndexEngine(List<Session> sessions, long activePlayThreshold, int activeLoginThreshold) {
+        this.activePlayThreshold = activePlayThreshold <= 0 ? 1 : activePlayThreshold;
+        this.activeLoginThreshold = activeLoginThreshold <= 0 ? 1 : activeLoginThreshold;
+
+        long now = System.currentTimeMillis();
+        List<Session> sorted = new ArrayList<>(sessions);
+        sorted.sort(Comparator.comparingLong(session -> session.getUnsafe(SessionKeys.START)));
+
+        int size = sorted.size();
+        starts = new long[size];
+        ends = new long[size];
+        activeTimes = new long[size];
+        long latest = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            Session session = sorted.get(i);
+            starts[i] = session.getUnsafe(SessionKeys.START);
+            ends[i] = session.getValue(SessionKeys.END).orElse(now);
+            activeTimes[i] = session.getValue(SessionKeys.ACTIVE_TIME).orElse(0L);
+            latest = Math.max(latest, Math.max(starts[i], ends[i]));
+        }
+        latestEnd = latest;
+    }
+
+    public ActivityIndex getActivityIndex(long date) {
+        return new ActivityIndex(calculate(date));
+    }
+
+    public double calculate(long date) {
+        if (starts.length == 0) {
+            return 0.0;
+        }
+        long phase = Math.floorMod(date, WEEK);
+        WeeklyBuckets buckets = lastBuckets;
+        if (buckets == null || buckets.phase != phase) {
+            buckets = new WeeklyBuckets(phase);
+            lastBuckets = buckets;
+        }
+        long week = Math.floorDiv(date - phase, WEEK);
+
+        return ActivityIndex.calculate(
+                buckets.playtime(week), buckets.playtime(week - 1), buckets.playtime(week - 2),
+                buckets.logins(week), buckets.logins(week - 1), buckets.logins(week - 2),
+                activePlayThreshold, activeLoginThreshold
+        );
+    }
+
+    /**
+     * Prefix sums of active playtime and session counts for weeks ending at {@code phase + n * week}.
+     * <p>
+     * Week {@code n} covers {@code [phase + (n - 1) * week, phase + n * week]}, both ends inclusive.
+     */
+    private class WeeklyBuckets {
+
+        private final long phase;
+        private final long firstWeek;
+        private final long[] playtimePrefix;
+        private final int[] loginPrefix;
+
+        WeeklyBuckets(long phase) {
+            this.phase = phase;
+            firstWeek = firstWeekOf(starts[0] - phase);
+            int weeks = (int) (lastWeekOf(latestEnd - phase) - firstWeek + 1);
+
+            long[] playtime = new long[weeks];
+            int[] logins = new int[weeks];
+            for (int i = 0; i < starts.length; i++) {
+                long start = starts[i] - phase;
+                long end = ends[i] - phase;
+                long startFirst = firstWeekOf(start);
+                long startLast = lastWeekOf(start);
+                long endFirst = Math.max(startLast + 1, firstWeekOf(end));
+                long endLast = lastWeekOf(end);
+
+                for (long n = startFirst; n <= startLast; n++) {
+                    int index = (int) (n - firstWeek);
+                    playtime[index] += activeTimes[i];
+                    logins[index]++;
+                }
+                for (long n = endFirst; n <= endLast; n++) {
+                    int index = (int) (n - firstWeek);
+                    playtime[index] += activeTimes[i];
+                    logins[index]++;
+                }
+            }
+
+            playtimePrefix = new long[weeks + 1];
+            loginPrefix = new int[weeks + 1];
+            for (int i = 0; i < weeks; i++) {
+                playtimePrefix[i + 1] = playtimePrefix[i] + playtime[i];
+                loginPrefix[i + 1] = loginPrefix[i] + logins[i];
+            }
+        }
+
+        // First week whose window contains the point: the one ending at or after it.
+        private long firstWeekOf(long point) {
+            return -Math.floorDiv(-point, WEEK);
+        }
+
+        // Last week whose window contains the point: the one starting at or before it.
+        private long lastWeekOf(long point) {
+            return Math.floorDiv(point, WEEK) + 1;
+        }
+
+        long playtime(long week) {
+            int index = indexOf(week);
+            return index < 0 ? 0L : playtimePrefix[index + 1] - playtimePrefix[index];
+        }
+
+        int logins(long week) {
+            int index = indexOf(week);
+            return index < 0 ? 0 : loginPrefix[index + 1] - loginPrefix[index];
+        }
+
+        private int indexOf(long week) {
+            long index = week - firstWeek;
+            return index < 0 || index >= loginPrefix.length - 1 ? -1 : (int) index;
+        }
+    }
+}
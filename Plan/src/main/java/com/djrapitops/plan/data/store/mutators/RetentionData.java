@@ -48,7 +48,7 @@ public class RetentionData {
     public RetentionData(PlayerContainer player, PlayersOnlineResolver onlineOnJoin) {
         Optional<Long> registeredValue = player.getValue(PlayerKeys.REGISTERED);
         activityIndex = registeredValue
-                .map(registered -> new ActivityIndex(player, registered + TimeAmount.DAY.ms()).getValue())
+                .map(registered -> player.getActivityIndex(registered + TimeAmount.DAY.ms()).getValue())
                 .orElse(0.0);
         this.onlineOnJoin = registeredValue
                 .map(registered -> onlineOnJoin.getOnlineOn(registered).orElse(-1))
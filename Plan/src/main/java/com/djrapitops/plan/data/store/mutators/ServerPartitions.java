@@ -0,0 +1,72 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.data.store.mutators;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.containers.PlayerContainer;
+import com.djrapitops.plan.data.store.keys.PlayerKeys;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
+
+import java.util.*;
+
+/**
+ * Players and sessions of the network grouped by the server the sessions were played on.
+ * <p>
+ * Built in a single pass over the players, replaces calling
+ * {@link PlayersMutator#filterPlayedOnServer(UUID)} and {@link SessionsMutator#filterPlayedOnServer(UUID)}
+ * for each server, which goes through every session of the network once per server.
+ * <p>
+ * Sessions of the players are loaded while building, so the result can be read from multiple threads.
+ *
+ * @author Rsl1122
+ */
+public class ServerPartitions {
+
+    private final Map<UUID, List<PlayerContainer>> players;
+    private final Map<UUID, List<Session>> sessions;
+
+    private ServerPartitions(Map<UUID, List<PlayerContainer>> players, Map<UUID, List<Session>> sessions) {
+        this.players = players;
+        this.sessions = sessions;
+    }
+
+    public static ServerPartitions of(PlayersMutator playersMutator) {
+        Map<UUID, List<PlayerContainer>> players = new HashMap<>();
+        Map<UUID, List<Session>> sessions = new HashMap<>();
+
+        Set<UUID> playedOn = new HashSet<>();
+        for (PlayerContainer player : playersMutator.all()) {
+            playedOn.clear();
+            for (Session session : player.getValue(PlayerKeys.SESSIONS).orElse(Collections.emptyList())) {
+                Optional<UUID> serverUUID = session.getValue(SessionKeys.SERVER_UUID);
+                if (!serverUUID.isPresent()) {
+                    continue;
+                }
+                sessions.computeIfAbsent(serverUUID.get(), server -> new ArrayList<>()).add(session);
+                playedOn.add(serverUUID.get());
+            }
+            for (UUID serverUUID : playedOn) {
+                players.computeIfAbsent(serverUUID, server -> new ArrayList<>()).add(player);
+            }
+        }
+        return new ServerPartitions(players, sessions);
+    }
+
+    /**
+     * @param serverUUID UUID of the server.
+     * @return Players with at least one session on the server.
+     */
+    public PlayersMutator playersOf(UUID serverUUID) {
+        return new PlayersMutator(players.getOrDefault(serverUUID, Collections.emptyList()));
+    }
+
+    /**
+     * @param serverUUID UUID of the server.
+     * @return Sessions played on the server.
+     */
+    public SessionsMutator sessionsOf(UUID serverUUID) {
+        return new SessionsMutator(sessions.getOrDefault(serverUUID, Collections.emptyList()));
+    }
+}
@@ -3,7 +3,7 @@ package com.djrapitops.plan.data.store.mutators;
 import com.djrapitops.plan.data.container.TPS;
 import com.djrapitops.plan.data.store.containers.DataContainer;
 import com.djrapitops.plan.data.store.keys.ServerKeys;
-import com.djrapitops.plan.system.settings.Settings;
+import com.djrapitops.plan.system.settings.SettingsSnapshot;
 import com.djrapitops.plan.utilities.comparators.TPSComparator;
 import com.djrapitops.plan.utilities.html.graphs.line.Point;
 import com.djrapitops.plugin.api.TimeAmount;
@@ -139,7 +139,7 @@ public class TPSMutator {
             return 1;
         }
 
-        int threshold = Settings.THEME_GRAPH_TPS_THRESHOLD_MED.getNumber();
+        int threshold = SettingsSnapshot.get().getTpsThresholdMedium();
 
         long count = 0;
         for (TPS tps : tpsData) {
@@ -152,7 +152,7 @@ public class TPSMutator {
     }
 
     public int lowTpsSpikeCount() {
-        int mediumThreshold = Settings.THEME_GRAPH_TPS_THRESHOLD_MED.getNumber();
+        int mediumThreshold = SettingsSnapshot.get().getTpsThresholdMedium();
 
         boolean wasLow = false;
         int spikeCount = 0;
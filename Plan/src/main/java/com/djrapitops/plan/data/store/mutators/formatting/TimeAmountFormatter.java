@@ -1,6 +1,6 @@
 package com.djrapitops.plan.data.store.mutators.formatting;
 
-import com.djrapitops.plan.system.settings.Settings;
+import com.djrapitops.plan.system.settings.SettingsSnapshot;
 import org.apache.commons.lang3.StringUtils;
 
 /**
@@ -42,9 +42,9 @@ public class TimeAmountFormatter implements Formatter<Long> {
         appendMonths(builder, months);
         appendDays(builder, days);
 
-        String hourFormat = Settings.FORMAT_HOURS.toString();
-        String minuteFormat = Settings.FORMAT_MINUTES.toString();
-        String secondFormat = Settings.FORMAT_SECONDS.toString();
+        String hourFormat = SettingsSnapshot.get().getFormatHours();
+        String minuteFormat = SettingsSnapshot.get().getFormatMinutes();
+        String secondFormat = SettingsSnapshot.get().getFormatSeconds();
 
         appendHours(builder, hours, hourFormat);
         appendMinutes(builder, minutes, hours, hourFormat, minuteFormat);
@@ -52,7 +52,7 @@ public class TimeAmountFormatter implements Formatter<Long> {
 
         String formattedTime = StringUtils.remove(builder.toString(), ZERO_PH);
         if (formattedTime.isEmpty()) {
-            return Settings.FORMAT_ZERO_SECONDS.toString();
+            return SettingsSnapshot.get().getFormatZeroSeconds();
         }
         return formattedTime;
     }
@@ -100,21 +100,21 @@ public class TimeAmountFormatter implements Formatter<Long> {
     }
 
     private void appendDays(StringBuilder builder, long days) {
-        String singular = Settings.FORMAT_DAY.toString();
-        String plural = Settings.FORMAT_DAYS.toString();
+        String singular = SettingsSnapshot.get().getFormatDay();
+        String plural = SettingsSnapshot.get().getFormatDays();
         appendValue(builder, days, singular, plural, DAYS_PH);
     }
 
     private void appendMonths(StringBuilder builder, long months) {
-        String singular = Settings.FORMAT_MONTH.toString();
-        String plural = Settings.FORMAT_MONTHS.toString();
+        String singular = SettingsSnapshot.get().getFormatMonth();
+        String plural = SettingsSnapshot.get().getFormatMonths();
 
         appendValue(builder, months, singular, plural, MONTHS_PH);
     }
 
     private void appendYears(StringBuilder builder, long years) {
-        String singular = Settings.FORMAT_YEAR.toString();
-        String plural = Settings.FORMAT_YEARS.toString();
+        String singular = SettingsSnapshot.get().getFormatYear();
+        String plural = SettingsSnapshot.get().getFormatYears();
 
         appendValue(builder, years, singular, plural, YEARS_PH);
     }
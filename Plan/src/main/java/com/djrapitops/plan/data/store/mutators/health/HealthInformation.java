@@ -12,7 +12,7 @@ import com.djrapitops.plan.data.store.mutators.PlayersOnlineResolver;
 import com.djrapitops.plan.data.store.mutators.TPSMutator;
 import com.djrapitops.plan.data.store.mutators.formatting.Formatter;
 import com.djrapitops.plan.data.store.mutators.formatting.Formatters;
-import com.djrapitops.plan.system.settings.Settings;
+import com.djrapitops.plan.system.settings.SettingsSnapshot;
 import com.djrapitops.plan.utilities.FormatUtils;
 import com.djrapitops.plan.utilities.html.icon.Icons;
 import com.djrapitops.plugin.api.TimeAmount;
@@ -109,7 +109,7 @@ public class HealthInformation extends AbstractHealthInfo {
         avgLowThresholdString += " Average TPS was above Low Threshold "
                 + FormatUtils.cutDecimals(aboveThreshold * 100.0) + "% of the time";
 
-        int threshold = Settings.THEME_GRAPH_TPS_THRESHOLD_MED.getNumber();
+        int threshold = SettingsSnapshot.get().getTpsThresholdMedium();
         if (tpsSpikeMonth <= 5) {
             addNote(Icons.GREEN_THUMB + " Average TPS dropped below Low Threshold (" + threshold + ")" +
                     " " + tpsSpikeMonth + " times" +
@@ -6,16 +6,22 @@ import com.djrapitops.plan.data.store.containers.NetworkContainer;
 import com.djrapitops.plan.data.store.keys.AnalysisKeys;
 import com.djrapitops.plan.data.store.keys.NetworkKeys;
 import com.djrapitops.plan.data.store.mutators.PlayersMutator;
+import com.djrapitops.plan.data.store.mutators.ServerPartitions;
 import com.djrapitops.plan.data.store.mutators.SessionsMutator;
 import com.djrapitops.plan.system.info.server.Server;
 import com.djrapitops.plan.utilities.FormatUtils;
 import com.djrapitops.plan.utilities.html.icon.Icon;
 import com.djrapitops.plan.utilities.html.icon.Icons;
+import com.djrapitops.plugin.api.utility.log.Log;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 public class NetworkHealthInformation extends AbstractHealthInfo {
 
+    // Servers are analysed in parallel, bounded so that the network page does not take over every core.
+    private static final int ANALYSIS_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
     private final NetworkContainer container;
 
     public NetworkHealthInformation(NetworkContainer container) {
@@ -113,30 +119,48 @@ public class NetworkHealthInformation extends AbstractHealthInfo {
     }
 
     private List<DataContainer> getPerServerContainers(PlayersMutator playersMutator, Collection<Server> servers, Key<Server> serverKey) {
-        List<DataContainer> perServerContainers = new ArrayList<>();
+        ServerPartitions partitions = ServerPartitions.of(playersMutator);
 
+        List<Callable<DataContainer>> analyses = new ArrayList<>();
         for (Server server : servers) {
-            UUID serverUUID = server.getUuid();
-            DataContainer serverContainer = new DataContainer();
-            serverContainer.putRawData(serverKey, server);
-
-            PlayersMutator serverPlayers = playersMutator.filterPlayedOnServer(serverUUID);
-            PlayersMutator serverRegistered = serverPlayers.filterRegisteredBetween(monthAgo, now);
-            int averageNewPerDay = serverRegistered.averageNewPerDay();
-            serverContainer.putRawData(AnalysisKeys.AVG_PLAYERS_NEW_MONTH, averageNewPerDay);
-            SessionsMutator serverSessions = new SessionsMutator(serverPlayers.getSessions())
-                    .filterSessionsBetween(monthAgo, now)
-                    .filterPlayedOnServer(serverUUID);
-            int averageUniquePerDay = serverSessions.toAverageUniqueJoinsPerDay();
-            int uniquePlayers = serverSessions.toUniquePlayers();
-            serverContainer.putRawData(AnalysisKeys.AVG_PLAYERS_MONTH, averageUniquePerDay);
-            serverContainer.putRawData(AnalysisKeys.PLAYERS_MONTH, uniquePlayers);
-
-            perServerContainers.add(serverContainer);
+            analyses.add(() -> analyseServer(partitions, server, serverKey));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(ANALYSIS_THREADS, analyses.size()));
+        List<DataContainer> perServerContainers = new ArrayList<>();
+        try {
+            for (Future<DataContainer> analysis : executor.invokeAll(analyses)) {
+                try {
+                    perServerContainers.add(analysis.get());
+                } catch (ExecutionException e) {
+                    Log.toLog(this.getClass(), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
         }
         return perServerContainers;
     }
 
+    private DataContainer analyseServer(ServerPartitions partitions, Server server, Key<Server> serverKey) {
+        UUID serverUUID = server.getUuid();
+        DataContainer serverContainer = new DataContainer();
+        serverContainer.putRawData(serverKey, server);
+
+        PlayersMutator serverRegistered = partitions.playersOf(serverUUID).filterRegisteredBetween(monthAgo, now);
+        int averageNewPerDay = serverRegistered.averageNewPerDay();
+        serverContainer.putRawData(AnalysisKeys.AVG_PLAYERS_NEW_MONTH, averageNewPerDay);
+        SessionsMutator serverSessions = partitions.sessionsOf(serverUUID).filterSessionsBetween(monthAgo, now);
+        int averageUniquePerDay = serverSessions.toAverageUniqueJoinsPerDay();
+        int uniquePlayers = serverSessions.toUniquePlayers();
+        serverContainer.putRawData(AnalysisKeys.AVG_PLAYERS_MONTH, averageUniquePerDay);
+        serverContainer.putRawData(AnalysisKeys.PLAYERS_MONTH, uniquePlayers);
+
+        return serverContainer;
+    }
+
     private void playersNote(Key<Server> serverKey, List<DataContainer> perServerContainers) {
         Icon icon = Icons.HELP_RING;
         String uniquePlayersNote = "${playersMonth} players played on the network:";
@@ -42,6 +42,23 @@ public class WorldTimes {
         this.times = times;
     }
 
+    /**
+     * Creates a copy of this WorldTimes that does not share any state with it.
+     *
+     * @return New WorldTimes object.
+     */
+    public WorldTimes copy() {
+        Map<String, GMTimes> copiedTimes = new HashMap<>();
+        for (Map.Entry<String, GMTimes> entry : times.entrySet()) {
+            GMTimes gmTimes = entry.getValue();
+            copiedTimes.put(entry.getKey(), new GMTimes(new HashMap<>(gmTimes.times), gmTimes.state, gmTimes.lastStateChange));
+        }
+        WorldTimes copy = new WorldTimes(copiedTimes);
+        copy.currentWorld = currentWorld;
+        copy.currentGamemode = currentGamemode;
+        return copy;
+    }
+
     private void addWorld(String worldName, String gameMode, long changeTime) {
         times.put(worldName, new GMTimes(gameMode, changeTime));
     }
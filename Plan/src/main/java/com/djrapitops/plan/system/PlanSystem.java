@@ -24,6 +24,10 @@ import com.djrapitops.plugin.api.Check;
 import com.djrapitops.plugin.api.utility.log.Log;
 import com.djrapitops.plugin.utilities.Verify;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 /**
@@ -37,6 +41,8 @@ public abstract class PlanSystem implements SubSystem {
 
     protected static PlanSystem testSystem;
 
+    private static final int ENABLE_THREADS = 4;
+
     // Initialized in this class
     private Processing processing;
     protected final WebServerSystem webServerSystem;
@@ -88,27 +94,41 @@ public abstract class PlanSystem implements SubSystem {
     public void enable() throws EnableException {
         checkSubSystemInitialization();
 
-        enableSystems(
-                fileSystem,
-                configSystem,
-                localeSystem,
-                versionCheckSystem,
-                databaseSystem,
-                webServerSystem,
-                processing,
-                serverInfo,
-                infoSystem,
-                cacheSystem,
-                listenerSystem,
-                taskSystem,
-                hookHandler
-        );
-    }
-
-    private void enableSystems(SubSystem... systems) throws EnableException {
-        for (SubSystem system : systems) {
-            system.enable();
+        // Systems marked async do not touch the platform API and are enabled alongside each other.
+        // Hooks register listeners and create tables so they wait for the Database on this thread.
+        // WebServer waits for the Database so that it does not accept requests before the tables are ready.
+        SubSystemGraph graph = new SubSystemGraph()
+                .add("Files", fileSystem, false)
+                .add("Config", configSystem, false, "Files")
+                .add("Locale", localeSystem, true, "Config")
+                .add("Version Check", versionCheckSystem, true, "Locale")
+                .add("Database", databaseSystem, true, "Locale")
+                .add("WebServer", webServerSystem, true, "Locale", "Database")
+                .add("Processing", processing, false)
+                .add("Server Info", serverInfo, true, "Database", "WebServer")
+                .add("Info", infoSystem, true, "Server Info")
+                .add("Cache", cacheSystem, true, "Database")
+                .add("Listeners", listenerSystem, false, "Processing", "Server Info", "Info", "Cache")
+                .add("Tasks", taskSystem, false, "Listeners")
+                .add("Hooks", hookHandler, false, "Database");
+
+        long start = System.nanoTime();
+        Map<String, Long> timings = graph.enable(ENABLE_THREADS);
+        logTimings(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), timings);
+    }
+
+    private void logTimings(long total, Map<String, Long> timings) {
+        List<Map.Entry<String, Long>> slowestFirst = new ArrayList<>(timings.entrySet());
+        slowestFirst.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+
+        StringBuilder breakdown = new StringBuilder();
+        for (Map.Entry<String, Long> entry : slowestFirst) {
+            if (breakdown.length() > 0) {
+                breakdown.append(", ");
+            }
+            breakdown.append(entry.getKey()).append(' ').append(entry.getValue()).append(" ms");
         }
+        Log.info("Subsystems enabled in " + total + " ms (" + breakdown + ")");
     }
 
     @Override
@@ -0,0 +1,173 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system;
+
+import com.djrapitops.plan.api.exceptions.EnableException;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Enables {@link SubSystem}s in the order of their dependencies.
+ * <p>
+ * A system is enabled once every system it depends on has been enabled.
+ * Systems marked async are enabled on a worker thread so that independent systems (Database, WebServer, GeoIP)
+ * enable at the same time. Other systems are enabled on the calling thread, since they register listeners or tasks
+ * on the platform.
+ *
+ * @author Rsl1122
+ */
+public class SubSystemGraph {
+
+    private final Map<String, Node> nodes;
+
+    public SubSystemGraph() {
+        nodes = new LinkedHashMap<>();
+    }
+
+    /**
+     * Add a system to the graph.
+     *
+     * @param name         Name of the system, used for dependencies and the timing report.
+     * @param system       System to enable, null systems are skipped.
+     * @param async        Can the system be enabled on a worker thread.
+     * @param dependencies Names of the systems that need to be enabled before this one.
+     * @return this graph.
+     */
+    public SubSystemGraph add(String name, SubSystem system, boolean async, String... dependencies) {
+        nodes.put(name, new Node(name, system, async, Arrays.asList(dependencies)));
+        return this;
+    }
+
+    /**
+     * Enable all systems of the graph.
+     *
+     * @param threads Amount of worker threads for async systems.
+     * @return Time it took to enable each system in milliseconds, in the order the systems finished.
+     * @throws EnableException If a system fails to enable, after the systems being enabled have finished.
+     */
+    public Map<String, Long> enable(int threads) throws EnableException {
+        verifyDependencies();
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads, threadFactory());
+        CompletionService<Node> completion = new ExecutorCompletionService<>(workers);
+        Map<String, Long> timings = new LinkedHashMap<>();
+        Set<String> started = new HashSet<>();
+        int running = 0;
+        try {
+            while (timings.size() < nodes.size()) {
+                Node onThisThread = null;
+                for (Node node : nodes.values()) {
+                    if (started.contains(node.name) || !timings.keySet().containsAll(node.dependencies)) {
+                        continue;
+                    }
+                    if (node.async) {
+                        started.add(node.name);
+                        completion.submit(node::enable);
+                        running++;
+                    } else if (onThisThread == null) {
+                        onThisThread = node;
+                    }
+                }
+
+                if (onThisThread != null) {
+                    started.add(onThisThread.name);
+                    timings.put(onThisThread.name, onThisThread.enable().took);
+                    continue;
+                }
+                if (running == 0) {
+                    throw new EnableException("Subsystems could not be enabled, dependencies are missing: " + notStarted(started));
+                }
+                Node done = take(completion);
+                running--;
+                timings.put(done.name, done.took);
+            }
+            return timings;
+        } finally {
+            workers.shutdown();
+            awaitTermination(workers);
+        }
+    }
+
+    private Node take(CompletionService<Node> completion) throws EnableException {
+        try {
+            return completion.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EnableException("Interrupted while enabling subsystems", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof EnableException) {
+                throw (EnableException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new EnableException("Subsystem failed to enable: " + cause, cause);
+        }
+    }
+
+    private void awaitTermination(ExecutorService workers) {
+        try {
+            workers.awaitTermination(1L, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void verifyDependencies() throws EnableException {
+        for (Node node : nodes.values()) {
+            for (String dependency : node.dependencies) {
+                if (!nodes.containsKey(dependency)) {
+                    throw new EnableException(node.name + " depends on " + dependency + " that is not a subsystem.");
+                }
+            }
+        }
+    }
+
+    private List<String> notStarted(Set<String> started) {
+        List<String> notStarted = new ArrayList<>(nodes.keySet());
+        notStarted.removeAll(started);
+        return notStarted;
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "Plan Enable " + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static class Node {
+        private final String name;
+        private final SubSystem system;
+        private final boolean async;
+        private final List<String> dependencies;
+
+        private long took;
+
+        private Node(String name, SubSystem system, boolean async, List<String> dependencies) {
+            this.name = name;
+            this.system = system;
+            this.async = async;
+            this.dependencies = dependencies;
+        }
+
+        private Node enable() throws EnableException {
+            long start = System.nanoTime();
+            if (system != null) {
+                system.enable();
+            }
+            took = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            return this;
+        }
+    }
+}
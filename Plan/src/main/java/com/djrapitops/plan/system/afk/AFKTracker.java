@@ -2,52 +2,86 @@ package com.djrapitops.plan.system.afk;
 
 import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.system.cache.SessionCache;
-import com.djrapitops.plan.system.settings.Settings;
+import com.djrapitops.plan.system.settings.SettingsSnapshot;
 import com.djrapitops.plugin.api.TimeAmount;
 
-import java.util.*;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Keeps track how long player has been afk during a session
+ * <p>
+ * Actions come from the server thread (movement) and from async chat threads, so the last action of each player is
+ * an AtomicLong. Actions less than a second after the previous one are not recorded, since most of them are
+ * movement events that can not change AFK time.
  *
  * @author Rsl1122
  */
 public class AFKTracker {
 
+    private static final long IGNORES_AFK = -1L;
+    private static final long SKIP_UPDATES_WITHIN_MS = TimeAmount.SECOND.ms();
+
     private final Set<UUID> usedAFKCommand;
-    private final Map<UUID, Long> lastMovement;
+    private final Map<UUID, AtomicLong> lastMovement;
     private final long afkThresholdMs;
+    private final long skipUpdatesWithinMs;
 
     public AFKTracker() {
-        usedAFKCommand = new HashSet<>();
-        lastMovement = new HashMap<>();
-        afkThresholdMs = Settings.AFK_THRESHOLD_MINUTES.getNumber() * TimeAmount.MINUTE.ms();
+        this(SettingsSnapshot.get().getAfkThresholdMs());
+    }
+
+    AFKTracker(long afkThresholdMs) {
+        usedAFKCommand = ConcurrentHashMap.newKeySet();
+        lastMovement = new ConcurrentHashMap<>(256);
+        this.afkThresholdMs = afkThresholdMs;
+        skipUpdatesWithinMs = Math.min(SKIP_UPDATES_WITHIN_MS, afkThresholdMs);
+    }
+
+    private AtomicLong getLastMovement(UUID uuid, long time) {
+        AtomicLong lastMoved = lastMovement.get(uuid);
+        if (lastMoved != null) {
+            return lastMoved;
+        }
+        return lastMovement.computeIfAbsent(uuid, key -> new AtomicLong(time));
     }
 
     public void hasIgnorePermission(UUID uuid) {
-        lastMovement.put(uuid, -1L);
+        getLastMovement(uuid, IGNORES_AFK).set(IGNORES_AFK);
     }
 
     public void usedAfkCommand(UUID uuid, long time) {
         usedAFKCommand.add(uuid);
-        lastMovement.put(uuid, time - afkThresholdMs);
+        getLastMovement(uuid, time).set(time - afkThresholdMs);
     }
 
     public void performedAction(UUID uuid, long time) {
-        Long lastMoved = lastMovement.getOrDefault(uuid, time);
-        if (lastMoved == -1) {
+        AtomicLong lastMovedHolder = getLastMovement(uuid, time);
+        long lastMoved = lastMovedHolder.get();
+        if (lastMoved == IGNORES_AFK) {
+            return;
+        }
+        long sinceLastAction = time - lastMoved;
+        if (sinceLastAction >= 0 && sinceLastAction < skipUpdatesWithinMs) {
+            return;
+        }
+        if (!lastMovedHolder.compareAndSet(lastMoved, time)) {
+            // Another thread recorded an action at the same time and took care of the AFK time.
             return;
         }
-        lastMovement.put(uuid, time);
 
         try {
-            if (time - lastMoved < afkThresholdMs) {
+            if (sinceLastAction < afkThresholdMs) {
                 // Threshold not crossed, no action required.
                 return;
             }
 
             long removeAfkCommandEffect = usedAFKCommand.contains(uuid) ? afkThresholdMs : 0;
-            long timeAFK = time - lastMoved - removeAfkCommandEffect;
+            long timeAFK = sinceLastAction - removeAfkCommandEffect;
 
             Optional<Session> cachedSession = SessionCache.getCachedSession(uuid);
             if (!cachedSession.isPresent()) {
@@ -65,4 +99,4 @@ public class AFKTracker {
         lastMovement.remove(uuid);
         usedAFKCommand.remove(uuid);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,217 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.cache;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Thread safe cache with a maximum size.
+ * <p>
+ * When the cache grows over the maximum size, least recently used entries are removed until it is 10% under it.
+ * Pinned entries are never removed, even if there are more of them than the maximum size.
+ * <p>
+ * Values missing from the cache are loaded once per key, other threads asking for the same key wait for the result.
+ *
+ * @param <K> Type of the keys.
+ * @param <V> Type of the values.
+ * @author Rsl1122
+ */
+public class BoundedCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final BiPredicate<K, V> pinned;
+
+    private final Map<K, Entry<V>> cache;
+    private final Map<K, CompletableFuture<V>> loading;
+    private final AtomicLong clock;
+    private final ReentrantLock evictionLock;
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder loads;
+    private final LongAdder evictions;
+
+    /**
+     * Create a new cache.
+     *
+     * @param name    Name of the cache, used in statistics.
+     * @param maxSize Maximum amount of unpinned entries.
+     * @param pinned  Test for entries that should not be removed, for example names of online players.
+     */
+    public BoundedCache(String name, int maxSize, BiPredicate<K, V> pinned) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.pinned = pinned;
+
+        cache = new ConcurrentHashMap<>();
+        loading = new ConcurrentHashMap<>();
+        clock = new AtomicLong();
+        evictionLock = new ReentrantLock();
+
+        hits = new LongAdder();
+        misses = new LongAdder();
+        loads = new LongAdder();
+        evictions = new LongAdder();
+    }
+
+    /**
+     * Get a cached value.
+     *
+     * @param key Key of the value.
+     * @return Optional value, empty if not cached.
+     */
+    public Optional<V> get(K key) {
+        Entry<V> entry = cache.get(key);
+        if (entry == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        entry.lastUsed = clock.incrementAndGet();
+        return Optional.of(entry.value);
+    }
+
+    /**
+     * Get a value, loading it if it is not cached.
+     * <p>
+     * Only one thread loads a key at a time. Null values are returned but not cached.
+     *
+     * @param key    Key of the value.
+     * @param loader Function that loads the value, for example from the database.
+     * @return Cached or loaded value.
+     * @throws RuntimeException thrown by the loader.
+     */
+    public V get(K key, Function<K, V> loader) {
+        Optional<V> cached = get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> ongoing = loading.putIfAbsent(key, load);
+        if (ongoing != null) {
+            return waitFor(ongoing);
+        }
+        try {
+            loads.increment();
+            V value = loader.apply(key);
+            if (value != null) {
+                put(key, value);
+            }
+            load.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    private V waitFor(CompletableFuture<V> ongoing) {
+        try {
+            return ongoing.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    public void put(K key, V value) {
+        cache.put(key, new Entry<>(value, clock.incrementAndGet()));
+        if (cache.size() > maxSize) {
+            evict();
+        }
+    }
+
+    public void remove(K key, V value) {
+        Entry<V> entry = cache.get(key);
+        if (entry != null && Objects.equals(entry.value, value)) {
+            cache.remove(key, entry);
+        }
+    }
+
+    private void evict() {
+        // One thread evicts at a time, others keep using the cache meanwhile.
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            List<Map.Entry<K, Entry<V>>> unpinned = new ArrayList<>();
+            for (Map.Entry<K, Entry<V>> entry : cache.entrySet()) {
+                if (!pinned.test(entry.getKey(), entry.getValue().value)) {
+                    unpinned.add(entry);
+                }
+            }
+            int toRemove = cache.size() - (maxSize - maxSize / 10);
+            if (toRemove <= 0) {
+                return;
+            }
+            unpinned.sort(Comparator.comparingLong(entry -> entry.getValue().lastUsed));
+            for (int i = 0; i < toRemove && i < unpinned.size(); i++) {
+                Map.Entry<K, Entry<V>> entry = unpinned.get(i);
+                if (cache.remove(entry.getKey(), entry.getValue())) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public Set<K> keySet() {
+        return new HashSet<>(cache.keySet());
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private volatile long lastUsed;
+
+        private Entry(V value, long lastUsed) {
+            this.value = value;
+            this.lastUsed = lastUsed;
+        }
+    }
+}
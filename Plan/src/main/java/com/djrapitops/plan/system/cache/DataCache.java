@@ -4,10 +4,12 @@ import com.djrapitops.plan.api.exceptions.database.DBOpException;
 import com.djrapitops.plan.system.PlanSystem;
 import com.djrapitops.plan.system.SubSystem;
 import com.djrapitops.plan.system.database.databases.Database;
+import com.djrapitops.plan.system.database.databases.sql.operation.PlayerDataCache;
 import com.djrapitops.plugin.api.utility.log.Log;
 import com.djrapitops.plugin.utilities.Verify;
 
 import java.util.*;
+import java.util.function.BiPredicate;
 
 /**
  * This Class contains the Cache.
@@ -18,23 +20,28 @@ import java.util.*;
  * <li>DisplayName cache, used for reducing database calls on chat events</li>
  * <li>FirstSession MessageCount Map, used for tracking first session and message count on that session.</li>
  * </ul>
+ * Name caches keep names of online players, and up to {@link #MAX_CACHED_NAMES} names of offline players that
+ * were used most recently.
  *
  * @author Rsl1122
  * @since 4.0.0
  */
 public class DataCache extends SessionCache implements SubSystem {
 
+    static final int MAX_CACHED_NAMES = 10000;
+
     private Database db;
-    private final Map<UUID, String> playerNames;
-    private final Map<String, UUID> uuids;
-    private final Map<UUID, String> displayNames;
+    private final BoundedCache<UUID, String> playerNames;
+    private final BoundedCache<String, UUID> uuids;
+    private final BoundedCache<UUID, String> displayNames;
 
     public DataCache(PlanSystem system) {
         super(system);
 
-        playerNames = new HashMap<>();
-        displayNames = new HashMap<>();
-        uuids = new HashMap<>();
+        BiPredicate<UUID, String> isOnline = (uuid, name) -> getCachedSession(uuid).isPresent();
+        playerNames = new BoundedCache<>("Player Names", MAX_CACHED_NAMES, isOnline);
+        displayNames = new BoundedCache<>("Display Names", MAX_CACHED_NAMES, isOnline);
+        uuids = new BoundedCache<>("UUIDs", MAX_CACHED_NAMES, (name, uuid) -> getCachedSession(uuid).isPresent());
     }
 
     @Override
@@ -47,6 +54,7 @@ public class DataCache extends SessionCache implements SubSystem {
         playerNames.clear();
         uuids.clear();
         displayNames.clear();
+        PlayerDataCache.clear();
     }
 
     public static DataCache getInstance() {
@@ -64,6 +72,9 @@ public class DataCache extends SessionCache implements SubSystem {
      */
     public void updateNames(UUID uuid, String playerName, String displayName) {
         if (playerName != null) {
+            playerNames.get(uuid)
+                    .filter(oldName -> !oldName.equals(playerName))
+                    .ifPresent(oldName -> uuids.remove(oldName, uuid));
             playerNames.put(uuid, playerName);
             uuids.put(playerName, uuid);
         }
@@ -84,17 +95,12 @@ public class DataCache extends SessionCache implements SubSystem {
      * @return name or null if not cached.
      */
     public String getName(UUID uuid) {
-        String name = playerNames.get(uuid);
-        if (name == null) {
-            try {
-                name = db.fetch().getPlayerName(uuid);
-                playerNames.put(uuid, name);
-            } catch (DBOpException e) {
-                Log.toLog(this.getClass(), e);
-                name = "Error occurred";
-            }
+        try {
+            return playerNames.get(uuid, key -> db.fetch().getPlayerName(key));
+        } catch (DBOpException e) {
+            Log.toLog(this.getClass(), e);
+            return "Error occurred";
         }
-        return name;
     }
 
     /**
@@ -106,19 +112,15 @@ public class DataCache extends SessionCache implements SubSystem {
      * @return latest displayName or null if none are saved.
      */
     public String getDisplayName(UUID uuid) {
-        String cached = displayNames.get(uuid);
-        if (cached == null) {
-            List<String> nicknames;
-            try {
-                nicknames = db.fetch().getNicknames(uuid);
-                if (!nicknames.isEmpty()) {
-                    return nicknames.get(nicknames.size() - 1);
-                }
-            } catch (DBOpException e) {
-                Log.toLog(this.getClass(), e);
-            }
+        try {
+            return displayNames.get(uuid, key -> {
+                List<String> nicknames = db.fetch().getNicknames(key);
+                return nicknames.isEmpty() ? null : nicknames.get(nicknames.size() - 1);
+            });
+        } catch (DBOpException e) {
+            Log.toLog(this.getClass(), e);
+            return null;
         }
-        return cached;
     }
 
     public Set<UUID> getUuids() {
@@ -126,6 +128,10 @@ public class DataCache extends SessionCache implements SubSystem {
     }
 
     public UUID getUUIDof(String playerName) {
-        return uuids.get(playerName);
+        return uuids.get(playerName).orElse(null);
+    }
+
+    public List<BoundedCache<?, ?>> getNameCaches() {
+        return Arrays.asList(playerNames, uuids, displayNames);
     }
 }
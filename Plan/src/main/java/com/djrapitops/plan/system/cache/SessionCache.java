@@ -5,6 +5,8 @@ import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.store.keys.SessionKeys;
 import com.djrapitops.plan.system.PlanSystem;
 import com.djrapitops.plan.system.database.databases.Database;
+import com.djrapitops.plan.system.database.databases.sql.operation.PlayerDataCache;
+import com.djrapitops.plan.system.tasks.server.AnalysisScheduler;
 import com.djrapitops.plugin.api.utility.log.Log;
 import com.djrapitops.plugin.utilities.Verify;
 
@@ -12,16 +14,21 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class is used to store active sessions of players in memory.
+ * <p>
+ * Sessions are added and removed from any thread. Other threads than the one handling the events of the player
+ * should read sessions with {@link #getActiveSessionsSnapshot()} or {@link #getCachedSessionSnapshot(UUID)},
+ * so that the sessions do not change while they are used.
  *
  * @author Rsl1122
  * @since 3.0.0
  */
 public class SessionCache {
 
-    private static final Map<UUID, Session> activeSessions = new HashMap<>();
+    private static final Map<UUID, Session> activeSessions = new ConcurrentHashMap<>();
     protected final PlanSystem system;
 
     public SessionCache(PlanSystem system) {
@@ -34,18 +41,33 @@ public class SessionCache {
         return dataCache;
     }
 
+    /**
+     * Get the active sessions.
+     * <p>
+     * The sessions are changed by events, use {@link #getActiveSessionsSnapshot()} for reading them.
+     *
+     * @return Map of UUID - Session of online players.
+     */
     public static Map<UUID, Session> getActiveSessions() {
         return activeSessions;
     }
 
-    public static void clear() {
-        activeSessions.clear();
+    /**
+     * Get copies of the active sessions with WorldTimes up to date.
+     *
+     * @return Map of UUID - Session that is not changed by events.
+     */
+    public static Map<UUID, Session> getActiveSessionsSnapshot() {
+        long now = System.currentTimeMillis();
+        Map<UUID, Session> snapshot = new HashMap<>();
+        for (Map.Entry<UUID, Session> entry : activeSessions.entrySet()) {
+            snapshot.put(entry.getKey(), entry.getValue().snapshot(now));
+        }
+        return snapshot;
     }
 
-    public static void refreshActiveSessionsState() {
-        for (Session session : activeSessions.values()) {
-            session.getUnsafe(SessionKeys.WORLD_TIMES).updateState(System.currentTimeMillis());
-        }
+    public static void clear() {
+        activeSessions.clear();
     }
 
     /**
@@ -58,11 +80,24 @@ public class SessionCache {
         return Optional.ofNullable(activeSessions.get(uuid));
     }
 
+    /**
+     * Used to get a copy of the Session of the player with WorldTimes up to date.
+     *
+     * @param uuid UUID of the player.
+     * @return Optional with a session that is not changed by events.
+     */
+    public static Optional<Session> getCachedSessionSnapshot(UUID uuid) {
+        return getCachedSession(uuid).map(session -> session.snapshot(System.currentTimeMillis()));
+    }
+
     public void cacheSession(UUID uuid, Session session) {
         if (getCachedSession(uuid).isPresent()) {
             endSession(uuid, System.currentTimeMillis());
         }
         activeSessions.put(uuid, session);
+        PlayerDataCache.invalidate(uuid);
+        // Joins change the online and new player counts of the Analysis page.
+        AnalysisScheduler.markChanged();
     }
 
     public void endSession(UUID uuid, long time) {
@@ -76,6 +111,7 @@ public class SessionCache {
         try {
             session.endSession(time);
             Database.getActive().save().session(uuid, session);
+            AnalysisScheduler.markChanged();
         } catch (DBOpException e) {
             Log.toLog(this.getClass(), e);
         } finally {
@@ -85,5 +121,6 @@ public class SessionCache {
 
     protected void removeSessionFromCache(UUID uuid) {
         activeSessions.remove(uuid);
+        PlayerDataCache.invalidate(uuid);
     }
 }
@@ -38,6 +38,8 @@ public abstract class Database {
 
     public abstract CountOperations count();
 
+    public abstract QueryOperations query();
+
     public abstract SaveOperations save();
 
     /**
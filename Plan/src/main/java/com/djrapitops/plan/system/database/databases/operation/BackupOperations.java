@@ -6,6 +6,13 @@ public interface BackupOperations {
 
     void backup(Database toDatabase);
 
+    /**
+     * Continue a backup that was interrupted, without removing data copied before.
+     *
+     * @param toDatabase Database the interrupted backup was writing to.
+     */
+    void continueBackup(Database toDatabase);
+
     void restore(Database fromDatabase);
 
 }
@@ -35,6 +35,7 @@ public interface FetchOperations {
      * <p>
      * Limitations:
      * - ServerKeys.PLAYERS PlayerContainers PlayerKeys.PER_SERVER only contains information about the queried server.
+     * - ServerKeys.PING and PlayerKeys.PING only contain Pings on the queried server.
      * <p>
      * Blocking methods are not called until DataContainer getter methods are called.
      *
@@ -43,6 +44,23 @@ public interface FetchOperations {
      */
     ServerContainer getServerContainer(UUID serverUUID);
 
+    /**
+     * Used to get a ServerContainer with time-windowed data limited to the given date.
+     * <p>
+     * Only data of the users registered on the server is loaded.
+     * <p>
+     * Limitations:
+     * - ServerKeys.PLAYERS PlayerContainers PlayerKeys.PER_SERVER only contains information about the queried server.
+     * - ServerKeys.PING and PlayerKeys.PING only contain Pings on the queried server after the given date.
+     * <p>
+     * Blocking methods are not called until DataContainer getter methods are called.
+     *
+     * @param serverUUID UUID of the Server.
+     * @param after      Epoch ms, time-windowed data older than this is not loaded.
+     * @return a new ServerContainer.
+     */
+    ServerContainer getServerContainer(UUID serverUUID, long after);
+
     /**
      * Used to get PlayerContainers of all players on the network, some limitations apply to DataContainer keys.
      * <p>
@@ -59,13 +77,21 @@ public interface FetchOperations {
     /**
      * Used to get a PlayerContainer of a specific player.
      * <p>
-     * Blocking methods are not called until DataContainer getter methods are called.
+     * All data of the player is loaded at once, and kept for a short while for the next call.
      *
      * @param uuid UUID of the player.
      * @return a new PlayerContainer.
      */
     PlayerContainer getPlayerContainer(UUID uuid);
 
+    /**
+     * Load the data of multiple players at once so that following {@link #getPlayerContainer(UUID)} calls do not
+     * need to query the database.
+     *
+     * @param uuids UUIDs of the players, for example the players that are online.
+     */
+    void prefetchPlayerContainers(Collection<UUID> uuids);
+
     // UUIDs
 
     Set<UUID> getSavedUUIDs();
@@ -0,0 +1,45 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.database.databases.operation;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * One page of rows returned by {@link QueryOperations}.
+ * <p>
+ * The next page is requested by giving the cursor of this page to the same query.
+ * Cursors point to the last returned row, so rows added while paging are not skipped or returned twice.
+ *
+ * @param <T> Type of the rows.
+ * @author Rsl1122
+ */
+public class Page<T> {
+
+    private final List<T> rows;
+    private final String nextCursor;
+
+    public Page(List<T> rows, String nextCursor) {
+        this.rows = rows;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getRows() {
+        return rows;
+    }
+
+    /**
+     * Get the cursor of the next page.
+     *
+     * @return Cursor to give to the next query, empty if this is the last page.
+     */
+    public Optional<String> getNextCursor() {
+        return Optional.ofNullable(nextCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
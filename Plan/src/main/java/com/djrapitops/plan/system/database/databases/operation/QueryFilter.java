@@ -0,0 +1,88 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.database.databases.operation;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Limits the rows returned by {@link QueryOperations} to a server and a time range.
+ * <p>
+ * The time range is inclusive and matches registration date of players, start of sessions and date of kills and TPS.
+ *
+ * @author Rsl1122
+ */
+public class QueryFilter {
+
+    private UUID serverUUID;
+    private long after = 0L;
+    private long before = Long.MAX_VALUE;
+
+    private QueryFilter() {
+        /* Use QueryFilter.all() */
+    }
+
+    /**
+     * Create a filter that matches everything.
+     *
+     * @return new QueryFilter.
+     */
+    public static QueryFilter all() {
+        return new QueryFilter();
+    }
+
+    /**
+     * Only match rows of a server.
+     *
+     * @param serverUUID UUID of the server.
+     * @return this filter.
+     */
+    public QueryFilter server(UUID serverUUID) {
+        this.serverUUID = serverUUID;
+        return this;
+    }
+
+    /**
+     * Only match rows at or after a date.
+     *
+     * @param after Epoch ms.
+     * @return this filter.
+     */
+    public QueryFilter after(long after) {
+        this.after = after;
+        return this;
+    }
+
+    /**
+     * Only match rows at or before a date.
+     *
+     * @param before Epoch ms.
+     * @return this filter.
+     */
+    public QueryFilter before(long before) {
+        this.before = before;
+        return this;
+    }
+
+    public Optional<UUID> getServerUUID() {
+        return Optional.ofNullable(serverUUID);
+    }
+
+    public long getAfter() {
+        return after;
+    }
+
+    public long getBefore() {
+        return before;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryFilter{" +
+                "serverUUID=" + serverUUID + ", " +
+                "after=" + after + ", " +
+                "before=" + before + '}';
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.database.databases.operation;
+
+import com.djrapitops.plan.api.exceptions.database.DBOpException;
+import com.djrapitops.plan.data.container.PlayerKill;
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.container.TPS;
+import com.djrapitops.plan.data.container.UserInfo;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Operations for reading large amounts of data a page at a time, meant for other plugins.
+ * <p>
+ * Unlike {@link FetchOperations}, none of these methods load a whole table to memory.
+ * Each page is a separate query, so the database is not held while the rows are used.
+ * <p>
+ * Cursors are given by {@link Page#getNextCursor()}, null cursor returns the first page.
+ * Page size is limited to {@link #MAX_PAGE_SIZE}.
+ * <p>
+ * All methods should be called from an asynchronous thread, and throw {@link DBOpException} if the query fails.
+ *
+ * @author Rsl1122
+ */
+public interface QueryOperations {
+
+    int MAX_PAGE_SIZE = 5000;
+
+    /**
+     * Get players.
+     * <p>
+     * If the filter has a server, the rows contain registration date, operator and ban status on that server.
+     * Otherwise the rows contain the first registration date and are not operator or banned.
+     *
+     * @param filter   Server and registration date range.
+     * @param cursor   Cursor of the previous page, or null.
+     * @param pageSize Maximum amount of rows.
+     * @return Page of players in the order they registered to Plan.
+     * @throws IllegalArgumentException If the cursor is not a cursor of this query.
+     */
+    Page<UserInfo> getPlayers(QueryFilter filter, String cursor, int pageSize);
+
+    /**
+     * Get sessions.
+     * <p>
+     * Sessions do not contain kills or world times.
+     *
+     * @param filter   Server and session start date range.
+     * @param cursor   Cursor of the previous page, or null.
+     * @param pageSize Maximum amount of rows.
+     * @return Page of sessions in the order they were saved.
+     * @throws IllegalArgumentException If the cursor is not a cursor of this query.
+     */
+    Page<Session> getSessions(QueryFilter filter, String cursor, int pageSize);
+
+    /**
+     * Get player kills, {@link PlayerKill#getKiller()} is present.
+     *
+     * @param filter   Server and date range.
+     * @param cursor   Cursor of the previous page, or null.
+     * @param pageSize Maximum amount of rows.
+     * @return Page of kills ordered by date.
+     * @throws IllegalArgumentException If the cursor is not a cursor of this query.
+     */
+    Page<PlayerKill> getKills(QueryFilter filter, String cursor, int pageSize);
+
+    /**
+     * Get TPS data of a server.
+     *
+     * @param filter   Date range, and the server. This server is used if the filter has no server.
+     * @param cursor   Cursor of the previous page, or null.
+     * @param pageSize Maximum amount of rows.
+     * @return Page of TPS ordered by date.
+     * @throws IllegalArgumentException If the cursor is not a cursor of this query.
+     */
+    Page<TPS> getTPS(QueryFilter filter, String cursor, int pageSize);
+
+    void forEachPlayer(QueryFilter filter, Consumer<UserInfo> consumer);
+
+    void forEachSession(QueryFilter filter, Consumer<Session> consumer);
+
+    void forEachKill(QueryFilter filter, Consumer<PlayerKill> consumer);
+
+    void forEachTPS(QueryFilter filter, Consumer<TPS> consumer);
+
+    /**
+     * Get players with the most playtime, calculated in the database.
+     *
+     * @param filter Server and session start date range.
+     * @param n      Amount of players, at most {@link #MAX_PAGE_SIZE}.
+     * @return Map of UUID - playtime in ms, in descending order of playtime.
+     * @throws IllegalArgumentException If n is not positive or is over {@link #MAX_PAGE_SIZE}.
+     */
+    Map<UUID, Long> getPlaytimeTop(QueryFilter filter, int n);
+
+    /**
+     * Count players who had a session in the filter, calculated in the database.
+     *
+     * @param filter Server and session start date range.
+     * @return Amount of unique players.
+     */
+    int getUniquePlayerCount(QueryFilter filter);
+}
@@ -40,6 +40,8 @@ public interface SaveOperations {
 
     void insertAllGeoInfo(Map<UUID, List<GeoInfo>> ofUsers);
 
+    void insertPings(Map<UUID, List<Ping>> ofUsers);
+
     // Single data point
 
     void banStatus(UUID uuid, boolean banned);
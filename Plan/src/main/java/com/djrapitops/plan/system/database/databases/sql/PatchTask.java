@@ -16,10 +16,12 @@ import java.util.function.Supplier;
  */
 public class PatchTask extends AbsRunnable {
 
+    private final SQLDB db;
     private final Patch[] patches;
     private final Supplier<Locale> locale;
 
-    public PatchTask(Patch[] patches, Supplier<Locale> locale) {
+    public PatchTask(SQLDB db, Patch[] patches, Supplier<Locale> locale) {
+        this.db = db;
         this.patches = patches;
         this.locale = locale;
     }
@@ -47,6 +49,7 @@ public class PatchTask extends AbsRunnable {
                 String patchName = patch.getClass().getSimpleName();
                 Log.info(locale.get().getString(PluginLang.DB_APPLY_PATCH, patchName));
                 patch.apply();
+                db.invalidateSchema();
                 didApply = true;
             }
         }
@@ -8,10 +8,13 @@ import com.djrapitops.plan.system.database.databases.sql.operation.*;
 import com.djrapitops.plan.system.database.databases.sql.patches.*;
 import com.djrapitops.plan.system.database.databases.sql.processing.ExecStatement;
 import com.djrapitops.plan.system.database.databases.sql.processing.QueryStatement;
+import com.djrapitops.plan.system.database.databases.sql.processing.SQLProfiler;
 import com.djrapitops.plan.system.database.databases.sql.tables.*;
+import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.locale.Locale;
 import com.djrapitops.plan.system.locale.lang.PluginLang;
 import com.djrapitops.plan.system.settings.Settings;
+import com.djrapitops.plan.system.settings.SettingsSnapshot;
 import com.djrapitops.plugin.api.TimeAmount;
 import com.djrapitops.plugin.api.utility.log.Log;
 import com.djrapitops.plugin.task.AbsRunnable;
@@ -25,6 +28,7 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -60,15 +64,21 @@ public abstract class SQLDB extends Database {
     private final SQLRemoveOps removeOps;
     private final SQLSearchOps searchOps;
     private final SQLCountOps countOps;
+    private final SQLQueryOps queryOps;
     private final SQLSaveOps saveOps;
     private final SQLTransferOps transferOps;
 
+    private final SQLProfiler profiler;
+
     private final boolean usingMySQL;
+    private boolean devMode;
+    private volatile Optional<SchemaSnapshot> schema;
     private ITask dbCleanTask;
 
     public SQLDB(Supplier<Locale> locale) {
         this.locale = locale;
         usingMySQL = this instanceof MySQLDB;
+        profiler = new SQLProfiler();
 
         serverTable = new ServerTable(this);
         securityTable = new SecurityTable(this);
@@ -92,6 +102,7 @@ public abstract class SQLDB extends Database {
         fetchOps = new SQLFetchOps(this);
         removeOps = new SQLRemoveOps(this);
         countOps = new SQLCountOps(this);
+        queryOps = new SQLQueryOps(this);
         searchOps = new SQLSearchOps(this);
         saveOps = new SQLSaveOps(this);
         transferOps = new SQLTransferOps(this);
@@ -110,6 +121,8 @@ public abstract class SQLDB extends Database {
     @Override
     public void init() throws DBInitException {
         open = true;
+        devMode = SettingsSnapshot.get().isDevMode();
+        profiler.configure(Settings.DB_SLOW_QUERY_THRESHOLD.getNumber(), devMode);
         setupDataSource();
         setupDatabase();
     }
@@ -153,11 +166,13 @@ public abstract class SQLDB extends Database {
                     new IPHashPatch(this),
                     new IPAnonPatch(this),
                     new NicknameLastSeenPatch(this),
-                    new VersionTableRemovalPatch(this)
+                    new VersionTableRemovalPatch(this),
+                    new CopyCursorIndexPatch(this),
+                    new QueryPageIndexPatch(this)
             };
 
             try {
-                RunnableFactory.createNew("Database Patch", new PatchTask(patches, locale))
+                RunnableFactory.createNew("Database Patch", new PatchTask(this, patches, locale))
                         .runTaskLaterAsynchronously(TimeAmount.SECOND.ticks() * 5L);
             } catch (Exception ignore) {
                 // Task failed to register because plugin is being disabled
@@ -171,11 +186,49 @@ public abstract class SQLDB extends Database {
      * Creates the tables that contain data.
      * <p>
      * Updates table columns to latest schema.
+     * Tables that are found in the {@link SchemaSnapshot} are skipped.
      */
     private void createTables() throws DBInitException {
+        Optional<SchemaSnapshot> existing = getSchema();
+        boolean created = false;
         for (Table table : getAllTables()) {
+            if (existing.isPresent() && existing.get().hasTable(table.getTableName())) {
+                continue;
+            }
             table.createTable();
+            created = true;
+        }
+        if (created) {
+            invalidateSchema();
+        }
+    }
+
+    /**
+     * Get the tables and columns of the database, loaded with a single query on first call.
+     * <p>
+     * A failed load is remembered until {@link #invalidateSchema()} so the query is not repeated.
+     *
+     * @return Snapshot of the schema, or empty if the database does not support the metadata query.
+     */
+    public Optional<SchemaSnapshot> getSchema() {
+        Optional<SchemaSnapshot> snapshot = schema;
+        if (snapshot == null) {
+            try {
+                snapshot = Optional.of(SchemaSnapshot.load(this));
+            } catch (DBOpException e) {
+                Log.debug("Schema could not be read with one query, checking tables one by one: " + e.getMessage());
+                snapshot = Optional.empty();
+            }
+            schema = snapshot;
         }
+        return snapshot;
+    }
+
+    /**
+     * Mark the schema snapshot outdated after tables or columns have been changed.
+     */
+    public void invalidateSchema() {
+        schema = null;
     }
 
     /**
@@ -220,6 +273,10 @@ public abstract class SQLDB extends Database {
         tpsTable.clean();
         transferTable.clean();
         pingTable.clean();
+        if (Settings.PING_HOURLY_ROLLUPS.isTrue()) {
+            long dayAgo = System.currentTimeMillis() - TimeAmount.DAY.ms();
+            pingTable.combineToHours(ServerInfo.getServerUUID(), dayAgo - dayAgo % TimeAmount.HOUR.ms());
+        }
 
         long now = System.currentTimeMillis();
         long keepActiveAfter = now - TimeAmount.DAY.ms() * Settings.KEEP_INACTIVE_PLAYERS_DAYS.getNumber();
@@ -263,7 +320,10 @@ public abstract class SQLDB extends Database {
         try {
             connection = getConnection();
             try (PreparedStatement preparedStatement = connection.prepareStatement(statement.getSql())) {
-                return statement.execute(preparedStatement);
+                long start = System.nanoTime();
+                boolean updated = statement.execute(preparedStatement);
+                profiler.record(statement.getSql(), System.nanoTime() - start, statement.getAffectedRows());
+                return updated;
             }
         } catch (SQLException e) {
             throw DBOpException.forCause(statement.getSql(), e);
@@ -287,7 +347,7 @@ public abstract class SQLDB extends Database {
             try {
                 execute(statement);
             } catch (DBOpException e) {
-                if (Settings.DEV_MODE.isTrue()) {
+                if (devMode) {
                     Log.toLog(this.getClass(), e);
                 }
             }
@@ -299,7 +359,9 @@ public abstract class SQLDB extends Database {
         try {
             connection = getConnection();
             try (PreparedStatement preparedStatement = connection.prepareStatement(statement.getSql())) {
+                long start = System.nanoTime();
                 statement.executeBatch(preparedStatement);
+                profiler.record(statement.getSql(), System.nanoTime() - start, statement.getAffectedRows());
             }
         } catch (SQLException e) {
             throw DBOpException.forCause(statement.getSql(), e);
@@ -313,7 +375,10 @@ public abstract class SQLDB extends Database {
         try {
             connection = getConnection();
             try (PreparedStatement preparedStatement = connection.prepareStatement(statement.getSql())) {
-                return statement.executeQuery(preparedStatement);
+                long start = System.nanoTime();
+                T result = statement.executeQuery(preparedStatement);
+                profiler.record(statement.getSql(), System.nanoTime() - start, SQLProfiler.rowsOf(result));
+                return result;
             }
         } catch (SQLException e) {
             throw DBOpException.forCause(statement.getSql(), e);
@@ -322,6 +387,15 @@ public abstract class SQLDB extends Database {
         }
     }
 
+    /**
+     * Get execution statistics of the statements run against this database.
+     *
+     * @return Profiler of this database.
+     */
+    public SQLProfiler getProfiler() {
+        return profiler;
+    }
+
     public UsersTable getUsersTable() {
         return usersTable;
     }
@@ -412,6 +486,11 @@ public abstract class SQLDB extends Database {
         return countOps;
     }
 
+    @Override
+    public QueryOperations query() {
+        return queryOps;
+    }
+
     @Override
     public SaveOperations save() {
         return saveOps;
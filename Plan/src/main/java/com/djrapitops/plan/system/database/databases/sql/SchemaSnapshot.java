@@ -0,0 +1,66 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.database.databases.sql;
+
+import com.djrapitops.plan.system.database.databases.sql.processing.QueryAllStatement;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * Tables and columns of the database, read with a single query.
+ * <p>
+ * Used on enable so that table creation and patch checks do not need a query for each table and column.
+ * Names are compared case insensitively.
+ *
+ * @author Rsl1122
+ */
+public class SchemaSnapshot {
+
+    private static final String MYSQL_SQL = "SELECT TABLE_NAME, COLUMN_NAME FROM information_schema.COLUMNS" +
+            " WHERE TABLE_SCHEMA=DATABASE()";
+    // pragma_table_info can be joined since SQLite 3.16.0
+    private static final String SQLITE_SQL = "SELECT m.name AS TABLE_NAME, p.name AS COLUMN_NAME" +
+            " FROM sqlite_master m, pragma_table_info(m.name) p WHERE m.type='table'";
+
+    private final Map<String, Set<String>> columns;
+
+    SchemaSnapshot(Map<String, Set<String>> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Read the tables and columns of a database.
+     *
+     * @param db Database to read.
+     * @return New snapshot.
+     * @throws com.djrapitops.plan.api.exceptions.database.DBOpException If the query fails.
+     */
+    public static SchemaSnapshot load(SQLDB db) {
+        String sql = db.isUsingMySQL() ? MYSQL_SQL : SQLITE_SQL;
+        return db.query(new QueryAllStatement<SchemaSnapshot>(sql) {
+            @Override
+            public SchemaSnapshot processResults(ResultSet set) throws SQLException {
+                Map<String, Set<String>> columns = new HashMap<>();
+                while (set.next()) {
+                    String table = set.getString("TABLE_NAME").toLowerCase(Locale.ROOT);
+                    String column = set.getString("COLUMN_NAME").toLowerCase(Locale.ROOT);
+                    columns.computeIfAbsent(table, name -> new HashSet<>()).add(column);
+                }
+                return new SchemaSnapshot(columns);
+            }
+        });
+    }
+
+    public boolean hasTable(String tableName) {
+        return columns.containsKey(tableName.toLowerCase(Locale.ROOT));
+    }
+
+    public boolean hasColumn(String tableName, String columnName) {
+        Set<String> tableColumns = columns.get(tableName.toLowerCase(Locale.ROOT));
+        return tableColumns != null && tableColumns.contains(columnName.toLowerCase(Locale.ROOT));
+    }
+}
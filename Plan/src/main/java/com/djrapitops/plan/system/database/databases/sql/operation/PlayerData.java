@@ -0,0 +1,132 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.database.databases.sql.operation;
+
+import com.djrapitops.plan.data.container.GeoInfo;
+import com.djrapitops.plan.data.container.Ping;
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.container.UserInfo;
+import com.djrapitops.plan.data.store.containers.DataContainer;
+import com.djrapitops.plan.data.store.containers.PerServerContainer;
+import com.djrapitops.plan.data.store.containers.PlayerContainer;
+import com.djrapitops.plan.data.store.keys.PerServerKeys;
+import com.djrapitops.plan.data.store.keys.PlayerKeys;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.data.store.mutators.PerServerMutator;
+import com.djrapitops.plan.data.store.mutators.SessionsMutator;
+import com.djrapitops.plan.data.store.objects.Nickname;
+import com.djrapitops.plan.data.time.WorldTimes;
+
+import java.util.*;
+
+/**
+ * Database data of a single player, loaded by {@link PlayerDataLoader}.
+ * <p>
+ * The data is not changed after loading, so the same instance can be cached and turned into a new
+ * {@link PlayerContainer} whenever one is needed.
+ *
+ * @author Rsl1122
+ */
+class PlayerData {
+
+    final UUID uuid;
+
+    // null if the player is not registered.
+    Long registered;
+    String name;
+    Integer timesKicked;
+
+    final List<GeoInfo> geoInfo = new ArrayList<>();
+    final List<Ping> pings = new ArrayList<>();
+    final List<Nickname> nicknames = new ArrayList<>();
+    final Map<UUID, UserInfo> userInfo = new HashMap<>();
+    final Map<UUID, List<Session>> sessions = new HashMap<>();
+
+    PlayerData(UUID uuid) {
+        this.uuid = uuid;
+    }
+
+    boolean isRegistered() {
+        return registered != null;
+    }
+
+    PlayerContainer toContainer() {
+        PlayerContainer container = new PlayerContainer();
+        container.putRawData(PlayerKeys.UUID, uuid);
+
+        if (isRegistered()) {
+            container.putRawData(PlayerKeys.REGISTERED, registered);
+            container.putRawData(PlayerKeys.NAME, name);
+            container.putRawData(PlayerKeys.KICK_COUNT, timesKicked);
+        }
+        container.putRawData(PlayerKeys.GEO_INFO, new ArrayList<>(geoInfo));
+        container.putRawData(PlayerKeys.PING, new ArrayList<>(pings));
+        container.putRawData(PlayerKeys.NICKNAMES, new ArrayList<>(nicknames));
+        container.putSupplier(PlayerKeys.PER_SERVER, this::toPerServerContainer);
+
+        container.putSupplier(PlayerKeys.BANNED, () -> new PerServerMutator(container.getUnsafe(PlayerKeys.PER_SERVER)).isBanned());
+        container.putSupplier(PlayerKeys.OPERATOR, () -> new PerServerMutator(container.getUnsafe(PlayerKeys.PER_SERVER)).isOperator());
+
+        container.putSupplier(PlayerKeys.SESSIONS, () -> {
+                    List<Session> playerSessions = new PerServerMutator(container.getUnsafe(PlayerKeys.PER_SERVER)).flatMapSessions();
+                    container.getValue(PlayerKeys.ACTIVE_SESSION).ifPresent(playerSessions::add);
+                    return playerSessions;
+                }
+        );
+        container.putSupplier(PlayerKeys.WORLD_TIMES, () -> {
+            WorldTimes worldTimes = new PerServerMutator(container.getUnsafe(PlayerKeys.PER_SERVER)).flatMapWorldTimes();
+            container.getValue(PlayerKeys.ACTIVE_SESSION).ifPresent(session -> worldTimes.add(
+                    session.getValue(SessionKeys.WORLD_TIMES).orElse(new WorldTimes(new HashMap<>())))
+            );
+            return worldTimes;
+        });
+
+        container.putSupplier(PlayerKeys.LAST_SEEN, () -> SessionsMutator.forContainer(container).toLastSeen());
+
+        container.putSupplier(PlayerKeys.PLAYER_KILLS, () -> SessionsMutator.forContainer(container).toPlayerKillList());
+        container.putSupplier(PlayerKeys.PLAYER_DEATHS, () -> SessionsMutator.forContainer(container).toPlayerDeathList());
+        container.putSupplier(PlayerKeys.PLAYER_KILL_COUNT, () -> container.getUnsafe(PlayerKeys.PLAYER_KILLS).size());
+        container.putSupplier(PlayerKeys.MOB_KILL_COUNT, () -> SessionsMutator.forContainer(container).toMobKillCount());
+        container.putSupplier(PlayerKeys.DEATH_COUNT, () -> SessionsMutator.forContainer(container).toDeathCount());
+
+        return container;
+    }
+
+    private PerServerContainer toPerServerContainer() {
+        PerServerContainer perServerContainer = new PerServerContainer();
+
+        for (Map.Entry<UUID, UserInfo> entry : userInfo.entrySet()) {
+            UUID serverUUID = entry.getKey();
+            UserInfo info = entry.getValue();
+
+            DataContainer container = perServerContainer.getOrDefault(serverUUID, new DataContainer());
+            container.putRawData(PlayerKeys.REGISTERED, info.getRegistered());
+            container.putRawData(PlayerKeys.BANNED, info.isBanned());
+            container.putRawData(PlayerKeys.OPERATOR, info.isOperator());
+            perServerContainer.put(serverUUID, container);
+        }
+
+        for (Map.Entry<UUID, List<Session>> entry : sessions.entrySet()) {
+            UUID serverUUID = entry.getKey();
+            List<Session> serverSessions = new ArrayList<>(entry.getValue());
+
+            DataContainer container = perServerContainer.getOrDefault(serverUUID, new DataContainer());
+            container.putRawData(PerServerKeys.SESSIONS, serverSessions);
+
+            container.putSupplier(PerServerKeys.LAST_SEEN, () -> SessionsMutator.forContainer(container).toLastSeen());
+
+            container.putSupplier(PerServerKeys.WORLD_TIMES, () -> SessionsMutator.forContainer(container).toTotalWorldTimes());
+            container.putSupplier(PerServerKeys.PLAYER_KILLS, () -> SessionsMutator.forContainer(container).toPlayerKillList());
+            container.putSupplier(PerServerKeys.PLAYER_DEATHS, () -> SessionsMutator.forContainer(container).toPlayerDeathList());
+            container.putSupplier(PerServerKeys.PLAYER_KILL_COUNT, () -> container.getUnsafe(PerServerKeys.PLAYER_KILLS).size());
+            container.putSupplier(PerServerKeys.MOB_KILL_COUNT, () -> SessionsMutator.forContainer(container).toMobKillCount());
+            container.putSupplier(PerServerKeys.DEATH_COUNT, () -> SessionsMutator.forContainer(container).toDeathCount());
+
+            perServerContainer.put(serverUUID, container);
+        }
+
+        return perServerContainer;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.database.databases.sql.operation;
+
+import com.djrapitops.plugin.api.TimeAmount;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps loaded player data for a short while so that PlayerContainers can be created without going to the database.
+ * <p>
+ * Data of a player is removed when their session starts or ends, since the database data of the player changes.
+ *
+ * @author Rsl1122
+ */
+public class PlayerDataCache {
+
+    private static final long KEEP_MS = TimeAmount.MINUTE.ms() * 2L;
+
+    private static final int MAX_VERSIONS = 10000;
+
+    private static final Map<UUID, Entry> cache = new ConcurrentHashMap<>();
+    // Version of a player's data, changed when it is invalidated. Data loaded before the change is not cached.
+    private static final Map<UUID, Long> versions = new ConcurrentHashMap<>();
+    private static final AtomicLong versionCounter = new AtomicLong();
+    // Incremented when everything is invalidated at once.
+    private static final AtomicLong epoch = new AtomicLong();
+
+    private PlayerDataCache() {
+        /* Static method class */
+    }
+
+    static Optional<PlayerData> get(UUID uuid) {
+        Entry entry = cache.get(uuid);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            cache.remove(uuid, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.data);
+    }
+
+    /**
+     * @param uuid UUID of the player.
+     * @return Value to give to {@link #put(PlayerData, Stamp)}, read before loading the data.
+     */
+    static Stamp getStamp(UUID uuid) {
+        return new Stamp(epoch.get(), versions.getOrDefault(uuid, 0L));
+    }
+
+    static void put(PlayerData data, Stamp stampBeforeLoad) {
+        if (!stampBeforeLoad.equals(getStamp(data.uuid))) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(entry -> entry.isExpired(now));
+        Entry entry = new Entry(data, now);
+        cache.put(data.uuid, entry);
+        if (!stampBeforeLoad.equals(getStamp(data.uuid))) {
+            cache.remove(data.uuid, entry);
+        }
+    }
+
+    /**
+     * Get the UUIDs of the players whose data is not cached.
+     *
+     * @param uuids UUIDs to check.
+     * @return UUIDs that need to be loaded.
+     */
+    static List<UUID> getMissing(Collection<UUID> uuids) {
+        List<UUID> missing = new ArrayList<>();
+        for (UUID uuid : uuids) {
+            if (!get(uuid).isPresent()) {
+                missing.add(uuid);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Remove the cached data of a player.
+     *
+     * @param uuid UUID of the player.
+     */
+    public static void invalidate(UUID uuid) {
+        if (versions.size() >= MAX_VERSIONS) {
+            clear();
+            return;
+        }
+        versions.put(uuid, versionCounter.incrementAndGet());
+        cache.remove(uuid);
+    }
+
+    public static void clear() {
+        epoch.incrementAndGet();
+        versions.clear();
+        cache.clear();
+    }
+
+    private static class Entry {
+        private final PlayerData data;
+        private final long loaded;
+
+        private Entry(PlayerData data, long loaded) {
+            this.data = data;
+            this.loaded = loaded;
+        }
+
+        private boolean isExpired(long now) {
+            return now - loaded > KEEP_MS;
+        }
+    }
+
+    /**
+     * Versions of the data of a player at the time it was read.
+     */
+    static class Stamp {
+        private final long epoch;
+        private final long version;
+
+        private Stamp(long epoch, long version) {
+            this.epoch = epoch;
+            this.version = version;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Stamp stamp = (Stamp) o;
+            return epoch == stamp.epoch &&
+                    version == stamp.version;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(epoch, version);
+        }
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.database.databases.sql.operation;
+
+import com.djrapitops.plan.api.exceptions.database.DBOpException;
+import com.djrapitops.plan.data.container.*;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.data.store.objects.Nickname;
+import com.djrapitops.plan.data.time.GMTimes;
+import com.djrapitops.plan.system.database.databases.sql.SQLDB;
+import com.djrapitops.plan.system.database.databases.sql.processing.QueryAllStatement;
+import com.djrapitops.plan.system.database.databases.sql.processing.QueryStatement;
+import com.djrapitops.plan.system.database.databases.sql.processing.SQLProfiler;
+import com.djrapitops.plan.system.database.databases.sql.tables.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * Loads everything Plan knows about a group of players at once.
+ * <p>
+ * Each table is queried once for the whole group with the user IDs of the players, instead of once per player for
+ * each table when the suppliers of a lazy PlayerContainer are called. All queries of a group run on one connection.
+ *
+ * @author Rsl1122
+ */
+class PlayerDataLoader extends SQLOps {
+
+    // SQLite allows 999 parameters in a statement.
+    private static final int PLAYERS_PER_GROUP = 500;
+
+    PlayerDataLoader(SQLDB db) {
+        super(db);
+    }
+
+    /**
+     * Load data of players.
+     *
+     * @param uuids UUIDs of the players.
+     * @return Data of the players that are registered, by UUID.
+     */
+    Map<UUID, PlayerData> load(Collection<UUID> uuids) {
+        Map<UUID, PlayerData> loaded = new HashMap<>();
+        if (uuids.isEmpty()) {
+            return loaded;
+        }
+        Map<Integer, UUID> serverUUIDs = serverTable.getServerUUIDsByID();
+
+        List<UUID> toLoad = new ArrayList<>(new HashSet<>(uuids));
+        for (int i = 0; i < toLoad.size(); i += PLAYERS_PER_GROUP) {
+            List<UUID> group = toLoad.subList(i, Math.min(i + PLAYERS_PER_GROUP, toLoad.size()));
+            for (PlayerData data : loadGroup(group, serverUUIDs).values()) {
+                loaded.put(data.uuid, data);
+            }
+        }
+        return loaded;
+    }
+
+    private Map<Integer, PlayerData> loadGroup(List<UUID> uuids, Map<Integer, UUID> serverUUIDs) {
+        Connection connection = null;
+        try {
+            connection = db.getConnection();
+            Map<Integer, PlayerData> players = query(connection, users(uuids));
+            if (players.isEmpty()) {
+                return players;
+            }
+            String userIDs = joinIDs(players.keySet());
+
+            query(connection, userInfo(userIDs, players, serverUUIDs));
+            query(connection, geoInfo(userIDs, players));
+            query(connection, pings(userIDs, players, serverUUIDs));
+            query(connection, nicknames(userIDs, players, serverUUIDs));
+
+            Map<Integer, Map<Integer, Session>> sessionsByUser = query(connection, sessions(userIDs, players, serverUUIDs));
+            query(connection, kills(userIDs, sessionsByUser));
+            query(connection, deaths(userIDs, sessionsByUser));
+            query(connection, worldTimes(userIDs, sessionsByUser));
+            return players;
+        } catch (SQLException e) {
+            throw new DBOpException("Failed to get a connection: " + e.getMessage(), e);
+        } finally {
+            db.returnToPool(connection);
+        }
+    }
+
+    private <T> T query(Connection connection, QueryStatement<T> statement) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(statement.getSql())) {
+            long start = System.nanoTime();
+            T result = statement.executeQuery(preparedStatement);
+            db.getProfiler().record(statement.getSql(), System.nanoTime() - start, SQLProfiler.rowsOf(result));
+            return result;
+        } catch (SQLException e) {
+            throw DBOpException.forCause(statement.getSql(), e);
+        }
+    }
+
+    private String joinIDs(Collection<Integer> ids) {
+        StringBuilder builder = new StringBuilder();
+        for (Integer id : ids) {
+            if (builder.length() > 0) {
+                builder.append(',');
+            }
+            builder.append(id);
+        }
+        return builder.toString();
+    }
+
+    private QueryStatement<Map<Integer, PlayerData>> users(List<UUID> uuids) {
+        String sql = "SELECT " +
+                UsersTable.Col.ID + ", " +
+                UsersTable.Col.UUID + ", " +
+                UsersTable.Col.REGISTERED + ", " +
+                UsersTable.Col.USER_NAME + ", " +
+                UsersTable.Col.TIMES_KICKED +
+                " FROM " + usersTable +
+                " WHERE " + UsersTable.Col.UUID + " IN (" + String.join(",", Collections.nCopies(uuids.size(), "?")) + ")";
+
+        return new QueryStatement<Map<Integer, PlayerData>>(sql, PLAYERS_PER_GROUP) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (int i = 0; i < uuids.size(); i++) {
+                    statement.setString(i + 1, uuids.get(i).toString());
+                }
+            }
+
+            @Override
+            public Map<Integer, PlayerData> processResults(ResultSet set) throws SQLException {
+                Map<Integer, PlayerData> players = new HashMap<>();
+                while (set.next()) {
+                    PlayerData data = new PlayerData(UUID.fromString(set.getString(UsersTable.Col.UUID.get())));
+                    data.registered = set.getLong(UsersTable.Col.REGISTERED.get());
+                    data.name = set.getString(UsersTable.Col.USER_NAME.get());
+                    data.timesKicked = set.getInt(UsersTable.Col.TIMES_KICKED.get());
+                    players.put(set.getInt(UsersTable.Col.ID.get()), data);
+                }
+                return players;
+            }
+        };
+    }
+
+    private QueryStatement<Object> userInfo(String userIDs, Map<Integer, PlayerData> players, Map<Integer, UUID> serverUUIDs) {
+        String sql = "SELECT " +
+                UserInfoTable.Col.USER_ID + ", " +
+                UserInfoTable.Col.SERVER_ID + ", " +
+                UserInfoTable.Col.REGISTERED + ", " +
+                UserInfoTable.Col.OP + ", " +
+                UserInfoTable.Col.BANNED +
+                " FROM " + userInfoTable +
+                " WHERE " + UserInfoTable.Col.USER_ID + " IN (" + userIDs + ")";
+
+        return new QueryAllStatement<Object>(sql, 1000) {
+            @Override
+            public Object processResults(ResultSet set) throws SQLException {
+                while (set.next()) {
+                    PlayerData data = players.get(set.getInt(UserInfoTable.Col.USER_ID.get()));
+                    UUID serverUUID = serverUUIDs.get(set.getInt(UserInfoTable.Col.SERVER_ID.get()));
+                    if (data == null || serverUUID == null) {
+                        continue;
+                    }
+                    long registered = set.getLong(UserInfoTable.Col.REGISTERED.get());
+                    boolean op = set.getBoolean(UserInfoTable.Col.OP.get());
+                    boolean banned = set.getBoolean(UserInfoTable.Col.BANNED.get());
+                    data.userInfo.put(serverUUID, new UserInfo(data.uuid, data.name, registered, op, banned));
+                }
+                return null;
+            }
+        };
+    }
+
+    private QueryStatement<Object> geoInfo(String userIDs, Map<Integer, PlayerData> players) {
+        String sql = "SELECT DISTINCT " +
+                GeoInfoTable.Col.USER_ID + ", " +
+                GeoInfoTable.Col.IP + ", " +
+                GeoInfoTable.Col.GEOLOCATION + ", " +
+                GeoInfoTable.Col.IP_HASH + ", " +
+                GeoInfoTable.Col.LAST_USED +
+                " FROM " + geoInfoTable +
+                " WHERE " + GeoInfoTable.Col.USER_ID + " IN (" + userIDs + ")";
+
+        return new QueryAllStatement<Object>(sql, 1000) {
+            @Override
+            public Object processResults(ResultSet set) throws SQLException {
+                while (set.next()) {
+                    PlayerData data = players.get(set.getInt(GeoInfoTable.Col.USER_ID.get()));
+                    if (data == null) {
+                        continue;
+                    }
+                    String ip = set.getString(GeoInfoTable.Col.IP.get());
+                    String geolocation = set.getString(GeoInfoTable.Col.GEOLOCATION.get());
+                    String ipHash = set.getString(GeoInfoTable.Col.IP_HASH.get());
+                    long lastUsed = set.getLong(GeoInfoTable.Col.LAST_USED.get());
+                    data.geoInfo.add(new GeoInfo(ip, geolocation, lastUsed, ipHash));
+                }
+                return null;
+            }
+        };
+    }
+
+    private QueryStatement<Object> pings(String userIDs, Map<Integer, PlayerData> players, Map<Integer, UUID> serverUUIDs) {
+        String sql = "SELECT " +
+                PingTable.Col.USER_ID + ", " +
+                PingTable.Col.SERVER_ID + ", " +
+                PingTable.Col.DATE + ", " +
+                PingTable.Col.MIN_PING + ", " +
+                PingTable.Col.MAX_PING + ", " +
+                PingTable.Col.AVG_PING +
+                " FROM " + pingTable +
+                " WHERE " + PingTable.Col.USER_ID + " IN (" + userIDs + ")";
+
+        return new QueryAllStatement<Object>(sql, 10000) {
+            @Override
+            public Object processResults(ResultSet set) throws SQLException {
+                while (set.next()) {
+                    PlayerData data = players.get(set.getInt(PingTable.Col.USER_ID.get()));
+                    if (data == null) {
+                        continue;
+                    }
+                    data.pings.add(new Ping(
+                            set.getLong(PingTable.Col.DATE.get()),
+                            serverUUIDs.get(set.getInt(PingTable.Col.SERVER_ID.get())),
+                            set.getInt(PingTable.Col.MIN_PING.get()),
+                            set.getInt(PingTable.Col.MAX_PING.get()),
+                            set.getDouble(PingTable.Col.AVG_PING.get())
+                    ));
+                }
+                return null;
+            }
+        };
+    }
+
+    private QueryStatement<Object> nicknames(String userIDs, Map<Integer, PlayerData> players, Map<Integer, UUID> serverUUIDs) {
+        String sql = "SELECT " +
+                NicknamesTable.Col.USER_ID + ", " +
+                NicknamesTable.Col.SERVER_ID + ", " +
+                NicknamesTable.Col.NICKNAME + ", " +
+                NicknamesTable.Col.LAST_USED +
+                " FROM " + nicknamesTable +
+                " WHERE " + NicknamesTable.Col.USER_ID + " IN (" + userIDs + ")";
+
+        return new QueryAllStatement<Object>(sql, 5000) {
+            @Override
+            public Object processResults(ResultSet set) throws SQLException {
+                while (set.next()) {
+                    PlayerData data = players.get(set.getInt(NicknamesTable.Col.USER_ID.get()));
+                    UUID serverUUID = serverUUIDs.get(set.getInt(NicknamesTable.Col.SERVER_ID.get()));
+                    if (data == null || serverUUID == null) {
+                        continue;
+                    }
+                    String nickname = set.getString(NicknamesTable.Col.NICKNAME.get());
+                    data.nicknames.add(new Nickname(nickname, set.getLong(NicknamesTable.Col.LAST_USED.get()), serverUUID));
+                }
+                return null;
+            }
+        };
+    }
+
+    private QueryStatement<Map<Integer, Map<Integer, Session>>> sessions(String userIDs, Map<Integer, PlayerData> players, Map<Integer, UUID> serverUUIDs) {
+        String sql = "SELECT * FROM " + sessionsTable +
+                " WHERE " + SessionsTable.Col.USER_ID + " IN (" + userIDs + ")";
+
+        return new QueryAllStatement<Map<Integer, Map<Integer, Session>>>(sql, 10000) {
+            @Override
+            public Map<Integer, Map<Integer, Session>> processResults(ResultSet set) throws SQLException {
+                Map<Integer, Map<Integer, Session>> sessionsByUser = new HashMap<>();
+                while (set.next()) {
+                    int userID = set.getInt(SessionsTable.Col.USER_ID.get());
+                    PlayerData data = players.get(userID);
+                    UUID serverUUID = serverUUIDs.get(set.getInt(SessionsTable.Col.SERVER_ID.get()));
+                    if (data == null || serverUUID == null) {
+                        continue;
+                    }
+                    int id = set.getInt(SessionsTable.Col.ID.get());
+                    long start = set.getLong(SessionsTable.Col.SESSION_START.get());
+                    long end = set.getLong(SessionsTable.Col.SESSION_END.get());
+                    int mobKills = set.getInt(SessionsTable.Col.MOB_KILLS.get());
+                    int deaths = set.getInt(SessionsTable.Col.DEATHS.get());
+                    long timeAFK = set.getLong(SessionsTable.Col.AFK_TIME.get());
+
+                    Session session = new Session(id, data.uuid, serverUUID, start, end, mobKills, deaths, timeAFK);
+                    data.sessions.computeIfAbsent(serverUUID, server -> new ArrayList<>()).add(session);
+                    sessionsByUser.computeIfAbsent(userID, user -> new HashMap<>()).put(id, session);
+                }
+                return sessionsByUser;
+            }
+        };
+    }
+
+    private QueryStatement<Object> kills(String userIDs, Map<Integer, Map<Integer, Session>> sessionsByUser) {
+        String usersIDColumn = usersTable + "." + UsersTable.Col.ID;
+        String usersUUIDColumn = usersTable + "." + UsersTable.Col.UUID + " as victim_uuid";
+        String sql = "SELECT " +
+                KillsTable.Col.KILLER_ID + ", " +
+                KillsTable.Col.SESSION_ID + ", " +
+                KillsTable.Col.DATE + ", " +
+                KillsTable.Col.WEAPON + ", " +
+                usersUUIDColumn +
+                " FROM " + killsTable +
+                " INNER JOIN " + usersTable + " on " + usersIDColumn + "=" + KillsTable.Col.VICTIM_ID +
+                " WHERE " + KillsTable.Col.KILLER_ID + " IN (" + userIDs + ")";
+
+        return new QueryAllStatement<Object>(sql, 50000) {
+            @Override
+            public Object processResults(ResultSet set) throws SQLException {
+                while (set.next()) {
+                    Session session = getSession(sessionsByUser, set.getInt(KillsTable.Col.KILLER_ID.get()), set.getInt(KillsTable.Col.SESSION_ID.get()));
+                    if (session == null) {
+                        continue;
+                    }
+                    UUID victim = UUID.fromString(set.getString("victim_uuid"));
+                    long date = set.getLong(KillsTable.Col.DATE.get());
+                    String weapon = set.getString(KillsTable.Col.WEAPON.get());
+                    session.getPlayerKills().add(new PlayerKill(victim, weapon, date));
+                }
+                return null;
+            }
+        };
+    }
+
+    private QueryStatement<Object> deaths(String userIDs, Map<Integer, Map<Integer, Session>> sessionsByUser) {
+        String usersIDColumn = usersTable + "." + UsersTable.Col.ID;
+        String usersUUIDColumn = usersTable + "." + UsersTable.Col.UUID + " as killer_uuid";
+        String sql = "SELECT " +
+                KillsTable.Col.VICTIM_ID + ", " +
+                KillsTable.Col.SESSION_ID + ", " +
+                KillsTable.Col.DATE + ", " +
+                KillsTable.Col.WEAPON + ", " +
+                usersUUIDColumn +
+                " FROM " + killsTable +
+                " INNER JOIN " + usersTable + " on " + usersIDColumn + "=" + KillsTable.Col.KILLER_ID +
+                " WHERE " + KillsTable.Col.VICTIM_ID + " IN (" + userIDs + ")";
+
+        return new QueryAllStatement<Object>(sql, 50000) {
+            @Override
+            public Object processResults(ResultSet set) throws SQLException {
+                while (set.next()) {
+                    Session session = getSession(sessionsByUser, set.getInt(KillsTable.Col.VICTIM_ID.get()), set.getInt(KillsTable.Col.SESSION_ID.get()));
+                    if (session == null) {
+                        continue;
+                    }
+                    UUID killer = UUID.fromString(set.getString("killer_uuid"));
+                    long date = set.getLong(KillsTable.Col.DATE.get());
+                    String weapon = set.getString(KillsTable.Col.WEAPON.get());
+                    session.getUnsafe(SessionKeys.PLAYER_DEATHS).add(new PlayerDeath(killer, weapon, date));
+                }
+                return null;
+            }
+        };
+    }
+
+    private QueryStatement<Object> worldTimes(String userIDs, Map<Integer, Map<Integer, Session>> sessionsByUser) {
+        String sql = "SELECT " +
+                WorldTimesTable.Col.USER_ID + ", " +
+                WorldTimesTable.Col.SESSION_ID + ", " +
+                WorldTimesTable.Col.SURVIVAL + ", " +
+                WorldTimesTable.Col.CREATIVE + ", " +
+                WorldTimesTable.Col.ADVENTURE + ", " +
+                WorldTimesTable.Col.SPECTATOR + ", " +
+                WorldTimesTable.Col.WORLD_ID +
+                " FROM " + worldTimesTable +
+                " WHERE " + WorldTimesTable.Col.USER_ID + " IN (" + userIDs + ")";
+
+        return new QueryAllStatement<Object>(sql, 2000) {
+            @Override
+            public Object processResults(ResultSet set) throws SQLException {
+                String[] gms = GMTimes.getGMKeyArray();
+                while (set.next()) {
+                    Session session = getSession(sessionsByUser, set.getInt(WorldTimesTable.Col.USER_ID.get()), set.getInt(WorldTimesTable.Col.SESSION_ID.get()));
+                    if (session == null) {
+                        continue;
+                    }
+                    String worldName = worldTable.getWorldName(set.getInt(WorldTimesTable.Col.WORLD_ID.get()));
+                    if (worldName == null) {
+                        continue;
+                    }
+
+                    Map<String, Long> gmMap = new HashMap<>();
+                    gmMap.put(gms[0], set.getLong(WorldTimesTable.Col.SURVIVAL.get()));
+                    gmMap.put(gms[1], set.getLong(WorldTimesTable.Col.CREATIVE.get()));
+                    gmMap.put(gms[2], set.getLong(WorldTimesTable.Col.ADVENTURE.get()));
+                    gmMap.put(gms[3], set.getLong(WorldTimesTable.Col.SPECTATOR.get()));
+                    session.getUnsafe(SessionKeys.WORLD_TIMES).setGMTimesForWorld(worldName, new GMTimes(gmMap));
+                }
+                return null;
+            }
+        };
+    }
+
+    private Session getSession(Map<Integer, Map<Integer, Session>> sessionsByUser, int userID, int sessionID) {
+        Map<Integer, Session> sessions = sessionsByUser.get(userID);
+        return sessions != null ? sessions.get(sessionID) : null;
+    }
+}
@@ -20,6 +20,14 @@ public class SQLBackupOps extends SQLOps implements BackupOperations {
         fromDB.copyEverything(toDB);
     }
 
+    @Override
+    public void continueBackup(Database toDatabase) {
+        BatchOperationTable toDB = new BatchOperationTable((SQLDB) toDatabase);
+        BatchOperationTable fromDB = new BatchOperationTable(db);
+
+        fromDB.continueCopy(toDB);
+    }
+
     @Override
     public void restore(Database fromDatabase) {
         fromDatabase.backup().backup(db);
@@ -20,8 +20,11 @@ import java.util.*;
 
 public class SQLFetchOps extends SQLOps implements FetchOperations {
 
+    private final PlayerDataLoader playerDataLoader;
+
     public SQLFetchOps(SQLDB db) {
         super(db);
+        playerDataLoader = new PlayerDataLoader(db);
     }
 
     @Override
@@ -49,6 +52,11 @@ public class SQLFetchOps extends SQLOps implements FetchOperations {
 
     @Override
     public ServerContainer getServerContainer(UUID serverUUID) {
+        return getServerContainer(serverUUID, 0L);
+    }
+
+    @Override
+    public ServerContainer getServerContainer(UUID serverUUID, long after) {
         ServerContainer container = new ServerContainer();
 
         Optional<Server> serverInfo = serverTable.getServerInfo(serverUUID);
@@ -58,7 +66,7 @@ public class SQLFetchOps extends SQLOps implements FetchOperations {
 
         container.putRawData(ServerKeys.SERVER_UUID, serverUUID);
         container.putRawData(ServerKeys.NAME, serverInfo.get().getName());
-        container.putSupplier(ServerKeys.PLAYERS, () -> getPlayerContainers(serverUUID));
+        container.putSupplier(ServerKeys.PLAYERS, () -> getPlayerContainers(serverUUID, after));
         container.putSupplier(ServerKeys.PLAYER_COUNT, () -> container.getUnsafe(ServerKeys.PLAYERS).size());
 
         container.putSupplier(ServerKeys.TPS, () -> tpsTable.getTPSData(serverUUID));
@@ -89,7 +97,7 @@ public class SQLFetchOps extends SQLOps implements FetchOperations {
         container.putSupplier(ServerKeys.SESSIONS, () -> {
             List<Session> sessions = PlayersMutator.forContainer(container).getSessions();
             if (serverUUID.equals(ServerInfo.getServerUUID())) {
-                sessions.addAll(SessionCache.getActiveSessions().values());
+                sessions.addAll(SessionCache.getActiveSessionsSnapshot().values());
             }
             return sessions;
         });
@@ -101,13 +109,13 @@ public class SQLFetchOps extends SQLOps implements FetchOperations {
         return container;
     }
 
-    private List<PlayerContainer> getPlayerContainers(UUID serverUUID) {
+    private List<PlayerContainer> getPlayerContainers(UUID serverUUID, long after) {
         List<PlayerContainer> containers = new ArrayList<>();
 
         List<UserInfo> serverUserInfo = userInfoTable.getServerUserInfo(serverUUID);
-        Map<UUID, Integer> timesKicked = usersTable.getAllTimesKicked();
-        Map<UUID, List<GeoInfo>> geoInfo = geoInfoTable.getAllGeoInfo();
-        Map<UUID, List<Ping>> allPings = pingTable.getAllPings();
+        Map<UUID, Integer> timesKicked = usersTable.getTimesKickedOfServerUsers(serverUUID);
+        Map<UUID, List<GeoInfo>> geoInfo = geoInfoTable.getGeoInfoOfServerUsers(serverUUID);
+        Map<UUID, List<Ping>> allPings = pingTable.getPingsOfServer(serverUUID, after);
 
         Map<UUID, List<Session>> sessions = sessionsTable.getSessionInfoOfServer(serverUUID);
         Map<UUID, Map<UUID, List<Session>>> map = new HashMap<>();
@@ -281,80 +289,33 @@ public class SQLFetchOps extends SQLOps implements FetchOperations {
 
     @Override
     public PlayerContainer getPlayerContainer(UUID uuid) {
-        PlayerContainer container = new PlayerContainer();
-        container.putRawData(PlayerKeys.UUID, uuid);
-
-        container.putAll(usersTable.getUserInformation(uuid));
-        container.putSupplier(PlayerKeys.GEO_INFO, () -> geoInfoTable.getGeoInfo(uuid));
-        container.putSupplier(PlayerKeys.PING, () -> pingTable.getPing(uuid));
-        container.putSupplier(PlayerKeys.NICKNAMES, () -> nicknamesTable.getNicknameInformation(uuid));
-        container.putSupplier(PlayerKeys.PER_SERVER, () -> getPerServerData(uuid));
-
-        container.putSupplier(PlayerKeys.BANNED, () -> new PerServerMutator(container.getUnsafe(PlayerKeys.PER_SERVER)).isBanned());
-        container.putSupplier(PlayerKeys.OPERATOR, () -> new PerServerMutator(container.getUnsafe(PlayerKeys.PER_SERVER)).isOperator());
-
-        container.putSupplier(PlayerKeys.SESSIONS, () -> {
-            List<Session> sessions = new PerServerMutator(container.getUnsafe(PlayerKeys.PER_SERVER)).flatMapSessions();
-                    container.getValue(PlayerKeys.ACTIVE_SESSION).ifPresent(sessions::add);
-                    return sessions;
-                }
-        );
-        container.putSupplier(PlayerKeys.WORLD_TIMES, () ->
-        {
-            WorldTimes worldTimes = new PerServerMutator(container.getUnsafe(PlayerKeys.PER_SERVER)).flatMapWorldTimes();
-            container.getValue(PlayerKeys.ACTIVE_SESSION).ifPresent(session -> worldTimes.add(
-                    session.getValue(SessionKeys.WORLD_TIMES).orElse(new WorldTimes(new HashMap<>())))
-            );
-            return worldTimes;
-        });
-
-        container.putSupplier(PlayerKeys.LAST_SEEN, () -> SessionsMutator.forContainer(container).toLastSeen());
-
-        container.putSupplier(PlayerKeys.PLAYER_KILLS, () -> SessionsMutator.forContainer(container).toPlayerKillList());
-        container.putSupplier(PlayerKeys.PLAYER_DEATHS, () -> SessionsMutator.forContainer(container).toPlayerDeathList());
-        container.putSupplier(PlayerKeys.PLAYER_KILL_COUNT, () -> container.getUnsafe(PlayerKeys.PLAYER_KILLS).size());
-        container.putSupplier(PlayerKeys.MOB_KILL_COUNT, () -> SessionsMutator.forContainer(container).toMobKillCount());
-        container.putSupplier(PlayerKeys.DEATH_COUNT, () -> SessionsMutator.forContainer(container).toDeathCount());
+        Optional<PlayerData> cached = PlayerDataCache.get(uuid);
+        if (cached.isPresent()) {
+            return cached.get().toContainer();
+        }
 
-        return container;
+        PlayerDataCache.Stamp stamp = PlayerDataCache.getStamp(uuid);
+        PlayerData data = playerDataLoader.load(Collections.singletonList(uuid)).get(uuid);
+        if (data == null) {
+            return new PlayerData(uuid).toContainer();
+        }
+        PlayerDataCache.put(data, stamp);
+        return data.toContainer();
     }
 
-    private PerServerContainer getPerServerData(UUID uuid) {
-        PerServerContainer perServerContainer = new PerServerContainer();
-
-        Map<UUID, UserInfo> allUserInfo = userInfoTable.getAllUserInfo(uuid);
-        for (Map.Entry<UUID, UserInfo> entry : allUserInfo.entrySet()) {
-            UUID serverUUID = entry.getKey();
-            UserInfo info = entry.getValue();
-
-            DataContainer container = perServerContainer.getOrDefault(serverUUID, new DataContainer());
-            container.putRawData(PlayerKeys.REGISTERED, info.getRegistered());
-            container.putRawData(PlayerKeys.BANNED, info.isBanned());
-            container.putRawData(PlayerKeys.OPERATOR, info.isOperator());
-            perServerContainer.put(serverUUID, container);
+    @Override
+    public void prefetchPlayerContainers(Collection<UUID> uuids) {
+        List<UUID> missing = PlayerDataCache.getMissing(uuids);
+        if (missing.isEmpty()) {
+            return;
         }
-
-        Map<UUID, List<Session>> sessions = sessionsTable.getSessions(uuid);
-        for (Map.Entry<UUID, List<Session>> entry : sessions.entrySet()) {
-            UUID serverUUID = entry.getKey();
-            List<Session> serverSessions = entry.getValue();
-
-            DataContainer container = perServerContainer.getOrDefault(serverUUID, new DataContainer());
-            container.putRawData(PerServerKeys.SESSIONS, serverSessions);
-
-            container.putSupplier(PerServerKeys.LAST_SEEN, () -> SessionsMutator.forContainer(container).toLastSeen());
-
-            container.putSupplier(PerServerKeys.WORLD_TIMES, () -> SessionsMutator.forContainer(container).toTotalWorldTimes());
-            container.putSupplier(PerServerKeys.PLAYER_KILLS, () -> SessionsMutator.forContainer(container).toPlayerKillList());
-            container.putSupplier(PerServerKeys.PLAYER_DEATHS, () -> SessionsMutator.forContainer(container).toPlayerDeathList());
-            container.putSupplier(PerServerKeys.PLAYER_KILL_COUNT, () -> container.getUnsafe(PerServerKeys.PLAYER_KILLS).size());
-            container.putSupplier(PerServerKeys.MOB_KILL_COUNT, () -> SessionsMutator.forContainer(container).toMobKillCount());
-            container.putSupplier(PerServerKeys.DEATH_COUNT, () -> SessionsMutator.forContainer(container).toDeathCount());
-
-            perServerContainer.put(serverUUID, container);
+        Map<UUID, PlayerDataCache.Stamp> stamps = new HashMap<>();
+        for (UUID uuid : missing) {
+            stamps.put(uuid, PlayerDataCache.getStamp(uuid));
+        }
+        for (PlayerData data : playerDataLoader.load(missing).values()) {
+            PlayerDataCache.put(data, stamps.get(data.uuid));
         }
-
-        return perServerContainer;
     }
 
     @Override
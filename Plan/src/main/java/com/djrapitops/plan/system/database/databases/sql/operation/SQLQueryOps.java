@@ -0,0 +1,119 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.database.databases.sql.operation;
+
+import com.djrapitops.plan.data.container.PlayerKill;
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.container.TPS;
+import com.djrapitops.plan.data.container.UserInfo;
+import com.djrapitops.plan.system.database.databases.operation.Page;
+import com.djrapitops.plan.system.database.databases.operation.QueryFilter;
+import com.djrapitops.plan.system.database.databases.operation.QueryOperations;
+import com.djrapitops.plan.system.database.databases.sql.SQLDB;
+import com.djrapitops.plan.system.database.databases.sql.processing.PageCursor;
+import com.djrapitops.plan.system.info.server.ServerInfo;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * QueryOperations implementation for SQL databases.
+ * <p>
+ * Pages are queried with keyset pagination, see {@link PageCursor}.
+ *
+ * @author Rsl1122
+ */
+public class SQLQueryOps extends SQLOps implements QueryOperations {
+
+    private static final int STREAM_PAGE_SIZE = 1000;
+
+    public SQLQueryOps(SQLDB db) {
+        super(db);
+    }
+
+    @Override
+    public Page<UserInfo> getPlayers(QueryFilter filter, String cursor, int pageSize) {
+        long afterID = PageCursor.parse(cursor, 1)[0];
+        int size = verifyPageSize(pageSize);
+        if (filter.getServerUUID().isPresent()) {
+            return userInfoTable.getUserInfoPage(filter.getServerUUID().get(), filter.getAfter(), filter.getBefore(), afterID, size);
+        }
+        return usersTable.getUserPage(filter.getAfter(), filter.getBefore(), afterID, size);
+    }
+
+    @Override
+    public Page<Session> getSessions(QueryFilter filter, String cursor, int pageSize) {
+        long afterID = PageCursor.parse(cursor, 1)[0];
+        UUID serverUUID = filter.getServerUUID().orElse(null);
+        return sessionsTable.getSessionPage(serverUUID, filter.getAfter(), filter.getBefore(), afterID, verifyPageSize(pageSize));
+    }
+
+    @Override
+    public Page<PlayerKill> getKills(QueryFilter filter, String cursor, int pageSize) {
+        long[] after = PageCursor.parse(cursor, 3);
+        UUID serverUUID = filter.getServerUUID().orElse(null);
+        return killsTable.getKillPage(serverUUID, filter.getAfter(), filter.getBefore(), after, verifyPageSize(pageSize));
+    }
+
+    @Override
+    public Page<TPS> getTPS(QueryFilter filter, String cursor, int pageSize) {
+        long afterDate = PageCursor.parse(cursor, 1)[0];
+        UUID serverUUID = filter.getServerUUID().orElseGet(ServerInfo::getServerUUID);
+        return tpsTable.getTPSPage(serverUUID, filter.getAfter(), filter.getBefore(), afterDate, verifyPageSize(pageSize));
+    }
+
+    @Override
+    public void forEachPlayer(QueryFilter filter, Consumer<UserInfo> consumer) {
+        forEach(cursor -> getPlayers(filter, cursor, STREAM_PAGE_SIZE), consumer);
+    }
+
+    @Override
+    public void forEachSession(QueryFilter filter, Consumer<Session> consumer) {
+        forEach(cursor -> getSessions(filter, cursor, STREAM_PAGE_SIZE), consumer);
+    }
+
+    @Override
+    public void forEachKill(QueryFilter filter, Consumer<PlayerKill> consumer) {
+        forEach(cursor -> getKills(filter, cursor, STREAM_PAGE_SIZE), consumer);
+    }
+
+    @Override
+    public void forEachTPS(QueryFilter filter, Consumer<TPS> consumer) {
+        forEach(cursor -> getTPS(filter, cursor, STREAM_PAGE_SIZE), consumer);
+    }
+
+    @Override
+    public Map<UUID, Long> getPlaytimeTop(QueryFilter filter, int n) {
+        UUID serverUUID = filter.getServerUUID().orElse(null);
+        if (n > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("n can be at most " + MAX_PAGE_SIZE + ", was " + n);
+        }
+        return sessionsTable.getPlaytimeTop(serverUUID, filter.getAfter(), filter.getBefore(), verifyPageSize(n));
+    }
+
+    @Override
+    public int getUniquePlayerCount(QueryFilter filter) {
+        UUID serverUUID = filter.getServerUUID().orElse(null);
+        return sessionsTable.getUniquePlayerCount(serverUUID, filter.getAfter(), filter.getBefore());
+    }
+
+    private <T> void forEach(Function<String, Page<T>> pageQuery, Consumer<T> consumer) {
+        String cursor = null;
+        do {
+            Page<T> page = pageQuery.apply(cursor);
+            page.getRows().forEach(consumer);
+            cursor = page.getNextCursor().orElse(null);
+        } while (cursor != null);
+    }
+
+    private int verifyPageSize(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive, was " + pageSize);
+        }
+        return Math.min(pageSize, MAX_PAGE_SIZE);
+    }
+}
@@ -21,22 +21,34 @@ public class SQLRemoveOps extends SQLOps implements RemoveOperations {
 
         String webUser = usersTable.getPlayerName(uuid);
 
-        for (Table t : db.getAllTablesInRemoveOrder()) {
-            if (!(t instanceof UserIDTable)) {
-                continue;
+        try {
+            for (Table t : db.getAllTablesInRemoveOrder()) {
+                if (!(t instanceof UserIDTable)) {
+                    continue;
+                }
+
+                UserIDTable table = (UserIDTable) t;
+                table.removeUser(uuid);
             }
 
-            UserIDTable table = (UserIDTable) t;
-            table.removeUser(uuid);
+            securityTable.removeUser(webUser);
+        } finally {
+            // Cached data of the player is dropped even if only some of it was removed.
+            PlayerDataCache.invalidate(uuid);
         }
-
-        securityTable.removeUser(webUser);
     }
 
     @Override
     public void everything() {
-        for (Table table : db.getAllTablesInRemoveOrder()) {
-            table.removeAllData();
+        try {
+            for (Table table : db.getAllTablesInRemoveOrder()) {
+                table.removeAllData();
+            }
+        } finally {
+            // Cleared even if removal failed part way, some of the cached rows may be gone.
+            worldTable.clearWorldCache();
+            commandUseTable.clearCommandCache();
+            PlayerDataCache.clear();
         }
     }
 
@@ -17,6 +17,9 @@ import java.util.UUID;
 
 /**
  * SaveOperations implementation for SQL databases.
+ * <p>
+ * Saving player data removes it from {@link PlayerDataCache}. Pings are not, they are saved often and a
+ * slightly outdated ping graph is fine until the cached data expires.
  *
  * @author Rsl1122
  */
@@ -39,71 +42,90 @@ public class SQLSaveOps extends SQLOps implements SaveOperations {
     @Override
     public void insertUsers(Map<UUID, UserInfo> ofServers) {
         usersTable.insertUsers(ofServers);
+        PlayerDataCache.clear();
     }
 
     @Override
     public void insertSessions(Map<UUID, Map<UUID, List<Session>>> ofServers, boolean containsExtraData) {
         sessionsTable.insertSessions(ofServers, containsExtraData);
+        PlayerDataCache.clear();
     }
 
     @Override
     public void kickAmount(Map<UUID, Integer> ofUsers) {
         usersTable.updateKicked(ofUsers);
+        PlayerDataCache.clear();
     }
 
     @Override
     public void insertUserInfo(Map<UUID, List<UserInfo>> ofServers) {
         userInfoTable.insertUserInfo(ofServers);
+        PlayerDataCache.clear();
     }
 
     @Override
     public void insertNicknames(Map<UUID, Map<UUID, List<Nickname>>> ofServers) {
         nicknamesTable.insertNicknames(ofServers);
+        PlayerDataCache.clear();
     }
 
     @Override
     public void insertAllGeoInfo(Map<UUID, List<GeoInfo>> ofUsers) {
         geoInfoTable.insertAllGeoInfo(ofUsers);
+        PlayerDataCache.clear();
+    }
+
+    @Override
+    public void insertPings(Map<UUID, List<Ping>> ofUsers) {
+        pingTable.insertAllPings(ofUsers);
     }
 
     @Override
     public void banStatus(UUID uuid, boolean banned) {
         userInfoTable.updateBanStatus(uuid, banned);
+        PlayerDataCache.invalidate(uuid);
     }
 
     @Override
     public void opStatus(UUID uuid, boolean op) {
         userInfoTable.updateOpStatus(uuid, op);
+        PlayerDataCache.invalidate(uuid);
     }
 
     @Override
     public void registerNewUser(UUID uuid, long registered, String name) {
         usersTable.registerUser(uuid, registered, name);
+        PlayerDataCache.invalidate(uuid);
     }
 
     @Override
     public void geoInfo(UUID uuid, GeoInfo geoInfo) {
         geoInfoTable.saveGeoInfo(uuid, geoInfo);
+        PlayerDataCache.invalidate(uuid);
     }
 
     @Override
     public void playerWasKicked(UUID uuid) {
         usersTable.kicked(uuid);
+        PlayerDataCache.invalidate(uuid);
     }
 
     @Override
     public void playerName(UUID uuid, String playerName) {
         usersTable.updateName(uuid, playerName);
+        PlayerDataCache.invalidate(uuid);
     }
 
     @Override
     public void playerDisplayName(UUID uuid, Nickname nickname) {
         nicknamesTable.saveUserName(uuid, nickname);
+        PlayerDataCache.invalidate(uuid);
     }
 
     @Override
     public void registerNewUserOnThisServer(UUID uuid, long registered) {
         userInfoTable.registerUserInfo(uuid, registered);
+        PlayerDataCache.invalidate(uuid);
     }
 
     @Override
@@ -119,6 +141,7 @@ public class SQLSaveOps extends SQLOps implements SaveOperations {
     @Override
     public void session(UUID uuid, Session session) {
         sessionsTable.saveSession(uuid, session);
+        PlayerDataCache.invalidate(uuid);
     }
 
     @Override
@@ -0,0 +1,30 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.database.databases.sql.patches;
+
+import com.djrapitops.plan.system.database.databases.sql.SQLDB;
+import com.djrapitops.plan.system.database.databases.sql.tables.*;
+
+/**
+ * Adds indexes to the columns that tables without an id are copied by.
+ * <p>
+ * Database copy pages with {@code WHERE cursor > ? ORDER BY cursor}, without an index each page is a full scan.
+ *
+ * @author Rsl1122
+ */
+public class CopyCursorIndexPatch extends IndexPatch {
+
+    public CopyCursorIndexPatch(SQLDB db) {
+        super(db,
+                new String[]{TPSTable.TABLE_NAME, "plan_tps_date_index", TPSTable.Col.DATE.get()},
+                new String[]{GeoInfoTable.TABLE_NAME, "plan_ips_user_index", GeoInfoTable.Col.USER_ID.get()},
+                new String[]{NicknamesTable.TABLE_NAME, "plan_nicknames_user_index", NicknamesTable.Col.USER_ID.get()},
+                new String[]{KillsTable.TABLE_NAME, "plan_kills_session_index", KillsTable.Col.SESSION_ID.get()},
+                new String[]{WorldTimesTable.TABLE_NAME, "plan_world_times_session_index",
+                        WorldTimesTable.Col.SESSION_ID.get()},
+                new String[]{UserInfoTable.TABLE_NAME, "plan_user_info_user_index", UserInfoTable.Col.USER_ID.get()}
+        );
+    }
+}
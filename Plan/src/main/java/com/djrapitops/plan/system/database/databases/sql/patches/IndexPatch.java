@@ -0,0 +1,45 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.database.databases.sql.patches;
+
+import com.djrapitops.plan.system.database.databases.sql.SQLDB;
+
+import java.util.Arrays;
+
+/**
+ * Patch that adds indexes that are missing.
+ * <p>
+ * Each index is given as table name, index name and the indexed columns.
+ *
+ * @author Rsl1122
+ */
+public abstract class IndexPatch extends Patch {
+
+    private final String[][] indexes;
+
+    public IndexPatch(SQLDB db, String[]... indexes) {
+        super(db);
+        this.indexes = indexes;
+    }
+
+    @Override
+    public boolean hasBeenApplied() {
+        for (String[] index : indexes) {
+            if (!hasIndex(index[0], index[1])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void apply() {
+        for (String[] index : indexes) {
+            if (!hasIndex(index[0], index[1])) {
+                createIndex(index[0], index[1], Arrays.copyOfRange(index, 2, index.length));
+            }
+        }
+    }
+}
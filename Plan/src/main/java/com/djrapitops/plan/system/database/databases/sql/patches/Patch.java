@@ -1,6 +1,7 @@
 package com.djrapitops.plan.system.database.databases.sql.patches;
 
 import com.djrapitops.plan.system.database.databases.sql.SQLDB;
+import com.djrapitops.plan.system.database.databases.sql.SchemaSnapshot;
 import com.djrapitops.plan.system.database.databases.sql.processing.QueryAllStatement;
 import com.djrapitops.plan.system.database.databases.sql.processing.QueryStatement;
 import com.djrapitops.plan.system.database.databases.sql.statements.TableSqlParser;
@@ -8,6 +9,7 @@ import com.djrapitops.plan.system.database.databases.sql.statements.TableSqlPars
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Optional;
 
 public abstract class Patch {
 
@@ -28,6 +30,10 @@ public abstract class Patch {
     }
 
     public boolean hasTable(String tableName) {
+        Optional<SchemaSnapshot> schema = db.getSchema();
+        if (schema.isPresent()) {
+            return schema.get().hasTable(tableName);
+        }
         String sql = usingMySQL ?
                 "SELECT * FROM information_schema.TABLES WHERE table_name=? LIMIT 1" :
                 "SELECT tbl_name FROM sqlite_master WHERE tbl_name=?";
@@ -46,6 +52,10 @@ public abstract class Patch {
     }
 
     protected boolean hasColumn(String tableName, String columnName) {
+        Optional<SchemaSnapshot> schema = db.getSchema();
+        if (schema.isPresent()) {
+            return schema.get().hasColumn(tableName, columnName);
+        }
         return usingMySQL ?
                 query(new QueryStatement<Boolean>("SELECT * FROM information_schema.COLUMNS" +
                         " WHERE TABLE_NAME=? AND COLUMN_NAME=?") {
@@ -73,6 +83,30 @@ public abstract class Patch {
                 });
     }
 
+    protected boolean hasIndex(String tableName, String indexName) {
+        String sql = usingMySQL ?
+                "SELECT * FROM information_schema.STATISTICS" +
+                        " WHERE TABLE_SCHEMA=DATABASE() AND TABLE_NAME=? AND INDEX_NAME=? LIMIT 1" :
+                "SELECT name FROM sqlite_master WHERE type='index' AND tbl_name=? AND name=?";
+
+        return query(new QueryStatement<Boolean>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, tableName);
+                statement.setString(2, indexName);
+            }
+
+            @Override
+            public Boolean processResults(ResultSet set) throws SQLException {
+                return set.next();
+            }
+        });
+    }
+
+    protected void createIndex(String tableName, String indexName, String... columns) {
+        db.execute("CREATE INDEX " + indexName + " ON " + tableName + " (" + String.join(", ", columns) + ")");
+    }
+
     protected void addColumns(String tableName, String... columnInfo) {
         for (int i = 0; i < columnInfo.length; i++) {
             columnInfo[i] = "ALTER TABLE " + tableName + " ADD " + (usingMySQL ? "" : "COLUMN ") + columnInfo[i];
@@ -0,0 +1,29 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.database.databases.sql.patches;
+
+import com.djrapitops.plan.system.database.databases.sql.SQLDB;
+import com.djrapitops.plan.system.database.databases.sql.tables.KillsTable;
+import com.djrapitops.plan.system.database.databases.sql.tables.TPSTable;
+
+/**
+ * Adds indexes for the keyset pages of kills and TPS in
+ * {@link com.djrapitops.plan.system.database.databases.operation.QueryOperations}.
+ * <p>
+ * The indexes have the columns in the order of the page, so a page is read from the index without sorting the table.
+ *
+ * @author Rsl1122
+ */
+public class QueryPageIndexPatch extends IndexPatch {
+
+    public QueryPageIndexPatch(SQLDB db) {
+        super(db,
+                new String[]{KillsTable.TABLE_NAME, "plan_kills_date_index",
+                        KillsTable.Col.DATE.get(), KillsTable.Col.SESSION_ID.get(), KillsTable.Col.VICTIM_ID.get()},
+                new String[]{TPSTable.TABLE_NAME, "plan_tps_server_date_index",
+                        TPSTable.Col.SERVER_ID.get(), TPSTable.Col.DATE.get()}
+        );
+    }
+}
@@ -64,6 +64,7 @@ public class WorldsServerIDPatch extends Patch {
 
         updateWorldTimesTableWorldIDs();
         db.executeUnsafe("DELETE FROM " + WorldTable.TABLE_NAME + " WHERE " + WorldTable.Col.SERVER_ID + "=0");
+        worldTable.clearWorldCache();
     }
 
     private Set<String> getWorldNamesOld(UUID serverUUID) {
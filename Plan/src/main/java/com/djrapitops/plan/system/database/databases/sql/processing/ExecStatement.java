@@ -4,12 +4,9 @@
  */
 package com.djrapitops.plan.system.database.databases.sql.processing;
 
-import com.djrapitops.plan.system.settings.Settings;
-import com.djrapitops.plugin.api.Benchmark;
-import com.djrapitops.plugin.api.utility.log.Log;
-
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 /**
  * SQL executing statement that closes appropriate elements.
@@ -19,36 +16,34 @@ import java.sql.SQLException;
 public abstract class ExecStatement {
 
     private final String sql;
-    private final boolean devMode;
+    private long affectedRows;
 
     public ExecStatement(String sql) {
         this.sql = sql;
-        devMode = Settings.DEV_MODE.isTrue();
     }
 
     public boolean execute(PreparedStatement statement) throws SQLException {
-        Benchmark.start("SQL: " + sql);
         try {
             prepare(statement);
-            return statement.executeUpdate() > 0;
+            int updated = statement.executeUpdate();
+            affectedRows = Math.max(updated, 0);
+            return updated > 0;
         } finally {
             statement.close();
-            if (devMode) {
-                Log.debug(Benchmark.stopAndFormat("SQL: " + sql));
-            }
         }
     }
 
     public void executeBatch(PreparedStatement statement) throws SQLException {
-        Benchmark.start("SQL: " + sql + " (Batch)");
         try {
             prepare(statement);
-            statement.executeBatch();
+            long updated = 0;
+            for (int count : statement.executeBatch()) {
+                // Drivers may return SUCCESS_NO_INFO (-2) for rewritten batches, counted as one row.
+                updated += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+            }
+            affectedRows = updated;
         } finally {
             statement.close();
-            if (devMode) {
-                Log.debug(Benchmark.stopAndFormat("SQL: " + sql + " (Batch)"));
-            }
         }
     }
 
@@ -57,4 +52,13 @@ public abstract class ExecStatement {
     public String getSql() {
         return sql;
     }
+
+    /**
+     * Get the number of rows changed by the last execution.
+     *
+     * @return Row count reported by the driver.
+     */
+    public long getAffectedRows() {
+        return affectedRows;
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.database.databases.sql.processing;
+
+import com.djrapitops.plan.system.database.databases.operation.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utility for the cursors of {@link Page}s.
+ * <p>
+ * A cursor contains the ordering columns of the last row of a page, so that the next page can be queried with
+ * {@code WHERE (columns) > (cursor)} instead of an OFFSET that would read all previous rows again.
+ *
+ * @author Rsl1122
+ */
+public class PageCursor {
+
+    private static final String SEPARATOR = ":";
+
+    private PageCursor() {
+        /* Static method class */
+    }
+
+    /**
+     * Read the values of a cursor.
+     *
+     * @param cursor Cursor given by a page, or null for the first page.
+     * @param keys   Amount of values in the cursor.
+     * @return Values of the cursor, all 0 for the first page.
+     * @throws IllegalArgumentException If the cursor is not valid.
+     */
+    public static long[] parse(String cursor, int keys) {
+        if (cursor == null) {
+            return new long[keys];
+        }
+        String[] parts = cursor.split(SEPARATOR);
+        if (parts.length != keys) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        long[] values = new long[keys];
+        try {
+            for (int i = 0; i < keys; i++) {
+                values[i] = Long.parseLong(parts[i]);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return values;
+    }
+
+    public static String of(long... keys) {
+        StringBuilder cursor = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                cursor.append(SEPARATOR);
+            }
+            cursor.append(keys[i]);
+        }
+        return cursor.toString();
+    }
+
+    /**
+     * Create a page from rows queried with a limit of {@code pageSize + 1}.
+     *
+     * @param rows     Queried rows.
+     * @param cursors  Cursors of the queried rows, in same order.
+     * @param pageSize Size of the page.
+     * @param <T>      Type of the rows.
+     * @return Page with the next cursor if there were more rows than the page size.
+     */
+    public static <T> Page<T> toPage(List<T> rows, List<String> cursors, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return new Page<>(rows, null);
+        }
+        return new Page<>(new ArrayList<>(rows.subList(0, pageSize)), cursors.get(pageSize - 1));
+    }
+}
@@ -4,10 +4,6 @@
  */
 package com.djrapitops.plan.system.database.databases.sql.processing;
 
-import com.djrapitops.plan.system.settings.Settings;
-import com.djrapitops.plugin.api.Benchmark;
-import com.djrapitops.plugin.api.utility.log.Log;
-
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -21,7 +17,6 @@ public abstract class QueryStatement<T> {
 
     private final String sql;
     private final int fetchSize;
-    private boolean devMode;
 
     public QueryStatement(String sql) {
         this(sql, 10);
@@ -29,12 +24,10 @@ public abstract class QueryStatement<T> {
 
     public QueryStatement(String sql, int fetchSize) {
         this.sql = sql;
-        devMode = Settings.DEV_MODE.isTrue();
         this.fetchSize = fetchSize;
     }
 
     public T executeQuery(PreparedStatement statement) throws SQLException {
-        Benchmark.start("SQL: " + sql);
         try {
             statement.setFetchSize(fetchSize);
             prepare(statement);
@@ -43,9 +36,6 @@ public abstract class QueryStatement<T> {
             }
         } finally {
             statement.close();
-            if (devMode) {
-                Log.debug(Benchmark.stopAndFormat("SQL: " + sql));
-            }
         }
     }
 
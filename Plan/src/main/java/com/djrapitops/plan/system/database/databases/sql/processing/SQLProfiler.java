@@ -0,0 +1,140 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.database.databases.sql.processing;
+
+import com.djrapitops.plugin.api.utility.log.Log;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Records execution time and row counts of every SQL statement executed by a SQLDB.
+ * <p>
+ * Statements are grouped by their shape: the SQL with whitespace collapsed and literals replaced with {@code ?}.
+ * The shape of each distinct SQL String is resolved once, after which recording does not allocate.
+ * <p>
+ * Statements that take longer than the slow query threshold are logged.
+ *
+ * @author Rsl1122
+ */
+public class SQLProfiler {
+
+    private static final int MAX_SHAPES = 1000;
+    private static final String OTHER_SHAPE = "(other statements)";
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, StatementStatistics> bySql;
+    private final Map<String, StatementStatistics> byShape;
+
+    private volatile long slowQueryThresholdNanos;
+    private volatile boolean logEveryStatement;
+
+    public SQLProfiler() {
+        bySql = new ConcurrentHashMap<>();
+        byShape = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Turn the SQL of a statement into its shape.
+     *
+     * @param sql SQL of the statement.
+     * @return SQL with whitespace collapsed and literal values and parameter lists replaced with a single ?.
+     */
+    public static String toShape(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = PARAMETER_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    /**
+     * Change the logging settings.
+     *
+     * @param slowQueryThresholdMs Statements taking this many milliseconds or more are logged, 0 or less disables.
+     * @param logEveryStatement    true if execution time of every statement should be written to the debug log.
+     */
+    public void configure(long slowQueryThresholdMs, boolean logEveryStatement) {
+        this.slowQueryThresholdNanos = slowQueryThresholdMs > 0 ? TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMs) : 0;
+        this.logEveryStatement = logEveryStatement;
+    }
+
+    public void record(String sql, long nanos, long rows) {
+        getStatistics(sql).record(nanos, rows);
+
+        long threshold = slowQueryThresholdNanos;
+        if (threshold > 0 && nanos >= threshold) {
+            Log.warn("Slow SQL statement (" + TimeUnit.NANOSECONDS.toMillis(nanos) + " ms, " + rows + " rows): " + sql);
+        } else if (logEveryStatement) {
+            Log.debug("SQL: " + sql + " took " + TimeUnit.NANOSECONDS.toMicros(nanos) + " us (" + rows + " rows)");
+        }
+    }
+
+    private StatementStatistics getStatistics(String sql) {
+        StatementStatistics statistics = bySql.get(sql);
+        if (statistics != null) {
+            return statistics;
+        }
+        statistics = getShapeStatistics(toShape(sql));
+        // Statements with values in the SQL would fill the map, they are normalized on every execution instead.
+        if (bySql.size() < MAX_SHAPES) {
+            bySql.put(sql, statistics);
+        }
+        return statistics;
+    }
+
+    private StatementStatistics getShapeStatistics(String shape) {
+        StatementStatistics statistics = byShape.get(shape);
+        if (statistics != null) {
+            return statistics;
+        }
+        String key = byShape.size() < MAX_SHAPES ? shape : OTHER_SHAPE;
+        return byShape.computeIfAbsent(key, StatementStatistics::new);
+    }
+
+    /**
+     * Get statistics of all recorded statement shapes.
+     *
+     * @return Statistics, ordered by total time spent in the statement.
+     */
+    public List<StatementStatistics> getStatistics() {
+        List<StatementStatistics> statistics = new ArrayList<>(byShape.values());
+        statistics.sort(Comparator.comparingLong(StatementStatistics::getTotalNanos).reversed());
+        return statistics;
+    }
+
+    public void reset() {
+        bySql.clear();
+        byShape.clear();
+    }
+
+    /**
+     * Get row count of a query result.
+     *
+     * @param result Result of {@link QueryStatement#processResults(java.sql.ResultSet)}.
+     * @return Size of a Collection or a Map, 0 for null and 1 for other results.
+     */
+    public static long rowsOf(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection) {
+            return ((Collection) result).size();
+        }
+        if (result instanceof Map) {
+            return ((Map) result).size();
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.database.databases.sql.processing;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution statistics of a single SQL statement shape.
+ * <p>
+ * Latencies are stored in a log-scale histogram of microseconds with four buckets per power of two,
+ * so percentiles are accurate to within 25% while recording stays a couple of atomic increments.
+ *
+ * @author Rsl1122
+ * @see SQLProfiler
+ */
+public class StatementStatistics {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40; // ~12 days in microseconds
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - 1) * SUB_BUCKETS + SUB_BUCKETS;
+
+    private final String shape;
+    private final LongAdder count;
+    private final LongAdder totalNanos;
+    private final LongAdder rows;
+    private final AtomicLong maxNanos;
+    private final AtomicLongArray buckets;
+
+    public StatementStatistics(String shape) {
+        this.shape = shape;
+        count = new LongAdder();
+        totalNanos = new LongAdder();
+        rows = new LongAdder();
+        maxNanos = new AtomicLong();
+        buckets = new AtomicLongArray(BUCKET_COUNT);
+    }
+
+    static int bucketOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) Math.max(micros, 0);
+        }
+        int exponent = Math.min(63 - Long.numberOfLeadingZeros(micros), MAX_EXPONENT);
+        if (exponent == MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (micros >> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + 1;
+        int subBucket = bucket % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (SUB_BUCKETS + subBucket) * width + width - 1;
+    }
+
+    public void record(long nanos, long rowCount) {
+        count.increment();
+        totalNanos.add(nanos);
+        if (rowCount > 0) {
+            rows.add(rowCount);
+        }
+        buckets.incrementAndGet(bucketOf(TimeUnit.NANOSECONDS.toMicros(nanos)));
+
+        long max = maxNanos.get();
+        while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+            max = maxNanos.get();
+        }
+    }
+
+    /**
+     * Estimate a latency percentile.
+     *
+     * @param percentile Percentile between 0.0 and 1.0, eg. 0.99
+     * @return Upper bound of the histogram bucket the percentile falls in, in microseconds. Never above the maximum.
+     */
+    public long getPercentileMicros(double percentile) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max((long) Math.ceil(percentile * total), 1L);
+        long seen = 0;
+        long maxMicros = getMaxMicros();
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(upperBoundOf(i), maxMicros);
+            }
+        }
+        return maxMicros;
+    }
+
+    public String getShape() {
+        return shape;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public long getMaxMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxNanos.get());
+    }
+}
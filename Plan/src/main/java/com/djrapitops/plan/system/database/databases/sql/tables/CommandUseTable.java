@@ -38,9 +38,11 @@ public class CommandUseTable extends Table {
                 + Col.TIMES_USED + ", "
                 + Col.SERVER_ID
                 + ") VALUES (?, ?, " + serverTable.statementSelectServerID + ")";
+        dictionary = new NameDictionary(this::getCommandIDs, this::getAllCommandsByID);
     }
 
     private final ServerTable serverTable;
+    private final NameDictionary dictionary;
     private String insertStatement;
 
     @Override
@@ -79,7 +81,7 @@ public class CommandUseTable extends Table {
             public Map<String, Integer> processResults(ResultSet set) throws SQLException {
                 Map<String, Integer> commandUse = new HashMap<>();
                 while (set.next()) {
-                    String cmd = set.getString(Col.COMMAND.get()).toLowerCase();
+                    String cmd = dictionary.intern(set.getString(Col.COMMAND.get()).toLowerCase());
                     int amountUsed = set.getInt(Col.TIMES_USED.get());
                     commandUse.put(cmd, amountUsed);
                 }
@@ -97,59 +99,62 @@ public class CommandUseTable extends Table {
         return getCommandUse(ServerInfo.getServerUUID());
     }
 
+    /**
+     * Increment the usage count of a command on this server.
+     * <p>
+     * Row ids of the commands are cached, so known commands are updated by id without a lookup by name.
+     *
+     * @param command Command that was used, longer than 20 characters are ignored.
+     */
     public void commandUsed(String command) {
         if (command.length() > 20) {
             return;
         }
 
+        UUID serverUUID = ServerInfo.getServerUUID();
+        Optional<Integer> commandID = dictionary.getID(serverUUID, command);
+        if (commandID.isPresent() && incrementTimesUsed(commandID.get())) {
+            return;
+        }
+
+        insertCommand(command, serverUUID);
+        getCommandID(serverUUID, command).ifPresent(id -> dictionary.put(serverUUID, command, id));
+    }
+
+    private boolean incrementTimesUsed(int commandID) {
         String sql = "UPDATE " + tableName + " SET "
                 + Col.TIMES_USED + "=" + Col.TIMES_USED + "+ 1" +
-                " WHERE " + Col.SERVER_ID + "=" + serverTable.statementSelectServerID +
-                " AND " + Col.COMMAND + "=?";
+                " WHERE " + Col.COMMAND_ID + "=?";
 
-        boolean updated = execute(new ExecStatement(sql) {
+        return execute(new ExecStatement(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, ServerInfo.getServerUUID().toString());
-                statement.setString(2, command);
+                statement.setInt(1, commandID);
             }
         });
-        if (!updated) {
-            insertCommand(command);
-        }
     }
 
     public Optional<String> getCommandByID(int id) {
-        String sql = Select.from(tableName, Col.COMMAND).where(Col.COMMAND_ID + "=?").toString();
-
-        return query(new QueryStatement<Optional<String>>(sql) {
-            @Override
-            public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setInt(1, id);
-            }
-
-            @Override
-            public Optional<String> processResults(ResultSet set) throws SQLException {
-                if (set.next()) {
-                    return Optional.of(set.getString(Col.COMMAND.get()));
-                }
-                return Optional.empty();
-            }
-        });
+        return Optional.ofNullable(dictionary.getName(id));
     }
 
-    private void insertCommand(String command) {
+    private void insertCommand(String command, UUID serverUUID) {
         execute(new ExecStatement(insertStatement) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
                 statement.setString(1, command);
                 statement.setInt(2, 1);
-                statement.setString(3, ServerInfo.getServerUUID().toString());
+                statement.setString(3, serverUUID.toString());
             }
         });
     }
 
     public Optional<Integer> getCommandID(String command) {
+        Optional<Integer> commandID = dictionary.getID(ServerInfo.getServerUUID(), command);
+        if (commandID.isPresent()) {
+            return commandID;
+        }
+
         String sql = Select.from(tableName, Col.COMMAND_ID).where(Col.COMMAND + "=?").toString();
 
         return query(new QueryStatement<Optional<Integer>>(sql) {
@@ -168,6 +173,66 @@ public class CommandUseTable extends Table {
         });
     }
 
+    private Optional<Integer> getCommandID(UUID serverUUID, String command) {
+        String sql = Select.from(tableName, Col.COMMAND_ID)
+                .where(Col.SERVER_ID + "=" + serverTable.statementSelectServerID)
+                .and(Col.COMMAND + "=?")
+                .toString();
+
+        return query(new QueryStatement<Optional<Integer>>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setString(2, command);
+            }
+
+            @Override
+            public Optional<Integer> processResults(ResultSet set) throws SQLException {
+                if (set.next()) {
+                    return Optional.of(set.getInt(Col.COMMAND_ID.get()));
+                }
+                return Optional.empty();
+            }
+        });
+    }
+
+    private Map<String, Integer> getCommandIDs(UUID serverUUID) {
+        String sql = Select.from(tableName, Col.COMMAND_ID, Col.COMMAND)
+                .where(Col.SERVER_ID + "=" + serverTable.statementSelectServerID)
+                .toString();
+
+        return query(new QueryStatement<Map<String, Integer>>(sql, 5000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+            }
+
+            @Override
+            public Map<String, Integer> processResults(ResultSet set) throws SQLException {
+                Map<String, Integer> commandIDs = new HashMap<>();
+                while (set.next()) {
+                    commandIDs.put(set.getString(Col.COMMAND.get()), set.getInt(Col.COMMAND_ID.get()));
+                }
+                return commandIDs;
+            }
+        });
+    }
+
+    private Map<Integer, String> getAllCommandsByID() {
+        String sql = Select.from(tableName, Col.COMMAND_ID, Col.COMMAND).toString();
+
+        return query(new QueryAllStatement<Map<Integer, String>>(sql, 10000) {
+            @Override
+            public Map<Integer, String> processResults(ResultSet set) throws SQLException {
+                Map<Integer, String> commands = new HashMap<>();
+                while (set.next()) {
+                    commands.put(set.getInt(Col.COMMAND_ID.get()), set.getString(Col.COMMAND.get()));
+                }
+                return commands;
+            }
+        });
+    }
+
     public Map<UUID, Map<String, Integer>> getAllCommandUsages() {
         String serverIDColumn = serverTable + "." + ServerTable.Col.SERVER_ID;
         String serverUUIDColumn = serverTable + "." + ServerTable.Col.SERVER_UUID + " as s_uuid";
@@ -187,7 +252,7 @@ public class CommandUseTable extends Table {
 
                     Map<String, Integer> serverMap = map.getOrDefault(serverUUID, new HashMap<>());
 
-                    String command = set.getString(Col.COMMAND.get());
+                    String command = dictionary.intern(set.getString(Col.COMMAND.get()));
                     int timesUsed = set.getInt(Col.TIMES_USED.get());
 
                     serverMap.put(command, timesUsed);
@@ -244,5 +309,20 @@ public class CommandUseTable extends Table {
                 }
             }
         });
+        // Ids of the inserted rows are loaded when they are needed.
+        dictionary.clear();
+    }
+
+    /**
+     * Forget the cached command ids, used after command rows are changed without this table.
+     */
+    public void clearCommandCache() {
+        dictionary.clear();
+    }
+
+    @Override
+    public void removeAllData() {
+        super.removeAllData();
+        dictionary.clear();
     }
 }
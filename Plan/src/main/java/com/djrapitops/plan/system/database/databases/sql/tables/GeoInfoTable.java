@@ -179,6 +179,55 @@ public class GeoInfoTable extends UserIDTable {
         });
     }
 
+    /**
+     * Used to get GeoInfo of the users registered on a single server.
+     *
+     * @param serverUUID UUID of the server.
+     * @return Map: Player UUID - List of GeoInfo
+     */
+    public Map<UUID, List<GeoInfo>> getGeoInfoOfServerUsers(UUID serverUUID) {
+        String usersIDColumn = usersTable + "." + UsersTable.Col.ID;
+        String usersUUIDColumn = usersTable + "." + UsersTable.Col.UUID + " as uuid";
+        String sql = "SELECT " +
+                Col.IP + ", " +
+                Col.GEOLOCATION + ", " +
+                Col.LAST_USED + ", " +
+                Col.IP_HASH + ", " +
+                usersUUIDColumn +
+                " FROM " + tableName +
+                " INNER JOIN " + usersTable + " on " + usersIDColumn + "=" + Col.USER_ID +
+                " WHERE " + Col.USER_ID + " IN (" +
+                "SELECT " + UserInfoTable.Col.USER_ID + " FROM " + UserInfoTable.TABLE_NAME +
+                " WHERE " + UserInfoTable.Col.SERVER_ID + "=" + db.getServerTable().statementSelectServerID +
+                ")";
+
+        return query(new QueryStatement<Map<UUID, List<GeoInfo>>>(sql, 50000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+            }
+
+            @Override
+            public Map<UUID, List<GeoInfo>> processResults(ResultSet set) throws SQLException {
+                Map<UUID, List<GeoInfo>> geoLocations = new HashMap<>();
+                while (set.next()) {
+                    UUID uuid = UUID.fromString(set.getString("uuid"));
+
+                    List<GeoInfo> userGeoInfo = geoLocations.getOrDefault(uuid, new ArrayList<>());
+
+                    String ip = set.getString(Col.IP.get());
+                    String geolocation = set.getString(Col.GEOLOCATION.get());
+                    String ipHash = set.getString(Col.IP_HASH.get());
+                    long lastUsed = set.getLong(Col.LAST_USED.get());
+                    userGeoInfo.add(new GeoInfo(ip, geolocation, lastUsed, ipHash));
+
+                    geoLocations.put(uuid, userGeoInfo);
+                }
+                return geoLocations;
+            }
+        });
+    }
+
     public List<String> getNetworkGeolocations() {
         List<String> geolocations = new ArrayList<>();
 
@@ -5,8 +5,10 @@ import com.djrapitops.plan.data.container.PlayerDeath;
 import com.djrapitops.plan.data.container.PlayerKill;
 import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.system.database.databases.operation.Page;
 import com.djrapitops.plan.system.database.databases.sql.SQLDB;
 import com.djrapitops.plan.system.database.databases.sql.processing.ExecStatement;
+import com.djrapitops.plan.system.database.databases.sql.processing.PageCursor;
 import com.djrapitops.plan.system.database.databases.sql.processing.QueryAllStatement;
 import com.djrapitops.plan.system.database.databases.sql.processing.QueryStatement;
 import com.djrapitops.plan.system.database.databases.sql.statements.Column;
@@ -19,6 +21,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Table that is in charge of storing kill data for each session.
@@ -54,6 +57,25 @@ public class KillsTable extends UserIDTable {
 
     private final SessionsTable sessionsTable;
     private String insertStatement;
+    // Weapon names repeat in every row, kills that are kept in memory share the same instances.
+    // Names are no longer shared after the limit, so that custom item names can not fill the memory.
+    private static final int MAX_WEAPON_NAMES = 1000;
+    private final Map<String, String> weaponNames = new ConcurrentHashMap<>();
+
+    private String internWeapon(String weapon) {
+        if (weapon == null) {
+            return null;
+        }
+        String shared = weaponNames.get(weapon);
+        if (shared != null) {
+            return shared;
+        }
+        if (weaponNames.size() >= MAX_WEAPON_NAMES) {
+            return weapon;
+        }
+        shared = weaponNames.putIfAbsent(weapon, weapon);
+        return shared != null ? shared : weapon;
+    }
 
     @Override
     public void createTable() throws DBInitException {
@@ -116,7 +138,7 @@ public class KillsTable extends UserIDTable {
                     String uuidS = set.getString("victim_uuid");
                     UUID victim = UUID.fromString(uuidS);
                     long date = set.getLong(Col.DATE.get());
-                    String weapon = set.getString(Col.WEAPON.get());
+                    String weapon = internWeapon(set.getString(Col.WEAPON.get()));
                     session.getPlayerKills().add(new PlayerKill(victim, weapon, date));
                 }
                 return null;
@@ -153,7 +175,7 @@ public class KillsTable extends UserIDTable {
                     String uuidS = set.getString("killer_uuid");
                     UUID killer = UUID.fromString(uuidS);
                     long date = set.getLong(Col.DATE.get());
-                    String weapon = set.getString(Col.WEAPON.get());
+                    String weapon = internWeapon(set.getString(Col.WEAPON.get()));
                     session.getUnsafe(SessionKeys.PLAYER_DEATHS).add(new PlayerDeath(killer, weapon, date));
                 }
                 return null;
@@ -211,7 +233,7 @@ public class KillsTable extends UserIDTable {
                     UUID killer = UUID.fromString(set.getString("killer_uuid"));
                     UUID victim = UUID.fromString(set.getString("victim_uuid"));
                     long date = set.getLong(Col.DATE.get());
-                    String weapon = set.getString(Col.WEAPON.get());
+                    String weapon = internWeapon(set.getString(Col.WEAPON.get()));
                     List<PlayerKill> kills = allKills.getOrDefault(killer, new ArrayList<>());
                     kills.add(new PlayerKill(victim, weapon, date));
                     allKills.put(killer, kills);
@@ -244,7 +266,7 @@ public class KillsTable extends UserIDTable {
                     String uuidS = set.getString("victim_uuid");
                     UUID victim = UUID.fromString(uuidS);
                     long date = set.getLong(Col.DATE.get());
-                    String weapon = set.getString(Col.WEAPON.get());
+                    String weapon = internWeapon(set.getString(Col.WEAPON.get()));
                     playerKills.add(new PlayerKill(victim, weapon, date));
 
                     allPlayerKills.put(sessionID, playerKills);
@@ -305,6 +327,80 @@ public class KillsTable extends UserIDTable {
         });
     }
 
+    /**
+     * Used to get a page of kills for QueryOperations.
+     *
+     * @param serverUUID UUID of the server, null for all servers.
+     * @param after      Kills at or after this epoch ms.
+     * @param before     Kills at or before this epoch ms.
+     * @param cursor     Date, session ID and victim ID of the last kill of the previous page.
+     * @param pageSize   Maximum amount of kills.
+     * @return Page of kills ordered by date, killer is known.
+     */
+    public Page<PlayerKill> getKillPage(UUID serverUUID, long after, long before, long[] cursor, int pageSize) {
+        String dateColumn = tableName + "." + Col.DATE;
+        String sessionIDColumn = tableName + "." + Col.SESSION_ID;
+        String victimIDColumn = tableName + "." + Col.VICTIM_ID;
+        String usersVictimIDColumn = usersTable + "." + UsersTable.Col.ID;
+        String usersKillerIDColumn = "a." + UsersTable.Col.ID;
+        String usersVictimUUIDColumn = usersTable + "." + UsersTable.Col.UUID + " as victim_uuid";
+        String usersKillerUUIDColumn = "a." + UsersTable.Col.UUID + " as killer_uuid";
+        String sql = "SELECT " +
+                dateColumn + ", " +
+                sessionIDColumn + ", " +
+                victimIDColumn + ", " +
+                Col.WEAPON + ", " +
+                usersVictimUUIDColumn + ", " +
+                usersKillerUUIDColumn +
+                " FROM " + tableName +
+                " INNER JOIN " + usersTable + " on " + usersVictimIDColumn + "=" + victimIDColumn +
+                " INNER JOIN " + usersTable + " a on " + usersKillerIDColumn + "=" + tableName + "." + Col.KILLER_ID +
+                " WHERE (" + dateColumn + ">? OR (" + dateColumn + "=? AND (" + sessionIDColumn + ">? OR (" +
+                sessionIDColumn + "=? AND " + victimIDColumn + ">?))))" +
+                " AND " + dateColumn + ">=?" +
+                " AND " + dateColumn + "<=?" +
+                (serverUUID != null ? " AND " + tableName + "." + Col.SERVER_ID + "=" + serverTable.statementSelectServerID : "") +
+                " ORDER BY " + dateColumn + ", " + sessionIDColumn + ", " + victimIDColumn +
+                " LIMIT ?";
+
+        return query(new QueryStatement<Page<PlayerKill>>(sql, Math.min(pageSize + 1, 5000)) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int i = 1;
+                statement.setLong(i++, cursor[0]);
+                statement.setLong(i++, cursor[0]);
+                statement.setLong(i++, cursor[1]);
+                statement.setLong(i++, cursor[1]);
+                statement.setLong(i++, cursor[2]);
+                // Index range starts from the cursor.
+                statement.setLong(i++, Math.max(after, cursor[0]));
+                statement.setLong(i++, before);
+                if (serverUUID != null) {
+                    statement.setString(i++, serverUUID.toString());
+                }
+                statement.setInt(i, pageSize + 1);
+            }
+
+            @Override
+            public Page<PlayerKill> processResults(ResultSet set) throws SQLException {
+                List<PlayerKill> kills = new ArrayList<>();
+                List<String> cursors = new ArrayList<>();
+                while (set.next()) {
+                    long date = set.getLong(Col.DATE.get());
+                    int sessionID = set.getInt(Col.SESSION_ID.get());
+                    int victimID = set.getInt(Col.VICTIM_ID.get());
+                    UUID killer = UUID.fromString(set.getString("killer_uuid"));
+                    UUID victim = UUID.fromString(set.getString("victim_uuid"));
+                    String weapon = internWeapon(set.getString(Col.WEAPON.get()));
+
+                    kills.add(new PlayerKill(killer, victim, weapon, date));
+                    cursors.add(PageCursor.of(date, sessionID, victimID));
+                }
+                return PageCursor.toPage(kills, cursors, pageSize);
+            }
+        });
+    }
+
     public enum Col implements Column {
         KILLER_ID("killer_id"),
         VICTIM_ID("victim_id"),
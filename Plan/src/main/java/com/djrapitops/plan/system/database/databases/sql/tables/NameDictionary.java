@@ -0,0 +1,174 @@
+package com.djrapitops.plan.system.database.databases.sql.tables;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Cache for name - id rows of a table that are stored per server, like worlds and commands.
+ * <p>
+ * Names of a server are loaded with a single query the first time they are needed and kept up to date by the table
+ * when rows are inserted. Names are interned so that rows decoded with the dictionary share the same Strings.
+ *
+ * @author Rsl1122
+ */
+public class NameDictionary {
+
+    private static final int MAX_INTERNED = 10000;
+
+    private final Function<UUID, Map<String, Integer>> serverLoader;
+    private final Supplier<Map<Integer, String>> allLoader;
+
+    private final Map<UUID, Map<String, Integer>> idsByServer;
+    private final Map<Integer, String> namesByID;
+    private final Map<String, String> interned;
+    private final Set<Integer> unknownIDs;
+
+    /**
+     * Create a new dictionary.
+     *
+     * @param serverLoader Query for the name - id pairs of a server.
+     * @param allLoader    Query for the id - name pairs of all servers.
+     */
+    public NameDictionary(Function<UUID, Map<String, Integer>> serverLoader, Supplier<Map<Integer, String>> allLoader) {
+        this.serverLoader = serverLoader;
+        this.allLoader = allLoader;
+        idsByServer = new ConcurrentHashMap<>();
+        namesByID = new ConcurrentHashMap<>();
+        interned = new ConcurrentHashMap<>();
+        unknownIDs = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Get the id of a name on a server.
+     *
+     * @param serverUUID UUID of the server.
+     * @param name       Name to look for.
+     * @return id of the row or empty if the name is not in the database.
+     */
+    public Optional<Integer> getID(UUID serverUUID, String name) {
+        return Optional.ofNullable(getIDs(serverUUID).get(name));
+    }
+
+    /**
+     * Get the names saved for a server.
+     *
+     * @param serverUUID UUID of the server.
+     * @return Unmodifiable view of the names.
+     */
+    public Set<String> getNames(UUID serverUUID) {
+        return Collections.unmodifiableSet(getIDs(serverUUID).keySet());
+    }
+
+    private Map<String, Integer> getIDs(UUID serverUUID) {
+        Map<String, Integer> ids = idsByServer.get(serverUUID);
+        if (ids == null) {
+            // Loaded outside of compute so that the query does not block other servers.
+            ids = load(serverUUID);
+            Map<String, Integer> previous = idsByServer.putIfAbsent(serverUUID, ids);
+            return previous != null ? previous : ids;
+        }
+        return ids;
+    }
+
+    private Map<String, Integer> load(UUID serverUUID) {
+        Map<String, Integer> ids = new ConcurrentHashMap<>();
+        for (Map.Entry<String, Integer> entry : serverLoader.apply(serverUUID).entrySet()) {
+            String name = intern(entry.getKey());
+            Integer id = entry.getValue();
+            ids.put(name, id);
+            namesByID.put(id, name);
+        }
+        return ids;
+    }
+
+    /**
+     * Get the name of a row.
+     * <p>
+     * Rows of other servers that are not known yet are loaded once with a query for all rows.
+     *
+     * @param id id of the row.
+     * @return Interned name or null if the row does not exist.
+     */
+    public String getName(int id) {
+        String name = namesByID.get(id);
+        if (name != null || unknownIDs.contains(id)) {
+            return name;
+        }
+        for (Map.Entry<Integer, String> entry : allLoader.get().entrySet()) {
+            namesByID.putIfAbsent(entry.getKey(), intern(entry.getValue()));
+        }
+        name = namesByID.get(id);
+        if (name == null) {
+            unknownIDs.add(id);
+        }
+        return name;
+    }
+
+    /**
+     * Add a row that was inserted to the database.
+     *
+     * @param serverUUID UUID of the server the row belongs to.
+     * @param name       Name of the row.
+     * @param id         id of the row.
+     */
+    public void put(UUID serverUUID, String name, int id) {
+        String internedName = intern(name);
+        getIDs(serverUUID).put(internedName, id);
+        namesByID.put(id, internedName);
+        unknownIDs.remove(id);
+    }
+
+    /**
+     * Load the rows of a server again, after rows were inserted without knowing their ids.
+     *
+     * @param serverUUID UUID of the server.
+     */
+    public void reload(UUID serverUUID) {
+        Map<String, Integer> ids = load(serverUUID);
+        unknownIDs.removeAll(ids.values());
+        idsByServer.put(serverUUID, ids);
+    }
+
+    /**
+     * Forget the rows of a server, they are loaded again when next needed.
+     * <p>
+     * Used when a write with the cached ids failed, another server sharing the database may have removed the rows.
+     *
+     * @param serverUUID UUID of the server.
+     */
+    public void invalidate(UUID serverUUID) {
+        idsByServer.remove(serverUUID);
+    }
+
+    /**
+     * Get the shared instance of a name.
+     *
+     * @param name Name read from the database.
+     * @return Equal String that is shared by other users of this dictionary.
+     */
+    public String intern(String name) {
+        if (name == null) {
+            return null;
+        }
+        String shared = interned.get(name);
+        if (shared != null) {
+            return shared;
+        }
+        if (interned.size() >= MAX_INTERNED) {
+            return name;
+        }
+        shared = interned.putIfAbsent(name, name);
+        return shared != null ? shared : name;
+    }
+
+    /**
+     * Forget everything, used when rows are removed or written to the table without the dictionary.
+     */
+    public void clear() {
+        idsByServer.clear();
+        namesByID.clear();
+        unknownIDs.clear();
+    }
+}
@@ -68,6 +68,56 @@ public class PingTable extends UserIDTable {
         });
     }
 
+    /**
+     * Combine pings of a server to one row per player and hour.
+     * <p>
+     * Combined rows are dated at the start of the hour, so rows that are not are the ones left to combine.
+     * Only the rows of the given server are combined, so pings other servers insert between combining and removing
+     * the rows are not removed.
+     *
+     * @param serverUUID UUID of the server whose pings to combine.
+     * @param before     Epoch ms at the start of an hour, newer pings are not combined.
+     */
+    public void combineToHours(UUID serverUUID, long before) {
+        long hour = TimeAmount.HOUR.ms();
+        String hourStart = "(" + Col.DATE + "-(" + Col.DATE + "%" + hour + "))";
+        String notCombined = Col.SERVER_ID + "=" + serverTable.statementSelectServerID +
+                " AND " + Col.DATE + "<? AND " + Col.DATE + "%" + hour + "<>0";
+
+        String combine = "INSERT INTO " + tableName + " (" +
+                Col.USER_ID + ", " +
+                Col.SERVER_ID + ", " +
+                Col.DATE + ", " +
+                Col.MIN_PING + ", " +
+                Col.MAX_PING + ", " +
+                Col.AVG_PING +
+                ") SELECT " +
+                Col.USER_ID + ", " +
+                Col.SERVER_ID + ", " +
+                hourStart + ", " +
+                "MIN(" + Col.MIN_PING + "), " +
+                "MAX(" + Col.MAX_PING + "), " +
+                "AVG(" + Col.AVG_PING + ")" +
+                " FROM " + tableName +
+                " WHERE " + notCombined +
+                " GROUP BY " + Col.USER_ID + ", " + Col.SERVER_ID + ", " + hourStart;
+
+        execute(new ExecStatement(combine) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, before);
+            }
+        });
+        execute(new ExecStatement("DELETE FROM " + tableName + " WHERE " + notCombined) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, before);
+            }
+        });
+    }
+
     public void insertPing(UUID uuid, Ping ping) {
         execute(new ExecStatement(insertStatement) {
             @Override
@@ -154,6 +204,58 @@ public class PingTable extends UserIDTable {
         });
     }
 
+    /**
+     * Used to get Pings of a single server, limited to a time window.
+     *
+     * @param serverUUID UUID of the server.
+     * @param afterDate  Epoch ms, older Pings are not returned.
+     * @return Map: Player UUID - List of Pings on the server
+     */
+    public Map<UUID, List<Ping>> getPingsOfServer(UUID serverUUID, long afterDate) {
+        String usersIDColumn = usersTable + "." + UsersTable.Col.ID;
+        String usersUUIDColumn = usersTable + "." + UsersTable.Col.UUID + " as uuid";
+        String sql = "SELECT " +
+                Col.DATE + ", " +
+                Col.MAX_PING + ", " +
+                Col.MIN_PING + ", " +
+                Col.AVG_PING + ", " +
+                usersUUIDColumn +
+                " FROM " + tableName +
+                " INNER JOIN " + usersTable + " on " + usersIDColumn + "=" + Col.USER_ID +
+                " WHERE " + Col.SERVER_ID + "=" + serverTable.statementSelectServerID +
+                " AND " + Col.DATE + ">=?";
+
+        return query(new QueryStatement<Map<UUID, List<Ping>>>(sql, 100000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, afterDate);
+            }
+
+            @Override
+            public Map<UUID, List<Ping>> processResults(ResultSet set) throws SQLException {
+                Map<UUID, List<Ping>> userPings = new HashMap<>();
+
+                while (set.next()) {
+                    UUID uuid = UUID.fromString(set.getString("uuid"));
+                    long date = set.getLong(Col.DATE.get());
+                    double avgPing = set.getDouble(Col.AVG_PING.get());
+                    int minPing = set.getInt(Col.MIN_PING.get());
+                    int maxPing = set.getInt(Col.MAX_PING.get());
+
+                    List<Ping> pings = userPings.getOrDefault(uuid, new ArrayList<>());
+                    pings.add(new Ping(date, serverUUID,
+                            minPing,
+                            maxPing,
+                            avgPing));
+                    userPings.put(uuid, pings);
+                }
+
+                return userPings;
+            }
+        });
+    }
+
     public void insertAllPings(Map<UUID, List<Ping>> userPings) {
         executeBatch(new ExecStatement(insertStatement) {
             @Override
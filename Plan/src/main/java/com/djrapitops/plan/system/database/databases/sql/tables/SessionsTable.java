@@ -3,8 +3,10 @@ package com.djrapitops.plan.system.database.databases.sql.tables;
 import com.djrapitops.plan.api.exceptions.database.DBInitException;
 import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.system.database.databases.operation.Page;
 import com.djrapitops.plan.system.database.databases.sql.SQLDB;
 import com.djrapitops.plan.system.database.databases.sql.processing.ExecStatement;
+import com.djrapitops.plan.system.database.databases.sql.processing.PageCursor;
 import com.djrapitops.plan.system.database.databases.sql.processing.QueryAllStatement;
 import com.djrapitops.plan.system.database.databases.sql.processing.QueryStatement;
 import com.djrapitops.plan.system.database.databases.sql.statements.Column;
@@ -595,6 +597,155 @@ public class SessionsTable extends UserIDTable {
         });
     }
 
+    /**
+     * Used to get a page of sessions for QueryOperations.
+     *
+     * @param serverUUID UUID of the server, null for all servers.
+     * @param after      Sessions that started at or after this epoch ms.
+     * @param before     Sessions that started at or before this epoch ms.
+     * @param afterID    ID of the last session of the previous page.
+     * @param pageSize   Maximum amount of sessions.
+     * @return Page of sessions ordered by ID, without kills and world times.
+     */
+    public Page<Session> getSessionPage(UUID serverUUID, long after, long before, long afterID, int pageSize) {
+        String idColumn = tableName + "." + Col.ID;
+        String usersIDColumn = usersTable + "." + UsersTable.Col.ID;
+        String usersUUIDColumn = usersTable + "." + UsersTable.Col.UUID + " as uuid";
+        String serverIDColumn = serverTable + "." + ServerTable.Col.SERVER_ID;
+        String serverUUIDColumn = serverTable + "." + ServerTable.Col.SERVER_UUID + " as server_uuid";
+        String sql = "SELECT " +
+                idColumn + ", " +
+                Col.SESSION_START + ", " +
+                Col.SESSION_END + ", " +
+                Col.DEATHS + ", " +
+                Col.MOB_KILLS + ", " +
+                Col.AFK_TIME + ", " +
+                usersUUIDColumn + ", " +
+                serverUUIDColumn +
+                " FROM " + tableName +
+                " INNER JOIN " + usersTable + " on " + usersIDColumn + "=" + Col.USER_ID +
+                " INNER JOIN " + serverTable + " on " + serverIDColumn + "=" + Col.SERVER_ID +
+                " WHERE " + idColumn + ">?" +
+                " AND " + Col.SESSION_START + ">=?" +
+                " AND " + Col.SESSION_START + "<=?" +
+                (serverUUID != null ? " AND " + Col.SERVER_ID + "=" + serverTable.statementSelectServerID : "") +
+                " ORDER BY " + idColumn +
+                " LIMIT ?";
+
+        return query(new QueryStatement<Page<Session>>(sql, Math.min(pageSize + 1, 5000)) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int i = 1;
+                statement.setLong(i++, afterID);
+                statement.setLong(i++, after);
+                statement.setLong(i++, before);
+                if (serverUUID != null) {
+                    statement.setString(i++, serverUUID.toString());
+                }
+                statement.setInt(i, pageSize + 1);
+            }
+
+            @Override
+            public Page<Session> processResults(ResultSet set) throws SQLException {
+                List<Session> sessions = new ArrayList<>();
+                List<String> cursors = new ArrayList<>();
+                while (set.next()) {
+                    int id = set.getInt(Col.ID.get());
+                    UUID uuid = UUID.fromString(set.getString("uuid"));
+                    UUID serverUUID = UUID.fromString(set.getString("server_uuid"));
+                    long start = set.getLong(Col.SESSION_START.get());
+                    long end = set.getLong(Col.SESSION_END.get());
+                    int deaths = set.getInt(Col.DEATHS.get());
+                    int mobKills = set.getInt(Col.MOB_KILLS.get());
+                    long timeAFK = set.getLong(Col.AFK_TIME.get());
+
+                    sessions.add(new Session(id, uuid, serverUUID, start, end, mobKills, deaths, timeAFK));
+                    cursors.add(PageCursor.of(id));
+                }
+                return PageCursor.toPage(sessions, cursors, pageSize);
+            }
+        });
+    }
+
+    /**
+     * Used to get the players with most playtime.
+     *
+     * @param serverUUID UUID of the server, null for all servers.
+     * @param after      Sessions that started at or after this epoch ms.
+     * @param before     Sessions that started at or before this epoch ms.
+     * @param n          Amount of players.
+     * @return Map of UUID - playtime in ms, in descending order of playtime.
+     */
+    public Map<UUID, Long> getPlaytimeTop(UUID serverUUID, long after, long before, int n) {
+        String usersIDColumn = usersTable + "." + UsersTable.Col.ID;
+        String usersUUIDColumn = usersTable + "." + UsersTable.Col.UUID + " as uuid";
+        String sql = "SELECT " +
+                usersUUIDColumn + ", " +
+                "SUM(" + Col.SESSION_END + "-" + Col.SESSION_START + ") as playtime" +
+                " FROM " + tableName +
+                " INNER JOIN " + usersTable + " on " + usersIDColumn + "=" + Col.USER_ID +
+                " WHERE " + Col.SESSION_START + ">=?" +
+                " AND " + Col.SESSION_START + "<=?" +
+                (serverUUID != null ? " AND " + Col.SERVER_ID + "=" + serverTable.statementSelectServerID : "") +
+                " GROUP BY " + usersTable + "." + UsersTable.Col.UUID +
+                " ORDER BY playtime DESC" +
+                " LIMIT ?";
+
+        return query(new QueryStatement<Map<UUID, Long>>(sql, n) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int i = 1;
+                statement.setLong(i++, after);
+                statement.setLong(i++, before);
+                if (serverUUID != null) {
+                    statement.setString(i++, serverUUID.toString());
+                }
+                statement.setInt(i, n);
+            }
+
+            @Override
+            public Map<UUID, Long> processResults(ResultSet set) throws SQLException {
+                Map<UUID, Long> playtimes = new LinkedHashMap<>();
+                while (set.next()) {
+                    playtimes.put(UUID.fromString(set.getString("uuid")), set.getLong("playtime"));
+                }
+                return playtimes;
+            }
+        });
+    }
+
+    /**
+     * Used to count players who have a session.
+     *
+     * @param serverUUID UUID of the server, null for all servers.
+     * @param after      Sessions that started at or after this epoch ms.
+     * @param before     Sessions that started at or before this epoch ms.
+     * @return Amount of unique players.
+     */
+    public int getUniquePlayerCount(UUID serverUUID, long after, long before) {
+        String sql = "SELECT COUNT(DISTINCT " + Col.USER_ID + ") as player_count" +
+                " FROM " + tableName +
+                " WHERE " + Col.SESSION_START + ">=?" +
+                " AND " + Col.SESSION_START + "<=?" +
+                (serverUUID != null ? " AND " + Col.SERVER_ID + "=" + serverTable.statementSelectServerID : "");
+
+        return query(new QueryStatement<Integer>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, after);
+                statement.setLong(2, before);
+                if (serverUUID != null) {
+                    statement.setString(3, serverUUID.toString());
+                }
+            }
+
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getInt("player_count") : 0;
+            }
+        });
+    }
+
     public enum Col implements Column {
         USER_ID(UserIDTable.Col.USER_ID.get()),
         ID("id"),
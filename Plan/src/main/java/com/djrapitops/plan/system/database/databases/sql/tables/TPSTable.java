@@ -3,8 +3,10 @@ package com.djrapitops.plan.system.database.databases.sql.tables;
 import com.djrapitops.plan.api.exceptions.database.DBInitException;
 import com.djrapitops.plan.data.container.TPS;
 import com.djrapitops.plan.data.container.builders.TPSBuilder;
+import com.djrapitops.plan.system.database.databases.operation.Page;
 import com.djrapitops.plan.system.database.databases.sql.SQLDB;
 import com.djrapitops.plan.system.database.databases.sql.processing.ExecStatement;
+import com.djrapitops.plan.system.database.databases.sql.processing.PageCursor;
 import com.djrapitops.plan.system.database.databases.sql.processing.QueryAllStatement;
 import com.djrapitops.plan.system.database.databases.sql.processing.QueryStatement;
 import com.djrapitops.plan.system.database.databases.sql.statements.Column;
@@ -32,8 +34,10 @@ import java.util.*;
  */
 public class TPSTable extends Table {
 
+    public static final String TABLE_NAME = "plan_tps";
+
     public TPSTable(SQLDB db) {
-        super("plan_tps", db);
+        super(TABLE_NAME, db);
         serverTable = db.getServerTable();
         insertStatement = "INSERT INTO " + tableName + " ("
                 + Col.SERVER_ID + ", "
@@ -305,6 +309,60 @@ public class TPSTable extends Table {
         });
     }
 
+    /**
+     * Used to get a page of TPS data for QueryOperations.
+     *
+     * @param serverUUID UUID of the server.
+     * @param after      TPS at or after this epoch ms.
+     * @param before     TPS at or before this epoch ms.
+     * @param afterDate  Date of the last TPS of the previous page.
+     * @param pageSize   Maximum amount of TPS.
+     * @return Page of TPS ordered by date.
+     */
+    public Page<TPS> getTPSPage(UUID serverUUID, long after, long before, long afterDate, int pageSize) {
+        String sql = Select.all(tableName)
+                .where(Col.SERVER_ID + "=" + serverTable.statementSelectServerID)
+                .and(Col.DATE + ">?")
+                .and(Col.DATE + ">=?")
+                .and(Col.DATE + "<=?")
+                .toString() +
+                " ORDER BY " + Col.DATE +
+                " LIMIT ?";
+
+        return query(new QueryStatement<Page<TPS>>(sql, Math.min(pageSize + 1, 5000)) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, afterDate);
+                statement.setLong(3, after);
+                statement.setLong(4, before);
+                statement.setInt(5, pageSize + 1);
+            }
+
+            @Override
+            public Page<TPS> processResults(ResultSet set) throws SQLException {
+                List<TPS> data = new ArrayList<>();
+                List<String> cursors = new ArrayList<>();
+                while (set.next()) {
+                    long date = set.getLong(Col.DATE.get());
+                    TPS tps = TPSBuilder.get()
+                            .date(date)
+                            .tps(set.getDouble(Col.TPS.get()))
+                            .playersOnline(set.getInt(Col.PLAYERS_ONLINE.get()))
+                            .usedCPU(set.getDouble(Col.CPU_USAGE.get()))
+                            .usedMemory(set.getLong(Col.RAM_USAGE.get()))
+                            .entities(set.getInt(Col.ENTITIES.get()))
+                            .chunksLoaded(set.getInt(Col.CHUNKS.get()))
+                            .toTPS();
+
+                    data.add(tps);
+                    cursors.add(PageCursor.of(date));
+                }
+                return PageCursor.toPage(data, cursors, pageSize);
+            }
+        });
+    }
+
     public enum Col implements Column {
         SERVER_ID("server_id"),
         DATE("date"),
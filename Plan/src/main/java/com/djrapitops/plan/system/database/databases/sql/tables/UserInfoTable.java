@@ -6,8 +6,10 @@ package com.djrapitops.plan.system.database.databases.sql.tables;
 
 import com.djrapitops.plan.api.exceptions.database.DBInitException;
 import com.djrapitops.plan.data.container.UserInfo;
+import com.djrapitops.plan.system.database.databases.operation.Page;
 import com.djrapitops.plan.system.database.databases.sql.SQLDB;
 import com.djrapitops.plan.system.database.databases.sql.processing.ExecStatement;
+import com.djrapitops.plan.system.database.databases.sql.processing.PageCursor;
 import com.djrapitops.plan.system.database.databases.sql.processing.QueryAllStatement;
 import com.djrapitops.plan.system.database.databases.sql.processing.QueryStatement;
 import com.djrapitops.plan.system.database.databases.sql.statements.*;
@@ -30,6 +32,8 @@ import java.util.*;
  */
 public class UserInfoTable extends UserIDTable {
 
+    public static final String TABLE_NAME = "plan_user_info";
+
     @Override
     public void createTable() throws DBInitException {
         createTable(TableSqlParser.createTable(tableName)
@@ -46,7 +50,7 @@ public class UserInfoTable extends UserIDTable {
     private final ServerTable serverTable;
 
     public UserInfoTable(SQLDB db) {
-        super("plan_user_info", db);
+        super(TABLE_NAME, db);
         serverTable = db.getServerTable();
     }
 
@@ -312,6 +316,64 @@ public class UserInfoTable extends UserIDTable {
         });
     }
 
+    /**
+     * Used to get a page of players of a server for QueryOperations.
+     *
+     * @param serverUUID UUID of the server.
+     * @param after      Players registered on the server at or after this epoch ms.
+     * @param before     Players registered on the server at or before this epoch ms.
+     * @param afterID    User ID of the last player of the previous page.
+     * @param pageSize   Maximum amount of players.
+     * @return Page of UserInfo ordered by user ID.
+     */
+    public Page<UserInfo> getUserInfoPage(UUID serverUUID, long after, long before, long afterID, int pageSize) {
+        String usersIDColumn = usersTable + "." + UsersTable.Col.ID;
+        String registeredColumn = tableName + "." + Col.REGISTERED;
+        String sql = "SELECT " +
+                usersIDColumn + ", " +
+                usersTable + "." + UsersTable.Col.UUID + ", " +
+                usersTable + "." + UsersTable.Col.USER_NAME + ", " +
+                registeredColumn + ", " +
+                Col.OP + ", " +
+                Col.BANNED +
+                " FROM " + tableName +
+                " INNER JOIN " + usersTable + " on " + usersIDColumn + "=" + Col.USER_ID +
+                " WHERE " + usersIDColumn + ">?" +
+                " AND " + registeredColumn + ">=?" +
+                " AND " + registeredColumn + "<=?" +
+                " AND " + Col.SERVER_ID + "=" + serverTable.statementSelectServerID +
+                " ORDER BY " + usersIDColumn +
+                " LIMIT ?";
+
+        return query(new QueryStatement<Page<UserInfo>>(sql, Math.min(pageSize + 1, 5000)) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, afterID);
+                statement.setLong(2, after);
+                statement.setLong(3, before);
+                statement.setString(4, serverUUID.toString());
+                statement.setInt(5, pageSize + 1);
+            }
+
+            @Override
+            public Page<UserInfo> processResults(ResultSet set) throws SQLException {
+                List<UserInfo> userInfo = new ArrayList<>();
+                List<String> cursors = new ArrayList<>();
+                while (set.next()) {
+                    UUID uuid = UUID.fromString(set.getString(UsersTable.Col.UUID.get()));
+                    String name = set.getString(UsersTable.Col.USER_NAME.get());
+                    long registered = set.getLong(Col.REGISTERED.get());
+                    boolean op = set.getBoolean(Col.OP.get());
+                    boolean banned = set.getBoolean(Col.BANNED.get());
+
+                    userInfo.add(new UserInfo(uuid, name, registered, op, banned));
+                    cursors.add(PageCursor.of(set.getInt(UsersTable.Col.ID.get())));
+                }
+                return PageCursor.toPage(userInfo, cursors, pageSize);
+            }
+        });
+    }
+
     public enum Col implements Column {
         USER_ID(UserIDTable.Col.USER_ID.get()),
         SERVER_ID("server_id"),
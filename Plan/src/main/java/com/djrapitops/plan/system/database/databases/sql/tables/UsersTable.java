@@ -5,8 +5,10 @@ import com.djrapitops.plan.data.container.UserInfo;
 import com.djrapitops.plan.data.store.Key;
 import com.djrapitops.plan.data.store.containers.DataContainer;
 import com.djrapitops.plan.data.store.keys.PlayerKeys;
+import com.djrapitops.plan.system.database.databases.operation.Page;
 import com.djrapitops.plan.system.database.databases.sql.SQLDB;
 import com.djrapitops.plan.system.database.databases.sql.processing.ExecStatement;
+import com.djrapitops.plan.system.database.databases.sql.processing.PageCursor;
 import com.djrapitops.plan.system.database.databases.sql.processing.QueryAllStatement;
 import com.djrapitops.plan.system.database.databases.sql.processing.QueryStatement;
 import com.djrapitops.plan.system.database.databases.sql.statements.*;
@@ -363,6 +365,40 @@ public class UsersTable extends UserIDTable {
         });
     }
 
+    /**
+     * Used to get kick counts of the users registered on a single server.
+     *
+     * @param serverUUID UUID of the server.
+     * @return Map: Player UUID - times kicked
+     */
+    public Map<UUID, Integer> getTimesKickedOfServerUsers(UUID serverUUID) {
+        String sql = Select.from(tableName, Col.UUID, Col.TIMES_KICKED)
+                .where(Col.ID + " IN (" +
+                        "SELECT " + UserInfoTable.Col.USER_ID + " FROM " + UserInfoTable.TABLE_NAME +
+                        " WHERE " + UserInfoTable.Col.SERVER_ID + "=" + db.getServerTable().statementSelectServerID +
+                        ")")
+                .toString();
+
+        return query(new QueryStatement<Map<UUID, Integer>>(sql, 20000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+            }
+
+            @Override
+            public Map<UUID, Integer> processResults(ResultSet set) throws SQLException {
+                Map<UUID, Integer> timesKicked = new HashMap<>();
+                while (set.next()) {
+                    UUID uuid = UUID.fromString(set.getString(Col.UUID.get()));
+                    int kickCount = set.getInt(Col.TIMES_KICKED.get());
+
+                    timesKicked.put(uuid, kickCount);
+                }
+                return timesKicked;
+            }
+        });
+    }
+
     public Map<UUID, String> getPlayerNames() {
         String sql = Select.from(tableName, Col.UUID, Col.USER_NAME).toString();
 
@@ -440,6 +476,50 @@ public class UsersTable extends UserIDTable {
         });
     }
 
+    /**
+     * Used to get a page of players for QueryOperations.
+     *
+     * @param after    Players registered at or after this epoch ms.
+     * @param before   Players registered at or before this epoch ms.
+     * @param afterID  ID of the last player of the previous page.
+     * @param pageSize Maximum amount of players.
+     * @return Page of UserInfo ordered by ID, not operator or banned.
+     */
+    public Page<UserInfo> getUserPage(long after, long before, long afterID, int pageSize) {
+        String sql = Select.all(tableName)
+                .where(Col.ID + ">?")
+                .and(Col.REGISTERED + ">=?")
+                .and(Col.REGISTERED + "<=?")
+                .toString() +
+                " ORDER BY " + Col.ID +
+                " LIMIT ?";
+
+        return query(new QueryStatement<Page<UserInfo>>(sql, Math.min(pageSize + 1, 5000)) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, afterID);
+                statement.setLong(2, after);
+                statement.setLong(3, before);
+                statement.setInt(4, pageSize + 1);
+            }
+
+            @Override
+            public Page<UserInfo> processResults(ResultSet set) throws SQLException {
+                List<UserInfo> users = new ArrayList<>();
+                List<String> cursors = new ArrayList<>();
+                while (set.next()) {
+                    UUID uuid = UUID.fromString(set.getString(Col.UUID.get()));
+                    String name = set.getString(Col.USER_NAME.get());
+                    long registered = set.getLong(Col.REGISTERED.get());
+
+                    users.add(new UserInfo(uuid, name, registered, false, false));
+                    cursors.add(PageCursor.of(set.getInt(Col.ID.get())));
+                }
+                return PageCursor.toPage(users, cursors, pageSize);
+            }
+        });
+    }
+
     public enum Col implements Column {
         ID("id"),
         UUID("uuid"),
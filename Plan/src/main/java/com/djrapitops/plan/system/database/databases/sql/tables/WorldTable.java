@@ -29,6 +29,7 @@ public class WorldTable extends Table {
     public static final String TABLE_NAME = "plan_worlds";
     public final String statementSelectID;
     private final ServerTable serverTable;
+    private final NameDictionary dictionary;
 
     public WorldTable(SQLDB db) {
         super(TABLE_NAME, db);
@@ -37,6 +38,7 @@ public class WorldTable extends Table {
                 " WHERE (" + Col.NAME + "=?)" +
                 " AND (" + Col.SERVER_ID + "=" + serverTable.statementSelectServerID + ")" +
                 " LIMIT 1)";
+        dictionary = new NameDictionary(this::getWorldIDs, this::getAllWorldNamesByID);
     }
 
     @Override
@@ -99,6 +101,63 @@ public class WorldTable extends Table {
         });
     }
 
+    private Map<String, Integer> getWorldIDs(UUID serverUUID) {
+        String sql = "SELECT " + Col.ID + ", " + Col.NAME + " FROM " + tableName +
+                " WHERE " + Col.SERVER_ID + "=" + serverTable.statementSelectServerID;
+
+        return query(new QueryStatement<Map<String, Integer>>(sql, 100) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+            }
+
+            @Override
+            public Map<String, Integer> processResults(ResultSet set) throws SQLException {
+                Map<String, Integer> worldIDs = new HashMap<>();
+                while (set.next()) {
+                    worldIDs.put(set.getString(Col.NAME.get()), set.getInt(Col.ID.get()));
+                }
+                return worldIDs;
+            }
+        });
+    }
+
+    private Map<Integer, String> getAllWorldNamesByID() {
+        String sql = "SELECT " + Col.ID + ", " + Col.NAME + " FROM " + tableName;
+
+        return query(new QueryAllStatement<Map<Integer, String>>(sql, 1000) {
+            @Override
+            public Map<Integer, String> processResults(ResultSet set) throws SQLException {
+                Map<Integer, String> worldNames = new HashMap<>();
+                while (set.next()) {
+                    worldNames.put(set.getInt(Col.ID.get()), set.getString(Col.NAME.get()));
+                }
+                return worldNames;
+            }
+        });
+    }
+
+    /**
+     * Get the id of a saved world without a query.
+     *
+     * @param serverUUID UUID of the server the world is on.
+     * @param worldName  Name of the world.
+     * @return id of the world or empty if it has not been saved.
+     */
+    public Optional<Integer> getWorldID(UUID serverUUID, String worldName) {
+        return dictionary.getID(serverUUID, worldName);
+    }
+
+    /**
+     * Get the name of a world by its id without a query, used when decoding rows that refer to plan_worlds.
+     *
+     * @param worldID id of the world.
+     * @return Interned name of the world, or null if there is no such world.
+     */
+    public String getWorldName(int worldID) {
+        return dictionary.getName(worldID);
+    }
+
     public void saveWorlds(Collection<String> worlds) {
         saveWorlds(worlds, ServerInfo.getServerUUID());
     }
@@ -106,7 +165,7 @@ public class WorldTable extends Table {
     /**
      * Used to save a list of world names.
      * <p>
-     * Already saved names will not be saved.
+     * Already saved names will not be saved. Saved names are cached so that saving known worlds does not query.
      *
      * @param worlds List of world names.
      */
@@ -114,9 +173,8 @@ public class WorldTable extends Table {
         Verify.nullCheck(worlds);
         Set<String> worldsToSave = new HashSet<>(worlds);
 
-        List<String> saved = getWorlds(serverUUID);
-        worldsToSave.removeAll(saved);
-        if (Verify.isEmpty(worlds)) {
+        worldsToSave.removeAll(dictionary.getNames(serverUUID));
+        if (worldsToSave.isEmpty()) {
             return;
         }
 
@@ -135,6 +193,7 @@ public class WorldTable extends Table {
                 }
             }
         });
+        dictionary.reload(serverUUID);
     }
 
     public Set<String> getWorldNames(UUID serverUUID) {
@@ -157,6 +216,28 @@ public class WorldTable extends Table {
         });
     }
 
+    /**
+     * Forget the cached world ids, used after world rows are changed without this table.
+     */
+    public void clearWorldCache() {
+        dictionary.clear();
+    }
+
+    /**
+     * Forget the cached world ids of a server, used after a write with the cached ids failed.
+     *
+     * @param serverUUID UUID of the server.
+     */
+    public void clearWorldCache(UUID serverUUID) {
+        dictionary.invalidate(serverUUID);
+    }
+
+    @Override
+    public void removeAllData() {
+        super.removeAllData();
+        dictionary.clear();
+    }
+
     public enum Col implements Column {
         ID("id"),
         SERVER_ID("server_id"),
@@ -1,6 +1,7 @@
 package com.djrapitops.plan.system.database.databases.sql.tables;
 
 import com.djrapitops.plan.api.exceptions.database.DBInitException;
+import com.djrapitops.plan.api.exceptions.database.DBOpException;
 import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.store.keys.SessionKeys;
 import com.djrapitops.plan.data.time.GMTimes;
@@ -54,7 +55,7 @@ public class WorldTimesTable extends UserIDTable {
                 Col.SPECTATOR +
                 ") VALUES (" +
                 usersTable.statementSelectID + ", " +
-                worldTable.statementSelectID + ", " +
+                "?, " +
                 serverTable.statementSelectServerID + ", " +
                 "?, ?, ?, ?, ?)";
     }
@@ -79,17 +80,14 @@ public class WorldTimesTable extends UserIDTable {
     }
 
     public void addWorldTimesToSessions(UUID uuid, Map<Integer, Session> sessions) {
-        String worldIDColumn = worldTable + "." + WorldTable.Col.ID;
-        String worldNameColumn = worldTable + "." + WorldTable.Col.NAME + " as world_name";
         String sql = "SELECT " +
                 Col.SESSION_ID + ", " +
                 Col.SURVIVAL + ", " +
                 Col.CREATIVE + ", " +
                 Col.ADVENTURE + ", " +
                 Col.SPECTATOR + ", " +
-                worldNameColumn +
+                Col.WORLD_ID +
                 " FROM " + tableName +
-                " INNER JOIN " + worldTable + " on " + worldIDColumn + "=" + Col.WORLD_ID +
                 " WHERE " + Col.USER_ID + "=" + usersTable.statementSelectID;
 
         query(new QueryStatement<Object>(sql, 2000) {
@@ -110,7 +108,10 @@ public class WorldTimesTable extends UserIDTable {
                         continue;
                     }
 
-                    String worldName = set.getString("world_name");
+                    String worldName = worldTable.getWorldName(set.getInt(Col.WORLD_ID.get()));
+                    if (worldName == null) {
+                        continue;
+                    }
 
                     Map<String, Long> gmMap = new HashMap<>();
                     gmMap.put(gms[0], set.getLong(Col.SURVIVAL.get()));
@@ -132,45 +133,91 @@ public class WorldTimesTable extends UserIDTable {
             return;
         }
 
-        Set<String> worldNames = worldTimesMap.keySet();
-        db.getWorldTable().saveWorlds(worldNames);
+        UUID serverUUID = ServerInfo.getServerUUID();
+        Map<UUID, Set<String>> worldsOfServers = Collections.singletonMap(serverUUID, worldTimesMap.keySet());
+        saveWorlds(worldsOfServers);
 
-        executeBatch(new ExecStatement(insertStatement) {
+        insertWithWorlds(worldsOfServers, Collections.singleton(sessionID), new ExecStatement(insertStatement) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
+                String[] gms = GMTimes.getGMKeyArray();
                 for (Map.Entry<String, GMTimes> entry : worldTimesMap.entrySet()) {
                     String worldName = entry.getKey();
                     GMTimes gmTimes = entry.getValue();
                     statement.setString(1, uuid.toString());
-                    statement.setString(2, worldName);
-                    String serverUUID = ServerInfo.getServerUUID().toString();
-                    statement.setString(3, serverUUID);
-                    statement.setString(4, serverUUID);
-                    statement.setInt(5, sessionID);
-
-                    String[] gms = GMTimes.getGMKeyArray();
-                    statement.setLong(6, gmTimes.getTime(gms[0]));
-                    statement.setLong(7, gmTimes.getTime(gms[1]));
-                    statement.setLong(8, gmTimes.getTime(gms[2]));
-                    statement.setLong(9, gmTimes.getTime(gms[3]));
+                    statement.setInt(2, getWorldID(serverUUID, worldName));
+                    statement.setString(3, serverUUID.toString());
+                    statement.setInt(4, sessionID);
+                    statement.setLong(5, gmTimes.getTime(gms[0]));
+                    statement.setLong(6, gmTimes.getTime(gms[1]));
+                    statement.setLong(7, gmTimes.getTime(gms[2]));
+                    statement.setLong(8, gmTimes.getTime(gms[3]));
+                    statement.addBatch();
+                }
+            }
+        });
+    }
+
+    private void saveWorlds(Map<UUID, Set<String>> worldsOfServers) {
+        for (Map.Entry<UUID, Set<String>> worlds : worldsOfServers.entrySet()) {
+            worldTable.saveWorlds(worlds.getValue(), worlds.getKey());
+        }
+    }
+
+    /**
+     * Insert world times that refer to the cached world ids.
+     * <p>
+     * If another server sharing the database removed the worlds, the insert fails on the cached ids. The ids are then
+     * loaded again once, rows the failed insert wrote for the sessions are removed and the insert is done again.
+     *
+     * @param worldsOfServers World names used by the rows, by server.
+     * @param sessionIDs      ids of the sessions the rows belong to.
+     * @param insert          Batch insert of the rows.
+     */
+    private void insertWithWorlds(
+            Map<UUID, Set<String>> worldsOfServers, Set<Integer> sessionIDs, ExecStatement insert
+    ) {
+        try {
+            executeBatch(insert);
+        } catch (DBOpException e) {
+            worldsOfServers.keySet().forEach(worldTable::clearWorldCache);
+            saveWorlds(worldsOfServers);
+            removeSessions(sessionIDs);
+            executeBatch(insert);
+        }
+    }
+
+    private void removeSessions(Set<Integer> sessionIDs) {
+        String sql = "DELETE FROM " + tableName + " WHERE " + Col.SESSION_ID + "=?";
+
+        executeBatch(new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (Integer sessionID : sessionIDs) {
+                    statement.setInt(1, sessionID);
                     statement.addBatch();
                 }
             }
         });
     }
 
+    private int getWorldID(UUID serverUUID, String worldName) throws SQLException {
+        Optional<Integer> worldID = worldTable.getWorldID(serverUUID, worldName);
+        if (!worldID.isPresent()) {
+            throw new SQLException("World '" + worldName + "' of " + serverUUID + " was not saved to " + worldTable);
+        }
+        return worldID.get();
+    }
+
     public WorldTimes getWorldTimesOfServer(UUID serverUUID) {
-        String worldIDColumn = worldTable + "." + WorldTable.Col.ID;
-        String worldNameColumn = worldTable + "." + WorldTable.Col.NAME + " as world_name";
         String sql = "SELECT " +
                 "SUM(" + Col.SURVIVAL + ") as survival, " +
                 "SUM(" + Col.CREATIVE + ") as creative, " +
                 "SUM(" + Col.ADVENTURE + ") as adventure, " +
                 "SUM(" + Col.SPECTATOR + ") as spectator, " +
-                worldNameColumn +
+                Col.WORLD_ID +
                 " FROM " + tableName +
-                " INNER JOIN " + worldTable + " on " + worldIDColumn + "=" + Col.WORLD_ID +
-                " WHERE " + tableName + "." + Col.SERVER_ID + "=" + db.getServerTable().statementSelectServerID +
+                " WHERE " + Col.SERVER_ID + "=" + db.getServerTable().statementSelectServerID +
                 " GROUP BY " + Col.WORLD_ID;
 
         return query(new QueryStatement<WorldTimes>(sql, 1000) {
@@ -185,7 +232,10 @@ public class WorldTimesTable extends UserIDTable {
 
                 WorldTimes worldTimes = new WorldTimes(new HashMap<>());
                 while (set.next()) {
-                    String worldName = set.getString("world_name");
+                    String worldName = worldTable.getWorldName(set.getInt(Col.WORLD_ID.get()));
+                    if (worldName == null) {
+                        continue;
+                    }
 
                     Map<String, Long> gmMap = new HashMap<>();
                     gmMap.put(gms[0], set.getLong("survival"));
@@ -202,16 +252,13 @@ public class WorldTimesTable extends UserIDTable {
     }
 
     public WorldTimes getWorldTimesOfUser(UUID uuid) {
-        String worldIDColumn = worldTable + "." + WorldTable.Col.ID;
-        String worldNameColumn = worldTable + "." + WorldTable.Col.NAME + " as world_name";
         String sql = "SELECT " +
                 "SUM(" + Col.SURVIVAL + ") as survival, " +
                 "SUM(" + Col.CREATIVE + ") as creative, " +
                 "SUM(" + Col.ADVENTURE + ") as adventure, " +
                 "SUM(" + Col.SPECTATOR + ") as spectator, " +
-                worldNameColumn +
+                Col.WORLD_ID +
                 " FROM " + tableName +
-                " INNER JOIN " + worldTable + " on " + worldIDColumn + "=" + Col.WORLD_ID +
                 " WHERE " + Col.USER_ID + "=" + usersTable.statementSelectID +
                 " GROUP BY " + Col.WORLD_ID;
 
@@ -227,7 +274,10 @@ public class WorldTimesTable extends UserIDTable {
 
                 WorldTimes worldTimes = new WorldTimes(new HashMap<>());
                 while (set.next()) {
-                    String worldName = set.getString("world_name");
+                    String worldName = worldTable.getWorldName(set.getInt(Col.WORLD_ID.get()));
+                    if (worldName == null) {
+                        continue;
+                    }
 
                     Map<String, Long> gmMap = new HashMap<>();
                     gmMap.put(gms[0], set.getLong("survival"));
@@ -244,17 +294,14 @@ public class WorldTimesTable extends UserIDTable {
     }
 
     public Map<Integer, WorldTimes> getAllWorldTimesBySessionID() {
-        String worldIDColumn = worldTable + "." + WorldTable.Col.ID;
-        String worldNameColumn = worldTable + "." + WorldTable.Col.NAME + " as world_name";
         String sql = "SELECT " +
                 Col.SESSION_ID + ", " +
                 Col.SURVIVAL + ", " +
                 Col.CREATIVE + ", " +
                 Col.ADVENTURE + ", " +
                 Col.SPECTATOR + ", " +
-                worldNameColumn +
-                " FROM " + tableName +
-                " INNER JOIN " + worldTable + " on " + worldIDColumn + "=" + Col.WORLD_ID;
+                Col.WORLD_ID +
+                " FROM " + tableName;
 
         return query(new QueryAllStatement<Map<Integer, WorldTimes>>(sql, 50000) {
             @Override
@@ -265,7 +312,10 @@ public class WorldTimesTable extends UserIDTable {
                 while (set.next()) {
                     int sessionID = set.getInt(Col.SESSION_ID.get());
 
-                    String worldName = set.getString("world_name");
+                    String worldName = worldTable.getWorldName(set.getInt(Col.WORLD_ID.get()));
+                    if (worldName == null) {
+                        continue;
+                    }
 
                     Map<String, Long> gmMap = new HashMap<>();
                     gmMap.put(gms[0], set.getLong(Col.SURVIVAL.get()));
@@ -302,19 +352,25 @@ public class WorldTimesTable extends UserIDTable {
         if (Verify.isEmpty(allSessions)) {
             return;
         }
-        List<String> worldNames = allSessions.values().stream()
-                .map(Map::values)
-                .flatMap(Collection::stream)
-                .flatMap(Collection::stream)
-                .map(s -> s.getUnsafe(SessionKeys.WORLD_TIMES))
-                .map(WorldTimes::getWorldTimes)
-                .map(Map::keySet)
-                .flatMap(Collection::stream)
-                .distinct()
-                .collect(Collectors.toList());
-        db.getWorldTable().saveWorlds(worldNames);
-
-        executeBatch(new ExecStatement(insertStatement) {
+        // Worlds are saved for the server the sessions are from.
+        Map<UUID, Set<String>> worldsOfServers = new HashMap<>();
+        Set<Integer> sessionIDs = new HashSet<>();
+        for (Map.Entry<UUID, Map<UUID, List<Session>>> serverSessions : allSessions.entrySet()) {
+            List<Session> sessions = serverSessions.getValue().values().stream()
+                    .flatMap(Collection::stream)
+                    .collect(Collectors.toList());
+            sessions.forEach(session -> sessionIDs.add(session.getUnsafe(SessionKeys.DB_ID)));
+            Set<String> worldNames = sessions.stream()
+                    .map(s -> s.getUnsafe(SessionKeys.WORLD_TIMES))
+                    .map(WorldTimes::getWorldTimes)
+                    .map(Map::keySet)
+                    .flatMap(Collection::stream)
+                    .collect(Collectors.toSet());
+            worldsOfServers.put(serverSessions.getKey(), worldNames);
+        }
+        saveWorlds(worldsOfServers);
+
+        insertWithWorlds(worldsOfServers, sessionIDs, new ExecStatement(insertStatement) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
                 String[] gms = GMTimes.getGMKeyArray();
@@ -334,14 +390,13 @@ public class WorldTimesTable extends UserIDTable {
                                 String worldName = worldTimesEntry.getKey();
                                 GMTimes gmTimes = worldTimesEntry.getValue();
                                 statement.setString(1, uuid.toString());
-                                statement.setString(2, worldName);
+                                statement.setInt(2, getWorldID(serverUUID, worldName));
                                 statement.setString(3, serverUUID.toString());
-                                statement.setString(4, serverUUID.toString());
-                                statement.setInt(5, sessionID);
-                                statement.setLong(6, gmTimes.getTime(gms[0]));
-                                statement.setLong(7, gmTimes.getTime(gms[1]));
-                                statement.setLong(8, gmTimes.getTime(gms[2]));
-                                statement.setLong(9, gmTimes.getTime(gms[3]));
+                                statement.setInt(4, sessionID);
+                                statement.setLong(5, gmTimes.getTime(gms[0]));
+                                statement.setLong(6, gmTimes.getTime(gms[1]));
+                                statement.setLong(7, gmTimes.getTime(gms[2]));
+                                statement.setLong(8, gmTimes.getTime(gms[3]));
                                 statement.addBatch();
                             }
                         }
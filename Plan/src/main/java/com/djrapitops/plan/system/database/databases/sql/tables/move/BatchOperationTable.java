@@ -4,19 +4,11 @@
  */
 package com.djrapitops.plan.system.database.databases.sql.tables.move;
 
-import com.djrapitops.plan.data.container.UserInfo;
 import com.djrapitops.plan.system.database.databases.sql.SQLDB;
-import com.djrapitops.plan.system.database.databases.sql.tables.ServerTable;
-import com.djrapitops.plan.system.database.databases.sql.tables.Table;
-import com.djrapitops.plan.system.database.databases.sql.tables.UsersTable;
-import com.djrapitops.plan.system.info.server.Server;
+import com.djrapitops.plan.system.database.databases.sql.statements.Column;
+import com.djrapitops.plan.system.database.databases.sql.tables.*;
 import com.djrapitops.plugin.api.utility.log.Log;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.UUID;
-
 /**
  * A Fake table used to store a lot of big table operations.
  * <p>
@@ -24,13 +16,10 @@ import java.util.UUID;
  * {@code SQLDB from; SQLDB to;}
  * {@code fromT = new BatchOperationTable(from);}
  * {@code toT = new BatchOperationTable(to);}
- * {@code fromT.copy(toT);}
- * <p>
- * The copy methods assume that the table has been cleared, or that no duplicate data will be entered for a user.
+ * {@code fromT.copyEverything(toT);}
  * <p>
- * clearTable methods can be used to clear the table beforehand.
- * <p>
- * Server and User tables should be copied first.
+ * Tables are copied row by row with {@link StreamingTableCopy}, ids included, so only a bounded amount of rows is
+ * held in memory. copyEverything clears the destination first, continueCopy continues an interrupted copy.
  *
  * @author Rsl1122
  * @since 4.0.0
@@ -74,110 +63,54 @@ public class BatchOperationTable extends Table {
         Log.debug("Start Batch Copy Everything");
         toDB.removeAllData();
 
-        copyServers(toDB);
-        copyUsers(toDB);
-        copyWorlds(toDB);
-        copyTPS(toDB);
-        copyWebUsers(toDB);
-        copyCommandUse(toDB);
-        copyIPsAndGeolocs(toDB);
-        copyNicknames(toDB);
-        copySessions(toDB);
-        copyUserInfo(toDB);
-        copyPings(toDB);
-    }
-
-    public void copyPings(BatchOperationTable toDB) {
-        if (toDB.equals(this)) {
-            return;
-        }
-        toDB.db.getPingTable().insertAllPings(db.getPingTable().getAllPings());
-    }
-
-    public void copyCommandUse(BatchOperationTable toDB) {
-        if (toDB.equals(this)) {
-            return;
-        }
-        Log.debug("Batch Copy Commands");
-        toDB.db.getCommandUseTable().insertCommandUsage(db.getCommandUseTable().getAllCommandUsages());
-    }
-
-    public void copyIPsAndGeolocs(BatchOperationTable toDB) {
-        if (toDB.equals(this)) {
-            return;
-        }
-        Log.debug("Batch Copy IPs, Geolocations & Last used dates");
-        toDB.db.getGeoInfoTable().insertAllGeoInfo(db.getGeoInfoTable().getAllGeoInfo());
-    }
-
-    public void copyNicknames(BatchOperationTable toDB) {
-        if (toDB.equals(this)) {
-            return;
-        }
-        Log.debug("Batch Copy Nicknames");
-        toDB.db.getNicknamesTable().insertNicknames(db.getNicknamesTable().getAllNicknames());
-    }
-
-    public void copyWebUsers(BatchOperationTable toDB) {
-        if (toDB.equals(this)) {
-            return;
-        }
-        Log.debug("Batch Copy WebUsers");
-        toDB.db.getSecurityTable().addUsers(db.getSecurityTable().getUsers());
-    }
-
-    public void copyServers(BatchOperationTable toDB) {
-        if (toDB.equals(this)) {
-            return;
-        }
-        Log.debug("Batch Copy Servers");
-        ServerTable serverTable = db.getServerTable();
-        List<Server> servers = new ArrayList<>(serverTable.getBukkitServers().values());
-        serverTable.getBungeeInfo().ifPresent(servers::add);
-        toDB.db.getServerTable().insertAllServers(servers);
+        copyTables(toDB, false);
     }
 
-    public void copyTPS(BatchOperationTable toDB) {
-        if (toDB.equals(this)) {
-            return;
-        }
-        Log.debug("Batch Copy TPS");
-        toDB.db.getTpsTable().insertAllTPS(db.getTpsTable().getAllTPS());
-    }
-
-    public void copyUserInfo(BatchOperationTable toDB) {
+    /**
+     * Continue a copy that was interrupted.
+     * <p>
+     * Rows that were already copied to the given database are skipped.
+     *
+     * @param toDB Database the interrupted copy was writing to.
+     */
+    public void continueCopy(BatchOperationTable toDB) {
         if (toDB.equals(this)) {
             return;
         }
-        Log.debug("Batch Copy UserInfo");
-        toDB.db.getUserInfoTable().insertUserInfo(db.getUserInfoTable().getAllUserInfo());
-    }
-
-    public void copyWorlds(BatchOperationTable toDB) {
-        if (toDB.equals(this)) {
-            return;
+        Log.debug("Continue Batch Copy Everything");
+        copyTables(toDB, true);
+    }
+
+    private void copyTables(BatchOperationTable toDB, boolean resume) {
+        try {
+            copy(toDB, db.getServerTable(), ServerTable.Col.SERVER_ID, resume);
+            copy(toDB, db.getUsersTable(), UsersTable.Col.ID, resume);
+            copy(toDB, db.getWorldTable(), WorldTable.Col.ID, resume);
+            copy(toDB, db.getTpsTable(), TPSTable.Col.DATE, resume);
+            // Only String columns are unique, they can be ordered differently in the destination.
+            copyWhole(toDB, db.getSecurityTable(), resume);
+            copy(toDB, db.getCommandUseTable(), CommandUseTable.Col.COMMAND_ID, resume);
+            copy(toDB, db.getGeoInfoTable(), GeoInfoTable.Col.USER_ID, resume);
+            copy(toDB, db.getNicknamesTable(), NicknamesTable.Col.USER_ID, resume);
+            copy(toDB, db.getSessionsTable(), SessionsTable.Col.ID, resume);
+            copy(toDB, db.getKillsTable(), KillsTable.Col.SESSION_ID, resume);
+            copy(toDB, db.getWorldTimesTable(), WorldTimesTable.Col.SESSION_ID, resume);
+            copy(toDB, db.getUserInfoTable(), UserInfoTable.Col.USER_ID, resume);
+            copy(toDB, db.getPingTable(), PingTable.Col.ID, resume);
+        } finally {
+            // Rows were written without the tables, cached ids of the destination are no longer valid.
+            toDB.db.getWorldTable().clearWorldCache();
+            toDB.db.getCommandUseTable().clearCommandCache();
         }
-        Log.debug("Batch Copy Worlds");
-        toDB.db.getWorldTable().saveWorlds(db.getWorldTable().getAllWorlds());
     }
 
-    public void copyUsers(BatchOperationTable toDB) {
-        if (toDB.equals(this)) {
-            return;
-        }
-        Log.debug("Batch Copy Users");
-        UsersTable fromTable = db.getUsersTable();
-        UsersTable toTable = toDB.db.getUsersTable();
-        Map<UUID, UserInfo> users = fromTable.getUsers();
-        toTable.insertUsers(users);
-        toTable.updateKicked(fromTable.getAllTimesKicked());
+    private void copyWhole(BatchOperationTable toDB, Table table, boolean resume) {
+        Log.debug("Batch Copy " + table.getTableName());
+        new StreamingTableCopy(db, toDB.db, table.getTableName()).copy(resume);
     }
 
-    public void copySessions(BatchOperationTable toDB) {
-        if (toDB.equals(this)) {
-            return;
-        }
-        Log.debug("Batch Copy Sessions");
-        toDB.db.getSessionsTable().insertSessions(db.getSessionsTable().getAllSessions(true), true);
+    private void copy(BatchOperationTable toDB, Table table, Column cursorColumn, boolean resume) {
+        Log.debug("Batch Copy " + table.getTableName());
+        new StreamingTableCopy(db, toDB.db, table.getTableName(), cursorColumn).copy(resume);
     }
 }
@@ -0,0 +1,297 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.database.databases.sql.tables.move;
+
+import com.djrapitops.plan.api.exceptions.database.DBOpException;
+import com.djrapitops.plan.system.database.databases.sql.SQLDB;
+import com.djrapitops.plan.system.database.databases.sql.processing.QueryStatement;
+import com.djrapitops.plan.system.database.databases.sql.statements.Column;
+import com.djrapitops.plugin.api.utility.log.Log;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Copies all rows of a table from one database to another without loading the whole table into memory.
+ * <p>
+ * Rows are read in pages ordered by a cursor column ({@code WHERE cursor > last ORDER BY cursor LIMIT n}) and each
+ * page is inserted in fixed size batches inside one transaction. Pages always end on a change of the cursor value,
+ * so the cursor may be a non-unique column like a user id.
+ * <p>
+ * Values, including ids, are copied as they are, so the destination table should be empty or contain only rows
+ * copied earlier. Because every committed page is complete, an interrupted copy can be continued from the largest
+ * cursor value in the destination table. The cursor should be an indexed number column, Strings can be ordered
+ * differently by the two databases.
+ * <p>
+ * Small tables without such a column are copied without a cursor in a single transaction,
+ * a continued copy skips them if the destination already has rows.
+ *
+ * @author Rsl1122
+ */
+public class StreamingTableCopy {
+
+    public static final int DEFAULT_CHUNK_SIZE = 10000;
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final SQLDB from;
+    private final SQLDB to;
+    private final String tableName;
+    private final String cursorColumn;
+    private final int chunkSize;
+    private final int batchSize;
+
+    private List<String> columns;
+
+    public StreamingTableCopy(SQLDB from, SQLDB to, String tableName, Column cursorColumn) {
+        this(from, to, tableName, cursorColumn, DEFAULT_CHUNK_SIZE, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Create a copy of a whole table that is done in one transaction.
+     *
+     * @param from      Database to copy from.
+     * @param to        Database to copy to.
+     * @param tableName Name of the small table.
+     */
+    public StreamingTableCopy(SQLDB from, SQLDB to, String tableName) {
+        this(from, to, tableName, null, Integer.MAX_VALUE, DEFAULT_BATCH_SIZE);
+    }
+
+    public StreamingTableCopy(SQLDB from, SQLDB to, String tableName, Column cursorColumn, int chunkSize, int batchSize) {
+        this.from = from;
+        this.to = to;
+        this.tableName = tableName;
+        this.cursorColumn = cursorColumn != null ? cursorColumn.get() : null;
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Copy the rows.
+     *
+     * @param resume true if rows already in the destination should be skipped.
+     * @return Number of rows copied.
+     * @throws DBOpException If a page fails to be read or written, pages written before stay in the destination.
+     */
+    public long copy(boolean resume) {
+        if (cursorColumn == null) {
+            return copyWhole(resume);
+        }
+        Object cursor = resume ? getLastCopiedCursor() : null;
+        long copied = 0;
+        long start = System.currentTimeMillis();
+
+        while (true) {
+            List<Object[]> chunk = readChunk(cursor);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            writeChunk(chunk);
+            copied += chunk.size();
+            cursor = chunk.get(chunk.size() - 1)[cursorIndex()];
+            Log.debug("Batch Copy " + tableName + ": " + copied + " rows, " + rowsPerSecond(copied, start) + " rows/s");
+        }
+
+        Log.info("Copied " + copied + " rows of " + tableName + " (" + rowsPerSecond(copied, start) + " rows/s)");
+        return copied;
+    }
+
+    private long copyWhole(boolean resume) {
+        if (resume && hasCopiedRows()) {
+            return 0;
+        }
+        List<Object[]> rows = readRows("SELECT * FROM " + tableName, null);
+        if (!rows.isEmpty()) {
+            writeChunk(rows);
+        }
+        Log.info("Copied " + rows.size() + " rows of " + tableName);
+        return rows.size();
+    }
+
+    private boolean hasCopiedRows() {
+        String sql = "SELECT COUNT(1) as c FROM " + tableName;
+        return to.query(new QueryStatement<Boolean>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) {
+                // No variables
+            }
+
+            @Override
+            public Boolean processResults(ResultSet set) throws SQLException {
+                return set.next() && set.getInt("c") > 0;
+            }
+        });
+    }
+
+    private long rowsPerSecond(long rows, long start) {
+        long elapsed = Math.max(System.currentTimeMillis() - start, 1L);
+        return rows * 1000L / elapsed;
+    }
+
+    private Object getLastCopiedCursor() {
+        String sql = "SELECT MAX(" + cursorColumn + ") as last FROM " + tableName;
+        return to.query(new QueryStatement<Object>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) {
+                // No variables
+            }
+
+            @Override
+            public Object processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getObject("last") : null;
+            }
+        });
+    }
+
+    private List<Object[]> readChunk(Object cursor) {
+        List<Object[]> page = readPage(cursor);
+        if (page.size() < chunkSize) {
+            return page;
+        }
+
+        // Rows with the last cursor value might continue on the next page, they are left for the next chunk.
+        Object last = page.get(page.size() - 1)[cursorIndex()];
+        int end = page.size();
+        while (end > 0 && Objects.equals(page.get(end - 1)[cursorIndex()], last)) {
+            end--;
+        }
+        if (end > 0) {
+            return new ArrayList<>(page.subList(0, end));
+        }
+        // Whole page has the same cursor value, it is copied as one chunk.
+        return readAllWithCursor(last);
+    }
+
+    private List<Object[]> readPage(Object cursor) {
+        String sql = "SELECT * FROM " + tableName +
+                (cursor != null ? " WHERE " + cursorColumn + ">?" : "") +
+                " ORDER BY " + cursorColumn + " LIMIT " + chunkSize;
+        return readRows(sql, cursor);
+    }
+
+    private List<Object[]> readAllWithCursor(Object cursor) {
+        String sql = "SELECT * FROM " + tableName + " WHERE " + cursorColumn + "=?";
+        return readRows(sql, cursor);
+    }
+
+    private List<Object[]> readRows(String sql, Object cursor) {
+        return from.query(new QueryStatement<List<Object[]>>(sql, Math.min(chunkSize, 5000)) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                if (cursor != null) {
+                    statement.setObject(1, cursor);
+                }
+            }
+
+            @Override
+            public List<Object[]> processResults(ResultSet set) throws SQLException {
+                ResultSetMetaData metaData = set.getMetaData();
+                int columnCount = metaData.getColumnCount();
+                if (columns == null) {
+                    List<String> columnNames = new ArrayList<>();
+                    for (int i = 1; i <= columnCount; i++) {
+                        columnNames.add(metaData.getColumnName(i));
+                    }
+                    columns = columnNames;
+                }
+
+                List<Object[]> rows = new ArrayList<>();
+                while (set.next()) {
+                    Object[] row = new Object[columnCount];
+                    for (int i = 0; i < columnCount; i++) {
+                        row[i] = set.getObject(i + 1);
+                    }
+                    rows.add(row);
+                }
+                return rows;
+            }
+        });
+    }
+
+    private int cursorIndex() {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).equalsIgnoreCase(cursorColumn)) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Cursor column " + cursorColumn + " not found in " + tableName);
+    }
+
+    private void writeChunk(List<Object[]> chunk) {
+        String sql = insertStatement();
+        Connection connection = null;
+        boolean autoCommit = false;
+        try {
+            connection = to.getConnection();
+            autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int inBatch = 0;
+                for (Object[] row : chunk) {
+                    for (int i = 0; i < row.length; i++) {
+                        statement.setObject(i + 1, row[i]);
+                    }
+                    statement.addBatch();
+                    inBatch++;
+                    if (inBatch == batchSize) {
+                        statement.executeBatch();
+                        inBatch = 0;
+                    }
+                }
+                if (inBatch > 0) {
+                    statement.executeBatch();
+                }
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            rollback(connection);
+            throw DBOpException.forCause(sql, e);
+        } finally {
+            if (connection != null) {
+                restoreAutoCommit(connection, autoCommit);
+                to.returnToPool(connection);
+            }
+        }
+    }
+
+    private String insertStatement() {
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(tableName).append(" (");
+        StringBuilder values = new StringBuilder(") VALUES (");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                sql.append(',');
+                values.append(',');
+            }
+            sql.append(columns.get(i));
+            values.append('?');
+        }
+        return sql.append(values).append(')').toString();
+    }
+
+    private void rollback(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            Log.toLog(this.getClass(), e);
+        }
+    }
+
+    private void restoreAutoCommit(Connection connection, boolean autoCommit) {
+        try {
+            connection.setAutoCommit(autoCommit);
+        } catch (SQLException e) {
+            Log.toLog(this.getClass(), e);
+        }
+    }
+}
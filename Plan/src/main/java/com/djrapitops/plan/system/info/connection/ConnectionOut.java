@@ -8,7 +8,7 @@ import com.djrapitops.plan.api.exceptions.connection.*;
 import com.djrapitops.plan.system.info.request.InfoRequest;
 import com.djrapitops.plan.system.info.request.InfoRequestWithVariables;
 import com.djrapitops.plan.system.info.server.Server;
-import com.djrapitops.plan.system.settings.Settings;
+import com.djrapitops.plan.system.settings.SettingsSnapshot;
 import com.djrapitops.plan.utilities.MiscUtils;
 import com.djrapitops.plugin.api.TimeAmount;
 import com.djrapitops.plugin.api.utility.log.Log;
@@ -94,7 +94,7 @@ public class ConnectionOut {
             ConnectionLog.logConnectionTo(toServer, infoRequest, 0);
             throw new ConnectionFailException("Connection to " + address + " timed out after 10 seconds.", e);
         } catch (NoSuchAlgorithmException | KeyStoreException | KeyManagementException | IOException e) {
-            if (Settings.DEV_MODE.isTrue()) {
+            if (SettingsSnapshot.get().isDevMode()) {
                 Log.warn("THIS ERROR IS ONLY LOGGED IN DEV MODE:");
                 Log.toLog(this.getClass(), e);
             }
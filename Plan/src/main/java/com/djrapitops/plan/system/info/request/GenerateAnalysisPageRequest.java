@@ -12,6 +12,7 @@ import com.djrapitops.plan.data.store.containers.AnalysisContainer;
 import com.djrapitops.plan.system.database.databases.Database;
 import com.djrapitops.plan.system.info.InfoSystem;
 import com.djrapitops.plan.system.info.server.ServerInfo;
+import com.djrapitops.plan.system.tasks.server.AnalysisScheduler;
 import com.djrapitops.plan.system.webserver.response.DefaultResponses;
 import com.djrapitops.plan.system.webserver.response.Response;
 import com.djrapitops.plan.utilities.html.pages.AnalysisPage;
@@ -76,11 +77,18 @@ public class GenerateAnalysisPageRequest extends InfoRequestWithVariables implem
     }
 
     private String analyseAndGetHtml() throws InternalErrorException {
+        long changesAtStart = AnalysisScheduler.analysisStarted();
+        long cpuTimeAtStart = AnalysisScheduler.getCPUTime();
+        boolean finished = false;
         try {
             runningAnalysis = true;
             UUID serverUUID = ServerInfo.getServerUUID();
-            AnalysisContainer analysisContainer = new AnalysisContainer(Database.getActive().fetch().getServerContainer(serverUUID));
-            return new AnalysisPage(analysisContainer).toHtml();
+            long after = System.currentTimeMillis() - AnalysisContainer.DATA_WINDOW;
+            AnalysisContainer analysisContainer = new AnalysisContainer(Database.getActive().fetch().getServerContainer(serverUUID, after));
+            String html = new AnalysisPage(analysisContainer).toHtml();
+            AnalysisScheduler.analysisFinished(changesAtStart, AnalysisScheduler.getCPUTime() - cpuTimeAtStart);
+            finished = true;
+            return html;
         } catch (DBOpException e) {
             if (!e.getCause().getMessage().contains("Connection is closed")) {
                 Log.toLog(this.getClass(), e);
@@ -91,6 +99,9 @@ public class GenerateAnalysisPageRequest extends InfoRequestWithVariables implem
             throw new InternalErrorException("Analysis failed due to exception", e);
         } finally {
             runningAnalysis = false;
+            if (!finished) {
+                AnalysisScheduler.analysisFailed();
+            }
         }
     }
 
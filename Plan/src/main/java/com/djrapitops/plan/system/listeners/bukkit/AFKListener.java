@@ -12,9 +12,9 @@ import org.bukkit.event.player.PlayerCommandPreprocessEvent;
 import org.bukkit.event.player.PlayerEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Listener that keeps track of actions that are not considered being AFK.
@@ -32,7 +32,8 @@ public class AFKListener implements Listener {
     private final Map<UUID, Boolean> ignorePermissionInfo;
 
     public AFKListener() {
-        ignorePermissionInfo = new HashMap<>();
+        // Accessed by async chat threads
+        ignorePermissionInfo = new ConcurrentHashMap<>();
     }
 
     private void event(PlayerEvent event) {
@@ -41,12 +42,14 @@ public class AFKListener implements Listener {
             UUID uuid = player.getUniqueId();
             long time = System.currentTimeMillis();
 
-            boolean ignored = ignorePermissionInfo.getOrDefault(uuid, player.hasPermission(Permissions.IGNORE_AFK.getPermission()));
+            Boolean ignored = ignorePermissionInfo.get(uuid);
+            if (ignored == null) {
+                // Permission is checked once, not on every move event.
+                ignored = ignorePermissionInfo.computeIfAbsent(uuid,
+                        key -> player.hasPermission(Permissions.IGNORE_AFK.getPermission()));
+            }
             if (ignored) {
                 AFK_TRACKER.hasIgnorePermission(uuid);
-                ignorePermissionInfo.put(uuid, true);
-            } else {
-                ignorePermissionInfo.put(uuid, false);
             }
 
             AFK_TRACKER.performedAction(uuid, time);
@@ -17,6 +17,9 @@ import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.entity.EntityDeathEvent;
 import org.bukkit.projectiles.ProjectileSource;
 
+import java.util.Optional;
+import java.util.UUID;
+
 /**
  * Event Listener for EntityDeathEvents.
  *
@@ -36,8 +39,8 @@ public class DeathEventListener implements Listener {
         LivingEntity dead = event.getEntity();
 
         if (dead instanceof Player) {
-            // Process Death
-            Processing.submitCritical(() -> SessionCache.getCachedSession(dead.getUniqueId()).ifPresent(Session::died));
+            // Counted without locking, so there is no need to submit a task.
+            SessionCache.getCachedSession(dead.getUniqueId()).ifPresent(Session::died);
         }
 
         try {
@@ -56,20 +59,41 @@ public class DeathEventListener implements Listener {
     }
 
     private void handleKill(long time, LivingEntity dead, Entity killerEntity) {
+        if (!(dead instanceof Player)) {
+            // Mob kills are only counted, Player kills are processed to store the details.
+            getKiller(killerEntity).flatMap(SessionCache::getCachedSession).ifPresent(Session::mobKilled);
+            return;
+        }
+
+        Player deadPlayer = (Player) dead;
         KillProcessor processor = null;
         if (killerEntity instanceof Player) {
-            processor = handlePlayerKill(time, dead, (Player) killerEntity);
+            processor = handlePlayerKill(time, deadPlayer, (Player) killerEntity);
         } else if (killerEntity instanceof Tameable) {
-            processor = handlePetKill(time, dead, (Tameable) killerEntity);
+            processor = handlePetKill(time, deadPlayer, (Tameable) killerEntity);
         } else if (killerEntity instanceof Projectile) {
-            processor = handleProjectileKill(time, dead, (Projectile) killerEntity);
+            processor = handleProjectileKill(time, deadPlayer, (Projectile) killerEntity);
         }
         if (processor != null) {
             Processing.submit(processor);
         }
     }
 
-    private KillProcessor handlePlayerKill(long time, LivingEntity dead, Player killer) {
+    private Optional<UUID> getKiller(Entity killerEntity) {
+        if (killerEntity instanceof Player) {
+            return Optional.of(killerEntity.getUniqueId());
+        } else if (killerEntity instanceof Tameable) {
+            Tameable tameable = (Tameable) killerEntity;
+            AnimalTamer owner = tameable.isTamed() ? tameable.getOwner() : null;
+            return owner instanceof Player ? Optional.of(owner.getUniqueId()) : Optional.empty();
+        } else if (killerEntity instanceof Projectile) {
+            ProjectileSource source = ((Projectile) killerEntity).getShooter();
+            return source instanceof Player ? Optional.of(((Player) source).getUniqueId()) : Optional.empty();
+        }
+        return Optional.empty();
+    }
+
+    private KillProcessor handlePlayerKill(long time, Player dead, Player killer) {
         Material itemInHand;
         try {
             itemInHand = killer.getInventory().getItemInMainHand().getType();
@@ -84,7 +108,7 @@ public class DeathEventListener implements Listener {
         return new KillProcessor(killer.getUniqueId(), time, dead, Formatters.itemName().apply(itemInHand.name()));
     }
 
-    private KillProcessor handlePetKill(long time, LivingEntity dead, Tameable tameable) {
+    private KillProcessor handlePetKill(long time, Player dead, Tameable tameable) {
         if (!tameable.isTamed()) {
             return null;
         }
@@ -107,7 +131,7 @@ public class DeathEventListener implements Listener {
         );
     }
 
-    private KillProcessor handleProjectileKill(long time, LivingEntity dead, Projectile projectile) {
+    private KillProcessor handleProjectileKill(long time, Player dead, Projectile projectile) {
         ProjectileSource source = projectile.getShooter();
         if (!(source instanceof Player)) {
             return null;
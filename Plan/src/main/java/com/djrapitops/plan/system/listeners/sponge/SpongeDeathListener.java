@@ -38,8 +38,8 @@ public class SpongeDeathListener {
         Living dead = event.getTargetEntity();
 
         if (dead instanceof Player) {
-            // Process Death
-            Processing.submitCritical(() -> SessionCache.getCachedSession(dead.getUniqueId()).ifPresent(Session::died));
+            // Counted without locking, so there is no need to submit a task.
+            SessionCache.getCachedSession(dead.getUniqueId()).ifPresent(Session::died);
         }
 
         try {
@@ -55,6 +55,12 @@ public class SpongeDeathListener {
     }
 
     private void handleKill(long time, Living dead, Entity killerEntity) {
+        if (!(dead instanceof Player)) {
+            // Mob kills are only counted, Player kills are processed to store the details.
+            getKiller(killerEntity).flatMap(SessionCache::getCachedSession).ifPresent(Session::mobKilled);
+            return;
+        }
+
         SpongeKillProcessor processor = null;
         if (killerEntity instanceof Player) {
             processor = handlePlayerKill(time, dead, (Player) killerEntity);
@@ -68,27 +74,32 @@ public class SpongeDeathListener {
         }
     }
 
+    private Optional<UUID> getKiller(Entity killerEntity) {
+        if (killerEntity instanceof Player) {
+            return Optional.of(killerEntity.getUniqueId());
+        } else if (killerEntity instanceof Wolf) {
+            return ((Wolf) killerEntity).get(Keys.TAMED_OWNER).flatMap(owner -> owner);
+        } else if (killerEntity instanceof Projectile) {
+            ProjectileSource source = ((Projectile) killerEntity).getShooter();
+            return source instanceof Player ? Optional.of(((Player) source).getUniqueId()) : Optional.empty();
+        }
+        return Optional.empty();
+    }
+
     private SpongeKillProcessor handlePlayerKill(long time, Living dead, Player killer) {
 
         Optional<ItemStack> inMainHand = killer.getItemInHand(HandTypes.MAIN_HAND);
         ItemStack inHand = inMainHand.orElse(killer.getItemInHand(HandTypes.OFF_HAND).orElse(ItemStack.empty()));
         ItemType type = inHand.isEmpty() ? ItemTypes.AIR : inHand.getType();
 
-        return new SpongeKillProcessor(killer.getUniqueId(), time, getUUID(dead), Formatters.itemName().apply(type.getName()));
-    }
-
-    private UUID getUUID(Living dead) {
-        if (dead instanceof Player) {
-            return dead.getUniqueId();
-        }
-        return null;
+        return new SpongeKillProcessor(killer.getUniqueId(), time, dead.getUniqueId(), Formatters.itemName().apply(type.getName()));
     }
 
     private SpongeKillProcessor handleWolfKill(long time, Living dead, Wolf wolf) {
         Optional<Optional<UUID>> owner = wolf.get(Keys.TAMED_OWNER);
 
         return owner.map(ownerUUID -> ownerUUID.map(
-                uuid -> new SpongeKillProcessor(uuid, time, getUUID(dead), "Wolf")
+                uuid -> new SpongeKillProcessor(uuid, time, dead.getUniqueId(), "Wolf")
         ).orElse(null)).orElse(null);
 
     }
@@ -101,7 +112,7 @@ public class SpongeDeathListener {
 
         Player player = (Player) source;
 
-        return new SpongeKillProcessor(player.getUniqueId(), time, getUUID(dead),
+        return new SpongeKillProcessor(player.getUniqueId(), time, dead.getUniqueId(),
                 new Format(projectile.getType().getName()).capitalize().toString()
         );
     }
@@ -0,0 +1,372 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.processing.importing;
+
+import com.djrapitops.plan.data.container.GeoInfo;
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.container.UserInfo;
+import com.djrapitops.plan.data.store.containers.PlayerContainer;
+import com.djrapitops.plan.data.store.keys.PlayerKeys;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.data.store.objects.Nickname;
+import com.djrapitops.plan.data.time.WorldTimes;
+import com.djrapitops.plan.system.cache.GeolocationCache;
+import com.djrapitops.plan.system.database.databases.operation.SaveOperations;
+import com.djrapitops.plan.utilities.SHA256Hash;
+import com.djrapitops.plan.utilities.file.FileUtil;
+import com.djrapitops.plugin.api.utility.log.Log;
+import com.google.common.collect.ImmutableMap;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Streams {@link UserImportData} into the database in fixed size batches.
+ * <p>
+ * Records are refined and converted on the thread that reads the source while the previous batch is written by a
+ * single writer thread. At most two batches wait for the writer, so a source that is faster than the database is
+ * slowed down instead of filling the memory.
+ * <p>
+ * UUIDs of the written players are added to a checkpoint file after every batch. If the import is stopped or a
+ * batch fails, running the import again skips the players that were already written, in whatever order the source
+ * gives them. The checkpoint is removed only when {@link #finish()} has written every record.
+ * <p>
+ * UUIDs of a batch are saved to a pending file before it is written. If a batch was interrupted, data that its
+ * players already have in the database is left out when they are written again, so nothing is saved twice.
+ *
+ * @author Rsl1122
+ */
+public class ImportPipeline {
+
+    public static final int BATCH_SIZE = 1000;
+    private static final int BATCHES_IN_FLIGHT = 2;
+    private static final int LOG_EVERY_BATCHES = 10;
+
+    private final UUID serverUUID;
+    private final SaveOperations save;
+    private final Function<UUID, PlayerContainer> savedData;
+    private final UnaryOperator<List<UserImportData>> refiner;
+    private final Set<UUID> existingUUIDs;
+    private final Set<UUID> existingUserInfoUUIDs;
+    private final File checkpoint;
+    private final File pending;
+    private final int batchSize;
+
+    private final ExecutorService writer;
+    private final Semaphore batchesInFlight;
+    private final AtomicLong written;
+    private final AtomicReference<RuntimeException> failure;
+
+    private final Set<UUID> writtenUUIDs;
+    private final Set<UUID> pendingUUIDs;
+    private int batchNumber;
+    private List<UserImportData> batch;
+
+    /**
+     * Create a new pipeline.
+     *
+     * @param serverUUID            UUID of the server the data is imported to.
+     * @param save                  Database save operations.
+     * @param savedData             Data of a player in the database, used for players of an interrupted batch.
+     * @param refiner               Removes and fixes invalid records of a batch.
+     * @param existingUUIDs         UUIDs of the users already in the database, added to during the import.
+     * @param existingUserInfoUUIDs UUIDs of the users already registered on the server, added to during the import.
+     * @param checkpoint            File for the UUIDs of written players, null to not resume.
+     * @param batchSize             Amount of records written at once.
+     */
+    public ImportPipeline(
+            UUID serverUUID, SaveOperations save, Function<UUID, PlayerContainer> savedData,
+            UnaryOperator<List<UserImportData>> refiner,
+            Set<UUID> existingUUIDs, Set<UUID> existingUserInfoUUIDs,
+            File checkpoint, int batchSize
+    ) {
+        this.serverUUID = serverUUID;
+        this.save = save;
+        this.savedData = savedData;
+        this.refiner = refiner;
+        this.existingUUIDs = existingUUIDs;
+        this.existingUserInfoUUIDs = existingUserInfoUUIDs;
+        this.checkpoint = checkpoint;
+        this.pending = checkpoint != null
+                ? new File(checkpoint.getParentFile(), checkpoint.getName() + ".pending")
+                : null;
+        this.batchSize = batchSize;
+
+        writer = Executors.newSingleThreadExecutor();
+        batchesInFlight = new Semaphore(BATCHES_IN_FLIGHT);
+        written = new AtomicLong();
+        failure = new AtomicReference<>();
+
+        writtenUUIDs = readUUIDs(checkpoint);
+        pendingUUIDs = readUUIDs(pending);
+        pendingUUIDs.removeAll(writtenUUIDs);
+        if (!writtenUUIDs.isEmpty()) {
+            Log.info("Import: Resuming, skipping " + writtenUUIDs.size() + " players that were imported earlier.");
+        }
+        batch = new ArrayList<>(batchSize);
+    }
+
+    private Set<UUID> readUUIDs(File file) {
+        Set<UUID> uuids = new HashSet<>();
+        if (file == null || !file.exists()) {
+            return uuids;
+        }
+        try {
+            for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+                try {
+                    uuids.add(UUID.fromString(line.trim()));
+                } catch (IllegalArgumentException partiallyWrittenLine) {
+                    // Line of a batch that was being saved, the batch is written again.
+                }
+            }
+        } catch (IOException e) {
+            Log.warn("Import: Could not read " + file.getName() + ", importing from the start: " + e.getMessage());
+        }
+        return uuids;
+    }
+
+    /**
+     * Give a record to the pipeline, blocks while the writer is behind.
+     *
+     * @param data Record read from the source.
+     */
+    public void accept(UserImportData data) {
+        if (failure.get() != null) {
+            return;
+        }
+        batch.add(data);
+        if (batch.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        // UUIDs of some records are only known after refining.
+        List<UserImportData> refined = new ArrayList<>(refiner.apply(batch));
+        batch = new ArrayList<>(batchSize);
+        refined.removeIf(data -> writtenUUIDs.contains(data.getUuid()));
+        if (refined.isEmpty()) {
+            return;
+        }
+        Batch toWrite = new Batch(refined, ++batchNumber);
+
+        batchesInFlight.acquireUninterruptibly();
+        writer.execute(() -> {
+            try {
+                if (failure.get() == null) {
+                    write(toWrite);
+                }
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                batchesInFlight.release();
+            }
+        });
+    }
+
+    private void write(Batch batch) {
+        saveUUIDs(pending, batch.uuids, false);
+        removeSavedData(batch);
+
+        save.insertUsers(batch.users);
+        save.insertSessions(ImmutableMap.of(serverUUID, batch.sessions), true);
+        save.kickAmount(batch.timesKicked);
+        save.insertUserInfo(ImmutableMap.of(serverUUID, batch.userInfo));
+        save.insertNicknames(ImmutableMap.of(serverUUID, batch.nicknames));
+        save.insertAllGeoInfo(batch.geoInfo);
+
+        long total = written.addAndGet(batch.uuids.size());
+        saveUUIDs(checkpoint, batch.uuids, true);
+        if (batch.number % LOG_EVERY_BATCHES == 0) {
+            Log.info("Import: " + total + " players imported..");
+        }
+    }
+
+    private void removeSavedData(Batch batch) {
+        for (UUID uuid : batch.uuids) {
+            if (!pendingUUIDs.contains(uuid)) {
+                continue;
+            }
+            PlayerContainer saved = savedData.apply(uuid);
+
+            boolean hasImportedSession = saved.getValue(PlayerKeys.SESSIONS).orElse(Collections.emptyList()).stream()
+                    .anyMatch(session -> serverUUID.equals(session.getUnsafe(SessionKeys.SERVER_UUID))
+                            && session.getUnsafe(SessionKeys.START) == 0L
+                            && session.getUnsafe(SessionKeys.END) == 0L);
+            if (hasImportedSession) {
+                batch.sessions.remove(uuid);
+            }
+
+            Set<String> nicknames = saved.getValue(PlayerKeys.NICKNAMES).orElse(Collections.emptyList()).stream()
+                    .filter(nickname -> serverUUID.equals(nickname.getServerUUID()))
+                    .map(Nickname::getName)
+                    .collect(Collectors.toSet());
+            batch.nicknames.get(uuid).removeIf(nickname -> nicknames.contains(nickname.getName()));
+
+            Set<String> ipHashes = saved.getValue(PlayerKeys.GEO_INFO).orElse(Collections.emptyList()).stream()
+                    .map(GeoInfo::getIpHash)
+                    .collect(Collectors.toSet());
+            batch.geoInfo.get(uuid).removeIf(geoInfo -> ipHashes.contains(geoInfo.getIpHash()));
+        }
+    }
+
+    private void saveUUIDs(File file, List<UUID> uuids, boolean append) {
+        if (file == null) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (UUID uuid : uuids) {
+            lines.append(uuid).append('\n');
+        }
+        byte[] content = lines.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            if (append) {
+                Files.write(file.toPath(), content, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } else {
+                FileUtil.writeAtomically(file, content);
+            }
+        } catch (IOException e) {
+            Log.warn("Import: Could not save import progress to " + file.getName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write the last batch and wait for the writer to finish.
+     *
+     * @return true if every batch was written.
+     */
+    public boolean finish() {
+        flush();
+        writer.shutdown();
+        try {
+            writer.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        RuntimeException e = failure.get();
+        if (e != null) {
+            Log.error("Import: Failed after " + written.get() + " players, run the import again to continue: " + e.getMessage());
+            Log.toLog(this.getClass(), e);
+            return false;
+        }
+        removeFile(checkpoint);
+        removeFile(pending);
+        Log.info("Import: " + written.get() + " players imported.");
+        return true;
+    }
+
+    private void removeFile(File file) {
+        if (file != null && file.exists() && !file.delete()) {
+            Log.warn("Import: Could not remove " + file.getName() + ", remove it before importing again.");
+        }
+    }
+
+    /**
+     * Stop the import after the source of the records has failed.
+     * <p>
+     * Batches already given to the writer are still written. The checkpoint is kept, so running the import again
+     * continues after the last written batch.
+     *
+     * @return true if the batches given to the writer were written.
+     */
+    public boolean abort() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        Log.warn("Import: Stopped after " + written.get() + " players, run the import again to continue.");
+        return failure.get() == null;
+    }
+
+    /**
+     * @return Amount of players written to the database.
+     */
+    public long getWritten() {
+        return written.get();
+    }
+
+    private UserInfo toUserInfo(UserImportData data) {
+        return new UserInfo(data.getUuid(), data.getName(), data.getRegistered(), data.isOp(), data.isBanned());
+    }
+
+    private Session toSession(UserImportData data) {
+        Session session = new Session(0, data.getUuid(), serverUUID, 0L, 0L, data.getMobKills(), data.getDeaths(), 0);
+        session.setPlayerKills(data.getKills());
+        session.setWorldTimes(new WorldTimes(data.getWorldTimes()));
+        return session;
+    }
+
+    private List<GeoInfo> toGeoInfo(UserImportData data) {
+        long date = System.currentTimeMillis();
+        List<GeoInfo> geoInfo = new ArrayList<>();
+        for (String ip : data.getIps()) {
+            try {
+                geoInfo.add(new GeoInfo(ip, GeolocationCache.getCountry(ip), date, new SHA256Hash(ip).create()));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+        return geoInfo;
+    }
+
+    /**
+     * Records of a batch converted to the form the save operations take.
+     */
+    private class Batch {
+        private final Map<UUID, UserInfo> users = new HashMap<>();
+        private final List<UserInfo> userInfo = new ArrayList<>();
+        private final List<UUID> uuids = new ArrayList<>();
+        private final Map<UUID, List<Nickname>> nicknames = new HashMap<>();
+        private final Map<UUID, List<Session>> sessions = new HashMap<>();
+        private final Map<UUID, List<GeoInfo>> geoInfo = new HashMap<>();
+        private final Map<UUID, Integer> timesKicked = new HashMap<>();
+
+        private final int number;
+
+        private Batch(List<UserImportData> records, int number) {
+            this.number = number;
+
+            for (UserImportData data : records) {
+                UUID uuid = data.getUuid();
+                UserInfo info = toUserInfo(data);
+                uuids.add(uuid);
+
+                if (existingUUIDs.add(uuid)) {
+                    users.put(uuid, info);
+                }
+                if (existingUserInfoUUIDs.add(uuid)) {
+                    userInfo.add(info);
+                }
+
+                nicknames.put(uuid, new ArrayList<>(data.getNicknames()));
+                geoInfo.put(uuid, toGeoInfo(data));
+                timesKicked.put(uuid, data.getTimesKicked());
+                sessions.put(uuid, Collections.singletonList(toSession(data)));
+            }
+        }
+    }
+}
@@ -60,18 +60,17 @@ public class UserImportRefiner {
 
         Benchmark.start(benchmarkName);
 
-        importers.parallelStream()
-                .flatMap(importer -> importer.getWorldTimes().keySet().stream())
-                .forEach(this::checkOldWorld);
-
-        if (!worlds.containsValue(true)) {
-            return;
+        for (UserImportData importer : importers) {
+            importer.getWorldTimes().keySet().forEach(this::checkOldWorld);
         }
 
-        worlds.values().removeIf(old -> false);
+        if (worlds.containsValue(true)) {
+            worlds.values().removeIf(old -> !old);
 
-        importers.parallelStream()
-                .forEach(importer -> importer.getWorldTimes().keySet().removeAll(worlds.keySet()));
+            for (UserImportData importer : importers) {
+                importer.getWorldTimes().keySet().removeAll(worlds.keySet());
+            }
+        }
 
         Benchmark.stop(benchmarkName);
     }
@@ -92,9 +91,9 @@ public class UserImportRefiner {
 
         Benchmark.start(benchmarkName);
 
-        List<UserImportData> invalidData = new ArrayList<>();
+        Set<UserImportData> invalidData = new HashSet<>();
 
-        importers.parallelStream().forEach(importer -> {
+        for (UserImportData importer : importers) {
             String name = importer.getName();
             UUID uuid = importer.getUuid();
 
@@ -108,7 +107,7 @@ public class UserImportRefiner {
             } else if (uuidNull) {
                 uuidsMissing.put(importer, name);
             }
-        });
+        }
 
         importers.removeAll(invalidData);
 
@@ -131,13 +130,9 @@ public class UserImportRefiner {
             addMissingUUIDsOverFetcher();
         }
 
-        foundUUIDs.entrySet().parallelStream()
-                .forEach(entry -> {
-                    UserImportData userImportData = entry.getKey();
-                    UUID uuid = UUID.fromString(entry.getValue());
-
-                    userImportData.setUuid(uuid);
-                });
+        for (Map.Entry<UserImportData, String> entry : foundUUIDs.entrySet()) {
+            entry.getKey().setUuid(UUID.fromString(entry.getValue()));
+        }
 
         importers.removeAll(uuidsMissing.keySet());
 
@@ -145,6 +140,9 @@ public class UserImportRefiner {
     }
 
     private void addMissingUUIDsOverFetcher() {
+        if (uuidsMissing.isEmpty()) {
+            return;
+        }
         UUIDFetcher uuidFetcher = new UUIDFetcher(new ArrayList<>(uuidsMissing.values()));
 
         Map<String, String> result;
@@ -179,15 +177,16 @@ public class UserImportRefiner {
     private void addFoundUUIDs(Map<String, String> foundUUIDs) {
         List<UserImportData> found = new ArrayList<>();
 
-        uuidsMissing.entrySet().parallelStream().forEach((entry) -> {
+        for (Map.Entry<UserImportData, String> entry : uuidsMissing.entrySet()) {
             UserImportData importer = entry.getKey();
-            String name = entry.getValue();
-
-            String uuid = foundUUIDs.get(name);
+            String uuid = foundUUIDs.get(entry.getValue());
+            if (uuid == null) {
+                continue;
+            }
 
             this.foundUUIDs.put(importer, uuid);
             found.add(importer);
-        });
+        }
 
         uuidsMissing.keySet().removeAll(found);
     }
@@ -210,7 +209,9 @@ public class UserImportRefiner {
 
         addMissingNames();
 
-        foundNames.entrySet().parallelStream().forEach(entry -> entry.getKey().setName(entry.getValue()));
+        for (Map.Entry<UserImportData, String> entry : foundNames.entrySet()) {
+            entry.getKey().setName(entry.getValue());
+        }
 
         importers.removeAll(namesMissing.keySet());
 
@@ -220,11 +221,12 @@ public class UserImportRefiner {
     private void addMissingNames() {
         Map<String, String> result = new HashMap<>();
 
-        namesMissing.values().parallelStream().forEach(uuid -> {
+        for (String uuid : namesMissing.values()) {
             String name = getNameByOfflinePlayer(uuid);
-
-            result.put(uuid, name);
-        });
+            if (name != null) {
+                result.put(uuid, name);
+            }
+        }
 
         addFoundNames(result);
     }
@@ -232,15 +234,16 @@ public class UserImportRefiner {
     private void addFoundNames(Map<String, String> foundNames) {
         List<UserImportData> found = new ArrayList<>();
 
-        namesMissing.entrySet().parallelStream().forEach(entry -> {
+        for (Map.Entry<UserImportData, String> entry : namesMissing.entrySet()) {
             UserImportData importer = entry.getKey();
-            String uuid = entry.getValue();
-
-            String name = foundNames.get(uuid);
+            String name = foundNames.get(entry.getValue());
+            if (name == null) {
+                continue;
+            }
 
             this.foundNames.put(importer, name);
             found.add(importer);
-        });
+        }
 
         namesMissing.keySet().removeAll(found);
     }
@@ -0,0 +1,249 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.processing.importing.importers;
+
+import com.djrapitops.plan.data.store.objects.Nickname;
+import com.djrapitops.plan.system.file.FileSystem;
+import com.djrapitops.plan.system.info.server.ServerInfo;
+import com.djrapitops.plan.system.processing.importing.ServerImportData;
+import com.djrapitops.plan.system.processing.importing.UserImportData;
+import com.djrapitops.plugin.api.utility.log.Log;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Imports players from .csv and .jsonl files in the /import folder of the plugin.
+ * <p>
+ * Files are read one line at a time in alphabetical order, so the size of the files does not matter.
+ * <p>
+ * CSV files need a header line with the column names, JSON lines files have one object per line with the same names:
+ * uuid, name, registered (epoch ms), op, banned, timesKicked, mobKills, deaths, ips and nicknames.
+ * In CSV ips and nicknames are separated with ';', in JSON they are arrays.
+ * A record needs either uuid or name.
+ *
+ * @author Rsl1122
+ */
+public class FileImporter extends Importer {
+
+    @Override
+    public List<String> getNames() {
+        return Arrays.asList("file", "csv", "jsonl");
+    }
+
+    @Override
+    public ServerImportData getServerImportData() {
+        return null;
+    }
+
+    @Override
+    public List<UserImportData> getUserImportData() {
+        List<UserImportData> dataList = new ArrayList<>();
+        forEachUserImportData(dataList::add);
+        return dataList;
+    }
+
+    @Override
+    public void forEachUserImportData(Consumer<UserImportData> consumer) {
+        File folder = new File(FileSystem.getDataFolder(), "import");
+        File[] files = folder.listFiles((dir, name) -> name.endsWith(".csv") || name.endsWith(".jsonl"));
+        if (files == null || files.length == 0) {
+            Log.info("Import: No .csv or .jsonl files found in " + folder.getAbsolutePath());
+            return;
+        }
+        Arrays.sort(files);
+
+        UUID serverUUID = ServerInfo.getServerUUID();
+        for (File file : files) {
+            Log.info("Import: Reading " + file.getName());
+            try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                if (file.getName().endsWith(".csv")) {
+                    readCSV(file.getName(), reader, serverUUID, consumer);
+                } else {
+                    readJSONLines(file.getName(), reader, serverUUID, consumer);
+                }
+            } catch (IOException e) {
+                Log.toLog(this.getClass(), e);
+            }
+        }
+    }
+
+    static void readCSV(String fileName, BufferedReader reader, UUID serverUUID, Consumer<UserImportData> consumer) throws IOException {
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            return;
+        }
+        List<String> header = splitCSVLine(headerLine);
+
+        String line;
+        int lineNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            List<String> values = splitCSVLine(line);
+            Map<String, String> record = new HashMap<>();
+            for (int i = 0; i < header.size() && i < values.size(); i++) {
+                record.put(header.get(i).trim().toLowerCase(Locale.ROOT), values.get(i).trim());
+            }
+            try {
+                consumer.accept(toUserImportData(
+                        record.get("uuid"), record.get("name"), record.get("registered"),
+                        record.get("op"), record.get("banned"),
+                        record.get("timeskicked"), record.get("mobkills"), record.get("deaths"),
+                        splitList(record.get("ips")), splitList(record.get("nicknames")),
+                        serverUUID
+                ));
+            } catch (IllegalArgumentException e) {
+                Log.warn("Import: Skipped " + fileName + " line " + lineNumber + ": " + e.getMessage());
+            }
+        }
+    }
+
+    static void readJSONLines(String fileName, BufferedReader reader, UUID serverUUID, Consumer<UserImportData> consumer) throws IOException {
+        JsonParser parser = new JsonParser();
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                JsonObject json = parser.parse(line).getAsJsonObject();
+                consumer.accept(toUserImportData(
+                        getString(json, "uuid"), getString(json, "name"), getString(json, "registered"),
+                        getString(json, "op"), getString(json, "banned"),
+                        getString(json, "timesKicked"), getString(json, "mobKills"), getString(json, "deaths"),
+                        getList(json, "ips"), getList(json, "nicknames"),
+                        serverUUID
+                ));
+            } catch (RuntimeException e) {
+                // Gson throws JsonParseException and IllegalStateException for malformed lines.
+                Log.warn("Import: Skipped " + fileName + " line " + lineNumber + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static UserImportData toUserImportData(
+            String uuid, String name, String registered,
+            String op, String banned,
+            String timesKicked, String mobKills, String deaths,
+            List<String> ips, List<String> nicknames,
+            UUID serverUUID
+    ) {
+        if (isEmpty(uuid) && isEmpty(name)) {
+            throw new IllegalArgumentException("uuid or name is required");
+        }
+        UserImportData.UserImportDataBuilder builder = UserImportData.builder()
+                .name(isEmpty(name) ? null : name)
+                .registered(parseLong(registered, "registered"))
+                .op(Boolean.parseBoolean(op))
+                .banned(Boolean.parseBoolean(banned))
+                .timesKicked((int) parseLong(timesKicked, "timesKicked"))
+                .mobKills((int) parseLong(mobKills, "mobKills"))
+                .deaths((int) parseLong(deaths, "deaths"))
+                .ips(ips);
+        if (!isEmpty(uuid)) {
+            builder.uuid(uuid);
+        }
+        long now = System.currentTimeMillis();
+        List<Nickname> nicknameList = new ArrayList<>();
+        for (String nickname : nicknames) {
+            nicknameList.add(new Nickname(nickname, now, serverUUID));
+        }
+        return builder.nicknames(nicknameList).build();
+    }
+
+    private static boolean isEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+
+    private static long parseLong(String value, String field) {
+        if (isEmpty(value)) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(field + " is not a number: " + value);
+        }
+    }
+
+    private static List<String> splitList(String value) {
+        List<String> list = new ArrayList<>();
+        if (isEmpty(value)) {
+            return list;
+        }
+        for (String part : value.split(";")) {
+            if (!part.trim().isEmpty()) {
+                list.add(part.trim());
+            }
+        }
+        return list;
+    }
+
+    private static String getString(JsonObject json, String field) {
+        JsonElement element = json.get(field);
+        return element == null || element.isJsonNull() ? null : element.getAsString();
+    }
+
+    private static List<String> getList(JsonObject json, String field) {
+        List<String> list = new ArrayList<>();
+        JsonElement element = json.get(field);
+        if (element == null || !element.isJsonArray()) {
+            return list;
+        }
+        JsonArray array = element.getAsJsonArray();
+        for (JsonElement value : array) {
+            list.add(value.getAsString());
+        }
+        return list;
+    }
+
+    /**
+     * Split a CSV line, values may be quoted with " and quotes escaped as "".
+     *
+     * @param line Line of a CSV file.
+     * @return Values of the line.
+     */
+    static List<String> splitCSVLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
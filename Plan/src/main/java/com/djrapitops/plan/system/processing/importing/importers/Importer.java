@@ -6,30 +6,27 @@ package com.djrapitops.plan.system.processing.importing.importers;
 
 import com.djrapitops.plan.Plan;
 import com.djrapitops.plan.api.exceptions.database.DBException;
-import com.djrapitops.plan.data.container.GeoInfo;
-import com.djrapitops.plan.data.container.Session;
-import com.djrapitops.plan.data.container.UserInfo;
-import com.djrapitops.plan.data.store.objects.Nickname;
-import com.djrapitops.plan.data.time.WorldTimes;
-import com.djrapitops.plan.system.cache.GeolocationCache;
 import com.djrapitops.plan.system.database.databases.Database;
 import com.djrapitops.plan.system.database.databases.operation.SaveOperations;
+import com.djrapitops.plan.system.file.FileSystem;
 import com.djrapitops.plan.system.info.server.ServerInfo;
+import com.djrapitops.plan.system.processing.importing.ImportPipeline;
 import com.djrapitops.plan.system.processing.importing.ServerImportData;
 import com.djrapitops.plan.system.processing.importing.UserImportData;
 import com.djrapitops.plan.system.processing.importing.UserImportRefiner;
-import com.djrapitops.plan.utilities.SHA256Hash;
 import com.djrapitops.plugin.api.Benchmark;
 import com.djrapitops.plugin.api.utility.log.Log;
 import com.djrapitops.plugin.utilities.Verify;
 import com.google.common.collect.ImmutableMap;
 
-import java.security.NoSuchAlgorithmException;
-import java.util.*;
+import java.io.File;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 /**
  * @author Fuzzlemann
@@ -43,6 +40,23 @@ public abstract class Importer {
 
     public abstract List<UserImportData> getUserImportData();
 
+    /**
+     * Give the user data to the import one player at a time.
+     * <p>
+     * Override to read the data in a streaming fashion, by default the list of {@link #getUserImportData()} is used.
+     * A stopped import skips the players that were already written, the order of the players may change between calls.
+     *
+     * @param consumer Consumer that writes the data to the database.
+     */
+    public void forEachUserImportData(Consumer<UserImportData> consumer) {
+        List<UserImportData> userImportData = getUserImportData();
+        if (Verify.isEmpty(userImportData)) {
+            Log.debug("User Import Data null or empty, skipping");
+            return;
+        }
+        userImportData.forEach(consumer);
+    }
+
     public final void processImport() {
         String benchmarkName = "Import processing";
         String serverBenchmarkName = "Server Data processing";
@@ -119,82 +133,35 @@ public abstract class Importer {
 
     private void processUserData() {
         String benchmarkName = "Processing User Data";
-        String getDataBenchmarkName = "Getting User Data";
-        String insertDataIntoCollectionsBenchmarkName = "Insert User Data into Collections";
-        String insertDataIntoDatabaseBenchmarkName = "Insert User Data into Database";
 
         Benchmark.start(benchmarkName);
-        Benchmark.start(getDataBenchmarkName);
-
-        List<UserImportData> userImportData = getUserImportData();
-        Benchmark.stop(getDataBenchmarkName);
-
-        if (Verify.isEmpty(userImportData)) {
-            Log.debug("User Import Data null or empty, skipping");
-            return;
-        }
-
-        UserImportRefiner userImportRefiner = new UserImportRefiner(Plan.getInstance(), userImportData);
-        userImportData = userImportRefiner.refineData();
 
         UUID serverUUID = ServerInfo.getServerUUID();
         Database db = Database.getActive();
-
-        Set<UUID> existingUUIDs = db.fetch().getSavedUUIDs();
-        Set<UUID> existingUserInfoTableUUIDs = db.fetch().getSavedUUIDs(serverUUID);
-
-        Benchmark.start(insertDataIntoCollectionsBenchmarkName);
-
-        Map<UUID, UserInfo> users = new HashMap<>();
-        List<UserInfo> userInfo = new ArrayList<>();
-        Map<UUID, List<Nickname>> nickNames = new HashMap<>();
-        Map<UUID, List<Session>> sessions = new HashMap<>();
-        Map<UUID, List<GeoInfo>> geoInfo = new HashMap<>();
-        Map<UUID, Integer> timesKicked = new HashMap<>();
-
-        userImportData.parallelStream().forEach(data -> {
-            UUID uuid = data.getUuid();
-            UserInfo info = toUserInfo(data);
-
-            if (!existingUUIDs.contains(uuid)) {
-                users.put(uuid, info);
-            }
-
-            if (!existingUserInfoTableUUIDs.contains(uuid)) {
-                userInfo.add(info);
-            }
-
-            nickNames.put(uuid, data.getNicknames());
-            geoInfo.put(uuid, convertGeoInfo(data));
-            timesKicked.put(uuid, data.getTimesKicked());
-            sessions.put(uuid, Collections.singletonList(toSession(data)));
-        });
-
-        Benchmark.stop(insertDataIntoCollectionsBenchmarkName);
-
-        ExecutorService service = Executors.newCachedThreadPool();
-
-        Benchmark.start(insertDataIntoDatabaseBenchmarkName);
-
-        SaveOperations save = db.save();
-
-        save.insertUsers(users);
-        submitTo(service, () -> save.insertSessions(ImmutableMap.of(serverUUID, sessions), true));
-        submitTo(service, () -> save.kickAmount(timesKicked));
-        submitTo(service, () -> save.insertUserInfo(ImmutableMap.of(serverUUID, userInfo)));
-        submitTo(service, () -> save.insertNicknames(ImmutableMap.of(serverUUID, nickNames)));
-        submitTo(service, () -> save.insertAllGeoInfo(geoInfo));
-
-        service.shutdown();
-
+        Plan plugin = Plan.getInstance();
+
+        ImportPipeline pipeline = new ImportPipeline(
+                serverUUID, db.save(), db.fetch()::getPlayerContainer,
+                batch -> new UserImportRefiner(plugin, batch).refineData(),
+                new HashSet<>(db.fetch().getSavedUUIDs()),
+                new HashSet<>(db.fetch().getSavedUUIDs(serverUUID)),
+                new File(FileSystem.getDataFolder(), "import-" + getNames().get(0) + ".progress"),
+                ImportPipeline.BATCH_SIZE
+        );
         try {
-            service.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+            forEachUserImportData(pipeline::accept);
+        } catch (RuntimeException e) {
+            pipeline.abort();
+            Log.error("Import: Reading User Data failed, run the import again to continue: " + e.getMessage());
             Log.toLog(this.getClass(), e);
+            return;
+        }
+
+        if (!pipeline.finish()) {
+            Log.error("Import: User Data import did not complete.");
+            return;
         }
 
-        Benchmark.stop(insertDataIntoDatabaseBenchmarkName);
         Benchmark.stop(benchmarkName);
     }
 
@@ -202,42 +169,6 @@ public abstract class Importer {
         helper.submit(service);
     }
 
-    private UserInfo toUserInfo(UserImportData userImportData) {
-        UUID uuid = userImportData.getUuid();
-        String name = userImportData.getName();
-        long registered = userImportData.getRegistered();
-        boolean op = userImportData.isOp();
-        boolean banned = userImportData.isBanned();
-
-        return new UserInfo(uuid, name, registered, op, banned);
-    }
-
-    private Session toSession(UserImportData userImportData) {
-        int mobKills = userImportData.getMobKills();
-        int deaths = userImportData.getDeaths();
-
-        Session session = new Session(0, userImportData.getUuid(), ServerInfo.getServerUUID(), 0L, 0L, mobKills, deaths, 0);
-
-        session.setPlayerKills(userImportData.getKills());
-        session.setWorldTimes(new WorldTimes(userImportData.getWorldTimes()));
-
-        return session;
-    }
-
-    private List<GeoInfo> convertGeoInfo(UserImportData userImportData) {
-        long date = System.currentTimeMillis();
-
-        return userImportData.getIps().parallelStream()
-                .map(ip -> {
-                    String geoLoc = GeolocationCache.getCountry(ip);
-                    try {
-                        return new GeoInfo(ip, geoLoc, date, new SHA256Hash(ip).create());
-                    } catch (NoSuchAlgorithmException e) {
-                        throw new IllegalArgumentException(e);
-                    }
-                }).collect(Collectors.toList());
-    }
-
     private interface ImportExecutorHelper {
         void execute() throws DBException;
 
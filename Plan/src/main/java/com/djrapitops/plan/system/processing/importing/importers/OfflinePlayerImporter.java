@@ -13,6 +13,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * @author Fuzzlemann
@@ -33,11 +34,16 @@ public class OfflinePlayerImporter extends Importer {
     @Override
     public List<UserImportData> getUserImportData() {
         List<UserImportData> dataList = new ArrayList<>();
+        forEachUserImportData(dataList::add);
+        return dataList;
+    }
 
+    @Override
+    public void forEachUserImportData(Consumer<UserImportData> consumer) {
         Set<OfflinePlayer> operators = Bukkit.getOperators();
         Set<OfflinePlayer> banned = Bukkit.getBannedPlayers();
 
-        Arrays.stream(Bukkit.getOfflinePlayers()).parallel().forEach(player -> {
+        for (OfflinePlayer player : Bukkit.getOfflinePlayers()) {
             UserImportData.UserImportDataBuilder builder = UserImportData.builder();
             builder.name(player.getName())
                     .uuid(player.getUniqueId())
@@ -51,9 +57,7 @@ public class OfflinePlayerImporter extends Importer {
                 builder.banned();
             }
 
-            dataList.add(builder.build());
-        });
-
-        return dataList;
+            consumer.accept(builder.build());
+        }
     }
 }
@@ -6,6 +6,7 @@ package com.djrapitops.plan.system.processing.processors;
 
 import com.djrapitops.plan.system.database.databases.Database;
 import com.djrapitops.plan.system.processing.CriticalRunnable;
+import com.djrapitops.plan.system.tasks.server.AnalysisScheduler;
 
 /**
  * Updates Command usage amount in the database.
@@ -23,5 +24,6 @@ public class CommandProcessor implements CriticalRunnable {
     @Override
     public void run() {
         Database.getActive().save().commandUsed(command);
+        AnalysisScheduler.markChanged();
     }
 }
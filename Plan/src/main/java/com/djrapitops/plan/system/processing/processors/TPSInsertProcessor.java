@@ -8,6 +8,7 @@ import com.djrapitops.plan.data.container.TPS;
 import com.djrapitops.plan.data.container.builders.TPSBuilder;
 import com.djrapitops.plan.system.database.databases.Database;
 import com.djrapitops.plan.system.processing.CriticalRunnable;
+import com.djrapitops.plan.system.tasks.server.AnalysisScheduler;
 
 import java.util.List;
 
@@ -46,5 +47,6 @@ public class TPSInsertProcessor implements CriticalRunnable {
                 .toTPS();
 
         Database.getActive().save().insertTPSforThisServer(tps);
+        AnalysisScheduler.markTPSSaved(averageTPS);
     }
 }
@@ -5,7 +5,6 @@
 package com.djrapitops.plan.system.processing.processors.info;
 
 import com.djrapitops.plan.api.exceptions.connection.*;
-import com.djrapitops.plan.system.cache.SessionCache;
 import com.djrapitops.plan.system.info.InfoSystem;
 import com.djrapitops.plan.system.info.connection.ConnectionSystem;
 import com.djrapitops.plan.system.locale.Locale;
@@ -37,7 +36,6 @@ public class InspectCacheRequestProcessor implements Runnable {
 
     @Override
     public void run() {
-        SessionCache.refreshActiveSessionsState();
         try {
             InfoSystem.getInstance().generateAndCachePlayerPage(uuid);
             sendInspectMsg(sender, playerName);
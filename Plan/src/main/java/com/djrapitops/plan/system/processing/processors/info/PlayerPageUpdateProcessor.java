@@ -1,16 +1,25 @@
 package com.djrapitops.plan.system.processing.processors.info;
 
+import com.djrapitops.plan.api.exceptions.database.DBOpException;
+import com.djrapitops.plan.system.database.databases.Database;
 import com.djrapitops.plan.system.info.InfoSystem;
 import com.djrapitops.plan.system.info.connection.WebExceptionLogger;
 import com.djrapitops.plugin.api.Check;
 import com.djrapitops.plugin.api.TimeAmount;
+import com.djrapitops.plugin.api.utility.log.Log;
 import com.djrapitops.plugin.task.AbsRunnable;
 import com.djrapitops.plugin.task.RunnableFactory;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class PlayerPageUpdateProcessor implements Runnable {
 
+    // Players whose page is going to be generated.
+    private static final Set<UUID> scheduled = ConcurrentHashMap.newKeySet();
+
     private final UUID uuid;
 
     public PlayerPageUpdateProcessor(UUID uuid) {
@@ -20,19 +29,35 @@ public class PlayerPageUpdateProcessor implements Runnable {
     @Override
     public void run() {
         if (!InfoSystem.getInstance().getConnectionSystem().isServerAvailable() || Check.isBungeeAvailable()) {
+            scheduled.add(uuid);
             RunnableFactory.createNew("Generate Inspect page: " + uuid, new AbsRunnable() {
                 @Override
                 public void run() {
                     try {
-
+                        prefetchScheduledPlayers();
                         WebExceptionLogger.logIfOccurs(PlayerPageUpdateProcessor.class,
                                 () -> InfoSystem.getInstance().generateAndCachePlayerPage(uuid)
                         );
                     } finally {
+                        scheduled.remove(uuid);
                         cancel();
                     }
                 }
             }).runTaskLaterAsynchronously(TimeAmount.SECOND.ticks() * 5);
         }
     }
+
+    /**
+     * Players often join at the same time, so the data of everyone whose page is going to be generated is loaded
+     * together. Pages of the other players that are updated soon after use the loaded data.
+     */
+    private void prefetchScheduledPlayers() {
+        try {
+            Set<UUID> players = new HashSet<>(scheduled);
+            players.add(uuid);
+            Database.getActive().fetch().prefetchPlayerContainers(players);
+        } catch (DBOpException e) {
+            Log.toLog(PlayerPageUpdateProcessor.class, e);
+        }
+    }
 }
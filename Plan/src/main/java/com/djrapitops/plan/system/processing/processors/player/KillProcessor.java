@@ -1,20 +1,17 @@
 package com.djrapitops.plan.system.processing.processors.player;
 
 import com.djrapitops.plan.data.container.PlayerKill;
-import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.system.cache.SessionCache;
 import com.djrapitops.plan.system.processing.CriticalRunnable;
-import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 
-import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Processor Class for KillEvent information when the killer is a
  * player.
  * <p>
- * Adds PlayerKill or a Mob kill to the active Session.
+ * Adds PlayerKill to the active Session of the killer, Mob kills are counted by the listener.
  *
  * @author Rsl1122
  * @since 4.0.0
@@ -22,7 +19,7 @@ import java.util.UUID;
 public class KillProcessor implements CriticalRunnable {
 
     private final UUID uuid;
-    private final LivingEntity dead;
+    private final Player dead;
     private final String weaponName;
     private final long time;
 
@@ -31,10 +28,10 @@ public class KillProcessor implements CriticalRunnable {
      *
      * @param uuid       UUID of the killer.
      * @param time       Epoch ms the event occurred.
-     * @param dead       Dead entity (Mob or Player)
+     * @param dead       Player that was killed.
      * @param weaponName Weapon used.
      */
-    public KillProcessor(UUID uuid, long time, LivingEntity dead, String weaponName) {
+    public KillProcessor(UUID uuid, long time, Player dead, String weaponName) {
         this.uuid = uuid;
         this.time = time;
         this.dead = dead;
@@ -43,17 +40,6 @@ public class KillProcessor implements CriticalRunnable {
 
     @Override
     public void run() {
-        Optional<Session> cachedSession = SessionCache.getCachedSession(uuid);
-        if (!cachedSession.isPresent()) {
-            return;
-        }
-        Session session = cachedSession.get();
-
-        if (dead instanceof Player) {
-            Player deadPlayer = (Player) dead;
-            session.playerKilled(new PlayerKill(deadPlayer.getUniqueId(), weaponName, time));
-        } else {
-            session.mobKilled();
-        }
+        SessionCache.getCachedSession(uuid).ifPresent(session -> session.playerKilled(new PlayerKill(dead.getUniqueId(), weaponName, time)));
     }
 }
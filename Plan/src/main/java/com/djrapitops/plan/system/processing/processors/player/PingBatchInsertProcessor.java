@@ -0,0 +1,32 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.processing.processors.player;
+
+import com.djrapitops.plan.data.container.Ping;
+import com.djrapitops.plan.system.database.databases.Database;
+import com.djrapitops.plan.system.processing.CriticalRunnable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Saves the combined pings of every online player with a single batch.
+ *
+ * @author Rsl1122
+ */
+public class PingBatchInsertProcessor implements CriticalRunnable {
+
+    private final Map<UUID, List<Ping>> pings;
+
+    public PingBatchInsertProcessor(Map<UUID, List<Ping>> pings) {
+        this.pings = pings;
+    }
+
+    @Override
+    public void run() {
+        Database.getActive().save().insertPings(pings);
+    }
+}
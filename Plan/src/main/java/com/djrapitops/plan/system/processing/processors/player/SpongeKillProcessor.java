@@ -1,18 +1,16 @@
 package com.djrapitops.plan.system.processing.processors.player;
 
 import com.djrapitops.plan.data.container.PlayerKill;
-import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.system.cache.SessionCache;
 import com.djrapitops.plan.system.processing.CriticalRunnable;
 
-import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Processor Class for KillEvent information when the killer is a
  * player.
  * <p>
- * Adds PlayerKill or a Mob kill to the active Session.
+ * Adds PlayerKill to the active Session of the killer, Mob kills are counted by the listener.
  *
  * @author Rsl1122
  * @since 4.3.0
@@ -29,7 +27,7 @@ public class SpongeKillProcessor implements CriticalRunnable {
      *
      * @param uuid       UUID of the killer.
      * @param time       Epoch ms the event occurred.
-     * @param deadUUID   Dead entity (Mob or Player)
+     * @param deadUUID   UUID of the Player that was killed.
      * @param weaponName Weapon used.
      */
     public SpongeKillProcessor(UUID uuid, long time, UUID deadUUID, String weaponName) {
@@ -41,16 +39,6 @@ public class SpongeKillProcessor implements CriticalRunnable {
 
     @Override
     public void run() {
-        Optional<Session> cachedSession = SessionCache.getCachedSession(uuid);
-        if (!cachedSession.isPresent()) {
-            return;
-        }
-        Session session = cachedSession.get();
-
-        if (deadUUID != null) {
-            session.playerKilled(new PlayerKill(deadUUID, weaponName, time));
-        } else {
-            session.mobKilled();
-        }
+        SessionCache.getCachedSession(uuid).ifPresent(session -> session.playerKilled(new PlayerKill(deadUUID, weaponName, time)));
     }
 }
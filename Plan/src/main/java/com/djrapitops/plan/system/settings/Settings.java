@@ -27,12 +27,14 @@ public enum Settings {
     COMBINE_COMMAND_ALIASES("Data.Commands.CombineCommandAliases"),
     WRITE_NEW_LOCALE("Plugin.WriteNewLocaleFileOnEnable"),
     DEV_MODE("Plugin.Dev"),
+    PING_HOURLY_ROLLUPS("Data.Ping.CombineOldPingsToHours"),
     USE_SERVER_TIME("Customization.UseServerTime"),
     DISPLAY_SESSIONS_AS_TABLE("Customization.Display.SessionsAsTable"),
     APPEND_WORLD_PERC("Customization.Display.LargestWorldPercInSessionTitle"),
     ORDER_WORLD_PIE_BY_PERC("Customization.Display.OrderWorldPieByPercentage"),
     PLAYERTABLE_FOOTER("Customization.Display.PlayerTableFooter"),
     WEBSERVER_DISABLED("WebServer.DisableWebServer"),
+    WEBSERVER_VIRTUAL_THREADS("WebServer.Threads.UseVirtualThreads"),
     FORMAT_DATE_RECENT_DAYS("Customization.Formatting.Dates.RecentDays"),
     DISPLAY_PLAYER_IPS("Customization.Display.PlayerIPs"),
     DISPLAY_GAPS_IN_GRAPH_DATA("Customization.Display.GapsInGraphData"),
@@ -42,8 +44,14 @@ public enum Settings {
 
     // Integer
     WEBSERVER_PORT("WebServer.Port"),
+    WEBSERVER_BACKLOG("WebServer.Threads.Backlog"),
+    WEBSERVER_CACHED_THREADS("WebServer.Threads.CachedPageThreads"),
+    WEBSERVER_PAGE_THREADS("WebServer.Threads.PageThreads"),
+    WEBSERVER_QUEUE_SIZE("WebServer.Threads.PageQueueSize"),
     DB_PORT("Database.MySQL.Port"),
     ANALYSIS_AUTO_REFRESH("Analysis.AutoRefreshPeriod"),
+    ANALYSIS_POSTPONE_TPS("Analysis.PostponeBelowTPS"),
+    ANALYSIS_CPU_BUDGET("Analysis.CPUBudgetSeconds"),
     ACTIVE_PLAY_THRESHOLD("Analysis.Active.PlaytimeThreshold"),
     ACTIVE_LOGIN_THRESHOLD("Analysis.Active.LoginThreshold"),
     MAX_SESSIONS("Customization.Display.MaxSessions"),
@@ -54,6 +62,7 @@ public enum Settings {
     KEEP_INACTIVE_PLAYERS_DAYS("Data.KeepInactivePlayerDataForDays"),
     PING_SERVER_ENABLE_DELAY("Data.Ping.ServerEnableDelaySeconds"),
     PING_PLAYER_LOGIN_DELAY("Data.Ping.PlayerLoginDelaySeconds"),
+    DB_SLOW_QUERY_THRESHOLD("Database.SlowQueryThresholdMs"),
 
     // String
     DEBUG("Plugin.Debug"),
@@ -192,10 +201,12 @@ public enum Settings {
 
     public void setTemporaryValue(Object value) {
         this.tempValue = value;
+        SettingsSnapshot.invalidate();
     }
 
     public void set(Object value) {
         getConfig().set(getPath(), value);
+        SettingsSnapshot.invalidate();
     }
 
     private Config getConfig() {
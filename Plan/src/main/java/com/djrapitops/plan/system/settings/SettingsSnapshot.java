@@ -0,0 +1,280 @@
+package com.djrapitops.plan.system.settings;
+
+import com.djrapitops.plugin.api.TimeAmount;
+import com.djrapitops.plugin.api.utility.log.Log;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Immutable copy of the settings that are read on hot paths, like formatting, graphs and activity index.
+ * <p>
+ * {@link Settings} reads the config tree by path on every call, this is read once on config load and reload and
+ * replaced as a whole, so readers always see values of a single config.
+ * Changes to temporary values replace the snapshot on next use.
+ *
+ * @author Rsl1122
+ */
+public class SettingsSnapshot {
+
+    private static volatile SettingsSnapshot instance;
+
+    private final boolean devMode;
+    private final boolean useServerTime;
+    private final String locale;
+    private final boolean displayGapsInGraphData;
+
+    private final long activePlayThresholdMs;
+    private final int activeLoginThreshold;
+    private final long afkThresholdMs;
+    private final int tpsThresholdMedium;
+    private final int tpsThresholdHigh;
+
+    private final int maxSessions;
+    private final int maxPlayers;
+    private final int maxPlayersPlayersPage;
+
+    private final boolean formatRecentDays;
+    private final String formatRecentDaysPattern;
+    private final String formatDateFull;
+    private final String formatDateNoSeconds;
+    private final String formatDateClock;
+
+    private final String formatDecimals;
+    private final String formatYear;
+    private final String formatYears;
+    private final String formatMonth;
+    private final String formatMonths;
+    private final String formatDay;
+    private final String formatDays;
+    private final String formatHours;
+    private final String formatMinutes;
+    private final String formatSeconds;
+    private final String formatZeroSeconds;
+
+    // false if the config was not available, the snapshot is read again on next use.
+    private final boolean complete;
+
+    private SettingsSnapshot(Reader reader) {
+        devMode = reader.bool(Settings.DEV_MODE);
+        useServerTime = reader.bool(Settings.USE_SERVER_TIME);
+        locale = reader.string(Settings.LOCALE);
+        displayGapsInGraphData = reader.bool(Settings.DISPLAY_GAPS_IN_GRAPH_DATA);
+
+        activePlayThresholdMs = reader.number(Settings.ACTIVE_PLAY_THRESHOLD) * TimeAmount.MINUTE.ms();
+        activeLoginThreshold = reader.number(Settings.ACTIVE_LOGIN_THRESHOLD);
+        afkThresholdMs = reader.number(Settings.AFK_THRESHOLD_MINUTES) * TimeAmount.MINUTE.ms();
+        tpsThresholdMedium = reader.number(Settings.THEME_GRAPH_TPS_THRESHOLD_MED);
+        tpsThresholdHigh = reader.number(Settings.THEME_GRAPH_TPS_THRESHOLD_HIGH);
+
+        maxSessions = reader.number(Settings.MAX_SESSIONS);
+        maxPlayers = reader.number(Settings.MAX_PLAYERS);
+        maxPlayersPlayersPage = reader.number(Settings.MAX_PLAYERS_PLAYERS_PAGE);
+
+        formatRecentDays = reader.bool(Settings.FORMAT_DATE_RECENT_DAYS);
+        formatRecentDaysPattern = reader.string(Settings.FORMAT_DATE_RECENT_DAYS_PATTERN);
+        formatDateFull = reader.string(Settings.FORMAT_DATE_FULL);
+        formatDateNoSeconds = reader.string(Settings.FORMAT_DATE_NO_SECONDS);
+        formatDateClock = reader.string(Settings.FORMAT_DATE_CLOCK);
+
+        formatDecimals = reader.string(Settings.FORMAT_DECIMALS);
+        formatYear = reader.string(Settings.FORMAT_YEAR);
+        formatYears = reader.string(Settings.FORMAT_YEARS);
+        formatMonth = reader.string(Settings.FORMAT_MONTH);
+        formatMonths = reader.string(Settings.FORMAT_MONTHS);
+        formatDay = reader.string(Settings.FORMAT_DAY);
+        formatDays = reader.string(Settings.FORMAT_DAYS);
+        formatHours = reader.string(Settings.FORMAT_HOURS);
+        formatMinutes = reader.string(Settings.FORMAT_MINUTES);
+        formatSeconds = reader.string(Settings.FORMAT_SECONDS);
+        formatZeroSeconds = reader.string(Settings.FORMAT_ZERO_SECONDS);
+
+        complete = reader.complete;
+    }
+
+    /**
+     * Get the current snapshot.
+     *
+     * @return Snapshot of the loaded config.
+     */
+    public static SettingsSnapshot get() {
+        SettingsSnapshot snapshot = instance;
+        if (snapshot == null) {
+            snapshot = new SettingsSnapshot(new Reader());
+            if (snapshot.complete) {
+                instance = snapshot;
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Read the settings again, called when the config is loaded.
+     */
+    public static void reload() {
+        instance = null;
+        get();
+    }
+
+    static void invalidate() {
+        instance = null;
+    }
+
+    public boolean isDevMode() {
+        return devMode;
+    }
+
+    public boolean isUseServerTime() {
+        return useServerTime;
+    }
+
+    public String getLocale() {
+        return locale;
+    }
+
+    public boolean isDisplayGapsInGraphData() {
+        return displayGapsInGraphData;
+    }
+
+    public long getActivePlayThresholdMs() {
+        return activePlayThresholdMs;
+    }
+
+    public int getActiveLoginThreshold() {
+        return activeLoginThreshold;
+    }
+
+    public long getAfkThresholdMs() {
+        return afkThresholdMs;
+    }
+
+    public int getTpsThresholdMedium() {
+        return tpsThresholdMedium;
+    }
+
+    public int getTpsThresholdHigh() {
+        return tpsThresholdHigh;
+    }
+
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    public int getMaxPlayers() {
+        return maxPlayers;
+    }
+
+    public int getMaxPlayersPlayersPage() {
+        return maxPlayersPlayersPage;
+    }
+
+    public boolean isFormatRecentDays() {
+        return formatRecentDays;
+    }
+
+    public String getFormatRecentDaysPattern() {
+        return formatRecentDaysPattern;
+    }
+
+    public String getFormatDateFull() {
+        return formatDateFull;
+    }
+
+    public String getFormatDateNoSeconds() {
+        return formatDateNoSeconds;
+    }
+
+    public String getFormatDateClock() {
+        return formatDateClock;
+    }
+
+    public String getFormatDecimals() {
+        return formatDecimals;
+    }
+
+    public String getFormatYear() {
+        return formatYear;
+    }
+
+    public String getFormatYears() {
+        return formatYears;
+    }
+
+    public String getFormatMonth() {
+        return formatMonth;
+    }
+
+    public String getFormatMonths() {
+        return formatMonths;
+    }
+
+    public String getFormatDay() {
+        return formatDay;
+    }
+
+    public String getFormatDays() {
+        return formatDays;
+    }
+
+    public String getFormatHours() {
+        return formatHours;
+    }
+
+    public String getFormatMinutes() {
+        return formatMinutes;
+    }
+
+    public String getFormatSeconds() {
+        return formatSeconds;
+    }
+
+    public String getFormatZeroSeconds() {
+        return formatZeroSeconds;
+    }
+
+    /**
+     * Uses defaults for settings that can not be read because the config is not enabled, so that settings
+     * given as temporary values can be used without a config, like in tests.
+     * <p>
+     * The first setting that falls back to the default is logged, since outside tests it means that settings were
+     * read before the config was loaded.
+     */
+    private static class Reader {
+        private static final AtomicBoolean fallbackLogged = new AtomicBoolean(false);
+
+        private boolean complete = true;
+
+        private boolean bool(Settings setting) {
+            try {
+                return setting.isTrue();
+            } catch (IllegalStateException | NullPointerException | IllegalAccessError e) {
+                fallback(setting, e);
+                return false;
+            }
+        }
+
+        private int number(Settings setting) {
+            try {
+                return setting.getNumber();
+            } catch (IllegalStateException | NullPointerException | IllegalAccessError e) {
+                fallback(setting, e);
+                return 0;
+            }
+        }
+
+        private String string(Settings setting) {
+            try {
+                return setting.toString();
+            } catch (IllegalStateException | NullPointerException | IllegalAccessError e) {
+                fallback(setting, e);
+                return null;
+            }
+        }
+
+        private void fallback(Settings setting, Throwable e) {
+            complete = false;
+            if (fallbackLogged.compareAndSet(false, true)) {
+                Log.warn("Setting " + setting.getPath() + " could not be read, using a default: " + e);
+            }
+        }
+    }
+}
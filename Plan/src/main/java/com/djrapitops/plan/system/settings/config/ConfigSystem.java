@@ -9,7 +9,9 @@ import com.djrapitops.plan.system.PlanSystem;
 import com.djrapitops.plan.system.SubSystem;
 import com.djrapitops.plan.system.file.FileSystem;
 import com.djrapitops.plan.system.settings.Settings;
+import com.djrapitops.plan.system.settings.SettingsSnapshot;
 import com.djrapitops.plan.system.settings.theme.Theme;
+import com.djrapitops.plan.utilities.TimeStampFormatter;
 import com.djrapitops.plugin.api.config.Config;
 import com.djrapitops.plugin.api.utility.log.Log;
 import com.djrapitops.plugin.utilities.Verify;
@@ -51,6 +53,8 @@ public abstract class ConfigSystem implements SubSystem {
             copyDefaults();
             config.save();
             Log.setDebugMode(Settings.DEBUG.toString());
+            SettingsSnapshot.reload();
+            TimeStampFormatter.reload();
         } catch (IOException e) {
             throw new EnableException("Failed to save default config.", e);
         }
@@ -72,6 +76,8 @@ public abstract class ConfigSystem implements SubSystem {
     public void reload() {
         try {
             config.read();
+            SettingsSnapshot.reload();
+            TimeStampFormatter.reload();
         } catch (IOException e) {
             Log.toLog(ConfigSystem.class, e);
         }
@@ -37,14 +37,15 @@ public class ServerTaskSystem extends TaskSystem {
         // Analysis refresh settings
         int analysisRefreshMinutes = Settings.ANALYSIS_AUTO_REFRESH.getNumber();
         boolean analysisRefreshTaskIsEnabled = analysisRefreshMinutes > 0;
-        long analysisPeriod = analysisRefreshMinutes * TimeAmount.MINUTE.ticks();
+        // AnalysisScheduler decides if the refresh period has passed
+        long analysisCheckPeriod = TimeAmount.MINUTE.ticks();
 
         registerTask(tpsCountTimer).runTaskTimer(1000, TimeAmount.SECOND.ticks());
         registerTask(new NetworkPageRefreshTask()).runTaskTimerAsynchronously(20L, 5L * TimeAmount.MINUTE.ticks());
         bootAnalysisTask = registerTask(new BootAnalysisTask()).runTaskLaterAsynchronously(30L * TimeAmount.SECOND.ticks());
 
         if (analysisRefreshTaskIsEnabled) {
-            registerTask(new PeriodicAnalysisTask()).runTaskTimerAsynchronously(analysisPeriod, analysisPeriod);
+            registerTask(new PeriodicAnalysisTask()).runTaskTimerAsynchronously(analysisCheckPeriod, analysisCheckPeriod);
         }
         if (Settings.ANALYSIS_EXPORT.isTrue()) {
             RunnableFactory.createNew(new HtmlExport(plugin)).runTaskAsynchronously();
@@ -0,0 +1,221 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.tasks.server;
+
+import com.djrapitops.plan.system.info.InfoSystem;
+import com.djrapitops.plan.system.info.connection.WebExceptionLogger;
+import com.djrapitops.plan.system.info.server.ServerInfo;
+import com.djrapitops.plan.system.processing.Processing;
+import com.djrapitops.plan.system.settings.Settings;
+import com.djrapitops.plugin.api.TimeAmount;
+import com.djrapitops.plugin.api.utility.log.Log;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Decides when the Analysis page of this server should be generated.
+ * <p>
+ * Changes to the data (started and ended sessions, used commands) are counted, and analysis is skipped if nothing
+ * has changed since the last run. Saved TPS is not counted, since it is saved every minute even on an empty server.
+ * Periodic runs are postponed while the TPS of the last minute is below
+ * {@link Settings#ANALYSIS_POSTPONE_TPS}, at most for one refresh period. If a run takes more CPU time than
+ * {@link Settings#ANALYSIS_CPU_BUDGET}, the refresh period is doubled until a run fits the budget again.
+ *
+ * @author Rsl1122
+ */
+public class AnalysisScheduler {
+
+    private static final int MAX_BACK_OFF = 8;
+    private static final long ON_DEMAND_MIN_INTERVAL = TimeAmount.MINUTE.ms() * 5L;
+
+    // Starts at 1 so that the first analysis is not skipped.
+    private static final AtomicLong changes = new AtomicLong(1L);
+    private static final AtomicBoolean running = new AtomicBoolean(false);
+
+    private static volatile long analysedChanges = 0L;
+    private static volatile long lastRun = 0L;
+    private static volatile double recentTPS = -1.0;
+    private static volatile int backOff = 1;
+
+    private AnalysisScheduler() {
+        /* Static method class */
+    }
+
+    /**
+     * Mark that data shown on the Analysis page has changed.
+     */
+    public static void markChanged() {
+        changes.incrementAndGet();
+    }
+
+    /**
+     * Mark that a TPS row has been saved.
+     * <p>
+     * Only used for postponing analysis on low TPS, a saved TPS row does not count as a change.
+     *
+     * @param averageTPS Average TPS of the saved minute.
+     */
+    public static void markTPSSaved(double averageTPS) {
+        recentTPS = averageTPS;
+    }
+
+    public static boolean hasChanges() {
+        return changes.get() != analysedChanges;
+    }
+
+    /**
+     * Check if the periodic analysis should run now.
+     *
+     * @return true if the refresh period has passed, data has changed and TPS allows it.
+     */
+    public static boolean shouldRunPeriodic() {
+        long period = TimeAmount.MINUTE.ms() * Settings.ANALYSIS_AUTO_REFRESH.getNumber();
+        return shouldRunPeriodic(System.currentTimeMillis(), period, Settings.ANALYSIS_POSTPONE_TPS.getNumber());
+    }
+
+    static boolean shouldRunPeriodic(long now, long period, double tpsThreshold) {
+        if (running.get() || !hasChanges()) {
+            return false;
+        }
+        long sinceLastRun = now - lastRun;
+        long backedOffPeriod = period * backOff;
+        if (sinceLastRun < backedOffPeriod) {
+            return false;
+        }
+        boolean lowTPS = recentTPS >= 0 && recentTPS < tpsThreshold;
+        if (lowTPS && sinceLastRun < backedOffPeriod + period) {
+            Log.debug("Analysis postponed, TPS " + recentTPS + " is below " + tpsThreshold);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Check if a cached Analysis page should be refreshed when it is viewed.
+     *
+     * @return true if data has changed and the page has not been refreshed in a few minutes.
+     */
+    public static boolean isStale() {
+        return isStale(System.currentTimeMillis(), Settings.ANALYSIS_POSTPONE_TPS.getNumber());
+    }
+
+    static boolean isStale(long now, double tpsThreshold) {
+        boolean lowTPS = recentTPS >= 0 && recentTPS < tpsThreshold;
+        return !running.get() && !lowTPS && hasChanges() && now - lastRun >= ON_DEMAND_MIN_INTERVAL;
+    }
+
+    /**
+     * Generate the Analysis page of this server in the background if it is stale.
+     */
+    public static void refreshIfStale() {
+        if (!isStale()) {
+            return;
+        }
+        UUID serverUUID = ServerInfo.getServerUUID();
+        refresh(Processing::submitNonCritical, () -> WebExceptionLogger.logIfOccurs(AnalysisScheduler.class,
+                () -> InfoSystem.getInstance().generateAnalysisPage(serverUUID)
+        ));
+    }
+
+    /**
+     * Claim the run and submit the analysis.
+     * <p>
+     * The claim is released if the submit fails, or if the analysis did not run, for example because the page was
+     * generated on another server.
+     *
+     * @param executor Submits the task.
+     * @param analysis Generates the page.
+     */
+    static void refresh(Consumer<Runnable> executor, Runnable analysis) {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        long lastRunBefore = lastRun;
+        try {
+            executor.accept(() -> {
+                try {
+                    analysis.run();
+                } finally {
+                    if (lastRun == lastRunBefore) {
+                        running.set(false);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * Called when analysis starts.
+     *
+     * @return Value to give to {@link #analysisFinished(long, long)}.
+     */
+    public static long analysisStarted() {
+        running.set(true);
+        return changes.get();
+    }
+
+    /**
+     * Called when analysis has finished.
+     *
+     * @param changesAtStart Value returned by {@link #analysisStarted()}.
+     * @param cpuTime        CPU time the run took in nanoseconds, see {@link #getCPUTime()}.
+     */
+    public static void analysisFinished(long changesAtStart, long cpuTime) {
+        analysisFinished(changesAtStart, cpuTime, TimeUnit.SECONDS.toNanos(Settings.ANALYSIS_CPU_BUDGET.getNumber()));
+    }
+
+    static void analysisFinished(long changesAtStart, long cpuTime, long cpuBudget) {
+        analysedChanges = changesAtStart;
+        lastRun = System.currentTimeMillis();
+        if (cpuTime > cpuBudget) {
+            backOff = Math.min(backOff * 2, MAX_BACK_OFF);
+            Log.info("Analysis took " + TimeUnit.NANOSECONDS.toMillis(cpuTime) + "ms of CPU time, "
+                    + "refreshing " + backOff + "x less often.");
+        } else {
+            backOff = 1;
+        }
+        running.set(false);
+    }
+
+    public static void analysisFailed() {
+        lastRun = System.currentTimeMillis();
+        running.set(false);
+    }
+
+    /**
+     * Get the CPU time of the current thread.
+     *
+     * @return CPU time in nanoseconds, or wall clock nanoseconds if the JVM does not measure thread CPU time.
+     */
+    public static long getCPUTime() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled()) {
+            return threadMXBean.getCurrentThreadCpuTime();
+        }
+        return System.nanoTime();
+    }
+
+    static int getBackOff() {
+        return backOff;
+    }
+
+    static void reset() {
+        changes.set(1L);
+        running.set(false);
+        analysedChanges = 0L;
+        lastRun = 0L;
+        recentTPS = -1.0;
+        backOff = 1;
+    }
+}
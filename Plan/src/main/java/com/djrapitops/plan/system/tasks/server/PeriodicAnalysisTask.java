@@ -8,6 +8,12 @@ import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plugin.api.utility.log.Log;
 import com.djrapitops.plugin.task.AbsRunnable;
 
+/**
+ * Task that checks every minute if the Analysis page should be refreshed.
+ *
+ * @author Rsl1122
+ * @see AnalysisScheduler
+ */
 public class PeriodicAnalysisTask extends AbsRunnable {
 
     public PeriodicAnalysisTask() {
@@ -17,6 +23,9 @@ public class PeriodicAnalysisTask extends AbsRunnable {
     @Override
     public void run() {
         try {
+            if (!AnalysisScheduler.shouldRunPeriodic()) {
+                return;
+            }
             WebExceptionLogger.logIfOccurs(this.getClass(), () ->
                     InfoSystem.getInstance().sendRequest(new GenerateAnalysisPageRequest(ServerInfo.getServerUUID()))
             );
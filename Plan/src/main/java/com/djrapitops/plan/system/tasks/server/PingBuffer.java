@@ -0,0 +1,78 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.tasks.server;
+
+import com.djrapitops.plan.data.container.Ping;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Ping samples of a single player between inserts.
+ * <p>
+ * Samples are kept in a fixed size int ring buffer, if a flush is late the oldest samples are replaced.
+ * Thread safe, samples are added by the ping timer while the buffer can be removed by join and quit events.
+ *
+ * @author Rsl1122
+ */
+public class PingBuffer {
+
+    private final int[] values;
+    private int position;
+    private int count;
+    private long lastDate;
+
+    public PingBuffer(int capacity) {
+        values = new int[capacity];
+    }
+
+    public synchronized void add(long date, int ping) {
+        values[position] = ping;
+        position = (position + 1) % values.length;
+        if (count < values.length) {
+            count++;
+        }
+        lastDate = date;
+    }
+
+    /**
+     * Combine the samples into a single Ping and empty the buffer.
+     * <p>
+     * Min and max ignore values that are not between 0 and 4000, the average is the median of all samples.
+     *
+     * @param serverUUID UUID of the server the samples were taken on.
+     * @return Ping or null if there are no acceptable samples.
+     */
+    public synchronized Ping drain(UUID serverUUID) {
+        if (count == 0) {
+            return null;
+        }
+
+        int[] samples = Arrays.copyOf(values, count);
+        count = 0;
+        position = 0;
+
+        Arrays.sort(samples);
+        int min = -1;
+        int max = -1;
+        for (int sample : samples) {
+            if (sample > 0 && sample < 4000) {
+                if (min == -1) {
+                    min = sample;
+                }
+                max = sample;
+            }
+        }
+        if (max == -1) {
+            return null;
+        }
+
+        int half = samples.length / 2;
+        double median = samples.length % 2 == 0
+                ? (samples[half] + samples[half - 1]) / 2.0
+                : samples[half];
+        return new Ping(lastDate, serverUUID, min, max, (int) median);
+    }
+}
@@ -23,9 +23,10 @@
  */
 package com.djrapitops.plan.system.tasks.server;
 
-import com.djrapitops.plan.data.store.objects.DateObj;
+import com.djrapitops.plan.data.container.Ping;
+import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.processing.Processing;
-import com.djrapitops.plan.system.processing.processors.player.PingInsertProcessor;
+import com.djrapitops.plan.system.processing.processors.player.PingBatchInsertProcessor;
 import com.djrapitops.plan.system.settings.Settings;
 import com.djrapitops.plan.utilities.java.Reflection;
 import com.djrapitops.plugin.api.TimeAmount;
@@ -44,12 +45,16 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Task that handles player ping calculation on Bukkit based servers.
  * <p>
  * Modified PingManager from LagMonitor plugin.
  * https://github.com/games647/LagMonitor/blob/master/src/main/java/com/github/games647/lagmonitor/task/PingManager.java
+ * <p>
+ * Samples are kept in a {@link PingBuffer} per player, every 30 samples (1 minute) the pings of all players are
+ * saved with a single batch.
  *
  * @author games647
  */
@@ -58,6 +63,7 @@ public class PingCountTimer extends AbsRunnable implements Listener {
     //the server is pinging the client every 40 Ticks (2 sec) - so check it then
     //https://github.com/bergerkiller/CraftSource/blob/master/net.minecraft.server/PlayerConnection.java#L178
     public static final int PING_INTERVAL = 2 * 20;
+    private static final int SAMPLES_PER_INSERT = 30;
 
     private static final boolean pingMethodAvailable;
 
@@ -88,7 +94,8 @@ public class PingCountTimer extends AbsRunnable implements Listener {
         pingField = localPing;
     }
 
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory = new HashMap<>();
+    private final Map<UUID, PingBuffer> playerHistory = new ConcurrentHashMap<>();
+    private int samples;
 
     private static boolean isPingMethodAvailable() {
         try {
@@ -102,30 +109,46 @@ public class PingCountTimer extends AbsRunnable implements Listener {
 
     @Override
     public void run() {
-        List<UUID> loggedOut = new ArrayList<>();
         long time = System.currentTimeMillis();
+        Iterator<Map.Entry<UUID, PingBuffer>> iterator = playerHistory.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, PingBuffer> entry = iterator.next();
+            Player player = Bukkit.getPlayer(entry.getKey());
+            if (player == null) {
+                iterator.remove();
+                continue;
+            }
+            int ping = getPing(player);
+            if (ping < -1 || ping > TimeAmount.SECOND.ms() * 8L) {
+                // Don't accept bad values
+                continue;
+            }
+            entry.getValue().add(time, ping);
+        }
+
+        samples++;
+        if (samples >= SAMPLES_PER_INSERT) {
+            samples = 0;
+            insertPings();
+        }
+    }
+
+    private void insertPings() {
+        UUID serverUUID = ServerInfo.getServerUUID();
+        Map<UUID, List<Ping>> pings = new HashMap<>();
         playerHistory.forEach((uuid, history) -> {
-            Player player = Bukkit.getPlayer(uuid);
-            if (player != null) {
-                int ping = getPing(player);
-                if (ping < -1 || ping > TimeAmount.SECOND.ms() * 8L) {
-                    // Don't accept bad values
-                    return;
-                }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
-                    Processing.submit(new PingInsertProcessor(uuid, new ArrayList<>(history)));
-                    history.clear();
-                }
-            } else {
-                loggedOut.add(uuid);
+            Ping ping = history.drain(serverUUID);
+            if (ping != null) {
+                pings.put(uuid, Collections.singletonList(ping));
             }
         });
-        loggedOut.forEach(playerHistory::remove);
+        if (!pings.isEmpty()) {
+            Processing.submit(new PingBatchInsertProcessor(pings));
+        }
     }
 
     public void addPlayer(Player player) {
-        playerHistory.put(player.getUniqueId(), new ArrayList<>());
+        playerHistory.put(player.getUniqueId(), new PingBuffer(SAMPLES_PER_INSERT));
     }
 
     public void removePlayer(Player player) {
@@ -0,0 +1,219 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.webserver;
+
+import com.djrapitops.plan.system.settings.Settings;
+import com.djrapitops.plugin.api.utility.log.Log;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Threads that handle WebServer requests.
+ * <p>
+ * Requests are first handled in the cached lane, which answers static and already cached responses directly.
+ * Pages that need to be generated are passed on to the page lane, which has a limited amount of room.
+ * When the page lane is full the request is answered with 503 instead of waiting.
+ * <p>
+ * When the cached lane is full the request is handed to a single overflow thread that only answers with 503, so that
+ * the HttpServer dispatcher thread never handles requests itself. If that is full too the connection is closed.
+ * <p>
+ * The page lane can use virtual threads on Java versions that have them.
+ *
+ * @author Rsl1122
+ */
+public class RequestExecutor {
+
+    private static final ThreadLocal<Boolean> OVERFLOW = ThreadLocal.withInitial(() -> false);
+
+    private final ThreadPoolExecutor cachedLane;
+    private final ThreadPoolExecutor overflowLane;
+    private final ExecutorService pageLane;
+    private final Semaphore pageLaneRoom;
+
+    private final AtomicInteger inFlight;
+    private final AtomicInteger queued;
+    private final AtomicLong rejected;
+
+    RequestExecutor(int cachedThreads, int pageThreads, int queueSize, boolean virtualThreads) {
+        inFlight = new AtomicInteger();
+        queued = new AtomicInteger();
+        rejected = new AtomicLong();
+
+        int cachedQueueSize = Math.max(queueSize, 100);
+        // The HttpServer dispatcher closes the connection of an exchange that the overflow lane rejects.
+        overflowLane = new ThreadPoolExecutor(
+                1, 1, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(cachedQueueSize),
+                threadFactory("Plan WebServer Overflow Thread"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        overflowLane.allowCoreThreadTimeOut(true);
+        cachedLane = new ThreadPoolExecutor(
+                cachedThreads, cachedThreads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(cachedQueueSize),
+                threadFactory("Plan WebServer Thread"),
+                (task, pool) -> toOverflowLane(task)
+        );
+        cachedLane.allowCoreThreadTimeOut(true);
+
+        ExecutorService virtualThreadLane = virtualThreads ? createVirtualThreadExecutor() : null;
+        if (virtualThreadLane != null) {
+            pageLane = virtualThreadLane;
+        } else {
+            if (virtualThreads) {
+                Log.info("WebServer: Virtual threads are not available on this Java version, using " + pageThreads + " page threads.");
+            }
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                    pageThreads, pageThreads, 30, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(),
+                    threadFactory("Plan WebServer Page Thread")
+            );
+            pool.allowCoreThreadTimeOut(true);
+            pageLane = pool;
+        }
+        pageLaneRoom = new Semaphore(pageThreads + queueSize);
+    }
+
+    public static RequestExecutor fromSettings() {
+        return new RequestExecutor(
+                positiveOr(Settings.WEBSERVER_CACHED_THREADS.getNumber(), 4),
+                positiveOr(Settings.WEBSERVER_PAGE_THREADS.getNumber(), 8),
+                positiveOr(Settings.WEBSERVER_QUEUE_SIZE.getNumber(), 100),
+                Settings.WEBSERVER_VIRTUAL_THREADS.isTrue()
+        );
+    }
+
+    private static int positiveOr(int value, int defaultValue) {
+        return value > 0 ? value : defaultValue;
+    }
+
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory threadFactory(String name) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + " " + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Executor given to the HttpServer, every request starts here.
+     *
+     * @return Executor of the cached lane.
+     */
+    Executor getCachedLane() {
+        return task -> execute(cachedLane, task);
+    }
+
+    private void toOverflowLane(Runnable task) {
+        overflowLane.execute(() -> {
+            OVERFLOW.set(true);
+            try {
+                task.run();
+            } finally {
+                OVERFLOW.remove();
+            }
+        });
+    }
+
+    /**
+     * Check if the request being handled on this thread was turned away from the full cached lane.
+     * <p>
+     * Such requests should be answered with 503 right away.
+     *
+     * @return true if called on the overflow thread.
+     */
+    boolean isOverflowRequest() {
+        if (OVERFLOW.get()) {
+            rejected.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Hand a request over to the page lane.
+     *
+     * @param task Task that responds to the request.
+     * @return false if the page lane is full and the request should be answered with 503.
+     */
+    boolean submitToPageLane(Runnable task) {
+        if (!pageLaneRoom.tryAcquire()) {
+            rejected.incrementAndGet();
+            return false;
+        }
+        try {
+            execute(pageLane, () -> {
+                try {
+                    task.run();
+                } finally {
+                    pageLaneRoom.release();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            pageLaneRoom.release();
+            rejected.incrementAndGet();
+            return false;
+        }
+    }
+
+    private void execute(Executor executor, Runnable task) {
+        queued.incrementAndGet();
+        try {
+            executor.execute(() -> {
+                queued.decrementAndGet();
+                inFlight.incrementAndGet();
+                try {
+                    task.run();
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            throw e;
+        }
+    }
+
+    void shutdown() {
+        cachedLane.shutdown();
+        overflowLane.shutdown();
+        pageLane.shutdown();
+    }
+
+    /**
+     * @return Amount of requests that are being responded to.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return Amount of requests waiting for a thread.
+     */
+    public int getQueued() {
+        return queued.get();
+    }
+
+    /**
+     * @return Amount of requests answered with 503 since the WebServer was enabled.
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+}
@@ -5,11 +5,12 @@
 package com.djrapitops.plan.system.webserver;
 
 import com.djrapitops.plan.system.locale.Locale;
-import com.djrapitops.plan.system.settings.Settings;
+import com.djrapitops.plan.system.settings.SettingsSnapshot;
 import com.djrapitops.plan.system.webserver.auth.Authentication;
 import com.djrapitops.plan.system.webserver.auth.BasicAuthentication;
 import com.djrapitops.plan.system.webserver.response.PromptAuthorizationResponse;
 import com.djrapitops.plan.system.webserver.response.Response;
+import com.djrapitops.plan.system.webserver.response.errors.ServiceUnavailableResponse;
 import com.djrapitops.plugin.api.Benchmark;
 import com.djrapitops.plugin.api.utility.log.Log;
 import com.djrapitops.plugin.utilities.Verify;
@@ -27,20 +28,42 @@ import java.util.function.Supplier;
  */
 public class RequestHandler implements HttpHandler {
 
+    private static final int RETRY_AFTER_SECONDS = 5;
+
     private final Supplier<Locale> locale;
     private final ResponseHandler responseHandler;
+    private final WebServer webServer;
 
     RequestHandler(WebServer webServer) {
+        this.webServer = webServer;
         responseHandler = new ResponseHandler(webServer);
         locale = webServer.getLocaleSupplier();
     }
 
+    /**
+     * Respond to cached pages directly and hand other pages over to the page threads.
+     * <p>
+     * Requests that did not fit in the WebServer threads are answered with 503.
+     *
+     * @param exchange Request to the WebServer.
+     */
     @Override
     public void handle(HttpExchange exchange) {
-        Headers requestHeaders = exchange.getRequestHeaders();
-        Headers responseHeaders = exchange.getResponseHeaders();
         Request request = new Request(exchange, locale.get());
-        request.setAuth(getAuthorization(requestHeaders));
+        request.setAuth(getAuthorization(exchange.getRequestHeaders()));
+
+        RequestExecutor executor = webServer.getRequestExecutor();
+        if (executor != null && executor.isOverflowRequest()) {
+            respondUnavailable(exchange, request, "WebServer threads are busy");
+        } else if (executor == null || responseHandler.isCachedResponse(request)) {
+            respond(exchange, request);
+        } else if (!executor.submitToPageLane(() -> respond(exchange, request))) {
+            respondUnavailable(exchange, request, "page threads are busy");
+        }
+    }
+
+    private void respond(HttpExchange exchange, Request request) {
+        Headers responseHeaders = exchange.getResponseHeaders();
 
         String requestString = request.toString();
         Benchmark.start("", requestString);
@@ -55,18 +78,36 @@ public class RequestHandler implements HttpHandler {
             response.setResponseHeaders(responseHeaders);
             response.send(exchange, locale.get());
         } catch (Exception e) {
-            if (Settings.DEV_MODE.isTrue()) {
+            if (SettingsSnapshot.get().isDevMode()) {
                 Log.warn("THIS ERROR IS ONLY LOGGED IN DEV MODE:");
                 Log.toLog(this.getClass(), e);
             }
         } finally {
             exchange.close();
-            if (Settings.DEV_MODE.isTrue()) {
+            if (SettingsSnapshot.get().isDevMode()) {
                 Log.debug(requestString + " Response code: " + responseCode + " took " + Benchmark.stop("", requestString) + " ms");
             }
         }
     }
 
+    private void respondUnavailable(HttpExchange exchange, Request request, String reason) {
+        try {
+            Response response = new ServiceUnavailableResponse(RETRY_AFTER_SECONDS);
+            response.setResponseHeaders(exchange.getResponseHeaders());
+            response.send(exchange, locale.get());
+        } catch (Exception e) {
+            if (SettingsSnapshot.get().isDevMode()) {
+                Log.warn("THIS ERROR IS ONLY LOGGED IN DEV MODE:");
+                Log.toLog(this.getClass(), e);
+            }
+        } finally {
+            exchange.close();
+            if (SettingsSnapshot.get().isDevMode()) {
+                Log.debug(request + " Response code: 503, " + reason);
+            }
+        }
+    }
+
     private Authentication getAuthorization(Headers requestHeaders) {
         List<String> authorization = requestHeaders.get("Authorization");
         if (Verify.isEmpty(authorization)) {
@@ -7,6 +7,7 @@ package com.djrapitops.plan.system.webserver;
 import com.djrapitops.plan.api.exceptions.WebUserAuthException;
 import com.djrapitops.plan.api.exceptions.connection.*;
 import com.djrapitops.plan.system.info.connection.InfoRequestPageHandler;
+import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.locale.lang.ErrorPageLang;
 import com.djrapitops.plan.system.webserver.auth.Authentication;
 import com.djrapitops.plan.system.webserver.cache.PageId;
@@ -37,6 +38,7 @@ public class ResponseHandler extends TreePageHandler {
     public void registerDefaultPages() {
         registerPage("favicon.ico", new RedirectResponse("https://puu.sh/tK0KL/6aa2ba141b.ico"), 5);
         registerPage("debug", new DebugPageHandler());
+        registerPage("metrics", new MetricsPageHandler());
         registerPage("players", new PlayersPageHandler());
         registerPage("player", new PlayerPageHandler());
 
@@ -57,6 +59,28 @@ public class ResponseHandler extends TreePageHandler {
         registerPage("info", new InfoRequestPageHandler());
     }
 
+    /**
+     * Check if the response to a request can be given without generating a page.
+     *
+     * @param request Request to the WebServer.
+     * @return true for static files and cached server and players pages.
+     */
+    public boolean isCachedResponse(Request request) {
+        String target = request.getTarget();
+        if (target.endsWith(".css") || target.endsWith(".js") || target.equals("/favicon.ico")) {
+            return true;
+        }
+        switch (target) {
+            case "/server":
+            case "/network":
+                return ResponseCache.isCached(PageId.SERVER.of(ServerInfo.getServerUUID()));
+            case "/players":
+                return ResponseCache.isCached(PageId.PLAYERS.id());
+            default:
+                return false;
+        }
+    }
+
     public Response getResponse(Request request) {
         String targetString = request.getTarget();
         List<String> target = new ArrayList<>(Arrays.asList(targetString.split("/")));
@@ -27,9 +27,6 @@ import java.nio.file.Paths;
 import java.security.*;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 /**
@@ -47,6 +44,7 @@ public class WebServer implements SubSystem {
 
     private RequestHandler requestHandler;
     private ResponseHandler responseHandler;
+    private RequestExecutor requestExecutor;
 
     public WebServer(Supplier<Locale> locale) {
         this.locale = locale;
@@ -98,17 +96,19 @@ public class WebServer implements SubSystem {
         }
 
         try {
-            usingHttps = startHttpsServer();
+            int backlog = Settings.WEBSERVER_BACKLOG.getNumber();
+            usingHttps = startHttpsServer(backlog);
 
             Log.debug(usingHttps ? "Https Start Successful." : "Https Start Failed.");
 
             if (!usingHttps) {
                 Log.infoColor("§e" + locale.get().getString(PluginLang.WEB_SERVER_NOTIFY_HTTP_USER_AUTH));
-                server = HttpServer.create(new InetSocketAddress(Settings.WEBSERVER_IP.toString(), port), 10);
+                server = HttpServer.create(new InetSocketAddress(Settings.WEBSERVER_IP.toString(), port), backlog);
             }
             server.createContext("/", requestHandler);
 
-            server.setExecutor(new ThreadPoolExecutor(4, 8, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(100)));
+            requestExecutor = RequestExecutor.fromSettings();
+            server.setExecutor(requestExecutor.getCachedLane());
             server.start();
 
             enabled = true;
@@ -120,7 +120,7 @@ public class WebServer implements SubSystem {
         }
     }
 
-    private boolean startHttpsServer() {
+    private boolean startHttpsServer(int backlog) {
         String keyStorePath = Settings.WEBSERVER_CERTIFICATE_PATH.toString();
         if (!Paths.get(keyStorePath).isAbsolute()) {
             keyStorePath = FileSystem.getDataFolder() + File.separator + keyStorePath;
@@ -149,7 +149,7 @@ public class WebServer implements SubSystem {
             TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance("SunX509");
             trustManagerFactory.init(keystore);
 
-            server = HttpsServer.create(new InetSocketAddress(Settings.WEBSERVER_IP.toString(), port), 10);
+            server = HttpsServer.create(new InetSocketAddress(Settings.WEBSERVER_IP.toString(), port), backlog);
             SSLContext sslContext = SSLContext.getInstance("TLSv1.2");
             sslContext.init(keyManagerFactory.getKeyManagers(), null/*trustManagerFactory.getTrustManagers()*/, null);
 
@@ -202,6 +202,9 @@ public class WebServer implements SubSystem {
             Log.info(locale.get().getString(PluginLang.DISABLED_WEB_SERVER));
             server.stop(0);
         }
+        if (requestExecutor != null) {
+            requestExecutor.shutdown();
+        }
         enabled = false;
     }
 
@@ -229,6 +232,13 @@ public class WebServer implements SubSystem {
         return responseHandler;
     }
 
+    /**
+     * @return Threads handling the requests, null if the server has not been started.
+     */
+    public RequestExecutor getRequestExecutor() {
+        return requestExecutor;
+    }
+
     Supplier<Locale> getLocaleSupplier() {
         return locale;
     }
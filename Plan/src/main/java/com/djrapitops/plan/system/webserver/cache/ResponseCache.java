@@ -2,9 +2,9 @@ package com.djrapitops.plan.system.webserver.cache;
 
 import com.djrapitops.plan.system.webserver.response.Response;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 /**
@@ -13,13 +13,15 @@ import java.util.function.Supplier;
  * It caches all Responses with their matching identifiers.
  * This reduces CPU cycles and the time to wait for loading the pages.
  * This is especially useful in situations where multiple clients are accessing the server.
+ * <p>
+ * Accessed from all WebServer threads at the same time.
  *
  * @author Fuzzlemann
  * @since 3.6.0
  */
 public class ResponseCache {
 
-    private static final Map<String, Response> cache = new HashMap<>();
+    private static final Map<String, Response> cache = new ConcurrentHashMap<>();
 
     /**
      * Constructor used to hide the public constructor
@@ -49,7 +51,9 @@ public class ResponseCache {
 
         response = loader.get();
 
-        cache.put(identifier, response);
+        if (response != null) {
+            cache.put(identifier, response);
+        }
 
         return response;
     }
@@ -74,7 +78,9 @@ public class ResponseCache {
      */
     public static void cacheResponse(String identifier, Supplier<Response> loader) {
         Response response = loader.get();
-        cache.put(identifier, response);
+        if (response != null) {
+            cache.put(identifier, response);
+        }
     }
 
     /**
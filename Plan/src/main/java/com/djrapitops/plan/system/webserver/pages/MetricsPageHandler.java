@@ -0,0 +1,40 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.webserver.pages;
+
+import com.djrapitops.plan.api.exceptions.WebUserAuthException;
+import com.djrapitops.plan.data.WebUser;
+import com.djrapitops.plan.system.database.databases.Database;
+import com.djrapitops.plan.system.database.databases.sql.SQLDB;
+import com.djrapitops.plan.system.webserver.Request;
+import com.djrapitops.plan.system.webserver.WebServer;
+import com.djrapitops.plan.system.webserver.auth.Authentication;
+import com.djrapitops.plan.system.webserver.response.Response;
+import com.djrapitops.plan.system.webserver.response.pages.MetricsResponse;
+
+import java.util.List;
+
+/**
+ * PageHandler for /metrics page.
+ *
+ * @author Rsl1122
+ */
+public class MetricsPageHandler extends PageHandler {
+
+    @Override
+    public Response getResponse(Request request, List<String> target) {
+        Database database = Database.getActive();
+        return new MetricsResponse(
+                database instanceof SQLDB ? ((SQLDB) database).getProfiler() : null,
+                WebServer.getInstance().getRequestExecutor()
+        );
+    }
+
+    @Override
+    public boolean isAuthorized(Authentication auth, List<String> target) throws WebUserAuthException {
+        WebUser webUser = auth.getWebUser();
+        return webUser.getPermLevel() <= 0;
+    }
+}
@@ -9,6 +9,7 @@ import com.djrapitops.plan.api.exceptions.connection.WebException;
 import com.djrapitops.plan.system.database.databases.Database;
 import com.djrapitops.plan.system.info.InfoSystem;
 import com.djrapitops.plan.system.info.server.ServerInfo;
+import com.djrapitops.plan.system.tasks.server.AnalysisScheduler;
 import com.djrapitops.plan.system.webserver.Request;
 import com.djrapitops.plan.system.webserver.auth.Authentication;
 import com.djrapitops.plan.system.webserver.cache.PageId;
@@ -41,6 +42,10 @@ public class ServerPageHandler extends PageHandler {
         Response response = ResponseCache.loadResponse(PageId.SERVER.of(serverUUID));
 
         if (response != null) {
+            if (!Check.isBungeeAvailable() && ServerInfo.getServerUUID().equals(serverUUID)) {
+                // Stale page is shown while a new one is generated
+                AnalysisScheduler.refreshIfStale();
+            }
             return response;
         } else {
             if (Check.isBungeeAvailable() && ServerInfo.getServerUUID().equals(serverUUID)) {
@@ -1,6 +1,7 @@
 package com.djrapitops.plan.system.webserver.response;
 
 import com.djrapitops.plan.system.locale.Locale;
+import com.djrapitops.plan.system.webserver.response.pages.MetricsResponse;
 import com.sun.net.httpserver.Headers;
 import com.sun.net.httpserver.HttpExchange;
 
@@ -88,7 +89,7 @@ public abstract class Response {
         responseHeaders.set("Content-Encoding", "gzip");
         exchange.sendResponseHeaders(getCode(), 0);
 
-        String sentContent = this instanceof JavaScriptResponse
+        String sentContent = this instanceof JavaScriptResponse || this instanceof MetricsResponse
                 ? getContent()
                 : locale.replaceMatchingLanguage(getContent());
 
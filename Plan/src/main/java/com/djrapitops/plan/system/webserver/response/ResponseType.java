@@ -13,7 +13,8 @@ public enum ResponseType {
     HTML("text/html; charset=utf-8"),
     CSS("text/css"),
     JSON("application/json"),
-    JAVASCRIPT("application/javascript");
+    JAVASCRIPT("application/javascript"),
+    PLAIN_TEXT("text/plain; version=0.0.4; charset=utf-8");
 
     private final String type;
 
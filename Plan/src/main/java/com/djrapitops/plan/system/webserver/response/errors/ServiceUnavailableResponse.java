@@ -0,0 +1,34 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.webserver.response.errors;
+
+import com.djrapitops.plan.system.webserver.response.Response;
+import com.djrapitops.plan.system.webserver.response.ResponseType;
+import com.sun.net.httpserver.Headers;
+
+/**
+ * Response for requests that were turned away because the WebServer is busy.
+ * <p>
+ * Plain text so that it is cheap to send when the server is overloaded.
+ *
+ * @author Rsl1122
+ */
+public class ServiceUnavailableResponse extends Response {
+
+    private final int retryAfterSeconds;
+
+    public ServiceUnavailableResponse(int retryAfterSeconds) {
+        super(ResponseType.PLAIN_TEXT);
+        this.retryAfterSeconds = retryAfterSeconds;
+        super.setHeader("HTTP/1.1 503 Service Unavailable");
+        super.setContent("The server is busy, try again in " + retryAfterSeconds + " seconds.");
+    }
+
+    @Override
+    public void setResponseHeaders(Headers responseHeaders) {
+        super.setResponseHeaders(responseHeaders);
+        responseHeaders.set("Retry-After", Integer.toString(retryAfterSeconds));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.webserver.response.pages;
+
+import com.djrapitops.plan.system.database.databases.sql.processing.SQLProfiler;
+import com.djrapitops.plan.system.database.databases.sql.processing.StatementStatistics;
+import com.djrapitops.plan.system.webserver.RequestExecutor;
+import com.djrapitops.plan.system.webserver.response.Response;
+import com.djrapitops.plan.system.webserver.response.ResponseType;
+
+import java.util.List;
+
+/**
+ * WebServer response for /metrics, SQL statement statistics and WebServer request counts in Prometheus text format.
+ *
+ * @author Rsl1122
+ */
+public class MetricsResponse extends Response {
+
+    public MetricsResponse(SQLProfiler profiler, RequestExecutor requestExecutor) {
+        super(ResponseType.PLAIN_TEXT);
+        super.setHeader("HTTP/1.1 200 OK");
+        super.setContent(toText(profiler != null ? profiler.getStatistics() : null) + toText(requestExecutor));
+    }
+
+    static String toText(RequestExecutor requestExecutor) {
+        if (requestExecutor == null) {
+            return "";
+        }
+        return "# TYPE plan_webserver_requests_in_flight gauge\n"
+                + "plan_webserver_requests_in_flight " + requestExecutor.getInFlight() + '\n'
+                + "# TYPE plan_webserver_requests_queued gauge\n"
+                + "plan_webserver_requests_queued " + requestExecutor.getQueued() + '\n'
+                + "# TYPE plan_webserver_requests_rejected_total counter\n"
+                + "plan_webserver_requests_rejected_total " + requestExecutor.getRejected() + '\n';
+    }
+
+    static String toText(List<StatementStatistics> statistics) {
+        StringBuilder text = new StringBuilder();
+        text.append("# TYPE plan_sql_statements_total counter\n")
+                .append("# TYPE plan_sql_statement_seconds_total counter\n")
+                .append("# TYPE plan_sql_statement_rows_total counter\n")
+                .append("# TYPE plan_sql_statement_seconds summary\n")
+                .append("# TYPE plan_sql_statement_seconds_max gauge\n");
+        if (statistics == null) {
+            return text.toString();
+        }
+        for (StatementStatistics statement : statistics) {
+            String label = "{statement=\"" + escape(statement.getShape()) + "\"}";
+            String quantileLabel = "{statement=\"" + escape(statement.getShape()) + "\",quantile=\"";
+            text.append("plan_sql_statements_total").append(label).append(' ').append(statement.getCount()).append('\n')
+                    .append("plan_sql_statement_seconds_total").append(label).append(' ').append(statement.getTotalNanos() / 1e9).append('\n')
+                    .append("plan_sql_statement_rows_total").append(label).append(' ').append(statement.getRows()).append('\n')
+                    .append("plan_sql_statement_seconds").append(quantileLabel).append("0.5\"} ").append(statement.getPercentileMicros(0.5) / 1e6).append('\n')
+                    .append("plan_sql_statement_seconds").append(quantileLabel).append("0.99\"} ").append(statement.getPercentileMicros(0.99) / 1e6).append('\n')
+                    .append("plan_sql_statement_seconds_max").append(label).append(' ').append(statement.getMaxMicros() / 1e6).append('\n');
+        }
+        return text.toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
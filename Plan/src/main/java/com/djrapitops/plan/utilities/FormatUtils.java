@@ -1,16 +1,12 @@
 package com.djrapitops.plan.utilities;
 
-import com.djrapitops.plan.system.settings.Settings;
-import com.djrapitops.plugin.api.TimeAmount;
+import com.djrapitops.plan.system.settings.SettingsSnapshot;
 
 import java.net.Inet6Address;
 import java.net.InetAddress;
 import java.text.DecimalFormat;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
-import java.util.TimeZone;
 
 /**
  * @author Rsl1122
@@ -25,72 +21,23 @@ public class FormatUtils {
     }
 
     public static String formatTimeStampISO8601NoClock(long epochMs) {
-        String format = "yyyy-MM-dd";
-
-        return format(epochMs, format);
+        return TimeStampFormatter.getInstance().formatISO8601NoClock(epochMs);
     }
 
     public static String formatTimeStampDay(long epochMs) {
-        String format = "MMMMM d";
-
-        if (Settings.FORMAT_DATE_RECENT_DAYS.isTrue()) {
-            format = replaceRecentDays(epochMs, format, "MMMMM");
-        }
-
-        return format(epochMs, format);
+        return TimeStampFormatter.getInstance().formatDay(epochMs);
     }
 
     public static String formatTimeStampClock(long epochMs) {
-        String format = Settings.FORMAT_DATE_CLOCK.toString();
-
-        return format(epochMs, format);
-    }
-
-    private static String format(long epochMs, String format) {
-        boolean useServerTime = Settings.USE_SERVER_TIME.isTrue();
-        String locale = Settings.LOCALE.toString();
-        Locale usedLocale = locale.equalsIgnoreCase("default") ? Locale.ENGLISH : Locale.forLanguageTag(locale);
-        SimpleDateFormat dateFormat = new SimpleDateFormat(format, usedLocale);
-        TimeZone timeZone = useServerTime ? TimeZone.getDefault() : TimeZone.getTimeZone("GMT");
-        dateFormat.setTimeZone(timeZone);
-        return dateFormat.format(epochMs);
+        return TimeStampFormatter.getInstance().formatClock(epochMs);
     }
 
     public static String formatTimeStampSecond(long epochMs) {
-        String format = Settings.FORMAT_DATE_FULL.toString();
-
-        if (Settings.FORMAT_DATE_RECENT_DAYS.isTrue()) {
-            format = replaceRecentDays(epochMs, format);
-        }
-
-        return format(epochMs, format);
-    }
-
-    private static String replaceRecentDays(long epochMs, String format) {
-        return replaceRecentDays(epochMs, format, Settings.FORMAT_DATE_RECENT_DAYS_PATTERN.toString());
-    }
-
-    private static String replaceRecentDays(long epochMs, String format, String pattern) {
-        long now = System.currentTimeMillis();
-
-        long fromStartOfDay = now % TimeAmount.DAY.ms();
-        if (epochMs > now - fromStartOfDay) {
-            format = format.replace(pattern, "'Today'");
-        } else if (epochMs > now - TimeAmount.DAY.ms() - fromStartOfDay) {
-            format = format.replace(pattern, "'Yesterday'");
-        } else if (epochMs > now - TimeAmount.DAY.ms() * 5L) {
-            format = format.replace(pattern, "EEEE");
-        }
-        return format;
+        return TimeStampFormatter.getInstance().formatSecond(epochMs);
     }
 
     public static String formatTimeStampYear(long epochMs) {
-        String format = Settings.FORMAT_DATE_NO_SECONDS.toString();
-
-        if (Settings.FORMAT_DATE_RECENT_DAYS.isTrue()) {
-            format = replaceRecentDays(epochMs, format);
-        }
-        return format(epochMs, format);
+        return TimeStampFormatter.getInstance().formatYear(epochMs);
     }
 
     /**
@@ -110,7 +57,7 @@ public class FormatUtils {
      * @return String format of the double.
      */
     public static String cutDecimals(double d) {
-        return new DecimalFormat(Settings.FORMAT_DECIMALS.toString()).format(d);
+        return new DecimalFormat(SettingsSnapshot.get().getFormatDecimals()).format(d);
     }
 
     public static String formatIP(InetAddress address) {
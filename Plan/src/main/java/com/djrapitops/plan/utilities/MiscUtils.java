@@ -3,7 +3,7 @@ package com.djrapitops.plan.utilities;
 import com.djrapitops.plan.PlanPlugin;
 import com.djrapitops.plan.system.database.databases.Database;
 import com.djrapitops.plan.system.settings.Permissions;
-import com.djrapitops.plan.system.settings.Settings;
+import com.djrapitops.plan.system.settings.SettingsSnapshot;
 import com.djrapitops.plugin.api.TimeAmount;
 import com.djrapitops.plugin.api.utility.log.Log;
 import com.djrapitops.plugin.command.CommandUtils;
@@ -31,7 +31,7 @@ public class MiscUtils {
     }
 
     public static int getTimeZoneOffsetHours() {
-        if (Settings.USE_SERVER_TIME.isTrue()) {
+        if (SettingsSnapshot.get().isUseServerTime()) {
             return -TimeZone.getDefault().getOffset(System.currentTimeMillis()) / (int) TimeAmount.HOUR.ms();
         }
         return 0;
@@ -94,7 +94,7 @@ public class MiscUtils {
                 try {
                     c.close();
                 } catch (IOException e) {
-                    if (Settings.DEV_MODE.isTrue()) {
+                    if (SettingsSnapshot.get().isDevMode()) {
                         Log.warn("THIS ERROR IS ONLY LOGGED IN DEV MODE:");
                         Log.toLog(MiscUtils.class, e);
                     }
@@ -109,7 +109,7 @@ public class MiscUtils {
                 try {
                     c.close();
                 } catch (Exception e) {
-                    if (Settings.DEV_MODE.isTrue()) {
+                    if (SettingsSnapshot.get().isDevMode()) {
                         Log.warn("THIS ERROR IS ONLY LOGGED IN DEV MODE:");
                         Log.toLog(MiscUtils.class, e);
                     }
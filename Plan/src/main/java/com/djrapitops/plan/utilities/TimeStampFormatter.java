@@ -0,0 +1,272 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.utilities;
+
+import com.djrapitops.plan.system.settings.SettingsSnapshot;
+import com.djrapitops.plugin.api.TimeAmount;
+
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+
+/**
+ * Formats time stamps with cached, immutable {@link DateTimeFormatter}s.
+ * <p>
+ * Patterns in the config use {@link SimpleDateFormat} syntax, they are converted once per pattern.
+ * Patterns that can not be expressed as a DateTimeFormatter use a SimpleDateFormat per thread instead.
+ * <p>
+ * Settings are read from {@link SettingsSnapshot}, the instance is created again when the snapshot has been replaced,
+ * for example after the config is reloaded or a setting is changed.
+ *
+ * @author Rsl1122
+ */
+public class TimeStampFormatter {
+
+    private static volatile TimeStampFormatter instance;
+
+    private final ZoneId zone;
+    private final TimeZone timeZone;
+    private final Locale locale;
+
+    private final boolean replaceRecentDays;
+    private final String recentDaysPattern;
+    private final String fullPattern;
+    private final String noSecondsPattern;
+    private final String clockPattern;
+
+    private final Map<String, LongFunction<String>> formatters;
+    private final Map<String, RecentDays> recentDaysFormatters;
+
+    // Snapshot the instance was created from, null if created with the public constructor.
+    private final SettingsSnapshot source;
+
+    public TimeStampFormatter(
+            boolean useServerTime, String locale,
+            boolean replaceRecentDays, String recentDaysPattern,
+            String fullPattern, String noSecondsPattern, String clockPattern
+    ) {
+        this(null, useServerTime, locale, replaceRecentDays, recentDaysPattern, fullPattern, noSecondsPattern, clockPattern);
+    }
+
+    private TimeStampFormatter(
+            SettingsSnapshot source,
+            boolean useServerTime, String locale,
+            boolean replaceRecentDays, String recentDaysPattern,
+            String fullPattern, String noSecondsPattern, String clockPattern
+    ) {
+        this.source = source;
+        this.zone = useServerTime ? ZoneId.systemDefault() : ZoneId.of("GMT");
+        this.timeZone = useServerTime ? TimeZone.getDefault() : TimeZone.getTimeZone("GMT");
+        this.locale = locale.equalsIgnoreCase("default") ? Locale.ENGLISH : Locale.forLanguageTag(locale);
+        this.replaceRecentDays = replaceRecentDays;
+        this.recentDaysPattern = recentDaysPattern;
+        this.fullPattern = fullPattern;
+        this.noSecondsPattern = noSecondsPattern;
+        this.clockPattern = clockPattern;
+
+        formatters = new ConcurrentHashMap<>();
+        recentDaysFormatters = new ConcurrentHashMap<>();
+    }
+
+    public static TimeStampFormatter getInstance() {
+        SettingsSnapshot settings = SettingsSnapshot.get();
+        TimeStampFormatter formatter = instance;
+        if (formatter == null || formatter.source != settings) {
+            formatter = fromSettings(settings);
+            instance = formatter;
+        }
+        return formatter;
+    }
+
+    /**
+     * Read the date format settings again.
+     */
+    public static void reload() {
+        instance = fromSettings(SettingsSnapshot.get());
+    }
+
+    private static TimeStampFormatter fromSettings(SettingsSnapshot settings) {
+        return new TimeStampFormatter(
+                settings,
+                settings.isUseServerTime(),
+                settings.getLocale(),
+                settings.isFormatRecentDays(),
+                settings.getFormatRecentDaysPattern(),
+                settings.getFormatDateFull(),
+                settings.getFormatDateNoSeconds(),
+                settings.getFormatDateClock()
+        );
+    }
+
+    public String formatISO8601NoClock(long epochMs) {
+        return format(epochMs, "yyyy-MM-dd");
+    }
+
+    public String formatDay(long epochMs) {
+        if (replaceRecentDays) {
+            return formatRecent(epochMs, "MMMMM d", "MMMMM");
+        }
+        return format(epochMs, "MMMMM d");
+    }
+
+    public String formatClock(long epochMs) {
+        return format(epochMs, clockPattern);
+    }
+
+    public String formatSecond(long epochMs) {
+        if (replaceRecentDays) {
+            return formatRecent(epochMs, fullPattern, recentDaysPattern);
+        }
+        return format(epochMs, fullPattern);
+    }
+
+    public String formatYear(long epochMs) {
+        if (replaceRecentDays) {
+            return formatRecent(epochMs, noSecondsPattern, recentDaysPattern);
+        }
+        return format(epochMs, noSecondsPattern);
+    }
+
+    /**
+     * Format a time stamp.
+     *
+     * @param epochMs Epoch millisecond.
+     * @param pattern SimpleDateFormat pattern.
+     * @return Formatted time stamp.
+     */
+    public String format(long epochMs, String pattern) {
+        return getFormatter(pattern).apply(epochMs);
+    }
+
+    private LongFunction<String> getFormatter(String pattern) {
+        return formatters.computeIfAbsent(pattern, this::createFormatter);
+    }
+
+    private String formatRecent(long epochMs, String pattern, String replacedPattern) {
+        RecentDays recentDays = recentDaysFormatters.computeIfAbsent(
+                pattern + '\u0000' + replacedPattern,
+                key -> new RecentDays(pattern, replacedPattern)
+        );
+        return recentDays.format(epochMs);
+    }
+
+    private LongFunction<String> createFormatter(String pattern) {
+        try {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(toDateTimeFormatterPattern(pattern), locale)
+                    .withZone(zone);
+            return epochMs -> formatter.format(Instant.ofEpochMilli(epochMs));
+        } catch (IllegalArgumentException unsupportedPattern) {
+            ThreadLocal<SimpleDateFormat> dateFormat = ThreadLocal.withInitial(() -> {
+                SimpleDateFormat simpleDateFormat = new SimpleDateFormat(pattern, locale);
+                simpleDateFormat.setTimeZone(timeZone);
+                return simpleDateFormat;
+            });
+            return epochMs -> dateFormat.get().format(epochMs);
+        }
+    }
+
+    /**
+     * Convert SimpleDateFormat pattern to a DateTimeFormatter pattern with same output.
+     * <p>
+     * Text fields with 4 or more letters are full text in SimpleDateFormat, but narrow text in DateTimeFormatter
+     * with 5 letters. Characters reserved by DateTimeFormatter are quoted.
+     *
+     * @param pattern SimpleDateFormat pattern.
+     * @return DateTimeFormatter pattern.
+     * @throws IllegalArgumentException If the pattern uses letters that mean something different.
+     */
+    static String toDateTimeFormatterPattern(String pattern) {
+        StringBuilder converted = new StringBuilder();
+        int length = pattern.length();
+        int i = 0;
+        while (i < length) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                int end = pattern.indexOf('\'', i + 1);
+                if (end == -1) {
+                    throw new IllegalArgumentException("Unterminated quote in " + pattern);
+                }
+                converted.append(pattern, i, end + 1);
+                i = end + 1;
+            } else if (c == '[' || c == ']' || c == '{' || c == '}' || c == '#') {
+                converted.append('\'').append(c).append('\'');
+                i++;
+            } else if (Character.isLetter(c)) {
+                int count = 1;
+                while (i + count < length && pattern.charAt(i + count) == c) {
+                    count++;
+                }
+                appendLetters(converted, c, count);
+                i += count;
+            } else {
+                converted.append(c);
+                i++;
+            }
+        }
+        return converted.toString();
+    }
+
+    private static void appendLetters(StringBuilder converted, char letter, int count) {
+        int converting = count;
+        switch (letter) {
+            case 'M':
+            case 'L':
+            case 'E':
+            case 'G':
+                converting = Math.min(count, 4);
+                break;
+            case 'a':
+                converting = 1;
+                break;
+            case 'u':
+            case 'F':
+                throw new IllegalArgumentException("'" + letter + "' differs between SimpleDateFormat and DateTimeFormatter");
+            default:
+                break;
+        }
+        for (int i = 0; i < converting; i++) {
+            converted.append(letter);
+        }
+    }
+
+    /**
+     * Formatters of a pattern where a part is replaced with Today, Yesterday or the name of the day for recent dates.
+     */
+    private class RecentDays {
+
+        private final LongFunction<String> today;
+        private final LongFunction<String> yesterday;
+        private final LongFunction<String> dayOfWeek;
+        private final LongFunction<String> other;
+
+        RecentDays(String pattern, String replacedPattern) {
+            today = getFormatter(pattern.replace(replacedPattern, "'Today'"));
+            yesterday = getFormatter(pattern.replace(replacedPattern, "'Yesterday'"));
+            dayOfWeek = getFormatter(pattern.replace(replacedPattern, "EEEE"));
+            other = getFormatter(pattern);
+        }
+
+        String format(long epochMs) {
+            long now = System.currentTimeMillis();
+            long day = TimeAmount.DAY.ms();
+            long startOfToday = now - now % day;
+
+            if (epochMs > startOfToday) {
+                return today.apply(epochMs);
+            } else if (epochMs > startOfToday - day) {
+                return yesterday.apply(epochMs);
+            } else if (epochMs > now - day * 5L) {
+                return dayOfWeek.apply(epochMs);
+            }
+            return other.apply(epochMs);
+        }
+    }
+}
@@ -9,9 +9,11 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
+import java.nio.file.*;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -103,4 +105,33 @@ public class FileUtil {
         }
         return lines;
     }
+
+    /**
+     * Write a file so that it is replaced all at once, readers never see a partially written file.
+     * <p>
+     * Contents are written to a temporary file next to the target and moved over it.
+     *
+     * @param to      File to write.
+     * @param content Contents of the file.
+     * @throws IOException If the file can not be written.
+     */
+    public static void writeAtomically(File to, byte[] content) throws IOException {
+        Path target = to.toPath().toAbsolutePath();
+        Path temporary = Files.createTempFile(target.getParent(), to.getName(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(content);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            try {
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
 }
\ No newline at end of file
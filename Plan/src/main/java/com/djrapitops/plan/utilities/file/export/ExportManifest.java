@@ -0,0 +1,161 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.utilities.file.export;
+
+import com.djrapitops.plan.utilities.file.FileUtil;
+import com.djrapitops.plugin.api.utility.log.Log;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Content hashes of the files in an export folder.
+ * <p>
+ * Exports skip writing files with the same content as the last time, and the full export uses the export times to
+ * skip players that have not been seen since their page was exported.
+ * <p>
+ * The manifest is kept in memory for each export folder and saved to the folder at the end of a full export.
+ * If a save is missed the files are written again on the next export, which is always safe.
+ *
+ * @author Rsl1122
+ */
+public class ExportManifest {
+
+    private static final String FILE_NAME = ".export-manifest";
+    private static final Map<File, ExportManifest> MANIFESTS = new ConcurrentHashMap<>();
+
+    private final File file;
+    private final Map<String, Entry> entries;
+
+    private ExportManifest(File file) {
+        this.file = file;
+        entries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get the manifest of an export folder, loading it from the folder the first time.
+     *
+     * @param outputFolder Export folder.
+     * @return Manifest shared by every export to the folder.
+     */
+    public static ExportManifest forFolder(File outputFolder) {
+        return MANIFESTS.computeIfAbsent(outputFolder.getAbsoluteFile(), folder -> {
+            ExportManifest manifest = new ExportManifest(new File(folder, FILE_NAME));
+            manifest.load();
+            return manifest;
+        });
+    }
+
+    private void load() {
+        if (!file.exists()) {
+            return;
+        }
+        try {
+            List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+            for (String line : lines) {
+                // hash, size, export time, path
+                String[] parts = line.split("\t", 4);
+                if (parts.length != 4) {
+                    continue;
+                }
+                entries.put(parts[3], new Entry(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+            }
+        } catch (IOException | NumberFormatException e) {
+            Log.warn("Export manifest could not be read, all files will be exported again: " + e.getMessage());
+            entries.clear();
+        }
+    }
+
+    /**
+     * Save the manifest to the export folder.
+     *
+     * @throws IOException If the file can not be written.
+     */
+    public void save() throws IOException {
+        StringBuilder contents = new StringBuilder();
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            Entry value = entry.getValue();
+            contents.append(value.hash).append('\t')
+                    .append(value.size).append('\t')
+                    .append(value.exportTime).append('\t')
+                    .append(entry.getKey()).append('\n');
+        }
+        FileUtil.writeAtomically(file, contents.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Record that a file was exported and check if it needs to be written.
+     *
+     * @param exported File that is being exported.
+     * @param content  Contents of the file.
+     * @return true if the file is missing or its contents have changed since the last export.
+     */
+    public boolean update(File exported, byte[] content) {
+        String hash = hash(content);
+        Entry previous = entries.put(pathOf(exported), new Entry(hash, content.length, System.currentTimeMillis()));
+        return previous == null
+                || !previous.hash.equals(hash)
+                // Size is checked in case the file was changed after the manifest was saved.
+                || exported.length() != content.length;
+    }
+
+    /**
+     * Get the time the file was last exported.
+     *
+     * @param exported File in the export folder.
+     * @return Epoch ms or empty if the file has not been exported.
+     */
+    public Optional<Long> getExportTime(File exported) {
+        Entry entry = entries.get(pathOf(exported));
+        return entry != null ? Optional.of(entry.exportTime) : Optional.empty();
+    }
+
+    /**
+     * Forget a file so that it is written on the next export.
+     *
+     * @param exported File in the export folder.
+     */
+    public void remove(File exported) {
+        entries.remove(pathOf(exported));
+    }
+
+    private String pathOf(File exported) {
+        return file.getParentFile().toPath().relativize(exported.getAbsoluteFile().toPath()).toString();
+    }
+
+    static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(content);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit(b >> 4 & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-1.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Entry {
+        private final String hash;
+        private final long size;
+        private final long exportTime;
+
+        private Entry(String hash, long size, long exportTime) {
+            this.hash = hash;
+            this.size = size;
+            this.exportTime = exportTime;
+        }
+    }
+}
@@ -21,16 +21,21 @@ import com.djrapitops.plugin.utilities.Verify;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Class responsible for Html Export task.
+ * <p>
+ * Pages and resources are exported in parallel. Files with the same contents as on the last export are not written,
+ * and players that have not been seen since their page was exported are skipped, see {@link ExportManifest}.
  *
  * @author Rsl1122
  */
 public class HtmlExport extends SpecificExport {
 
+    private static final int EXPORT_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
     private final PlanPlugin plugin;
 
     public HtmlExport(PlanPlugin plugin) {
@@ -57,13 +62,14 @@ public class HtmlExport extends SpecificExport {
                 return;
             }
 
-            exportCss();
-            exportJs();
-            exportPlugins();
+            List<Callable<Void>> exports = new ArrayList<>();
+            addResourceExports(exports);
+            addServerPageExports(exports);
+            addPlayerPageExports(exports);
+            exportInParallel(exports);
 
-            exportAvailableServerPages();
-            exportAvailablePlayers();
             exportPlayersPage();
+            manifest.save();
         } catch (IOException | DBOpException e) {
             Log.toLog(this.getClass(), e);
         } finally {
@@ -82,40 +88,90 @@ public class HtmlExport extends SpecificExport {
                 .replace("href=\"css/", "href=\"../css/")
                 .replace("src=\"plugins/", "src=\"../plugins/")
                 .replace("src=\"js/", "src=\"../js/");
-        List<String> lines = Arrays.asList(html.split("\n"));
 
         File htmlLocation = new File(outputFolder, "players");
         Verify.isTrue(htmlLocation.exists() && htmlLocation.isDirectory() || htmlLocation.mkdirs(),
                 () -> new FileNotFoundException("Output folder could not be created at" + htmlLocation.getAbsolutePath()));
         File exportFile = new File(htmlLocation, "index.html");
-        export(exportFile, lines);
+        export(exportFile, html);
     }
 
-    private void exportAvailablePlayers() throws IOException {
-        for (Map.Entry<UUID, UserInfo> entry : Database.getActive().fetch().getUsers().entrySet()) {
-            exportAvailablePlayerPage(entry.getKey(), entry.getValue().getName());
+    private void exportInParallel(List<Callable<Void>> exports) {
+        ExecutorService executor = Executors.newFixedThreadPool(EXPORT_THREADS);
+        try {
+            for (Future<Void> export : executor.invokeAll(exports)) {
+                try {
+                    export.get();
+                } catch (ExecutionException e) {
+                    Log.toLog(this.getClass(), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
         }
     }
 
-    private void exportAvailableServerPages() throws IOException {
+    private void addPlayerPageExports(List<Callable<Void>> exports) {
+        Database database = Database.getActive();
+        Map<UUID, Long> lastSeen = database.fetch().getLastSeenForAllPlayers();
+
+        for (Map.Entry<UUID, UserInfo> entry : database.fetch().getUsers().entrySet()) {
+            UUID uuid = entry.getKey();
+            String name = entry.getValue().getName();
+
+            Optional<Long> exportTime = manifest.getExportTime(getPlayerFile(name));
+            if (exportTime.isPresent() && exportTime.get() > lastSeen.getOrDefault(uuid, 0L)) {
+                // Not seen since the page was exported
+                continue;
+            }
+            exports.add(() -> {
+                exportAvailablePlayerPage(uuid, name);
+                return null;
+            });
+        }
+    }
+
+    private void addServerPageExports(List<Callable<Void>> exports) {
         Map<UUID, String> serverNames = Database.getActive().fetch().getServerNames();
 
         for (Map.Entry<UUID, String> entry : serverNames.entrySet()) {
-            exportAvailableServerPage(entry.getKey(), entry.getValue());
+            exports.add(() -> {
+                exportAvailableServerPage(entry.getKey(), entry.getValue());
+                return null;
+            });
+        }
+    }
+
+    private void addResourceExports(List<Callable<Void>> exports) {
+        List<String> resources = new ArrayList<>();
+        resources.addAll(getCss());
+        resources.addAll(getJs());
+        resources.addAll(getPlugins());
+        for (String resource : resources) {
+            exports.add(() -> {
+                copyFromJar(resource);
+                return null;
+            });
         }
+        exports.add(() -> {
+            exportDemoJs();
+            return null;
+        });
     }
 
-    private void exportCss() {
+    private List<String> getCss() {
         String[] resources = new String[]{
                 "web/css/main.css",
                 "web/css/materialize.css",
                 "web/css/style.css",
                 "web/css/themes/all-themes.css"
         };
-        copyFromJar(resources);
+        return Arrays.asList(resources);
     }
 
-    private void exportJs() {
+    private List<String> getJs() {
         String[] resources = new String[]{
                 "web/js/admin.js",
                 "web/js/helpers.js",
@@ -138,22 +194,19 @@ public class HtmlExport extends SpecificExport {
                 "web/js/charts/sessionCalendar.js",
                 "web/js/charts/onlineActivityCalendar.js"
         };
-        copyFromJar(resources);
+        return Arrays.asList(resources);
+    }
 
-        try {
-            String demo = FileUtil.getStringFromResource("web/js/demo.js")
-                    .replace("${defaultTheme}", Theme.getValue(ThemeVal.THEME_DEFAULT));
-            List<String> lines = Arrays.asList(demo.split("\n"));
-            File outputFolder = new File(this.outputFolder, "js");
-            Verify.isTrue(outputFolder.exists() && outputFolder.isDirectory() || outputFolder.mkdirs(),
-                    () -> new FileNotFoundException("Output folder could not be created at" + outputFolder.getAbsolutePath()));
-            export(new File(outputFolder, "demo.js"), lines);
-        } catch (IOException e) {
-            Log.toLog(this.getClass(), e);
-        }
+    private void exportDemoJs() throws IOException {
+        String demo = FileUtil.getStringFromResource("web/js/demo.js")
+                .replace("${defaultTheme}", Theme.getValue(ThemeVal.THEME_DEFAULT));
+        File outputFolder = new File(this.outputFolder, "js");
+        Verify.isTrue(outputFolder.exists() && outputFolder.isDirectory() || outputFolder.mkdirs(),
+                () -> new FileNotFoundException("Output folder could not be created at" + outputFolder.getAbsolutePath()));
+        export(new File(outputFolder, "demo.js"), demo);
     }
 
-    private void exportPlugins() {
+    private List<String> getPlugins() {
         String[] resources = new String[]{
                 "web/plugins/bootstrap/css/bootstrap.css",
                 "web/plugins/node-waves/waves.css",
@@ -168,17 +221,7 @@ public class HtmlExport extends SpecificExport {
                 "web/plugins/fullcalendar/fullcalendar.min.css",
                 "web/plugins/momentjs/moment.js",
         };
-        copyFromJar(resources);
-    }
-
-    private void copyFromJar(String[] resources) {
-        for (String resource : resources) {
-            try {
-                copyFromJar(resource);
-            } catch (IOException e) {
-                Log.toLog(this.getClass(), e);
-            }
-        }
+        return Arrays.asList(resources);
     }
 
     private void copyFromJar(String resource) throws IOException {
@@ -189,12 +232,6 @@ public class HtmlExport extends SpecificExport {
         File locationFolder = to.getParentFile();
         Verify.isTrue(locationFolder.exists() && locationFolder.isDirectory() || locationFolder.mkdirs(),
                 () -> new FileNotFoundException("Output folder could not be created at" + locationFolder.getAbsolutePath()));
-        if (to.exists()) {
-            Files.delete(to.toPath());
-            if (!to.createNewFile()) {
-                return;
-            }
-        }
         export(to, lines);
     }
 }
@@ -10,16 +10,15 @@ import com.djrapitops.plan.system.settings.Settings;
 import com.djrapitops.plan.system.webserver.cache.PageId;
 import com.djrapitops.plan.system.webserver.cache.ResponseCache;
 import com.djrapitops.plan.system.webserver.response.Response;
+import com.djrapitops.plan.utilities.file.FileUtil;
 import com.djrapitops.plugin.api.Check;
 import com.djrapitops.plugin.api.utility.log.Log;
 import com.djrapitops.plugin.task.AbsRunnable;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.Charset;
-import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
-import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -32,11 +31,13 @@ public abstract class SpecificExport extends AbsRunnable {
 
     protected final File outputFolder;
     protected final boolean usingBungee;
+    protected final ExportManifest manifest;
 
     protected SpecificExport(String taskName) {
         super(taskName);
         outputFolder = getFolder();
         usingBungee = Check.isBungeeAvailable();
+        manifest = ExportManifest.forFolder(outputFolder);
     }
 
     protected File getFolder() {
@@ -59,7 +60,32 @@ public abstract class SpecificExport extends AbsRunnable {
     }
 
     protected void export(File to, List<String> lines) throws IOException {
-        Files.write(to.toPath(), lines, Charset.forName("UTF-8"));
+        export(to, String.join("\n", lines));
+    }
+
+    /**
+     * Write an exported file, unless it has the same contents as the last time.
+     *
+     * @param to      File in the export folder.
+     * @param content Contents of the file.
+     * @throws IOException If the file can not be written.
+     */
+    protected void export(File to, String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (!manifest.update(to, bytes)) {
+            return;
+        }
+        try {
+            FileUtil.writeAtomically(to, bytes);
+        } catch (IOException e) {
+            manifest.remove(to);
+            throw e;
+        }
+    }
+
+    protected File getPlayerFile(String name) {
+        File htmlLocation = new File(getPlayerFolder(), name.replace(" ", "%20").replace(".", "%2E"));
+        return new File(htmlLocation, "index.html");
     }
 
     protected File getServerFolder() {
@@ -81,13 +107,11 @@ public abstract class SpecificExport extends AbsRunnable {
         }
 
         String html = response.getContent().replace("../", "../../");
-        List<String> lines = Arrays.asList(html.split("\n"));
 
-        File htmlLocation = new File(getPlayerFolder(), name.replace(" ", "%20").replace(".", "%2E"));
-        htmlLocation.mkdirs();
-        File exportFile = new File(htmlLocation, "index.html");
+        File exportFile = getPlayerFile(name);
+        exportFile.getParentFile().mkdirs();
 
-        export(exportFile, lines);
+        export(exportFile, html);
     }
 
     protected void exportAvailableServerPage(UUID serverUUID, String serverName) throws IOException {
@@ -117,8 +141,6 @@ public abstract class SpecificExport extends AbsRunnable {
         htmlLocation.mkdirs();
         File exportFile = new File(htmlLocation, "index.html");
 
-        List<String> lines = Arrays.asList(html.split("\n"));
-
-        export(exportFile, lines);
+        export(exportFile, html);
     }
 }
@@ -83,7 +83,10 @@ public class HtmlStructure {
         String playerData = "[]";
         try {
             playerCount = db.count().getServerPlayerCount(serverUUID);
-            playerData = new OnlineActivityGraph(db.fetch().getTPSData(serverUUID)).toHighChartsSeries();
+            OnlineActivityGraph playersOnlineGraph = new OnlineActivityGraph(db.fetch().getTPSData(serverUUID));
+            // All-time data is shown in a small chart, so it is downsampled.
+            playersOnlineGraph.reducePoints(2000);
+            playerData = playersOnlineGraph.toHighChartsSeries();
         } catch (DBOpException e) {
             Log.toLog(HtmlStructure.class, e);
         }
@@ -5,9 +5,10 @@
  */
 package com.djrapitops.plan.utilities.html.graphs.line;
 
-import com.djrapitops.plan.system.settings.Settings;
+import com.djrapitops.plan.system.settings.SettingsSnapshot;
 import com.djrapitops.plan.utilities.html.graphs.HighChart;
 import com.djrapitops.plan.utilities.html.graphs.line.alg.DouglasPeuckerAlgorithm;
+import com.djrapitops.plan.utilities.html.graphs.line.alg.LargestTriangleThreeBuckets;
 import com.djrapitops.plan.utilities.html.graphs.line.alg.ReduceGapTriangles;
 import com.djrapitops.plugin.api.TimeAmount;
 
@@ -26,6 +27,7 @@ public class AbstractLineGraph implements HighChart {
     protected List<Point> points;
     protected boolean reduceGapTriangles = false;
     protected boolean reducePoints = false;
+    protected int targetPointCount = -1;
 
     public AbstractLineGraph() {
         points = new ArrayList<>();
@@ -39,18 +41,13 @@ public class AbstractLineGraph implements HighChart {
     public String toHighChartsSeries() {
         StringBuilder arrayBuilder = new StringBuilder("[");
 
-        if (reducePoints) {
-            points = DouglasPeuckerAlgorithm.reducePoints(points, 0);
-        }
-        if (reduceGapTriangles) {
-            points = ReduceGapTriangles.reduce(points);
-        }
-
-        int size = points.size();
+        List<Point> displayed = getReducedPoints();
+        int size = displayed.size();
         Long lastX = null;
-        boolean addMissingPoints = Settings.DISPLAY_GAPS_IN_GRAPH_DATA.isTrue();
+        // Almost every gap is longer than 3 minutes after downsampling, so gaps are only shown for all points.
+        boolean addMissingPoints = !isDownsampled() && SettingsSnapshot.get().isDisplayGapsInGraphData();
         for (int i = 0; i < size; i++) {
-            Point point = points.get(i);
+            Point point = displayed.get(i);
             Double y = point.getY();
             long date = (long) point.getX();
             if (addMissingPoints && lastX != null && date - lastX > TimeAmount.MINUTE.ms() * 3L) {
@@ -67,6 +64,29 @@ public class AbstractLineGraph implements HighChart {
         return arrayBuilder.toString();
     }
 
+    /**
+     * Get the points of the graph after the enabled reductions.
+     *
+     * @return List of points to display.
+     */
+    public List<Point> getReducedPoints() {
+        List<Point> reduced = points;
+        if (isDownsampled()) {
+            reduced = LargestTriangleThreeBuckets.reducePoints(reduced, targetPointCount);
+        }
+        if (reducePoints) {
+            reduced = DouglasPeuckerAlgorithm.reducePoints(reduced, 0);
+        }
+        if (reduceGapTriangles) {
+            reduced = ReduceGapTriangles.reduce(new ArrayList<>(reduced));
+        }
+        return reduced;
+    }
+
+    private boolean isDownsampled() {
+        return targetPointCount > 0 && points.size() > targetPointCount;
+    }
+
     private void addMissingPoints(StringBuilder arrayBuilder, Long lastX, long date) {
         long iterate = lastX + TimeAmount.MINUTE.ms();
         while (iterate < date) {
@@ -83,6 +103,15 @@ public class AbstractLineGraph implements HighChart {
         this.reducePoints = true;
     }
 
+    /**
+     * Downsample the graph to a target number of points with Largest-Triangle-Three-Buckets.
+     *
+     * @param targetPointCount Maximum number of points to display, at least 3.
+     */
+    public void reducePoints(int targetPointCount) {
+        this.targetPointCount = targetPointCount;
+    }
+
     public void setPoints(List<Point> points) {
         this.points = points;
     }
@@ -0,0 +1,107 @@
+package com.djrapitops.plan.utilities.html.graphs.line.alg;
+
+import com.djrapitops.plan.utilities.html.graphs.line.Point;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling algorithm for reducing very large graphs to a target point count.
+ * <p>
+ * Points are split into buckets and the point forming the largest triangle with the previously selected point and the
+ * average of the next bucket is selected from each bucket, which keeps the visual shape of the series.
+ * <p>
+ * https://skemman.is/bitstream/1946/15343/3/SS_MSthesis.pdf
+ *
+ * @author Rsl1122
+ */
+public class LargestTriangleThreeBuckets {
+
+    /**
+     * Constructor used to hide the public constructor
+     */
+    private LargestTriangleThreeBuckets() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static List<Point> reducePoints(List<Point> points, int targetCount) {
+        int size = points.size();
+        if (targetCount >= size || targetCount < 3) {
+            return points;
+        }
+
+        double[] x = new double[size];
+        double[] y = new double[size];
+        for (int i = 0; i < size; i++) {
+            Point point = points.get(i);
+            x[i] = point.getX();
+            y[i] = point.getY();
+        }
+
+        int[] selected = select(x, y, targetCount);
+
+        List<Point> results = new ArrayList<>(selected.length);
+        for (int index : selected) {
+            results.add(points.get(index));
+        }
+        return results;
+    }
+
+    /**
+     * Select points given as primitive arrays.
+     *
+     * @param x           x values of the points, in order.
+     * @param y           y values of the points.
+     * @param targetCount Number of points to select, at least 3.
+     * @return Indexes of selected points in order, all indexes if there are less points than targetCount.
+     */
+    public static int[] select(double[] x, double[] y, int targetCount) {
+        int size = x.length;
+        if (targetCount >= size || targetCount < 3) {
+            int[] all = new int[size];
+            for (int i = 0; i < size; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        int[] selected = new int[targetCount];
+        int count = 0;
+        selected[count++] = 0;
+
+        // First and last point are always selected, others are split into targetCount - 2 buckets.
+        double bucketSize = (double) (size - 2) / (targetCount - 2);
+        int previous = 0;
+        for (int bucket = 0; bucket < targetCount - 2; bucket++) {
+            int nextStart = (int) ((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) ((bucket + 2) * bucketSize) + 1, size);
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                avgX += x[i];
+                avgY += y[i];
+            }
+            int nextCount = nextEnd - nextStart;
+            avgX /= nextCount;
+            avgY /= nextCount;
+
+            int start = (int) (bucket * bucketSize) + 1;
+            int end = (int) ((bucket + 1) * bucketSize) + 1;
+            double maxArea = -1;
+            int maxIndex = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((x[previous] - avgX) * (y[i] - y[previous])
+                        - (x[previous] - x[i]) * (avgY - y[previous]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+            selected[count++] = maxIndex;
+            previous = maxIndex;
+        }
+
+        selected[count] = size - 1;
+        return selected;
+    }
+}
@@ -6,8 +6,12 @@ import com.djrapitops.plan.data.store.keys.SessionKeys;
 import com.djrapitops.plan.data.store.mutators.formatting.Formatter;
 import com.djrapitops.plan.data.store.mutators.formatting.Formatters;
 import com.djrapitops.plan.data.store.objects.DateHolder;
+import com.djrapitops.plan.system.cache.BoundedCache;
+import com.djrapitops.plan.system.cache.DataCache;
 import com.djrapitops.plan.system.cache.SessionCache;
 import com.djrapitops.plan.system.database.databases.Database;
+import com.djrapitops.plan.system.database.databases.sql.SQLDB;
+import com.djrapitops.plan.system.database.databases.sql.processing.StatementStatistics;
 import com.djrapitops.plan.system.info.connection.ConnectionLog;
 import com.djrapitops.plan.system.info.connection.ConnectionSystem;
 import com.djrapitops.plan.system.info.server.Server;
@@ -50,8 +54,9 @@ public class DebugPage implements Page {
         TabsElement.Tab errors = new TabsElement.Tab(Icon.called("exclamation-circle") + " Errors", createErrorContent());
         TabsElement.Tab debugLog = new TabsElement.Tab(Icon.called("bug") + " Debug Log", createDebugLogContent());
         TabsElement.Tab caches = new TabsElement.Tab(Icon.called("archive") + " Plan Caches", createCacheContent());
+        TabsElement.Tab sql = new TabsElement.Tab(Icon.called("database") + " SQL Statements", createSQLContent());
 
-        TabsElement tabs = new TabsElement(info, errors, debugLog, caches);
+        TabsElement tabs = new TabsElement(info, errors, debugLog, caches, sql);
 
         return preContent + tabs.toHtmlFull();
     }
@@ -60,6 +65,7 @@ public class DebugPage implements Page {
         StringBuilder content = new StringBuilder();
         appendResponseCache(content);
         appendSessionCache(content);
+        appendNameCaches(content);
         return content.toString();
     }
 
@@ -101,6 +107,64 @@ public class DebugPage implements Page {
         }
     }
 
+    private void appendNameCaches(StringBuilder content) {
+        try {
+            content.append("<pre>### Name Caches:<br><br>");
+            content.append("Cache | Size | Hits | Misses | Loads | Evictions<br>")
+                    .append("-- | -- | -- | -- | -- | --<br>");
+            for (BoundedCache<?, ?> cache : DataCache.getInstance().getNameCaches()) {
+                content.append(cache.getName()).append(" | ")
+                        .append(cache.size()).append(" | ")
+                        .append(cache.getHits()).append(" | ")
+                        .append(cache.getMisses()).append(" | ")
+                        .append(cache.getLoads()).append(" | ")
+                        .append(cache.getEvictions()).append("<br>");
+            }
+            content.append("</pre>");
+        } catch (Exception e) {
+            Log.toLog(this.getClass(), e);
+        }
+    }
+
+    private String createSQLContent() {
+        StringBuilder content = new StringBuilder();
+        appendSQLStatistics(content);
+        return content.toString();
+    }
+
+    private void appendSQLStatistics(StringBuilder content) {
+        try {
+            content.append("<pre>### SQL Statements:<br><br>");
+            Database database = Database.getActive();
+            if (!(database instanceof SQLDB)) {
+                content.append("Not an SQL Database</pre>");
+                return;
+            }
+            List<StatementStatistics> statistics = ((SQLDB) database).getProfiler().getStatistics();
+            content.append("Statement | Count | Total (ms) | p50 (ms) | p99 (ms) | Max (ms) | Rows<br>")
+                    .append("-- | -- | -- | -- | -- | -- | --<br>");
+            if (statistics.isEmpty()) {
+                content.append("Empty");
+            }
+            for (StatementStatistics statement : statistics) {
+                content.append(statement.getShape().replace("<", "&lt;").replace(">", "&gt;")).append(" | ")
+                        .append(statement.getCount()).append(" | ")
+                        .append(statement.getTotalNanos() / 1000000L).append(" | ")
+                        .append(toMillis(statement.getPercentileMicros(0.50))).append(" | ")
+                        .append(toMillis(statement.getPercentileMicros(0.99))).append(" | ")
+                        .append(toMillis(statement.getMaxMicros())).append(" | ")
+                        .append(statement.getRows()).append("<br>");
+            }
+            content.append("</pre>");
+        } catch (Exception e) {
+            Log.toLog(this.getClass(), e);
+        }
+    }
+
+    private String toMillis(long micros) {
+        return String.format(Locale.ENGLISH, "%.2f", micros / 1000.0);
+    }
+
     private String createDebugLogContent() {
         StringBuilder content = new StringBuilder();
         appendDebugLog(content);
@@ -84,7 +84,7 @@ public class InspectPage implements Page {
         replacer.put("timeZone", MiscUtils.getTimeZoneOffsetHours());
 
         boolean online = false;
-        Optional<Session> activeSession = SessionCache.getCachedSession(uuid);
+        Optional<Session> activeSession = SessionCache.getCachedSessionSnapshot(uuid);
         if (activeSession.isPresent()) {
             Session session = activeSession.get();
             session.setSessionID(Integer.MAX_VALUE);
@@ -99,7 +99,8 @@ public class AnalysisPluginsTabContentCreator {
     ) {
         Map<PluginData, AnalysisContainer> containers = new HashMap<>();
 
-        List<PluginData> sources = HookHandler.getInstance().getAdditionalDataSources();
+        HookHandler hookHandler = HookHandler.getInstance();
+        List<PluginData> sources = hookHandler.getAdditionalDataSources();
 
         sources.parallelStream().forEach(source -> {
             PlanPlugin plugin = PlanPlugin.getInstance();
@@ -108,7 +109,7 @@ public class AnalysisPluginsTabContentCreator {
                 Benchmark.start("Analysis: Source " + source.getSourcePlugin());
 
                 source.setAnalysisData(analysisContainer);
-                AnalysisContainer container = source.getServerData(uuids, new AnalysisContainer());
+                AnalysisContainer container = hookHandler.getServerData(source, uuids);
                 if (container != null && !container.isEmpty()) {
                     containers.put(source, container);
                 }
@@ -8,6 +8,7 @@ import com.djrapitops.plan.data.store.mutators.formatting.Formatters;
 import com.djrapitops.plan.data.store.objects.DateHolder;
 import com.djrapitops.plan.data.time.WorldTimes;
 import com.djrapitops.plan.system.settings.Settings;
+import com.djrapitops.plan.system.settings.SettingsSnapshot;
 import com.djrapitops.plan.system.settings.theme.Theme;
 import com.djrapitops.plan.system.settings.theme.ThemeVal;
 import com.djrapitops.plan.utilities.comparators.DateHolderRecentComparator;
@@ -47,7 +48,7 @@ public class SessionAccordion extends AbstractAccordion {
         this.playerNamesSupplier = playerNamesSupplier;
         viewScript = new StringBuilder();
 
-        maxSessions = Settings.MAX_SESSIONS.getNumber();
+        maxSessions = SettingsSnapshot.get().getMaxSessions();
         if (maxSessions <= 0) {
             maxSessions = 50;
         }
@@ -7,7 +7,7 @@ import com.djrapitops.plan.data.store.containers.DataContainer;
 import com.djrapitops.plan.data.store.keys.PlayerKeys;
 import com.djrapitops.plan.data.store.keys.SessionKeys;
 import com.djrapitops.plan.data.store.mutators.formatting.Formatters;
-import com.djrapitops.plan.system.settings.Settings;
+import com.djrapitops.plan.system.settings.SettingsSnapshot;
 import com.djrapitops.plan.utilities.html.Html;
 
 import java.util.ArrayList;
@@ -39,7 +39,7 @@ public class PlayerSessionTable extends TableContainer {
     }
 
     private void addRows() {
-        int maxSessions = Settings.MAX_SESSIONS.getNumber();
+        int maxSessions = SettingsSnapshot.get().getMaxSessions();
         if (maxSessions <= 0) {
             maxSessions = 50;
         }
@@ -9,7 +9,7 @@ import com.djrapitops.plan.data.store.mutators.ActivityIndex;
 import com.djrapitops.plan.data.store.mutators.GeoInfoMutator;
 import com.djrapitops.plan.data.store.mutators.SessionsMutator;
 import com.djrapitops.plan.data.store.mutators.formatting.Formatters;
-import com.djrapitops.plan.system.settings.Settings;
+import com.djrapitops.plan.system.settings.SettingsSnapshot;
 import com.djrapitops.plan.utilities.comparators.PlayerContainerLastPlayedComparator;
 import com.djrapitops.plan.utilities.html.Html;
 import com.djrapitops.plan.utilities.html.icon.Family;
@@ -48,11 +48,11 @@ public class PlayersTable extends TableContainer {
     }
 
     public static PlayersTable forServerPage(List<PlayerContainer> players) {
-        return new PlayersTable(players, Settings.MAX_PLAYERS.getNumber());
+        return new PlayersTable(players, SettingsSnapshot.get().getMaxPlayers());
     }
 
     public static PlayersTable forPlayersPage(List<PlayerContainer> players) {
-        return new PlayersTable(players, Settings.MAX_PLAYERS_PLAYERS_PAGE.getNumber());
+        return new PlayersTable(players, SettingsSnapshot.get().getMaxPlayersPlayersPage());
     }
 
     private void addRows() {
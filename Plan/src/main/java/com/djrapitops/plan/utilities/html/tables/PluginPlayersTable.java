@@ -6,7 +6,7 @@ import com.djrapitops.plan.data.element.TableContainer;
 import com.djrapitops.plan.data.plugin.PluginData;
 import com.djrapitops.plan.data.store.containers.PlayerContainer;
 import com.djrapitops.plan.data.store.keys.PlayerKeys;
-import com.djrapitops.plan.system.settings.Settings;
+import com.djrapitops.plan.system.settings.SettingsSnapshot;
 import com.djrapitops.plan.utilities.FormatUtils;
 import com.djrapitops.plan.utilities.html.Html;
 import org.apache.commons.lang3.ArrayUtils;
@@ -61,7 +61,7 @@ public class PluginPlayersTable extends TableContainer {
 
     private void addValues(Map<UUID, String[]> rows) {
         int i = 0;
-        int maxPlayers = Settings.MAX_PLAYERS.getNumber();
+        int maxPlayers = SettingsSnapshot.get().getMaxPlayers();
         if (maxPlayers <= 0) {
             maxPlayers = 2000;
         }
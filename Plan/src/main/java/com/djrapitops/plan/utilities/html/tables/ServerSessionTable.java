@@ -5,7 +5,7 @@ import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.element.TableContainer;
 import com.djrapitops.plan.data.store.keys.SessionKeys;
 import com.djrapitops.plan.data.store.mutators.formatting.Formatters;
-import com.djrapitops.plan.system.settings.Settings;
+import com.djrapitops.plan.system.settings.SettingsSnapshot;
 import com.djrapitops.plan.utilities.html.Html;
 
 import java.util.List;
@@ -31,7 +31,7 @@ public class ServerSessionTable extends TableContainer {
     }
 
     private void addRows() {
-        int maxSessions = Settings.MAX_SESSIONS.getNumber();
+        int maxSessions = SettingsSnapshot.get().getMaxSessions();
         if (maxSessions <= 0) {
             maxSessions = 50;
         }
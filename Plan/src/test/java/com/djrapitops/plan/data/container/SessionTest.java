@@ -7,6 +7,9 @@ import utilities.TestConstants;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.*;
 
@@ -82,4 +85,48 @@ public class SessionTest {
 
         assertEquals(5L, worldTimes.getGMTimes("One").getTotal());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void snapshotContainsTimeInCurrentWorld() {
+        long time = System.currentTimeMillis();
+        Session session = new Session(null, time, "One", "Survival");
+
+        Session snapshot = session.snapshot(time + 5L);
+
+        assertEquals(5L, snapshot.getUnsafe(SessionKeys.WORLD_TIMES).getWorldPlaytime("One"));
+        assertEquals(0L, session.getUnsafe(SessionKeys.WORLD_TIMES).getWorldPlaytime("One"));
+    }
+
+    @Test
+    public void snapshotIsNotChangedBySession() {
+        long time = System.currentTimeMillis();
+        Session session = new Session(null, time, "One", "Survival");
+        Session snapshot = session.snapshot(time);
+
+        session.changeState("Two", "Survival", time + 5L);
+        session.died();
+        session.mobKilled();
+        session.playerKilled(new PlayerKill(TestConstants.PLAYER_TWO_UUID, "Weapon", time + 5L));
+
+        assertEquals(0, (int) snapshot.getUnsafe(SessionKeys.DEATH_COUNT));
+        assertEquals(0, (int) snapshot.getUnsafe(SessionKeys.MOB_KILL_COUNT));
+        assertTrue(snapshot.getUnsafe(SessionKeys.PLAYER_KILLS).isEmpty());
+        assertFalse(snapshot.getUnsafe(SessionKeys.WORLD_TIMES).getWorldTimes().containsKey("Two"));
+    }
+
+    @Test
+    public void concurrentDeathsAndMobKillsAreCounted() throws InterruptedException {
+        Session session = new Session(null, System.currentTimeMillis(), "One", "Survival");
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(session::died);
+            executor.execute(session::mobKilled);
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(1000, (int) session.getUnsafe(SessionKeys.DEATH_COUNT));
+        assertEquals(1000, (int) session.getUnsafe(SessionKeys.MOB_KILL_COUNT));
+    }
+}
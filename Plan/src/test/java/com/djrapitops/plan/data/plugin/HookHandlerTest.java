@@ -0,0 +1,78 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.data.plugin;
+
+import com.djrapitops.plan.data.element.AnalysisContainer;
+import com.djrapitops.plan.data.element.InspectContainer;
+import org.junit.Test;
+import utilities.TestConstants;
+
+import java.io.Serializable;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link HookHandler}.
+ *
+ * @author Rsl1122
+ */
+public class HookHandlerTest {
+
+    private final List<UUID> uuids = Collections.singletonList(TestConstants.PLAYER_ONE_UUID);
+
+    @Test
+    public void bulkPlayerTableValuesAreAdded() throws Exception {
+        Map<UUID, Integer> values = Collections.singletonMap(TestConstants.PLAYER_ONE_UUID, 5);
+
+        AnalysisContainer container = new HookHandler().getServerData(new TestBulkData(values), uuids);
+
+        assertNotNull(container);
+        assertEquals(values, container.getPlayerTableValues().get("Column"));
+    }
+
+    @Test
+    public void containerOfOtherPluginDataIsNotChanged() throws Exception {
+        PluginData source = new TestData();
+
+        AnalysisContainer container = new HookHandler().getServerData(source, uuids);
+
+        assertNotNull(container);
+        assertTrue(container.isEmpty());
+    }
+
+    private static class TestData extends PluginData {
+
+        TestData() {
+            super(ContainerSize.THIRD, "Test");
+        }
+
+        @Override
+        public InspectContainer getPlayerData(UUID uuid, InspectContainer fillThis) {
+            return fillThis;
+        }
+
+        @Override
+        public AnalysisContainer getServerData(Collection<UUID> uuids, AnalysisContainer fillThis) {
+            return fillThis;
+        }
+    }
+
+    private static class TestBulkData extends TestData implements BulkPluginData {
+
+        private final Map<UUID, Integer> values;
+
+        TestBulkData(Map<UUID, Integer> values) {
+            this.values = values;
+        }
+
+        @Override
+        public Map<String, Map<UUID, ? extends Serializable>> getPlayerTableValues(Collection<UUID> uuids) {
+            Map<String, Map<UUID, ? extends Serializable>> columns = new HashMap<>();
+            columns.put("Column", values);
+            return columns;
+        }
+    }
+}
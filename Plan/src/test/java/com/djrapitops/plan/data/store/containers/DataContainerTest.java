@@ -3,6 +3,11 @@ package com.djrapitops.plan.data.store.containers;
 import com.djrapitops.plan.data.store.Key;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.Assert.*;
 
 /**
@@ -85,4 +90,69 @@ public class DataContainerTest {
         assertNull(container.getUnsafe(TEST_KEY));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void supplierIsCalledOnceWhenAccessedConcurrently() throws InterruptedException {
+        DataContainer container = new DataContainer();
+        AtomicInteger calls = new AtomicInteger(0);
+        container.putSupplier(TEST_KEY, () -> {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(50L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "Success";
+        });
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    assertEquals("Success", container.getUnsafe(TEST_KEY_COPY));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void mapContainsPutKeys() {
+        DataContainer container = new DataContainer();
+        container.putRawData(TEST_KEY, "Success");
+
+        assertEquals("Success", container.getMap().get(TEST_KEY_COPY).get());
+    }
+
+    @Test
+    public void valuesOfManyKeysAreKept() {
+        DataContainer container = new DataContainer();
+        List<Key<Integer>> keys = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Key<Integer> key = new Key<>(Integer.class, "MANY_KEYS_" + i);
+            keys.add(key);
+            container.putRawData(key, i);
+        }
+        container.putRawData(keys.get(5), -5);
+
+        DataContainer copy = new DataContainer();
+        copy.putAll(container);
+
+        assertEquals(100, copy.getMap().size());
+        assertEquals(Integer.valueOf(-5), copy.getUnsafe(keys.get(5)));
+        for (int i = 6; i < 100; i++) {
+            assertEquals(Integer.valueOf(i), copy.getUnsafe(keys.get(i)));
+        }
+        assertFalse(copy.supports(TEST_KEY));
+    }
+}
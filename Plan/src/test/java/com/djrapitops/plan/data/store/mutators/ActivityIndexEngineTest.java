@@ -0,0 +1,68 @@
+package com.djrapitops.plan.data.store.mutators;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plugin.api.TimeAmount;
+import org.junit.Test;
+import utilities.TestConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link ActivityIndexEngine}.
+ *
+ * @author Rsl1122
+ */
+public class ActivityIndexEngineTest {
+
+    private static final long WEEK = TimeAmount.WEEK.ms();
+    private static final long PLAY_THRESHOLD = TimeAmount.HOUR.ms() * 12L;
+    private static final int LOGIN_THRESHOLD = 2;
+
+    @Test
+    public void engineMatchesFilteredSessions() {
+        Random random = new Random(1234L);
+        long date = System.currentTimeMillis();
+
+        List<Session> sessions = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            long start = date - (long) (random.nextDouble() * WEEK * 12L);
+            long length = (long) (random.nextDouble() * TimeAmount.HOUR.ms() * 5L);
+            sessions.add(new Session(i, TestConstants.PLAYER_ONE_UUID, TestConstants.SERVER_UUID,
+                    start, start + length, 0, 0, length / 10L));
+        }
+        // Sessions exactly on week boundaries are counted in both weeks.
+        sessions.add(new Session(500, TestConstants.PLAYER_ONE_UUID, TestConstants.SERVER_UUID,
+                date - WEEK, date - WEEK + TimeAmount.HOUR.ms(), 0, 0, 0));
+
+        ActivityIndexEngine engine = new ActivityIndexEngine(sessions, PLAY_THRESHOLD, LOGIN_THRESHOLD);
+        for (long time = date + WEEK; time >= date - WEEK * 16L; time -= WEEK) {
+            assertEquals(expected(new SessionsMutator(sessions), time), engine.calculate(time), 0.00001);
+        }
+        long offset = TimeAmount.DAY.ms() * 3L;
+        assertEquals(expected(new SessionsMutator(sessions), date - offset), engine.calculate(date - offset), 0.00001);
+        // Buckets of the earlier phase are built again.
+        assertEquals(expected(new SessionsMutator(sessions), date), engine.calculate(date), 0.00001);
+    }
+
+    @Test
+    public void noSessionsIsZero() {
+        ActivityIndexEngine engine = new ActivityIndexEngine(new ArrayList<>(), PLAY_THRESHOLD, LOGIN_THRESHOLD);
+
+        assertEquals(0.0, engine.calculate(System.currentTimeMillis()), 0.00001);
+    }
+
+    private double expected(SessionsMutator sessions, long date) {
+        SessionsMutator weekOne = sessions.filterSessionsBetween(date - WEEK, date);
+        SessionsMutator weekTwo = sessions.filterSessionsBetween(date - 2L * WEEK, date - WEEK);
+        SessionsMutator weekThree = sessions.filterSessionsBetween(date - 3L * WEEK, date - 2L * WEEK);
+        return ActivityIndex.calculate(
+                weekOne.toActivePlaytime(), weekTwo.toActivePlaytime(), weekThree.toActivePlaytime(),
+                weekOne.count(), weekTwo.count(), weekThree.count(),
+                PLAY_THRESHOLD, LOGIN_THRESHOLD
+        );
+    }
+}
@@ -0,0 +1,73 @@
+package com.djrapitops.plan.data.store.mutators;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.containers.PlayerContainer;
+import com.djrapitops.plan.data.store.keys.PlayerKeys;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link ServerPartitions}.
+ *
+ * @author Rsl1122
+ */
+public class ServerPartitionsTest {
+
+    private final UUID serverOne = UUID.randomUUID();
+    private final UUID serverTwo = UUID.randomUUID();
+    private final UUID serverThree = UUID.randomUUID();
+
+    private PlayersMutator players;
+
+    @Before
+    public void setUp() {
+        List<PlayerContainer> containers = new ArrayList<>();
+        containers.add(player(serverOne, serverOne, serverTwo));
+        containers.add(player(serverTwo));
+        containers.add(player());
+        players = new PlayersMutator(containers);
+    }
+
+    private PlayerContainer player(UUID... playedOn) {
+        UUID uuid = UUID.randomUUID();
+        List<Session> sessions = new ArrayList<>();
+        for (UUID serverUUID : playedOn) {
+            sessions.add(new Session(-1, uuid, serverUUID, 1000L, 2000L, 0, 0, 0L));
+        }
+        PlayerContainer container = new PlayerContainer();
+        container.putRawData(PlayerKeys.UUID, uuid);
+        container.putRawData(PlayerKeys.SESSIONS, sessions);
+        return container;
+    }
+
+    @Test
+    public void partitionsMatchFilteringByServer() {
+        ServerPartitions partitions = ServerPartitions.of(players);
+
+        for (UUID serverUUID : Arrays.asList(serverOne, serverTwo, serverThree)) {
+            PlayersMutator filtered = players.filterPlayedOnServer(serverUUID);
+            assertEquals(filtered.all(), partitions.playersOf(serverUUID).all());
+            assertEquals(
+                    new SessionsMutator(filtered.getSessions()).filterPlayedOnServer(serverUUID).all(),
+                    partitions.sessionsOf(serverUUID).all()
+            );
+        }
+    }
+
+    @Test
+    public void playerWithSeveralSessionsIsCountedOnce() {
+        ServerPartitions partitions = ServerPartitions.of(players);
+
+        assertEquals(1, partitions.playersOf(serverOne).count());
+        assertEquals(2, partitions.sessionsOf(serverOne).count());
+        assertEquals(2, partitions.playersOf(serverTwo).count());
+        assertEquals(0, partitions.playersOf(serverThree).count());
+    }
+}
@@ -0,0 +1,112 @@
+package com.djrapitops.plan.system;
+
+import com.djrapitops.plan.api.exceptions.EnableException;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link SubSystemGraph}.
+ *
+ * @author Rsl1122
+ */
+public class SubSystemGraphTest {
+
+    private final List<String> enabled = Collections.synchronizedList(new ArrayList<>());
+
+    private SubSystem system(String name) {
+        return new SubSystem() {
+            @Override
+            public void enable() {
+                enabled.add(name);
+            }
+
+            @Override
+            public void disable() {
+            }
+        };
+    }
+
+    @Test
+    public void dependenciesAreEnabledFirst() throws EnableException {
+        Map<String, Long> timings = new SubSystemGraph()
+                .add("C", system("C"), true, "B")
+                .add("B", system("B"), false, "A")
+                .add("A", system("A"), true)
+                .enable(2);
+
+        assertEquals(Arrays.asList("A", "B", "C"), enabled);
+        assertEquals(new HashSet<>(Arrays.asList("A", "B", "C")), timings.keySet());
+    }
+
+    @Test
+    public void independentAsyncSystemsEnableAtTheSameTime() throws EnableException {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        SubSystem waitsForOther = new SubSystem() {
+            @Override
+            public void enable() throws EnableException {
+                bothStarted.countDown();
+                try {
+                    if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                        throw new EnableException("Systems were not enabled in parallel");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void disable() {
+            }
+        };
+
+        new SubSystemGraph()
+                .add("A", waitsForOther, true)
+                .add("B", waitsForOther, true)
+                .enable(2);
+    }
+
+    @Test
+    public void failureIsThrown() {
+        SubSystem failing = new SubSystem() {
+            @Override
+            public void enable() throws EnableException {
+                throw new EnableException("Fail");
+            }
+
+            @Override
+            public void disable() {
+            }
+        };
+
+        try {
+            new SubSystemGraph()
+                    .add("A", failing, true)
+                    .add("B", system("B"), false, "A")
+                    .enable(1);
+            fail("EnableException was not thrown");
+        } catch (EnableException e) {
+            assertEquals("Fail", e.getMessage());
+        }
+        assertTrue(enabled.isEmpty());
+    }
+
+    @Test(expected = EnableException.class)
+    public void missingDependencyIsNoticed() throws EnableException {
+        new SubSystemGraph()
+                .add("A", system("A"), false, "Unknown")
+                .enable(1);
+    }
+
+    @Test(expected = EnableException.class)
+    public void cycleIsNoticed() throws EnableException {
+        new SubSystemGraph()
+                .add("A", system("A"), false, "B")
+                .add("B", system("B"), true, "A")
+                .enable(1);
+    }
+}
@@ -0,0 +1,84 @@
+package com.djrapitops.plan.system.afk;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.system.cache.SessionCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import utilities.TestConstants;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link AFKTracker}.
+ *
+ * @author Rsl1122
+ */
+public class AFKTrackerTest {
+
+    private static final long THRESHOLD = TimeUnit.MINUTES.toMillis(3L);
+    private static final long START = TimeUnit.DAYS.toMillis(1000L);
+
+    private final UUID uuid = TestConstants.PLAYER_ONE_UUID;
+    private AFKTracker tracker;
+    private Session session;
+
+    @Before
+    public void setUp() {
+        tracker = new AFKTracker(THRESHOLD);
+        session = new Session(1, uuid, TestConstants.SERVER_UUID, START, START, 0, 0, 0L);
+        SessionCache.getActiveSessions().put(uuid, session);
+    }
+
+    @After
+    public void tearDown() {
+        SessionCache.clear();
+    }
+
+    @Test
+    public void afkTimeIsAddedAfterThreshold() {
+        tracker.performedAction(uuid, START);
+        tracker.performedAction(uuid, START + THRESHOLD + 5000L);
+
+        assertEquals(THRESHOLD + 5000L, (long) session.getUnsafe(SessionKeys.AFK_TIME));
+    }
+
+    @Test
+    public void noAfkTimeBeforeThreshold() {
+        tracker.performedAction(uuid, START);
+        tracker.performedAction(uuid, START + THRESHOLD - 1L);
+
+        assertEquals(0L, (long) session.getUnsafe(SessionKeys.AFK_TIME));
+    }
+
+    @Test
+    public void actionsWithinSecondAreNotRecorded() {
+        tracker.performedAction(uuid, START);
+        tracker.performedAction(uuid, START + 500L);
+        tracker.performedAction(uuid, START + THRESHOLD + 200L);
+
+        assertEquals(THRESHOLD + 200L, (long) session.getUnsafe(SessionKeys.AFK_TIME));
+    }
+
+    @Test
+    public void ignoredPlayerIsNeverAfk() {
+        tracker.hasIgnorePermission(uuid);
+        tracker.performedAction(uuid, START);
+        tracker.performedAction(uuid, START + THRESHOLD * 2L);
+
+        assertEquals(0L, (long) session.getUnsafe(SessionKeys.AFK_TIME));
+    }
+
+    @Test
+    public void afkCommandCountsFromCommand() {
+        tracker.performedAction(uuid, START);
+        tracker.usedAfkCommand(uuid, START);
+        tracker.performedAction(uuid, START + 10000L);
+
+        assertEquals(10000L, (long) session.getUnsafe(SessionKeys.AFK_TIME));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.cache;
+
+import org.junit.Test;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link BoundedCache}.
+ *
+ * @author Rsl1122
+ */
+public class BoundedCacheTest {
+
+    @Test
+    public void leastRecentlyUsedEntriesAreEvicted() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>("Test", 10, (key, value) -> false);
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, "value" + i);
+        }
+        // Use 0 so that 1 is the least recently used
+        assertTrue(cache.get(0).isPresent());
+
+        cache.put(10, "value10");
+
+        assertEquals(9, cache.size());
+        assertTrue(cache.get(0).isPresent());
+        assertFalse(cache.get(1).isPresent());
+        assertFalse(cache.get(2).isPresent());
+        assertTrue(cache.get(10).isPresent());
+        assertEquals(2, cache.getEvictions());
+    }
+
+    @Test
+    public void pinnedEntriesAreNotEvicted() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>("Test", 10, (key, value) -> key < 5);
+        for (int i = 0; i < 20; i++) {
+            cache.put(i, "value" + i);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(cache.get(i).isPresent());
+        }
+        assertTrue(cache.size() <= 10);
+    }
+
+    @Test
+    public void hitsAndMissesAreCounted() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>("Test", 10, (key, value) -> false);
+
+        assertEquals("value", cache.get(1, key -> "value"));
+        assertEquals("value", cache.get(1, key -> "other"));
+        assertNull(cache.get(2, key -> null));
+
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(2, cache.getLoads());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void valueIsLoadedOnceForConcurrentCalls() throws Exception {
+        BoundedCache<Integer, String> cache = new BoundedCache<>("Test", 10, (key, value) -> false);
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Callable<String> get = () -> cache.get(1, key -> {
+                loaderCalls.incrementAndGet();
+                loaderStarted.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "value";
+            });
+            Future<String> first = executor.submit(get);
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+            Future<String> second = executor.submit(get);
+            Future<String> third = executor.submit(get);
+
+            // Every call has missed the cache while the loader is still blocked.
+            long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+            while (cache.getMisses() < 3) {
+                assertTrue("Calls did not reach the cache", System.currentTimeMillis() < timeout);
+                Thread.sleep(1L);
+            }
+            // Gives the calls time to call the loader themselves if they did not wait for the first one.
+            Thread.sleep(50L);
+            assertEquals(1, loaderCalls.get());
+            assertFalse(second.isDone());
+            assertFalse(third.isDone());
+            release.countDown();
+
+            assertEquals("value", first.get(5, TimeUnit.SECONDS));
+            assertEquals("value", second.get(5, TimeUnit.SECONDS));
+            assertEquals("value", third.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loaderCalls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void loaderExceptionIsThrown() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>("Test", 10, (key, value) -> false);
+        cache.get(1, key -> {
+            throw new IllegalStateException("Test");
+        });
+    }
+}
@@ -1,16 +1,17 @@
 package com.djrapitops.plan.system.cache;
 
 import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
 import org.junit.*;
 import org.junit.rules.TemporaryFolder;
 import utilities.TestConstants;
 import utilities.mocks.SystemMockUtil;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.*;
 
 public class SessionCacheTest {
 
@@ -57,4 +58,14 @@ public class SessionCacheTest {
         assertTrue(result.isPresent());
         assertEquals(expected, result.get());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void snapshotContainsCopiesOfActiveSessions() {
+        Map<UUID, Session> snapshot = SessionCache.getActiveSessionsSnapshot();
+
+        Session copy = snapshot.get(uuid);
+        assertNotNull(copy);
+        assertNotSame(session, copy);
+        assertEquals(session.getUnsafe(SessionKeys.START), copy.getUnsafe(SessionKeys.START));
+    }
+}
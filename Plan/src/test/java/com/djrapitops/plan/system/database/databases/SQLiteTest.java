@@ -19,9 +19,15 @@ import com.djrapitops.plan.data.store.keys.*;
 import com.djrapitops.plan.data.store.objects.Nickname;
 import com.djrapitops.plan.data.time.GMTimes;
 import com.djrapitops.plan.data.time.WorldTimes;
+import com.djrapitops.plan.system.database.databases.operation.Page;
+import com.djrapitops.plan.system.database.databases.operation.QueryFilter;
+import com.djrapitops.plan.system.database.databases.operation.QueryOperations;
 import com.djrapitops.plan.system.database.databases.sql.SQLDB;
 import com.djrapitops.plan.system.database.databases.sql.SQLiteDB;
+import com.djrapitops.plan.system.database.databases.sql.patches.CopyCursorIndexPatch;
+import com.djrapitops.plan.system.database.databases.sql.patches.QueryPageIndexPatch;
 import com.djrapitops.plan.system.database.databases.sql.tables.*;
+import com.djrapitops.plan.system.database.databases.sql.tables.move.StreamingTableCopy;
 import com.djrapitops.plan.system.info.server.Server;
 import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.locale.Locale;
@@ -376,6 +382,83 @@ public class SQLiteTest {
         assertEquals(0, sessionsTable.getSessionCount(playerUUID, 30000L));
     }
 
+    @Test
+    public void testQuerySessionsAndKillsInPages() throws DBInitException {
+        saveTwoWorlds();
+        saveUserOne();
+        saveUserTwo();
+        SessionsTable sessionsTable = db.getSessionsTable();
+        for (int i = 0; i < 3; i++) {
+            Session session = new Session(TestConstants.PLAYER_ONE_UUID, 12345L + i * 20000L, "", "");
+            session.endSession(22345L + i * 20000L);
+            session.setWorldTimes(createWorldTimes());
+            session.setPlayerKills(createKills());
+            sessionsTable.saveSession(playerUUID, session);
+        }
+        commitTest();
+
+        QueryOperations query = db.query();
+        QueryFilter filter = QueryFilter.all().server(TestConstants.SERVER_UUID);
+
+        Page<Session> first = query.getSessions(filter, null, 2);
+        assertEquals(2, first.getRows().size());
+        assertTrue(first.hasNext());
+        Page<Session> second = query.getSessions(filter, first.getNextCursor().orElse(null), 2);
+        assertEquals(1, second.getRows().size());
+        assertFalse(second.hasNext());
+        assertEquals(52345L, (long) second.getRows().get(0).getUnsafe(SessionKeys.START));
+
+        List<PlayerKill> kills = new ArrayList<>();
+        query.forEachKill(QueryFilter.all().after(5000L), kills::add);
+        assertEquals(3, kills.size());
+        assertEquals(Optional.of(playerUUID), kills.get(0).getKiller());
+
+        assertEquals(0, query.getSessions(QueryFilter.all().before(10000L), null, 10).getRows().size());
+    }
+
+    @Test
+    public void testQueryAggregates() throws DBInitException {
+        saveUserOne();
+        saveUserTwo();
+        SessionsTable sessionsTable = db.getSessionsTable();
+        Session session = new Session(1, playerUUID, TestConstants.SERVER_UUID, 12345L, 22345L, 0, 0, 0);
+        Session session2 = new Session(2, player2UUID, TestConstants.SERVER_UUID, 12345L, 42345L, 0, 0, 0);
+        Map<UUID, List<Session>> sessionMap = new HashMap<>();
+        sessionMap.put(playerUUID, Collections.singletonList(session));
+        sessionMap.put(player2UUID, Collections.singletonList(session2));
+        sessionsTable.insertSessions(Collections.singletonMap(TestConstants.SERVER_UUID, sessionMap), false);
+        commitTest();
+
+        QueryOperations query = db.query();
+        Map<UUID, Long> top = query.getPlaytimeTop(QueryFilter.all(), 10);
+        assertEquals(Arrays.asList(player2UUID, playerUUID), new ArrayList<>(top.keySet()));
+        assertEquals(30000L, (long) top.get(player2UUID));
+
+        assertEquals(2, query.getUniquePlayerCount(QueryFilter.all().server(TestConstants.SERVER_UUID)));
+        assertEquals(0, query.getUniquePlayerCount(QueryFilter.all().after(20000L)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void playtimeTopOverMaxPageSizeIsRejected() {
+        db.query().getPlaytimeTop(QueryFilter.all(), QueryOperations.MAX_PAGE_SIZE + 1);
+    }
+
+    @Test
+    public void testQueryPlayersOfServer() throws DBInitException {
+        saveUserOne();
+        saveUserTwo();
+        db.getUserInfoTable().registerUserInfo(playerUUID, 223456789L);
+        commitTest();
+
+        List<UserInfo> all = new ArrayList<>();
+        db.query().forEachPlayer(QueryFilter.all(), all::add);
+        assertEquals(2, all.size());
+
+        Page<UserInfo> ofServer = db.query().getPlayers(QueryFilter.all().server(TestConstants.SERVER_UUID), null, 10);
+        assertEquals(1, ofServer.getRows().size());
+        assertEquals(223456789L, ofServer.getRows().get(0).getRegistered());
+    }
+
     @Test
     public void testSessionSaving() throws DBInitException {
         saveUserOne();
@@ -781,6 +864,45 @@ public class SQLiteTest {
         assertFalse(securityTable.getUsers().isEmpty());
     }
 
+    @Test
+    public void testContinuedBackupDoesNotDuplicateCopiedRows() throws DBException, UnsupportedEncodingException, NoSuchAlgorithmException {
+        SQLiteDB backup = new SQLiteDB("debug-backup" + System.currentTimeMillis(), Locale::new);
+        backup.init();
+
+        saveAllData(db);
+
+        // Copy a part of the data one row at a time, like an interrupted backup would have.
+        new StreamingTableCopy(db, backup, db.getServerTable().getTableName(), ServerTable.Col.SERVER_ID, 1, 1).copy(false);
+        new StreamingTableCopy(db, backup, db.getUsersTable().getTableName(), UsersTable.Col.ID, 1, 1).copy(false);
+        new StreamingTableCopy(db, backup, db.getWorldTable().getTableName(), WorldTable.Col.ID, 1, 1).copy(false);
+        new StreamingTableCopy(db, backup, db.getSecurityTable().getTableName()).copy(false);
+
+        db.backup().continueBackup(backup);
+
+        assertEquals(db.getUsersTable().getSavedUUIDs(), backup.getUsersTable().getSavedUUIDs());
+        assertEquals(db.getWorldTable().getAllWorlds(), backup.getWorldTable().getAllWorlds());
+        assertEquals(db.getSessionsTable().getSessions(playerUUID), backup.getSessionsTable().getSessions(playerUUID));
+        assertEquals(db.getGeoInfoTable().getGeoInfo(playerUUID), backup.getGeoInfoTable().getGeoInfo(playerUUID));
+        assertEquals(db.getTpsTable().getTPSData().size(), backup.getTpsTable().getTPSData().size());
+        assertEquals(db.getSecurityTable().getUsers().size(), backup.getSecurityTable().getUsers().size());
+    }
+
+    @Test
+    public void copyCursorIndexesAreCreated() {
+        CopyCursorIndexPatch patch = new CopyCursorIndexPatch(db);
+        patch.apply();
+
+        assertTrue(patch.hasBeenApplied());
+    }
+
+    @Test
+    public void queryPageIndexesAreCreated() {
+        QueryPageIndexPatch patch = new QueryPageIndexPatch(db);
+        patch.apply();
+
+        assertTrue(patch.hasBeenApplied());
+    }
+
     @Test
     public void testSaveWorldTimes() {
         saveUserOne();
@@ -930,6 +1052,74 @@ public class SQLiteTest {
         assertTrue(geolocations.contains(secondInfo.getGeolocation()));
     }
 
+    @Test
+    public void testServerScopedQueriesOnlyReturnServerUsers() {
+        saveUserOne();
+        saveUserTwo();
+        db.getUserInfoTable().registerUserInfo(playerUUID, 223456789L);
+
+        GeoInfoTable geoInfoTable = db.getGeoInfoTable();
+        geoInfoTable.saveGeoInfo(playerUUID, new GeoInfo("-", "Test1", 0, "3"));
+        geoInfoTable.saveGeoInfo(player2UUID, new GeoInfo("-", "Test2", 0, "3"));
+
+        long now = System.currentTimeMillis();
+        PingTable pingTable = db.getPingTable();
+        pingTable.insertPing(playerUUID, new Ping(now, TestConstants.SERVER_UUID, 1, 3, 2.0));
+        pingTable.insertPing(playerUUID, new Ping(now - TimeAmount.WEEK.ms(), TestConstants.SERVER_UUID, 1, 3, 2.0));
+
+        Map<UUID, List<GeoInfo>> geoInfo = geoInfoTable.getGeoInfoOfServerUsers(TestConstants.SERVER_UUID);
+        assertEquals(Collections.singleton(playerUUID), geoInfo.keySet());
+
+        Map<UUID, Integer> timesKicked = db.getUsersTable().getTimesKickedOfServerUsers(TestConstants.SERVER_UUID);
+        assertEquals(Collections.singletonMap(playerUUID, 1), timesKicked);
+
+        Map<UUID, List<Ping>> pings = pingTable.getPingsOfServer(TestConstants.SERVER_UUID, now - TimeAmount.DAY.ms());
+        assertEquals(1, pings.get(playerUUID).size());
+        assertEquals(2, pingTable.getPingsOfServer(TestConstants.SERVER_UUID, 0L).get(playerUUID).size());
+    }
+
+    @Test
+    public void pingsOfThisServerAreCombinedToHours() {
+        saveUserOne();
+        UUID otherServerUUID = UUID.randomUUID();
+        db.getServerTable().saveCurrentServerInfo(new Server(-1, otherServerUUID, "Other", "", 20));
+
+        long hour = TimeAmount.HOUR.ms();
+        long hourStart = System.currentTimeMillis() - TimeAmount.DAY.ms() * 2L;
+        hourStart -= hourStart % hour;
+        long before = hourStart + hour;
+
+        List<Ping> pings = Arrays.asList(
+                new Ping(hourStart + 1000L, TestConstants.SERVER_UUID, 1, 3, 2.0),
+                new Ping(hourStart + 2000L, TestConstants.SERVER_UUID, 2, 5, 4.0),
+                new Ping(before + 1000L, TestConstants.SERVER_UUID, 7, 7, 7.0),
+                new Ping(hourStart + 1000L, otherServerUUID, 1, 1, 1.0)
+        );
+        PingTable pingTable = db.getPingTable();
+        pingTable.insertAllPings(Collections.singletonMap(playerUUID, pings));
+
+        pingTable.combineToHours(TestConstants.SERVER_UUID, before);
+
+        Map<Long, Ping> thisServer = new HashMap<>();
+        Map<Long, Ping> otherServer = new HashMap<>();
+        for (Ping ping : pingTable.getPing(playerUUID)) {
+            if (TestConstants.SERVER_UUID.equals(ping.getServerUUID())) {
+                thisServer.put(ping.getDate(), ping);
+            } else {
+                otherServer.put(ping.getDate(), ping);
+            }
+        }
+
+        assertEquals(2, thisServer.size());
+        Ping combined = thisServer.get(hourStart);
+        assertNotNull(combined);
+        assertEquals(1, combined.getMin());
+        assertEquals(5, combined.getMax());
+        assertEquals(3.0, combined.getAverage(), 0.001);
+        assertTrue(thisServer.containsKey(before + 1000L));
+        assertEquals(Collections.singleton(hourStart + 1000L), otherServer.keySet());
+    }
+
     @Test
     public void testNewContainerForPlayer() throws UnsupportedEncodingException, NoSuchAlgorithmException {
         saveAllData(db);
@@ -0,0 +1,83 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.database.databases.sql.operation;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link PlayerDataCache}.
+ *
+ * @author Rsl1122
+ */
+public class PlayerDataCacheTest {
+
+    private final UUID uuid = UUID.randomUUID();
+
+    @After
+    public void tearDown() {
+        PlayerDataCache.clear();
+    }
+
+    @Test
+    public void putDataIsCached() {
+        PlayerData data = new PlayerData(uuid);
+        PlayerDataCache.put(data, PlayerDataCache.getStamp(uuid));
+
+        assertSame(data, PlayerDataCache.get(uuid).orElse(null));
+    }
+
+    @Test
+    public void invalidatedDataIsRemoved() {
+        PlayerDataCache.put(new PlayerData(uuid), PlayerDataCache.getStamp(uuid));
+        PlayerDataCache.invalidate(uuid);
+
+        assertFalse(PlayerDataCache.get(uuid).isPresent());
+    }
+
+    @Test
+    public void dataLoadedBeforeInvalidationIsNotCached() {
+        PlayerDataCache.Stamp before = PlayerDataCache.getStamp(uuid);
+        // Session ended while the data was being loaded
+        PlayerDataCache.invalidate(uuid);
+        PlayerDataCache.put(new PlayerData(uuid), before);
+
+        assertFalse(PlayerDataCache.get(uuid).isPresent());
+    }
+
+    @Test
+    public void invalidationOfAnotherPlayerDoesNotPreventCaching() {
+        PlayerDataCache.Stamp before = PlayerDataCache.getStamp(uuid);
+        PlayerDataCache.invalidate(UUID.randomUUID());
+        PlayerDataCache.put(new PlayerData(uuid), before);
+
+        assertTrue(PlayerDataCache.get(uuid).isPresent());
+    }
+
+    @Test
+    public void dataLoadedBeforeClearIsNotCached() {
+        PlayerDataCache.Stamp before = PlayerDataCache.getStamp(uuid);
+        PlayerDataCache.clear();
+        PlayerDataCache.put(new PlayerData(uuid), before);
+
+        assertFalse(PlayerDataCache.get(uuid).isPresent());
+    }
+
+    @Test
+    public void missingUUIDsAreFound() {
+        UUID other = UUID.randomUUID();
+        PlayerDataCache.put(new PlayerData(uuid), PlayerDataCache.getStamp(uuid));
+
+        List<UUID> missing = PlayerDataCache.getMissing(Arrays.asList(uuid, other));
+        assertEquals(Collections.singletonList(other), missing);
+    }
+}
@@ -0,0 +1,86 @@
+package com.djrapitops.plan.system.database.databases.sql.processing;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link SQLProfiler} and {@link StatementStatistics}.
+ *
+ * @author Rsl1122
+ */
+public class SQLProfilerTest {
+
+    @Test
+    public void literalsAreReplacedInShape() {
+        String sql = "SELECT  * FROM plan_users\n WHERE id=15 AND name='Test''s' AND uuid IN (?, ?,?)";
+
+        assertEquals("SELECT * FROM plan_users WHERE id=? AND name=? AND uuid IN (?)", SQLProfiler.toShape(sql));
+    }
+
+    @Test
+    public void identifiersWithNumbersAreNotReplaced() {
+        String sql = "SELECT column1 FROM table_2 LIMIT 10";
+
+        assertEquals("SELECT column1 FROM table_2 LIMIT ?", SQLProfiler.toShape(sql));
+    }
+
+    @Test
+    public void statementsWithSameShapeAreGrouped() {
+        SQLProfiler profiler = new SQLProfiler();
+        profiler.record("DELETE FROM plan_tps WHERE date<100", TimeUnit.MILLISECONDS.toNanos(1), 5);
+        profiler.record("DELETE FROM plan_tps WHERE date<200", TimeUnit.MILLISECONDS.toNanos(3), 2);
+        profiler.record("SELECT * FROM plan_servers", TimeUnit.MILLISECONDS.toNanos(1), 1);
+
+        List<StatementStatistics> statistics = profiler.getStatistics();
+        assertEquals(2, statistics.size());
+
+        StatementStatistics delete = statistics.get(0);
+        assertEquals("DELETE FROM plan_tps WHERE date<?", delete.getShape());
+        assertEquals(2, delete.getCount());
+        assertEquals(7, delete.getRows());
+        assertEquals(3000, delete.getMaxMicros());
+    }
+
+    @Test
+    public void percentilesAreWithinBucketPrecision() {
+        StatementStatistics statistics = new StatementStatistics("SELECT ?");
+        for (int i = 1; i <= 1000; i++) {
+            statistics.record(TimeUnit.MICROSECONDS.toNanos(i * 100L), 1);
+        }
+
+        assertWithin(50000, statistics.getPercentileMicros(0.5));
+        assertWithin(99000, statistics.getPercentileMicros(0.99));
+        assertEquals(100000, statistics.getPercentileMicros(1.0));
+        assertEquals(1000, statistics.getRows());
+    }
+
+    @Test
+    public void bucketBoundsContainValues() {
+        for (long micros : Arrays.asList(0L, 3L, 4L, 7L, 8L, 9L, 1000L, 123456L, 1L << 38)) {
+            int bucket = StatementStatistics.bucketOf(micros);
+            assertTrue(micros + " above bucket " + bucket, micros <= StatementStatistics.upperBoundOf(bucket));
+            if (bucket > 0) {
+                assertTrue(micros + " in previous bucket", micros > StatementStatistics.upperBoundOf(bucket - 1));
+            }
+        }
+    }
+
+    @Test
+    public void emptyStatisticsAreZero() {
+        StatementStatistics statistics = new StatementStatistics("SELECT ?");
+
+        assertEquals(0, statistics.getPercentileMicros(0.99));
+        assertEquals(0, statistics.getMaxMicros());
+    }
+
+    private void assertWithin(long expected, long actual) {
+        assertTrue("Expected ~" + expected + " but was " + actual,
+                actual >= expected && actual <= expected * 5 / 4);
+    }
+}
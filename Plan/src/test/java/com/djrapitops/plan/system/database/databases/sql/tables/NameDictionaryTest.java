@@ -0,0 +1,121 @@
+package com.djrapitops.plan.system.database.databases.sql.tables;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link NameDictionary}.
+ *
+ * @author Rsl1122
+ */
+public class NameDictionaryTest {
+
+    private final UUID serverUUID = UUID.randomUUID();
+    private final UUID otherServerUUID = UUID.randomUUID();
+
+    private Map<UUID, Map<String, Integer>> rows;
+    private AtomicInteger serverQueries;
+    private AtomicInteger allQueries;
+    private NameDictionary dictionary;
+
+    @Before
+    public void setUp() {
+        rows = new HashMap<>();
+        rows.put(serverUUID, new HashMap<>());
+        rows.put(otherServerUUID, new HashMap<>());
+        rows.get(serverUUID).put("world", 1);
+        rows.get(otherServerUUID).put("lobby", 2);
+
+        serverQueries = new AtomicInteger();
+        allQueries = new AtomicInteger();
+        dictionary = new NameDictionary(
+                server -> {
+                    serverQueries.incrementAndGet();
+                    return new HashMap<>(rows.getOrDefault(server, new HashMap<>()));
+                },
+                () -> {
+                    allQueries.incrementAndGet();
+                    Map<Integer, String> all = new HashMap<>();
+                    rows.values().forEach(names -> names.forEach((name, id) -> all.put(id, name)));
+                    return all;
+                }
+        );
+    }
+
+    @Test
+    public void serverIsLoadedOnce() {
+        assertEquals(Optional.of(1), dictionary.getID(serverUUID, "world"));
+        assertFalse(dictionary.getID(serverUUID, "world_nether").isPresent());
+        assertTrue(dictionary.getNames(serverUUID).contains("world"));
+
+        assertEquals(1, serverQueries.get());
+    }
+
+    @Test
+    public void putIsVisibleWithoutQuery() {
+        dictionary.getID(serverUUID, "world");
+        dictionary.put(serverUUID, "world_nether", 3);
+
+        assertEquals(Optional.of(3), dictionary.getID(serverUUID, "world_nether"));
+        assertEquals("world_nether", dictionary.getName(3));
+        assertEquals(1, serverQueries.get());
+        assertEquals(0, allQueries.get());
+    }
+
+    @Test
+    public void unknownIDsAreLoadedOnce() {
+        assertEquals("lobby", dictionary.getName(2));
+        assertNull(dictionary.getName(5));
+        assertNull(dictionary.getName(5));
+
+        assertEquals(2, allQueries.get());
+    }
+
+    @Test
+    public void namesAreShared() {
+        String name = new String("world");
+        dictionary.getID(serverUUID, "world");
+
+        assertSame(dictionary.getName(1), dictionary.intern(name));
+    }
+
+    @Test
+    public void reloadFindsInsertedRows() {
+        dictionary.getID(serverUUID, "world");
+        rows.get(serverUUID).put("arena", 4);
+        dictionary.reload(serverUUID);
+
+        assertEquals(Optional.of(4), dictionary.getID(serverUUID, "arena"));
+    }
+
+    @Test
+    public void clearForgetsRows() {
+        dictionary.getID(serverUUID, "world");
+        rows.get(serverUUID).clear();
+        dictionary.clear();
+
+        assertFalse(dictionary.getID(serverUUID, "world").isPresent());
+        assertEquals(2, serverQueries.get());
+    }
+
+    @Test
+    public void invalidateReloadsOnlyThatServer() {
+        dictionary.getID(serverUUID, "world");
+        dictionary.getID(otherServerUUID, "lobby");
+        rows.get(serverUUID).remove("world");
+        rows.get(serverUUID).put("world", 5);
+        dictionary.invalidate(serverUUID);
+
+        assertEquals(Optional.of(5), dictionary.getID(serverUUID, "world"));
+        assertEquals(Optional.of(2), dictionary.getID(otherServerUUID, "lobby"));
+        assertEquals(3, serverQueries.get());
+    }
+}
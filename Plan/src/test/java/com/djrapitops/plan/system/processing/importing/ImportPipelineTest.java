@@ -0,0 +1,189 @@
+package com.djrapitops.plan.system.processing.importing;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.container.UserInfo;
+import com.djrapitops.plan.data.store.containers.PlayerContainer;
+import com.djrapitops.plan.data.store.keys.PlayerKeys;
+import com.djrapitops.plan.data.store.objects.Nickname;
+import com.djrapitops.plan.system.database.databases.operation.SaveOperations;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link ImportPipeline}.
+ *
+ * @author Rsl1122
+ */
+public class ImportPipelineTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final UUID serverUUID = UUID.randomUUID();
+    private SaveOperations save;
+    private PlayerContainer savedData;
+    private File checkpoint;
+
+    @Before
+    public void setUp() throws IOException {
+        save = mock(SaveOperations.class);
+        savedData = new PlayerContainer();
+        checkpoint = new File(temporaryFolder.getRoot(), "import-test.progress");
+    }
+
+    private ImportPipeline createPipeline(int batchSize) {
+        return new ImportPipeline(
+                serverUUID, save, uuid -> savedData, batch -> batch,
+                new HashSet<>(), new HashSet<>(),
+                checkpoint, batchSize
+        );
+    }
+
+    private UserImportData createData() {
+        return UserImportData.builder().uuid(UUID.randomUUID()).name("Test").build();
+    }
+
+    private void writeUUIDs(File file, UserImportData... records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (UserImportData data : records) {
+            lines.append(data.getUuid()).append('\n');
+        }
+        Files.write(file.toPath(), lines.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<String> readCheckpoint() throws IOException {
+        return Files.readAllLines(checkpoint.toPath(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void sourceWaitsForSlowWriter() throws InterruptedException {
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writerBlocked.countDown();
+            releaseWriter.await();
+            return null;
+        }).when(save).insertUsers(any());
+
+        ImportPipeline pipeline = createPipeline(1);
+        AtomicInteger offered = new AtomicInteger();
+        Thread source = new Thread(() -> {
+            for (int i = 0; i < 10; i++) {
+                offered.incrementAndGet();
+                pipeline.accept(createData());
+            }
+        });
+        source.start();
+
+        writerBlocked.await();
+        while (source.getState() != Thread.State.WAITING) {
+            Thread.sleep(1L);
+        }
+        // One batch being written, one waiting for the writer and the third waiting for room.
+        assertEquals(3, offered.get());
+
+        releaseWriter.countDown();
+        source.join();
+        assertTrue(pipeline.finish());
+        assertEquals(10L, pipeline.getWritten());
+        verify(save, times(10)).insertUsers(any());
+    }
+
+    @Test
+    public void resumedImportSkipsWrittenRecords() throws IOException {
+        UserImportData first = createData();
+        UserImportData second = createData();
+        UserImportData notWritten = createData();
+        writeUUIDs(checkpoint, first, second);
+
+        // The source gives the players in a different order than the first time.
+        ImportPipeline pipeline = createPipeline(1);
+        pipeline.accept(second);
+        pipeline.accept(notWritten);
+        pipeline.accept(first);
+
+        assertTrue(pipeline.finish());
+        assertEquals(1L, pipeline.getWritten());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<UUID, UserInfo>> users = ArgumentCaptor.forClass(Map.class);
+        verify(save).insertUsers(users.capture());
+        assertEquals(notWritten.getUuid(), users.getValue().keySet().iterator().next());
+        assertFalse(checkpoint.exists());
+    }
+
+    @Test
+    public void writerFailureKeepsCheckpoint() throws IOException {
+        doNothing().doThrow(new IllegalStateException("Test")).when(save).insertUsers(any());
+
+        UserImportData first = createData();
+        ImportPipeline pipeline = createPipeline(1);
+        pipeline.accept(first);
+        for (int i = 0; i < 2; i++) {
+            pipeline.accept(createData());
+        }
+
+        assertFalse(pipeline.finish());
+        assertEquals(1L, pipeline.getWritten());
+        assertEquals(Collections.singletonList(first.getUuid().toString()), readCheckpoint());
+    }
+
+    @Test
+    public void abortAfterSourceFailureKeepsCheckpoint() throws IOException {
+        ImportPipeline pipeline = createPipeline(2);
+        for (int i = 0; i < 3; i++) {
+            pipeline.accept(createData());
+        }
+
+        assertTrue(pipeline.abort());
+        assertEquals(2L, pipeline.getWritten());
+        verify(save, times(1)).insertUsers(any());
+        assertEquals(2, readCheckpoint().size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void interruptedBatchIsNotSavedTwice() throws IOException {
+        Nickname nickname = new Nickname("Nick", 0L, serverUUID);
+        UserImportData interrupted = UserImportData.builder().uuid(UUID.randomUUID()).name("Test")
+                .nicknames(Arrays.asList(nickname, new Nickname("Other", 0L, serverUUID)))
+                .build();
+        writeUUIDs(new File(temporaryFolder.getRoot(), "import-test.progress.pending"), interrupted);
+        savedData.putRawData(PlayerKeys.SESSIONS, Collections.singletonList(
+                new Session(1, interrupted.getUuid(), serverUUID, 0L, 0L, 0, 0, 0)
+        ));
+        savedData.putRawData(PlayerKeys.NICKNAMES, Collections.singletonList(nickname));
+
+        ImportPipeline pipeline = createPipeline(2);
+        UserImportData other = createData();
+        pipeline.accept(interrupted);
+        pipeline.accept(other);
+        assertTrue(pipeline.finish());
+
+        ArgumentCaptor<Map<UUID, Map<UUID, List<Session>>>> sessions = ArgumentCaptor.forClass(Map.class);
+        verify(save).insertSessions(sessions.capture(), eq(true));
+        Map<UUID, List<Session>> savedSessions = sessions.getValue().get(serverUUID);
+        assertFalse(savedSessions.containsKey(interrupted.getUuid()));
+        assertTrue(savedSessions.containsKey(other.getUuid()));
+
+        ArgumentCaptor<Map<UUID, Map<UUID, List<Nickname>>>> nicknames = ArgumentCaptor.forClass(Map.class);
+        verify(save).insertNicknames(nicknames.capture());
+        List<Nickname> savedNicknames = nicknames.getValue().get(serverUUID).get(interrupted.getUuid());
+        assertEquals(1, savedNicknames.size());
+        assertEquals("Other", savedNicknames.get(0).getName());
+    }
+}
@@ -0,0 +1,70 @@
+package com.djrapitops.plan.system.processing.importing.importers;
+
+import com.djrapitops.plan.system.processing.importing.UserImportData;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link FileImporter}.
+ *
+ * @author Rsl1122
+ */
+public class FileImporterTest {
+
+    private final UUID serverUUID = UUID.randomUUID();
+    private final UUID playerUUID = UUID.randomUUID();
+
+    @Test
+    public void csvLineIsSplitRespectingQuotes() {
+        assertEquals(Arrays.asList("a", "b,c", "d\"e", ""), FileImporter.splitCSVLine("a,\"b,c\",\"d\"\"e\","));
+    }
+
+    @Test
+    public void csvRecordsAreRead() throws IOException {
+        String csv = "uuid,name,registered,op,banned,timesKicked,mobKills,deaths,ips,nicknames\n" +
+                playerUUID + ",Test,1000,true,false,2,3,4,127.0.0.1;127.0.0.2,\"Nick;Name\"\n" +
+                "\n" +
+                ",,,,,,,,,\n";
+        List<UserImportData> read = new ArrayList<>();
+        FileImporter.readCSV("test.csv", new BufferedReader(new StringReader(csv)), serverUUID, read::add);
+
+        assertEquals(1, read.size());
+        UserImportData data = read.get(0);
+        assertEquals(playerUUID, data.getUuid());
+        assertEquals("Test", data.getName());
+        assertEquals(1000L, data.getRegistered());
+        assertTrue(data.isOp());
+        assertFalse(data.isBanned());
+        assertEquals(2, data.getTimesKicked());
+        assertEquals(3, data.getMobKills());
+        assertEquals(4, data.getDeaths());
+        assertEquals(Arrays.asList("127.0.0.1", "127.0.0.2"), data.getIps());
+        assertEquals(2, data.getNicknames().size());
+    }
+
+    @Test
+    public void malformedJsonLinesAreSkipped() throws IOException {
+        String jsonLines = "{\"uuid\":\"" + playerUUID + "\",\"name\":\"Test\",\"ips\":[\"127.0.0.1\"],\"deaths\":5}\n" +
+                "{not json\n" +
+                "{\"name\":\"NoUUID\",\"registered\":\"yesterday\"}\n" +
+                "{\"name\":\"NoUUID\"}\n";
+        List<UserImportData> read = new ArrayList<>();
+        FileImporter.readJSONLines("test.jsonl", new BufferedReader(new StringReader(jsonLines)), serverUUID, read::add);
+
+        assertEquals(2, read.size());
+        assertEquals(playerUUID, read.get(0).getUuid());
+        assertEquals(5, read.get(0).getDeaths());
+        assertEquals(Arrays.asList("127.0.0.1"), read.get(0).getIps());
+        assertNull(read.get(1).getUuid());
+        assertEquals("NoUUID", read.get(1).getName());
+    }
+}
@@ -0,0 +1,53 @@
+package com.djrapitops.plan.system.settings;
+
+import org.junit.After;
+import org.junit.Test;
+import utilities.Teardown;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link SettingsSnapshot}.
+ *
+ * @author Rsl1122
+ */
+public class SettingsSnapshotTest {
+
+    @After
+    public void tearDown() {
+        Teardown.resetSettingsTempValues();
+    }
+
+    @Test
+    public void temporaryValuesAreUsedWithoutConfig() {
+        Settings.DEV_MODE.setTemporaryValue(true);
+        Settings.MAX_SESSIONS.setTemporaryValue(25);
+        Settings.FORMAT_DECIMALS.setTemporaryValue("#.##");
+
+        SettingsSnapshot snapshot = SettingsSnapshot.get();
+
+        assertTrue(snapshot.isDevMode());
+        assertEquals(25, snapshot.getMaxSessions());
+        assertEquals("#.##", snapshot.getFormatDecimals());
+    }
+
+    @Test
+    public void changedTemporaryValueReplacesSnapshot() {
+        Settings.DISPLAY_GAPS_IN_GRAPH_DATA.setTemporaryValue(true);
+        assertTrue(SettingsSnapshot.get().isDisplayGapsInGraphData());
+
+        Settings.DISPLAY_GAPS_IN_GRAPH_DATA.setTemporaryValue(false);
+        assertFalse(SettingsSnapshot.get().isDisplayGapsInGraphData());
+    }
+
+    @Test
+    public void thresholdsAreConvertedToMs() {
+        Settings.ACTIVE_PLAY_THRESHOLD.setTemporaryValue(30);
+        Settings.AFK_THRESHOLD_MINUTES.setTemporaryValue(3);
+
+        SettingsSnapshot snapshot = SettingsSnapshot.get();
+
+        assertEquals(30L * 60L * 1000L, snapshot.getActivePlayThresholdMs());
+        assertEquals(3L * 60L * 1000L, snapshot.getAfkThresholdMs());
+    }
+}
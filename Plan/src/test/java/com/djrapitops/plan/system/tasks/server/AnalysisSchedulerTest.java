@@ -0,0 +1,155 @@
+/*
+ * License is provided in the jar as LICENSE also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/LICENSE
+ */
+package com.djrapitops.plan.system.tasks.server;
+
+import com.djrapitops.plugin.api.TimeAmount;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link AnalysisScheduler}.
+ *
+ * @author Rsl1122
+ */
+public class AnalysisSchedulerTest {
+
+    private static final long PERIOD = TimeAmount.MINUTE.ms() * 60L;
+    private static final long BUDGET = 1000L;
+
+    @After
+    public void tearDown() {
+        AnalysisScheduler.reset();
+    }
+
+    private void runAnalysis(long cpuTime) {
+        AnalysisScheduler.analysisFinished(AnalysisScheduler.analysisStarted(), cpuTime, BUDGET);
+    }
+
+    @Test
+    public void firstAnalysisRuns() {
+        assertTrue(AnalysisScheduler.shouldRunPeriodic(System.currentTimeMillis(), PERIOD, 15));
+    }
+
+    @Test
+    public void analysisIsSkippedWithoutChanges() {
+        runAnalysis(0L);
+        long later = System.currentTimeMillis() + PERIOD * 2L;
+
+        assertFalse(AnalysisScheduler.shouldRunPeriodic(later, PERIOD, 15));
+        AnalysisScheduler.markChanged();
+        assertTrue(AnalysisScheduler.shouldRunPeriodic(later, PERIOD, 15));
+    }
+
+    @Test
+    public void analysisWaitsForRefreshPeriod() {
+        runAnalysis(0L);
+        AnalysisScheduler.markChanged();
+        long now = System.currentTimeMillis();
+
+        assertFalse(AnalysisScheduler.shouldRunPeriodic(now + PERIOD / 2L, PERIOD, 15));
+        assertTrue(AnalysisScheduler.shouldRunPeriodic(now + PERIOD + 1L, PERIOD, 15));
+    }
+
+    @Test
+    public void analysisIsPostponedForOnePeriodOnLowTPS() {
+        runAnalysis(0L);
+        AnalysisScheduler.markChanged();
+        AnalysisScheduler.markTPSSaved(10.0);
+        long now = System.currentTimeMillis();
+
+        assertFalse(AnalysisScheduler.shouldRunPeriodic(now + PERIOD + 1L, PERIOD, 15));
+        assertTrue(AnalysisScheduler.shouldRunPeriodic(now + PERIOD * 2L + 1L, PERIOD, 15));
+
+        AnalysisScheduler.markTPSSaved(20.0);
+        assertTrue(AnalysisScheduler.shouldRunPeriodic(now + PERIOD + 1L, PERIOD, 15));
+    }
+
+    @Test
+    public void refreshPeriodIsIncreasedWhenOverBudget() {
+        runAnalysis(BUDGET * 2L);
+        assertEquals(2, AnalysisScheduler.getBackOff());
+        runAnalysis(BUDGET * 2L);
+        assertEquals(4, AnalysisScheduler.getBackOff());
+
+        AnalysisScheduler.markChanged();
+        long now = System.currentTimeMillis();
+        assertFalse(AnalysisScheduler.shouldRunPeriodic(now + PERIOD * 3L, PERIOD, 15));
+        assertTrue(AnalysisScheduler.shouldRunPeriodic(now + PERIOD * 4L + 1L, PERIOD, 15));
+
+        runAnalysis(BUDGET / 2L);
+        assertEquals(1, AnalysisScheduler.getBackOff());
+    }
+
+    @Test
+    public void pageIsStaleAfterChanges() {
+        runAnalysis(0L);
+        long later = System.currentTimeMillis() + TimeAmount.MINUTE.ms() * 10L;
+
+        assertFalse(AnalysisScheduler.isStale(later, 15));
+        AnalysisScheduler.markChanged();
+        assertTrue(AnalysisScheduler.isStale(later, 15));
+        assertFalse(AnalysisScheduler.isStale(System.currentTimeMillis(), 15));
+    }
+
+    @Test
+    public void runningAnalysisIsNotStarted() {
+        AnalysisScheduler.analysisStarted();
+
+        assertFalse(AnalysisScheduler.shouldRunPeriodic(System.currentTimeMillis(), PERIOD, 15));
+        assertFalse(AnalysisScheduler.isStale(System.currentTimeMillis() + PERIOD, 15));
+    }
+
+    @Test
+    public void savedTPSIsNotAChange() {
+        runAnalysis(0L);
+        AnalysisScheduler.markTPSSaved(20.0);
+
+        assertFalse(AnalysisScheduler.hasChanges());
+    }
+
+    @Test
+    public void refreshIsSubmittedOnce() {
+        List<Runnable> submitted = new ArrayList<>();
+        AnalysisScheduler.refresh(submitted::add, () -> runAnalysis(0L));
+        AnalysisScheduler.refresh(submitted::add, () -> runAnalysis(0L));
+        assertEquals(1, submitted.size());
+
+        submitted.get(0).run();
+        AnalysisScheduler.refresh(submitted::add, () -> runAnalysis(0L));
+        assertEquals(2, submitted.size());
+    }
+
+    @Test
+    public void refreshIsReleasedWhenAnalysisDoesNotRun() {
+        List<Runnable> submitted = new ArrayList<>();
+        AnalysisScheduler.refresh(submitted::add, () -> {
+            /* Generated on another server */
+        });
+        submitted.get(0).run();
+
+        AnalysisScheduler.refresh(submitted::add, () -> runAnalysis(0L));
+        assertEquals(2, submitted.size());
+    }
+
+    @Test
+    public void refreshIsReleasedWhenSubmitFails() {
+        try {
+            AnalysisScheduler.refresh(task -> {
+                throw new RejectedExecutionException("Test");
+            }, () -> runAnalysis(0L));
+            fail("Submit failure was not thrown");
+        } catch (RejectedExecutionException expected) {
+            /* Expected */
+        }
+
+        assertTrue(AnalysisScheduler.shouldRunPeriodic(System.currentTimeMillis(), PERIOD, 15));
+    }
+}
@@ -0,0 +1,93 @@
+package com.djrapitops.plan.system.tasks.server;
+
+import com.djrapitops.plan.data.container.Ping;
+import com.djrapitops.plan.utilities.analysis.Median;
+import org.junit.Test;
+import utilities.RandomData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link PingBuffer}.
+ *
+ * @author Rsl1122
+ */
+public class PingBufferTest {
+
+    private final UUID serverUUID = UUID.randomUUID();
+
+    @Test
+    public void samplesAreCombined() {
+        PingBuffer buffer = new PingBuffer(30);
+        buffer.add(1000L, 50);
+        buffer.add(2000L, -1);
+        buffer.add(3000L, 70);
+        buffer.add(4000L, 100);
+
+        Ping ping = buffer.drain(serverUUID);
+
+        assertEquals(4000L, ping.getDate());
+        assertEquals(50, ping.getMin());
+        assertEquals(100, ping.getMax());
+        assertEquals(60.0, ping.getAverage(), 0.0);
+    }
+
+    @Test
+    public void drainEmptiesBuffer() {
+        PingBuffer buffer = new PingBuffer(30);
+        buffer.add(1000L, 50);
+        buffer.drain(serverUUID);
+
+        assertNull(buffer.drain(serverUUID));
+    }
+
+    @Test
+    public void badSamplesAreNotSaved() {
+        PingBuffer buffer = new PingBuffer(30);
+        buffer.add(1000L, -1);
+        buffer.add(2000L, 5000);
+
+        assertNull(buffer.drain(serverUUID));
+    }
+
+    @Test
+    public void oldestSamplesAreReplacedWhenFull() {
+        PingBuffer buffer = new PingBuffer(3);
+        buffer.add(1000L, 10);
+        buffer.add(2000L, 20);
+        buffer.add(3000L, 30);
+        buffer.add(4000L, 40);
+
+        Ping ping = buffer.drain(serverUUID);
+
+        assertEquals(20, ping.getMin());
+        assertEquals(40, ping.getMax());
+        assertEquals(30.0, ping.getAverage(), 0.0);
+    }
+
+    @Test
+    public void averageIsMedianOfSamples() {
+        PingBuffer buffer = new PingBuffer(30);
+        List<Integer> samples = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            int sample = RandomData.randomInt(1, 4000);
+            samples.add(sample);
+            buffer.add(i * 2000L, sample);
+        }
+        int expected = (int) Median.forInt(samples).calculate();
+
+        assertEquals(expected, buffer.drain(serverUUID).getAverage(), 0.0);
+    }
+
+    @Test
+    public void singleSampleIsAverage() {
+        PingBuffer buffer = new PingBuffer(30);
+        buffer.add(1000L, 50);
+
+        assertEquals(50.0, buffer.drain(serverUUID).getAverage(), 0.0);
+    }
+}
@@ -0,0 +1,121 @@
+package com.djrapitops.plan.system.webserver;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link RequestExecutor}.
+ *
+ * @author Rsl1122
+ */
+public class RequestExecutorTest {
+
+    private RequestExecutor executor;
+
+    @After
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void fullPageLaneRejectsRequests() throws InterruptedException {
+        executor = new RequestExecutor(1, 1, 1, false);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        assertTrue(executor.submitToPageLane(() -> {
+            started.countDown();
+            await(release);
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(executor.submitToPageLane(() -> {
+        }));
+        assertFalse(executor.submitToPageLane(() -> {
+        }));
+
+        assertEquals(1, executor.getInFlight());
+        assertEquals(1, executor.getQueued());
+        assertEquals(1, executor.getRejected());
+        release.countDown();
+    }
+
+    @Test
+    public void roomIsFreedWhenRequestIsDone() throws InterruptedException {
+        executor = new RequestExecutor(1, 1, 0, false);
+        CountDownLatch done = new CountDownLatch(1);
+
+        assertTrue(executor.submitToPageLane(done::countDown));
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        long waitUntil = System.currentTimeMillis() + 5000L;
+        while (executor.getInFlight() > 0 && System.currentTimeMillis() < waitUntil) {
+            Thread.sleep(1L);
+        }
+        assertTrue(executor.submitToPageLane(() -> {
+        }));
+        assertEquals(0, executor.getRejected());
+    }
+
+    @Test
+    public void cachedLaneRunsRequests() throws InterruptedException {
+        executor = new RequestExecutor(2, 1, 1, false);
+        CountDownLatch done = new CountDownLatch(3);
+
+        for (int i = 0; i < 3; i++) {
+            executor.getCachedLane().execute(done::countDown);
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void fullCachedLaneHandsRequestsToOverflowThread() throws InterruptedException {
+        executor = new RequestExecutor(1, 1, 0, false);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.getCachedLane().execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        // Fills the queue of the cached lane, its minimum size is 100.
+        for (int i = 0; i < 100; i++) {
+            executor.getCachedLane().execute(() -> {
+            });
+        }
+
+        Thread caller = Thread.currentThread();
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        AtomicBoolean overflow = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(1);
+        executor.getCachedLane().execute(() -> {
+            ranOn.set(Thread.currentThread());
+            overflow.set(executor.isOverflowRequest());
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertNotSame(caller, ranOn.get());
+        assertTrue(overflow.get());
+        assertEquals(1, executor.getRejected());
+        assertFalse(executor.isOverflowRequest());
+        release.countDown();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
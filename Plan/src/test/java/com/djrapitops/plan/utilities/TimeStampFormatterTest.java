@@ -0,0 +1,59 @@
+package com.djrapitops.plan.utilities;
+
+import com.djrapitops.plugin.api.TimeAmount;
+import org.junit.Test;
+
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link TimeStampFormatter}.
+ *
+ * @author Rsl1122
+ */
+public class TimeStampFormatterTest {
+
+    private final TimeStampFormatter formatter = new TimeStampFormatter(
+            false, "default",
+            true, "MMM d YYYY",
+            "MMM d YYYY, HH:mm:ss", "MMM d YYYY, HH:mm", "HH:mm:ss"
+    );
+
+    @Test
+    public void sameOutputAsSimpleDateFormat() {
+        String[] patterns = {
+                "MMM d YYYY, HH:mm:ss", "MMMMM d", "yyyy-MM-dd", "EEEE hh:mm a", "EEE, d MMM yyyy HH:mm:ss Z",
+                "'Day' D 'of' yy [G]", "h 'o''clock' a, zzzz"
+        };
+        long date = 1528000000000L;
+        for (String pattern : patterns) {
+            SimpleDateFormat expected = new SimpleDateFormat(pattern, Locale.ENGLISH);
+            expected.setTimeZone(TimeZone.getTimeZone("GMT"));
+
+            assertEquals(pattern, expected.format(date), formatter.format(date, pattern));
+        }
+    }
+
+    @Test
+    public void unsupportedPatternFallsBackToSimpleDateFormat() {
+        long date = 1528000000000L;
+        SimpleDateFormat expected = new SimpleDateFormat("u F", Locale.ENGLISH);
+        expected.setTimeZone(TimeZone.getTimeZone("GMT"));
+
+        assertEquals(expected.format(date), formatter.format(date, "u F"));
+    }
+
+    @Test
+    public void recentDaysAreReplaced() {
+        long now = System.currentTimeMillis();
+        long startOfToday = now - now % TimeAmount.DAY.ms();
+
+        assertEquals("Today", formatter.formatDay(startOfToday + 1L).split(" ")[0]);
+        assertEquals("Yesterday", formatter.formatDay(startOfToday - 1L).split(" ")[0]);
+        assertEquals(formatter.format(now - TimeAmount.DAY.ms() * 10L, "MMM d YYYY, HH:mm:ss"),
+                formatter.formatSecond(now - TimeAmount.DAY.ms() * 10L));
+    }
+}
@@ -0,0 +1,77 @@
+package com.djrapitops.plan.utilities.file.export;
+
+import com.djrapitops.plan.utilities.file.FileUtil;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ExportManifest}.
+ *
+ * @author Rsl1122
+ */
+public class ExportManifestTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void unchangedFileIsNotWrittenAgain() throws IOException {
+        File folder = temporaryFolder.newFolder();
+        ExportManifest manifest = ExportManifest.forFolder(folder);
+        File page = new File(folder, "index.html");
+        byte[] content = "<html></html>".getBytes(StandardCharsets.UTF_8);
+
+        assertTrue(manifest.update(page, content));
+        FileUtil.writeAtomically(page, content);
+
+        assertFalse(manifest.update(page, content));
+        assertTrue(manifest.getExportTime(page).isPresent());
+    }
+
+    @Test
+    public void changedFileIsWritten() throws IOException {
+        File folder = temporaryFolder.newFolder();
+        ExportManifest manifest = ExportManifest.forFolder(folder);
+        File page = new File(folder, "index.html");
+        byte[] content = "<html></html>".getBytes(StandardCharsets.UTF_8);
+        manifest.update(page, content);
+        FileUtil.writeAtomically(page, content);
+
+        assertTrue(manifest.update(page, "<html>Changed</html>".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void fileChangedOnDiskIsWritten() throws IOException {
+        File folder = temporaryFolder.newFolder();
+        ExportManifest manifest = ExportManifest.forFolder(folder);
+        File page = new File(folder, "index.html");
+        byte[] content = "<html></html>".getBytes(StandardCharsets.UTF_8);
+        manifest.update(page, content);
+        Files.write(page.toPath(), "edited".getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(manifest.update(page, content));
+    }
+
+    @Test
+    public void savedManifestIsWrittenToFolder() throws IOException {
+        File folder = temporaryFolder.newFolder();
+        ExportManifest manifest = ExportManifest.forFolder(folder);
+        File page = new File(new File(folder, "player"), "index.html");
+        manifest.update(page, "<html></html>".getBytes(StandardCharsets.UTF_8));
+
+        manifest.save();
+
+        String saved = new String(Files.readAllBytes(new File(folder, ".export-manifest").toPath()), StandardCharsets.UTF_8);
+        assertTrue(saved, saved.contains(ExportManifest.hash("<html></html>".getBytes(StandardCharsets.UTF_8))));
+        assertTrue(saved, saved.trim().endsWith("player" + File.separator + "index.html"));
+        assertEquals(1, folder.list().length);
+    }
+}
@@ -9,13 +9,14 @@ import com.djrapitops.plan.data.store.mutators.ActivityIndex;
 import com.djrapitops.plan.system.settings.Settings;
 import com.djrapitops.plan.utilities.html.graphs.line.*;
 import com.djrapitops.plan.utilities.html.graphs.stack.AbstractStackGraph;
+import com.djrapitops.plugin.api.TimeAmount;
 import org.junit.Before;
 import org.junit.Test;
 import utilities.RandomData;
 
 import java.util.*;
 
-import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.*;
 
 /**
  * Tests various Graphs.
@@ -66,6 +67,26 @@ public class GraphTest {
         }
     }
 
+    @Test
+    public void downsampledGraphHasNoGaps() {
+        Settings.DISPLAY_GAPS_IN_GRAPH_DATA.setTemporaryValue(true);
+        try {
+            List<Point> points = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                points.add(new Point(i * TimeAmount.MINUTE.ms() * 10L, i % 20));
+            }
+            AbstractLineGraph graph = new AbstractLineGraph(points);
+            graph.reducePoints(100);
+
+            String series = graph.toHighChartsSeries();
+
+            assertFalse(series.contains("null"));
+            assertEquals(100, graph.getReducedPoints().size());
+        } finally {
+            Settings.DISPLAY_GAPS_IN_GRAPH_DATA.setTemporaryValue(null);
+        }
+    }
+
     @Test
     public void testStackGraphsForBracketErrors() {
         Settings.FORMAT_DECIMALS.setTemporaryValue("#.##");
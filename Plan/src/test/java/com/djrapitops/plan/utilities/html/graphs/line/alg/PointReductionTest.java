@@ -0,0 +1,45 @@
+package com.djrapitops.plan.utilities.html.graphs.line.alg;
+
+import com.djrapitops.plan.utilities.html.graphs.line.Point;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link LargestTriangleThreeBuckets}.
+ *
+ * @author Rsl1122
+ */
+public class PointReductionTest {
+
+    @Test
+    public void largestTriangleThreeBucketsSelectsTargetCount() {
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            points.add(new Point(i, Math.sin(i / 100.0) * 20.0));
+        }
+
+        List<Point> result = LargestTriangleThreeBuckets.reducePoints(points, 500);
+
+        assertEquals(500, result.size());
+        assertEquals(points.get(0), result.get(0));
+        assertEquals(points.get(9999), result.get(499));
+        for (int i = 1; i < result.size(); i++) {
+            assertTrue(result.get(i - 1).getX() < result.get(i).getX());
+        }
+    }
+
+    @Test
+    public void largestTriangleThreeBucketsKeepsSmallSeries() {
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            points.add(new Point(i, i));
+        }
+
+        assertEquals(points, LargestTriangleThreeBuckets.reducePoints(points, 500));
+    }
+}
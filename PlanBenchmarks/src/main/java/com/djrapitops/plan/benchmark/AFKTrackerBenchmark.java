@@ -0,0 +1,90 @@
+package com.djrapitops.plan.benchmark;
+
+import com.djrapitops.plan.benchmark.legacy.HashMapAFKTracker;
+import com.djrapitops.plan.system.afk.AFKTracker;
+import com.djrapitops.plan.system.settings.Settings;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cost of a move event in {@link AFKTracker} against the previous HashMap based tracker.
+ * <p>
+ * Every invocation moves each online player once and advances the clock by a tick, like move events on the server
+ * thread. The contended benchmark adds async chat threads that act on the same players.
+ *
+ * @author Rsl1122
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AFKTrackerBenchmark {
+
+    private static final int PLAYERS = 200;
+    private static final long TICK_MS = 50L;
+
+    private UUID[] players;
+    private AFKTracker tracker;
+    private HashMapAFKTracker legacyTracker;
+    private long time;
+
+    @Setup
+    public void setUp() {
+        Settings.AFK_THRESHOLD_MINUTES.setTemporaryValue(3);
+        tracker = new AFKTracker();
+        legacyTracker = new HashMapAFKTracker();
+
+        players = new UUID[PLAYERS];
+        for (int i = 0; i < PLAYERS; i++) {
+            players[i] = UUID.randomUUID();
+        }
+        time = System.currentTimeMillis();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PLAYERS)
+    public void moveEvent() {
+        time += TICK_MS;
+        for (UUID player : players) {
+            tracker.performedAction(player, time);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PLAYERS)
+    public void moveEventLegacy() {
+        time += TICK_MS;
+        for (UUID player : players) {
+            legacyTracker.performedAction(player, time);
+        }
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    @OperationsPerInvocation(PLAYERS)
+    public void contendedMoveEvent() {
+        moveEvent();
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(3)
+    public void contendedChatEvent(ChatState chat) {
+        tracker.performedAction(players[chat.next()], System.currentTimeMillis());
+    }
+
+    @State(Scope.Thread)
+    public static class ChatState {
+        private int player;
+
+        int next() {
+            player = (player + 1) % PLAYERS;
+            return player;
+        }
+    }
+}
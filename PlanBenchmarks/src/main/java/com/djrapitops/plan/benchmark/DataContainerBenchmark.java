@@ -0,0 +1,76 @@
+package com.djrapitops.plan.benchmark;
+
+import com.djrapitops.plan.benchmark.legacy.HashMapDataContainer;
+import com.djrapitops.plan.data.store.Key;
+import com.djrapitops.plan.data.store.containers.DataContainer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares getUnsafe throughput of the slot-indexed {@link DataContainer} to the previous HashMap implementation.
+ * <p>
+ * Keys are created the same way as the AnalysisContainer creates its keys, and the lookups use a copy
+ * of the key to include equals/hashCode cost of the HashMap lookup.
+ *
+ * @author Rsl1122
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DataContainerBenchmark {
+
+    private static final int KEY_COUNT = 150;
+    private static final long TIME_TO_LIVE = TimeUnit.SECONDS.toMillis(30L);
+
+    private Key<Integer>[] lookupKeys;
+    private DataContainer slotContainer;
+    private HashMapDataContainer hashMapContainer;
+
+    @Setup
+    public void setUp() {
+        slotContainer = new DataContainer(TIME_TO_LIVE);
+        hashMapContainer = new HashMapDataContainer(TIME_TO_LIVE);
+        lookupKeys = new Key[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            Integer value = i;
+            Key<Integer> key = new Key<>(Integer.class, "BENCHMARK_KEY_" + i);
+            slotContainer.putSupplier(key, () -> value);
+            hashMapContainer.putSupplier(key, () -> value);
+            lookupKeys[i] = new Key<>(Integer.class, "BENCHMARK_KEY_" + i);
+        }
+    }
+
+    @Benchmark
+    public int slotIndexed() {
+        int sum = 0;
+        for (Key<Integer> key : lookupKeys) {
+            sum += slotContainer.getUnsafe(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int hashMap() {
+        int sum = 0;
+        for (Key<Integer> key : lookupKeys) {
+            sum += hashMapContainer.getUnsafe(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int slotIndexedContended() {
+        return slotIndexed();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int hashMapContended() {
+        return hashMap();
+    }
+}
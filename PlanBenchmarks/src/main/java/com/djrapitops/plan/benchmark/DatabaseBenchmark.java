@@ -0,0 +1,54 @@
+package com.djrapitops.plan.benchmark;
+
+import com.djrapitops.plan.benchmark.data.NetworkState;
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.containers.ServerContainer;
+import com.djrapitops.plan.data.time.WorldTimes;
+import com.djrapitops.plan.system.database.databases.sql.operation.SQLFetchOps;
+import com.djrapitops.plan.system.database.databases.sql.tables.SessionsTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link SQLFetchOps#getServerContainer(UUID)} and {@link SessionsTable#saveSession(UUID, Session)}
+ * against a generated network.
+ *
+ * @author Rsl1122
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DatabaseBenchmark {
+
+    private int saved;
+
+    @Benchmark
+    public ServerContainer getServerContainer(NetworkState network) {
+        return network.fetchServerContainer();
+    }
+
+    @Benchmark
+    public Session saveSession(NetworkState network) {
+        List<UUID> players = network.getPlayerUUIDs();
+        UUID uuid = players.get(saved % players.size());
+        // Sessions start after the generated ones so that the data set stays the same for the other benchmarks.
+        long start = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(saved++);
+        long end = start + TimeUnit.MINUTES.toMillis(30L);
+
+        Session session = new Session(-1, uuid, network.getServerUUID(), start, end, 5, 1, 0L);
+        WorldTimes worldTimes = new WorldTimes("world", "SURVIVAL", start);
+        worldTimes.updateState(end);
+        session.setWorldTimes(worldTimes);
+        session.setPlayerKills(new ArrayList<>());
+
+        network.getDb().getSessionsTable().saveSession(uuid, session);
+        return session;
+    }
+}
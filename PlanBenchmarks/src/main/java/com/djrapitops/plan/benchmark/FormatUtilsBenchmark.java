@@ -0,0 +1,108 @@
+package com.djrapitops.plan.benchmark;
+
+import com.djrapitops.plan.benchmark.legacy.SimpleDateFormatting;
+import com.djrapitops.plan.system.settings.Settings;
+import com.djrapitops.plan.utilities.FormatUtils;
+import com.djrapitops.plan.utilities.TimeStampFormatter;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link FormatUtils} with the cases of FormatUtilsTest, and compares time stamp formatting to the
+ * previous SimpleDateFormat per call implementation.
+ * <p>
+ * Settings are given as temporary values so that no config file is needed.
+ *
+ * @author Rsl1122
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatUtilsBenchmark {
+
+    private long[] dates;
+    private String[][] arrays;
+    private InetAddress ipv4;
+    private InetAddress ipv6;
+
+    @Setup
+    public void setUp() throws UnknownHostException {
+        Settings.USE_SERVER_TIME.setTemporaryValue(true);
+        Settings.LOCALE.setTemporaryValue("default");
+        Settings.FORMAT_DATE_RECENT_DAYS.setTemporaryValue(true);
+        Settings.FORMAT_DATE_RECENT_DAYS_PATTERN.setTemporaryValue("MMM d YYYY");
+        Settings.FORMAT_DATE_FULL.setTemporaryValue("MMM d YYYY, HH:mm:ss");
+        Settings.FORMAT_DATE_NO_SECONDS.setTemporaryValue("MMM d YYYY, HH:mm");
+        Settings.FORMAT_DATE_CLOCK.setTemporaryValue("HH:mm:ss");
+        Settings.FORMAT_DECIMALS.setTemporaryValue("#.##");
+        TimeStampFormatter.reload();
+
+        // Spread over two weeks so that every recent days case is formatted.
+        long now = System.currentTimeMillis();
+        dates = new long[1000];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = now - TimeUnit.DAYS.toMillis(14L) * i / dates.length;
+        }
+
+        arrays = new String[][]{new String[]{"a", "b"}, new String[]{"c", "d"}};
+        ipv4 = InetAddress.getByName("1.2.3.235");
+        ipv6 = InetAddress.getByName("1234:1234:1234:1234:1234:1234:1234:1234%0");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public int formatTimeStampSecond() {
+        int length = 0;
+        for (long date : dates) {
+            length += FormatUtils.formatTimeStampSecond(date).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public int formatTimeStampSecondLegacy() {
+        int length = 0;
+        for (long date : dates) {
+            length += SimpleDateFormatting.formatTimeStampSecond(date).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public int formatTimeStampYearAndClock() {
+        int length = 0;
+        for (long date : dates) {
+            length += FormatUtils.formatTimeStampYear(date).length();
+            length += FormatUtils.formatTimeStampClock(date).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public String[] mergeArrays() {
+        return FormatUtils.mergeArrays(arrays);
+    }
+
+    @Benchmark
+    public String cutDecimals() {
+        return FormatUtils.cutDecimals(0.05634);
+    }
+
+    @Benchmark
+    public String formatIP() {
+        return FormatUtils.formatIP(ipv4);
+    }
+
+    @Benchmark
+    public String formatIPv6() {
+        return FormatUtils.formatIP(ipv6);
+    }
+}
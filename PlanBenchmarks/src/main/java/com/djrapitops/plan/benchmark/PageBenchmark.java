@@ -0,0 +1,68 @@
+package com.djrapitops.plan.benchmark;
+
+import com.djrapitops.plan.api.exceptions.ParseException;
+import com.djrapitops.plan.benchmark.data.NetworkState;
+import com.djrapitops.plan.data.store.containers.AnalysisContainer;
+import com.djrapitops.plan.data.store.containers.ServerContainer;
+import com.djrapitops.plan.data.store.keys.AnalysisKeys;
+import com.djrapitops.plan.utilities.html.pages.AnalysisPage;
+import com.djrapitops.plan.utilities.html.pages.InspectPage;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link AnalysisContainer}, {@link AnalysisPage#toHtml()} and {@link InspectPage#toHtml()}.
+ * <p>
+ * The ServerContainer is fetched before each invocation so that analysis is measured without the queries,
+ * those are measured by {@link DatabaseBenchmark}. Inspect page includes the queries of the player.
+ *
+ * @author Rsl1122
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageBenchmark {
+
+    private int inspected;
+
+    @Benchmark
+    public void analysisContainer(FetchedServer server, Blackhole blackhole) {
+        AnalysisContainer container = new AnalysisContainer(server.container);
+        blackhole.consume(container.getUnsafe(AnalysisKeys.PLAYERS_TABLE));
+        blackhole.consume(container.getUnsafe(AnalysisKeys.ACTIVITY_STACK_SERIES));
+        blackhole.consume(container.getUnsafe(AnalysisKeys.PLAYERS_ONLINE_SERIES));
+        blackhole.consume(container.getUnsafe(AnalysisKeys.PUNCHCARD_SERIES));
+        blackhole.consume(container.getUnsafe(AnalysisKeys.CALENDAR_SERIES));
+        blackhole.consume(container.getUnsafe(AnalysisKeys.HEALTH_INDEX));
+        blackhole.consume(container.getUnsafe(AnalysisKeys.PLAYERS_RETAINED_MONTH));
+    }
+
+    @Benchmark
+    public String analysisPage(FetchedServer server) throws ParseException {
+        return new AnalysisPage(new AnalysisContainer(server.container)).toHtml();
+    }
+
+    @Benchmark
+    public String inspectPage(NetworkState network) throws ParseException {
+        List<UUID> players = network.getPlayerUUIDs();
+        return new InspectPage(players.get(inspected++ % players.size())).toHtml();
+    }
+
+    @State(Scope.Thread)
+    public static class FetchedServer {
+
+        private ServerContainer container;
+
+        @Setup(Level.Invocation)
+        public void fetch(NetworkState network) {
+            container = network.fetchServerContainer();
+        }
+    }
+}
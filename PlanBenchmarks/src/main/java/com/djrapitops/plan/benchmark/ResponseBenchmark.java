@@ -0,0 +1,82 @@
+package com.djrapitops.plan.benchmark;
+
+import com.djrapitops.plan.benchmark.data.NetworkState;
+import com.djrapitops.plan.data.store.containers.AnalysisContainer;
+import com.djrapitops.plan.system.locale.LangCode;
+import com.djrapitops.plan.system.locale.Locale;
+import com.djrapitops.plan.system.webserver.response.Response;
+import com.djrapitops.plan.system.webserver.response.TextResponse;
+import com.djrapitops.plan.utilities.html.pages.AnalysisPage;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * Benchmarks {@link Response#send(HttpExchange, Locale)} and {@link Locale#replaceMatchingLanguage(String)}
+ * with the analysis page of a generated network.
+ * <p>
+ * The response is written to a stream that discards the bytes, so the measurement is translation and compression.
+ *
+ * @author Rsl1122
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseBenchmark {
+
+    private String html;
+    private Response response;
+    private HttpExchange exchange;
+    private Locale english;
+    private Locale finnish;
+
+    @Setup
+    public void setUp(NetworkState network) throws Exception {
+        html = new AnalysisPage(new AnalysisContainer(network.fetchServerContainer())).toHtml();
+        response = new TextResponse(html);
+        response.setResponseHeaders(new Headers());
+
+        exchange = Mockito.mock(HttpExchange.class);
+        doReturn(new DiscardingOutputStream()).when(exchange).getResponseBody();
+
+        english = new Locale();
+        finnish = Locale.forLangCode(LangCode.FI);
+    }
+
+    @Benchmark
+    public void send() throws IOException {
+        response.send(exchange, english);
+    }
+
+    @Benchmark
+    public void sendTranslated() throws IOException {
+        response.send(exchange, finnish);
+    }
+
+    @Benchmark
+    public String replaceMatchingLanguage() {
+        return finnish.replaceMatchingLanguage(html);
+    }
+
+    private static class DiscardingOutputStream extends OutputStream {
+        @Override
+        public void write(int b) {
+            // Discarded
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            // Discarded
+        }
+    }
+}
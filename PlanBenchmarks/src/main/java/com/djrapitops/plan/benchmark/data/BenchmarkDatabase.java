@@ -0,0 +1,111 @@
+package com.djrapitops.plan.benchmark.data;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfiguration;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import com.djrapitops.plan.api.exceptions.database.DBInitException;
+import com.djrapitops.plan.system.database.databases.sql.MySQLDB;
+import com.djrapitops.plan.system.database.databases.sql.SQLDB;
+import com.djrapitops.plan.system.database.databases.sql.SQLiteDB;
+import com.djrapitops.plan.system.locale.Locale;
+import com.djrapitops.plan.system.settings.Settings;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Databases the benchmarks can be run against.
+ * <p>
+ * Generated SQLite data sets are kept in {@code benchmark-data} of the working directory and reused by later forks
+ * and runs, since generating a large network takes longer than the benchmarks. Every fork opens a copy of the data set.
+ * MySQL is an embedded MariaDB server, a stand-in that runs the MySQL queries of Plan without an external server.
+ * Its data is generated once per fork.
+ *
+ * @author Rsl1122
+ */
+public enum BenchmarkDatabase {
+
+    SQLITE {
+        @Override
+        public SQLDB open(NetworkDataGenerator generator) throws DBInitException, IOException {
+            File folder = new File("benchmark-data");
+            if (!folder.isDirectory() && !folder.mkdirs()) {
+                throw new IOException("Could not create " + folder.getAbsolutePath());
+            }
+            File dbFile = new File(folder, generator.getDataSetName() + ".db");
+            File generated = new File(folder, generator.getDataSetName() + ".done");
+
+            if (!dbFile.exists() || !generated.exists()) {
+                if (dbFile.exists() && !dbFile.delete()) {
+                    throw new IOException("Could not delete incomplete data set " + dbFile.getAbsolutePath());
+                }
+                SQLiteDB generating = new SQLiteDB(dbFile, Locale::new);
+                generating.init();
+                generator.generate(generating);
+                generating.close();
+                if (!generated.createNewFile()) {
+                    throw new IOException("Could not mark " + dbFile.getAbsolutePath() + " as generated");
+                }
+            }
+
+            // Each fork uses a copy so that benchmarks that write do not change the data set of later runs.
+            File copy = File.createTempFile(generator.getDataSetName(), ".db");
+            copy.deleteOnExit();
+            Files.copy(dbFile.toPath(), copy.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+            SQLiteDB db = new SQLiteDB(copy, Locale::new);
+            db.init();
+            return db;
+        }
+    },
+    MYSQL {
+        @Override
+        public SQLDB open(NetworkDataGenerator generator) throws DBInitException, IOException {
+            String database = generator.getDataSetName().replace('-', '_');
+            int port = startMariaDB(database);
+
+            Settings.DB_HOST.setTemporaryValue("localhost");
+            Settings.DB_PORT.setTemporaryValue(port);
+            Settings.DB_USER.setTemporaryValue("root");
+            Settings.DB_PASS.setTemporaryValue("");
+            Settings.DB_DATABASE.setTemporaryValue(database);
+            Settings.DB_LAUNCH_OPTIONS.setTemporaryValue("?rewriteBatchedStatements=true&useSSL=false");
+
+            MySQLDB db = new MySQLDB(Locale::new);
+            db.init();
+            generator.generate(db);
+            return db;
+        }
+    };
+
+    private static DB mariaDB;
+    private static int mariaDBPort;
+
+    private static synchronized int startMariaDB(String database) throws IOException {
+        try {
+            if (mariaDB == null) {
+                DBConfiguration configuration = DBConfigurationBuilder.newBuilder().setPort(0).build();
+                mariaDB = DB.newEmbeddedDB(configuration);
+                mariaDB.start();
+                mariaDBPort = configuration.getPort();
+            }
+            mariaDB.createDB(database);
+            return mariaDBPort;
+        } catch (ManagedProcessException e) {
+            throw new IOException("Embedded MariaDB failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Open the database with the data set of the generator in it.
+     *
+     * @param generator Generator of the data set.
+     * @return Initialized database.
+     * @throws DBInitException If the database fails to initialize.
+     * @throws IOException     If the data set files or the embedded server fail.
+     */
+    public abstract SQLDB open(NetworkDataGenerator generator) throws DBInitException, IOException;
+}
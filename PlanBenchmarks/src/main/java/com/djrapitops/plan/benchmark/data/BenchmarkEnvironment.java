@@ -0,0 +1,121 @@
+package com.djrapitops.plan.benchmark.data;
+
+import com.djrapitops.plan.Plan;
+import com.djrapitops.plan.api.exceptions.EnableException;
+import com.djrapitops.plan.api.exceptions.database.DBException;
+import com.djrapitops.plan.system.BukkitSystem;
+import com.djrapitops.plan.system.database.DBSystem;
+import com.djrapitops.plan.system.database.databases.sql.SQLDB;
+import com.djrapitops.plan.system.settings.Settings;
+import com.djrapitops.plugin.StaticHolder;
+import com.djrapitops.plugin.task.RunnableFactory;
+import com.djrapitops.plugin.task.ThreadRunnable;
+import org.bukkit.Server;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.plugin.InvalidDescriptionException;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.logging.Logger;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Bukkit version of Plan with a mocked plugin and server, for benchmarks that need the plugin systems.
+ * <p>
+ * Resources are read from the Plan jar on the class path, the data folder is a temporary folder.
+ * File, config, locale, database and server info systems are enabled, the rest of the plugin is not.
+ *
+ * @author Rsl1122
+ */
+public class BenchmarkEnvironment {
+
+    private final BukkitSystem system;
+
+    private BenchmarkEnvironment(BukkitSystem system) {
+        this.system = system;
+    }
+
+    /**
+     * Enable the systems needed before a database can be opened.
+     *
+     * @return Environment to give the database to with {@link #useDatabase(SQLDB)}.
+     * @throws Exception If the plugin could not be mocked or a system failed to enable.
+     */
+    public static BenchmarkEnvironment setUp() throws Exception {
+        RunnableFactory.activateTestMode();
+        for (Settings settings : Settings.values()) {
+            settings.setTemporaryValue(null);
+        }
+
+        Plan planMock = mockPlugin(Files.createTempDirectory("plan-benchmark").toFile());
+        BukkitSystem system = new BukkitSystem(planMock);
+        system.getFileSystem().enable();
+        system.getConfigSystem().enable();
+        system.getLocaleSystem().enable();
+
+        // Statement timings would end up in the measurements.
+        Settings.DEV_MODE.setTemporaryValue(false);
+        Settings.DB_SLOW_QUERY_THRESHOLD.setTemporaryValue(0);
+        return new BenchmarkEnvironment(system);
+    }
+
+    private static Plan mockPlugin(File dataFolder) throws IOException, InvalidDescriptionException {
+        Plan planMock = Mockito.mock(Plan.class);
+        StaticHolder.register(Plan.class, planMock);
+        StaticHolder.register(planMock);
+        StaticHolder.saveInstance(BenchmarkEnvironment.class, Plan.class);
+        StaticHolder.saveInstance(ThreadRunnable.class, Plan.class);
+
+        doCallRealMethod().when(planMock).getVersion();
+        doCallRealMethod().when(planMock).getColorScheme();
+        doReturn(dataFolder).when(planMock).getDataFolder();
+        doReturn(Logger.getLogger("Plan")).when(planMock).getLogger();
+        doAnswer(invocation -> getResource(invocation.getArgument(0))).when(planMock).getResource(anyString());
+        try (InputStream pluginYml = getResource("plugin.yml")) {
+            doReturn(new PluginDescriptionFile(pluginYml)).when(planMock).getDescription();
+        }
+
+        Server serverMock = Mockito.mock(Server.class);
+        doReturn("").when(serverMock).getIp();
+        doReturn("Bukkit").when(serverMock).getName();
+        doReturn("Bukkit").when(serverMock).getServerName();
+        doReturn(25565).when(serverMock).getPort();
+        doReturn("1.12.2").when(serverMock).getVersion();
+        doReturn("1.12.2-R0.1-SNAPSHOT").when(serverMock).getBukkitVersion();
+        doReturn(100).when(serverMock).getMaxPlayers();
+        doReturn(Mockito.mock(ConsoleCommandSender.class)).when(serverMock).getConsoleSender();
+        doReturn(Mockito.mock(BukkitScheduler.class)).when(serverMock).getScheduler();
+        doReturn(serverMock).when(planMock).getServer();
+        return planMock;
+    }
+
+    private static InputStream getResource(String resource) {
+        return BenchmarkEnvironment.class.getResourceAsStream("/" + resource);
+    }
+
+    /**
+     * Make the database the active database and register the benchmark server to it.
+     *
+     * @param db Initialized database.
+     * @throws EnableException If server info system fails to enable.
+     * @throws DBException     If the previous database fails to close.
+     */
+    public void useDatabase(SQLDB db) throws EnableException, DBException {
+        DBSystem dbSystem = system.getDatabaseSystem();
+        if (dbSystem.getActiveDatabase() == null) {
+            dbSystem.enable();
+        }
+        dbSystem.setActiveDatabase(db);
+        system.getServerInfo().enable();
+    }
+
+    public void tearDown() {
+        system.disable();
+    }
+}
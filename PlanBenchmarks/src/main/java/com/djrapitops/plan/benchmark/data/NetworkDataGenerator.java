@@ -0,0 +1,216 @@
+package com.djrapitops.plan.benchmark.data;
+
+import com.djrapitops.plan.data.container.*;
+import com.djrapitops.plan.data.store.objects.Nickname;
+import com.djrapitops.plan.data.time.GMTimes;
+import com.djrapitops.plan.data.time.WorldTimes;
+import com.djrapitops.plan.system.database.databases.sql.SQLDB;
+import com.djrapitops.plan.system.info.server.Server;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates a synthetic network into a database: servers, players, sessions with kills and world times,
+ * pings, TPS, nicknames, IPs and commands.
+ * <p>
+ * All values come from a Random with a fixed seed, so the same parameters always produce the same data set.
+ * Dates are relative to the start of the current day to keep the data inside Plan's analysis windows.
+ *
+ * @author Rsl1122
+ */
+public class NetworkDataGenerator {
+
+    private static final long DAY = TimeUnit.DAYS.toMillis(1L);
+    private static final long MINUTE = TimeUnit.MINUTES.toMillis(1L);
+    private static final String[] GMS = GMTimes.getGMKeyArray();
+    private static final String[] WORLDS = {"world", "world_nether", "world_the_end", "lobby", "arena"};
+    private static final String[] COMMANDS = {"/spawn", "/home", "/tpa", "/warp", "/plan", "/msg", "/kit", "/help"};
+    private static final String[] WEAPONS = {"DIAMOND_SWORD", "IRON_SWORD", "BOW", "IRON_AXE"};
+    private static final String[] COUNTRIES = {"Finland", "Germany", "United States", "Brazil", "Japan", "Not Known"};
+
+    private final int servers;
+    private final int players;
+    private final int sessionsPerPlayer;
+    private final int killsPerSession;
+    private final int pingsPerPlayer;
+    private final int tpsMonths;
+    private final long seed;
+
+    private final long now;
+    private final List<UUID> serverUUIDs;
+    private final List<UUID> playerUUIDs;
+
+    public NetworkDataGenerator(int servers, int players, int sessionsPerPlayer, int killsPerSession,
+                                int pingsPerPlayer, int tpsMonths, long seed) {
+        this.servers = servers;
+        this.players = players;
+        this.sessionsPerPlayer = sessionsPerPlayer;
+        this.killsPerSession = killsPerSession;
+        this.pingsPerPlayer = pingsPerPlayer;
+        this.tpsMonths = tpsMonths;
+        this.seed = seed;
+
+        long time = System.currentTimeMillis();
+        now = time - time % DAY;
+
+        Random random = new Random(seed);
+        serverUUIDs = randomUUIDs(random, servers);
+        playerUUIDs = randomUUIDs(random, players);
+    }
+
+    private static List<UUID> randomUUIDs(Random random, int count) {
+        List<UUID> uuids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            uuids.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        return uuids;
+    }
+
+    /**
+     * Name that identifies the parameters of the generated data set.
+     *
+     * @return eg. {@code network-s10-p5000-x10-k1-g10-t1-42}
+     */
+    public String getDataSetName() {
+        return "network-s" + servers + "-p" + players + "-x" + sessionsPerPlayer + "-k" + killsPerSession +
+                "-g" + pingsPerPlayer + "-t" + tpsMonths + "-" + seed;
+    }
+
+    public List<UUID> getServerUUIDs() {
+        return serverUUIDs;
+    }
+
+    public List<UUID> getPlayerUUIDs() {
+        return playerUUIDs;
+    }
+
+    public void generate(SQLDB db) {
+        // Separate from the Random of the UUIDs so that the data set is the same when only UUIDs are needed.
+        Random random = new Random(seed + 1);
+
+        List<Server> serverList = new ArrayList<>();
+        for (int i = 0; i < servers; i++) {
+            serverList.add(new Server(-1, serverUUIDs.get(i), "Server " + (i + 1), "http://localhost:" + (8804 + i), 100));
+        }
+        db.getServerTable().insertAllServers(serverList);
+        for (UUID serverUUID : serverUUIDs) {
+            db.getWorldTable().saveWorlds(Arrays.asList(WORLDS), serverUUID);
+        }
+
+        Map<UUID, UserInfo> users = new HashMap<>();
+        Map<UUID, List<UserInfo>> userInfo = new HashMap<>();
+        Map<UUID, Map<UUID, List<Session>>> sessions = new HashMap<>();
+        Map<UUID, Map<UUID, List<Nickname>>> nicknames = new HashMap<>();
+        Map<UUID, List<GeoInfo>> geoInfo = new HashMap<>();
+        Map<UUID, List<Ping>> pings = new HashMap<>();
+
+        for (int i = 0; i < players; i++) {
+            UUID uuid = playerUUIDs.get(i);
+            String name = "Player" + i;
+            long registered = now - (long) (random.nextDouble() * DAY * 30L * Math.max(tpsMonths, 1));
+            users.put(uuid, new UserInfo(uuid, name, registered, random.nextInt(100) == 0, random.nextInt(50) == 0));
+
+            List<UUID> playedOn = serversOf(random);
+            for (UUID serverUUID : playedOn) {
+                userInfo.computeIfAbsent(serverUUID, key -> new ArrayList<>())
+                        .add(new UserInfo(uuid, name, registered, false, false));
+                nicknames.computeIfAbsent(serverUUID, key -> new HashMap<>())
+                        .put(uuid, Collections.singletonList(new Nickname("§a" + name, registered, serverUUID)));
+            }
+
+            for (int s = 0; s < sessionsPerPlayer; s++) {
+                UUID serverUUID = playedOn.get(random.nextInt(playedOn.size()));
+                Session session = randomSession(random, uuid, serverUUID, registered);
+                sessions.computeIfAbsent(serverUUID, key -> new HashMap<>())
+                        .computeIfAbsent(uuid, key -> new ArrayList<>())
+                        .add(session);
+            }
+
+            String ip = (i >> 16 & 255) + "." + (i >> 8 & 255) + ".xx.xx";
+            geoInfo.put(uuid, Collections.singletonList(new GeoInfo(ip, COUNTRIES[random.nextInt(COUNTRIES.length)],
+                    registered, Integer.toHexString(ip.hashCode()))));
+
+            List<Ping> playerPings = new ArrayList<>();
+            for (int p = 0; p < pingsPerPlayer; p++) {
+                int min = 10 + random.nextInt(100);
+                playerPings.add(new Ping(registered + p * MINUTE, playedOn.get(0), min, min + random.nextInt(200), min + 50.0));
+            }
+            pings.put(uuid, playerPings);
+        }
+
+        db.getUsersTable().insertUsers(users);
+        db.getUserInfoTable().insertUserInfo(userInfo);
+        db.getNicknamesTable().insertNicknames(nicknames);
+        db.getGeoInfoTable().insertAllGeoInfo(geoInfo);
+        db.getPingTable().insertAllPings(pings);
+        db.getSessionsTable().insertSessions(sessions, true);
+        insertCommands(db, random);
+        insertTPS(db, random);
+    }
+
+    private List<UUID> serversOf(Random random) {
+        int count = Math.min(1 + random.nextInt(3), servers);
+        Set<UUID> playedOn = new LinkedHashSet<>();
+        while (playedOn.size() < count) {
+            playedOn.add(serverUUIDs.get(random.nextInt(servers)));
+        }
+        return new ArrayList<>(playedOn);
+    }
+
+    private Session randomSession(Random random, UUID uuid, UUID serverUUID, long registered) {
+        long start = registered + (long) (random.nextDouble() * (now - registered));
+        long length = MINUTE + (long) (random.nextDouble() * TimeUnit.HOURS.toMillis(3L));
+        long end = Math.min(start + length, now);
+        long afk = (long) ((end - start) * random.nextDouble() * 0.2);
+
+        Session session = new Session(-1, uuid, serverUUID, start, end, random.nextInt(20), random.nextInt(3), afk);
+
+        Map<String, GMTimes> times = new HashMap<>();
+        String world = WORLDS[random.nextInt(WORLDS.length)];
+        Map<String, Long> gmTimes = new HashMap<>();
+        for (String gm : GMS) {
+            gmTimes.put(gm, 0L);
+        }
+        gmTimes.put(GMS[0], end - start);
+        times.put(world, new GMTimes(gmTimes));
+        session.setWorldTimes(new WorldTimes(times));
+
+        List<PlayerKill> kills = new ArrayList<>();
+        for (int k = 0; k < killsPerSession; k++) {
+            UUID victim = playerUUIDs.get(random.nextInt(players));
+            kills.add(new PlayerKill(victim, WEAPONS[random.nextInt(WEAPONS.length)], start + (end - start) / 2));
+        }
+        session.setPlayerKills(kills);
+        return session;
+    }
+
+    private void insertCommands(SQLDB db, Random random) {
+        Map<UUID, Map<String, Integer>> commandUse = new HashMap<>();
+        for (UUID serverUUID : serverUUIDs) {
+            Map<String, Integer> commands = new HashMap<>();
+            for (String command : COMMANDS) {
+                commands.put(command, random.nextInt(players * 10 + 1));
+            }
+            commandUse.put(serverUUID, commands);
+        }
+        db.getCommandUseTable().insertCommandUsage(commandUse);
+    }
+
+    private void insertTPS(SQLDB db, Random random) {
+        long days = 30L * tpsMonths;
+        for (UUID serverUUID : serverUUIDs) {
+            // One day per batch to keep the batches a reasonable size.
+            for (long day = days; day > 0; day--) {
+                long dayStart = now - day * DAY;
+                List<TPS> tpsList = new ArrayList<>();
+                for (long date = dayStart; date < dayStart + DAY; date += MINUTE) {
+                    tpsList.add(new TPS(date, 15.0 + random.nextDouble() * 5.0, random.nextInt(100),
+                            random.nextDouble() * 100.0, 1000L + random.nextInt(3000),
+                            random.nextInt(5000), random.nextInt(2000)));
+                }
+                db.getTpsTable().insertAllTPS(Collections.singletonMap(serverUUID, tpsList));
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.djrapitops.plan.benchmark.data;
+
+import com.djrapitops.plan.data.store.containers.ServerContainer;
+import com.djrapitops.plan.data.store.keys.ServerKeys;
+import com.djrapitops.plan.system.database.databases.sql.SQLDB;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JMH state with a generated network in the active database.
+ * <p>
+ * The size of the network can be changed from the command line, eg. {@code -p players=100000 -p database=MYSQL}.
+ * Seed is fixed so that results of separate runs with the same parameters are measured on the same data.
+ *
+ * @author Rsl1122
+ */
+@State(Scope.Benchmark)
+public class NetworkState {
+
+    @Param({"SQLITE"})
+    public BenchmarkDatabase database;
+
+    @Param({"10"})
+    public int servers;
+
+    @Param({"5000"})
+    public int players;
+
+    @Param({"10"})
+    public int sessionsPerPlayer;
+
+    @Param({"1"})
+    public int killsPerSession;
+
+    @Param({"10"})
+    public int pingsPerPlayer;
+
+    @Param({"1"})
+    public int tpsMonths;
+
+    @Param({"42"})
+    public long seed;
+
+    private BenchmarkEnvironment environment;
+    private NetworkDataGenerator generator;
+    private SQLDB db;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        environment = BenchmarkEnvironment.setUp();
+        generator = new NetworkDataGenerator(servers, players, sessionsPerPlayer, killsPerSession,
+                pingsPerPlayer, tpsMonths, seed);
+        db = database.open(generator);
+        environment.useDatabase(db);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        environment.tearDown();
+        db.close();
+    }
+
+    public SQLDB getDb() {
+        return db;
+    }
+
+    /**
+     * Get the server the benchmarks analyze.
+     *
+     * @return UUID of the first generated server.
+     */
+    public UUID getServerUUID() {
+        return generator.getServerUUIDs().get(0);
+    }
+
+    /**
+     * Fetch the container of the analyzed server with every value that is read from the database loaded.
+     *
+     * @return ServerContainer that can be analyzed without queries.
+     */
+    public ServerContainer fetchServerContainer() {
+        ServerContainer container = db.fetch().getServerContainer(getServerUUID());
+        container.getUnsafe(ServerKeys.PLAYERS);
+        container.getUnsafe(ServerKeys.TPS);
+        container.getUnsafe(ServerKeys.COMMAND_USAGE);
+        container.getUnsafe(ServerKeys.WORLD_TIMES);
+        container.getValue(ServerKeys.ALL_TIME_PEAK_PLAYERS);
+        container.getValue(ServerKeys.RECENT_PEAK_PLAYERS);
+        return container;
+    }
+
+    public List<UUID> getPlayerUUIDs() {
+        return generator.getPlayerUUIDs();
+    }
+}
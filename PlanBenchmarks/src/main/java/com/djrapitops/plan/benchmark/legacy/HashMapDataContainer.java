@@ -0,0 +1,61 @@
+package com.djrapitops.plan.benchmark.legacy;
+
+import com.djrapitops.plan.data.store.Key;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Copy of the HashMap based DataContainer and unsynchronized CachingSupplier of Plan 4.3.0,
+ * used as the baseline in {@link com.djrapitops.plan.benchmark.DataContainerBenchmark}.
+ *
+ * @author Rsl1122
+ */
+public class HashMapDataContainer {
+
+    private final Map<Key, Supplier> map;
+    private final long timeToLive;
+
+    public HashMapDataContainer(long timeToLive) {
+        this.timeToLive = timeToLive;
+        map = new HashMap<>();
+    }
+
+    public <T> void putSupplier(Key<T> key, Supplier<T> supplier) {
+        if (supplier == null) {
+            return;
+        }
+        map.put(key, new UnsafeCachingSupplier<>(supplier, timeToLive));
+    }
+
+    public <T> T getUnsafe(Key<T> key) {
+        Supplier supplier = map.get(key);
+        if (supplier == null) {
+            throw new IllegalArgumentException("Unsupported Key: " + key.getKeyName());
+        }
+        return (T) supplier.get();
+    }
+
+    private static class UnsafeCachingSupplier<T> implements Supplier<T> {
+
+        private final Supplier<T> original;
+        private final long timeToLive;
+        private T cachedValue;
+        private long cacheTime;
+
+        UnsafeCachingSupplier(Supplier<T> original, long timeToLive) {
+            this.original = original;
+            this.timeToLive = timeToLive;
+        }
+
+        @Override
+        public T get() {
+            if (cachedValue == null || System.currentTimeMillis() - cacheTime > timeToLive) {
+                cachedValue = original.get();
+                cacheTime = System.currentTimeMillis();
+            }
+            return cachedValue;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.djrapitops.plan.benchmark.legacy;
+
+import com.djrapitops.plan.system.settings.Settings;
+import com.djrapitops.plugin.api.TimeAmount;
+
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Copy of the time stamp formatting FormatUtils did before TimeStampFormatter, for comparison in benchmarks.
+ *
+ * @author Rsl1122
+ */
+public class SimpleDateFormatting {
+
+    private SimpleDateFormatting() {
+        /* Static method class */
+    }
+
+    public static String formatTimeStampSecond(long epochMs) {
+        String format = Settings.FORMAT_DATE_FULL.toString();
+
+        if (Settings.FORMAT_DATE_RECENT_DAYS.isTrue()) {
+            format = replaceRecentDays(epochMs, format, Settings.FORMAT_DATE_RECENT_DAYS_PATTERN.toString());
+        }
+
+        return format(epochMs, format);
+    }
+
+    private static String format(long epochMs, String format) {
+        boolean useServerTime = Settings.USE_SERVER_TIME.isTrue();
+        String locale = Settings.LOCALE.toString();
+        Locale usedLocale = locale.equalsIgnoreCase("default") ? Locale.ENGLISH : Locale.forLanguageTag(locale);
+        SimpleDateFormat dateFormat = new SimpleDateFormat(format, usedLocale);
+        TimeZone timeZone = useServerTime ? TimeZone.getDefault() : TimeZone.getTimeZone("GMT");
+        dateFormat.setTimeZone(timeZone);
+        return dateFormat.format(epochMs);
+    }
+
+    private static String replaceRecentDays(long epochMs, String format, String pattern) {
+        long now = System.currentTimeMillis();
+
+        long fromStartOfDay = now % TimeAmount.DAY.ms();
+        if (epochMs > now - fromStartOfDay) {
+            format = format.replace(pattern, "'Today'");
+        } else if (epochMs > now - TimeAmount.DAY.ms() - fromStartOfDay) {
+            format = format.replace(pattern, "'Yesterday'");
+        } else if (epochMs > now - TimeAmount.DAY.ms() * 5L) {
+            format = format.replace(pattern, "EEEE");
+        }
+        return format;
+    }
+}
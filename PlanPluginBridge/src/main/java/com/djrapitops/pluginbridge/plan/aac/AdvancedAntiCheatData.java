@@ -7,6 +7,7 @@ package com.djrapitops.pluginbridge.plan.aac;
 import com.djrapitops.plan.data.element.AnalysisContainer;
 import com.djrapitops.plan.data.element.InspectContainer;
 import com.djrapitops.plan.data.element.TableContainer;
+import com.djrapitops.plan.data.plugin.BulkPluginData;
 import com.djrapitops.plan.data.plugin.ContainerSize;
 import com.djrapitops.plan.data.plugin.PluginData;
 import com.djrapitops.plan.utilities.FormatUtils;
@@ -15,18 +16,15 @@ import com.djrapitops.plan.utilities.html.icon.Family;
 import com.djrapitops.plan.utilities.html.icon.Icon;
 import com.djrapitops.plugin.utilities.Format;
 
-import java.util.Collection;
-import java.util.List;
-import java.util.Map;
-import java.util.UUID;
-import java.util.stream.Collectors;
+import java.io.Serializable;
+import java.util.*;
 
 /**
  * PluginData for AAC plugin.
  *
  * @author Rsl1122
  */
-public class AdvancedAntiCheatData extends PluginData {
+public class AdvancedAntiCheatData extends PluginData implements BulkPluginData {
 
     private final HackerTable table;
 
@@ -63,14 +61,15 @@ public class AdvancedAntiCheatData extends PluginData {
     }
 
     @Override
-    public AnalysisContainer getServerData(Collection<UUID> collection, AnalysisContainer analysisContainer) throws Exception {
-        Map<UUID, List<HackObject>> hackObjects = table.getHackObjects();
-
-        Map<UUID, Integer> violations = hackObjects.entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().size()));
-
-        analysisContainer.addPlayerTableValues(getWithIcon("Kicked for Hacking", Icon.called("exclamation-triangle")), violations);
-
+    public AnalysisContainer getServerData(Collection<UUID> collection, AnalysisContainer analysisContainer) {
+        // Only player table values, see getPlayerTableValues
         return analysisContainer;
     }
-}
\ No newline at end of file
+
+    @Override
+    public Map<String, Map<UUID, ? extends Serializable>> getPlayerTableValues(Collection<UUID> uuids) throws Exception {
+        Map<String, Map<UUID, ? extends Serializable>> columns = new HashMap<>();
+        columns.put(getWithIcon("Kicked for Hacking", Icon.called("exclamation-triangle")), table.getHackKickCounts());
+        return columns;
+    }
+}
@@ -10,7 +10,6 @@ import com.djrapitops.plan.system.database.databases.sql.SQLDB;
 import com.djrapitops.plan.system.database.databases.sql.processing.ExecStatement;
 import com.djrapitops.plan.system.database.databases.sql.processing.QueryAllStatement;
 import com.djrapitops.plan.system.database.databases.sql.processing.QueryStatement;
-import com.djrapitops.plan.system.database.databases.sql.statements.Select;
 import com.djrapitops.plan.system.database.databases.sql.tables.Table;
 import me.konsolas.aac.api.HackType;
 
@@ -75,21 +74,23 @@ public class HackerTable extends Table {
         });
     }
 
-    public Map<UUID, List<HackObject>> getHackObjects() throws SQLException {
-        return query(new QueryAllStatement<Map<UUID, List<HackObject>>>(Select.all(tableName).toString(), 5000) {
+    /**
+     * Count the times each player has been kicked for possible hacking.
+     *
+     * @return Map of UUID - kick count.
+     * @throws SQLException If the query fails.
+     */
+    public Map<UUID, Integer> getHackKickCounts() throws SQLException {
+        String sql = "SELECT " + columnUUID + ", COUNT(1) as c FROM " + tableName + " GROUP BY " + columnUUID;
+
+        return query(new QueryAllStatement<Map<UUID, Integer>>(sql, 5000) {
             @Override
-            public Map<UUID, List<HackObject>> processResults(ResultSet set) throws SQLException {
-                Map<UUID, List<HackObject>> hackObjects = new HashMap<>();
+            public Map<UUID, Integer> processResults(ResultSet set) throws SQLException {
+                Map<UUID, Integer> kickCounts = new HashMap<>();
                 while (set.next()) {
-                    UUID uuid = UUID.fromString(set.getString(columnUUID));
-                    long date = set.getLong(columnDate);
-                    HackType hackType = HackType.valueOf(set.getString(columnHackType));
-                    int violationLevel = set.getInt(columnViolations);
-                    List<HackObject> list = hackObjects.getOrDefault(uuid, new ArrayList<>());
-                    list.add(new HackObject(uuid, date, hackType, violationLevel));
-                    hackObjects.put(uuid, list);
+                    kickCounts.put(UUID.fromString(set.getString(columnUUID)), set.getInt("c"));
                 }
-                return hackObjects;
+                return kickCounts;
             }
         });
     }
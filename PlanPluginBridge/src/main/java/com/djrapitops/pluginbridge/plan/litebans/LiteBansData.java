@@ -53,48 +53,20 @@ public class LiteBansData extends PluginData implements BanData {
         table.setColor("red");
 
         try {
-            List<LiteBansDBObj> bans = db.getBans(uuid);
-            List<LiteBansDBObj> mutes = db.getMutes(uuid);
-            List<LiteBansDBObj> warns = db.getWarnings(uuid);
-            List<LiteBansDBObj> kicks = db.getKicks(uuid);
-            if (bans.isEmpty() && mutes.isEmpty() && warns.isEmpty() && kicks.isEmpty()) {
+            Map<String, List<LiteBansDBObj>> punishments = db.getPunishments(uuid);
+            if (punishments.values().stream().allMatch(List::isEmpty)) {
                 table.addRow("None");
             } else {
-                for (LiteBansDBObj ban : bans) {
-                    long expiry = ban.getExpiry();
-                    String expires = expiry <= 0 ? "Never" : FormatUtils.formatTimeStampSecond(expiry);
-                    table.addRow(
-                            "<span title=\"" + ban.getReason() + "\">Ban</span>",
-                            Html.LINK.parse(PlanAPI.getInstance().getPlayerInspectPageLink(ban.getBannedBy()), ban.getBannedBy()),
-                            expires
-                    );
-                }
-                for (LiteBansDBObj mute : mutes) {
-                    long expiry = mute.getExpiry();
-                    String expires = expiry <= 0 ? "Never" : FormatUtils.formatTimeStampSecond(expiry);
-                    table.addRow(
-                            "<span title=\"" + mute.getReason() + "\">Mute</span>",
-                            Html.LINK.parse(PlanAPI.getInstance().getPlayerInspectPageLink(mute.getBannedBy()), mute.getBannedBy()),
-                            expires
-                    );
-                }
-                for (LiteBansDBObj warn : warns) {
-                    long expiry = warn.getExpiry();
-                    String expires = expiry <= 0 ? "Never" : FormatUtils.formatTimeStampSecond(expiry);
-                    table.addRow(
-                            "<span title=\"" + warn.getReason() + "\">Warning</span>",
-                            Html.LINK.parse(PlanAPI.getInstance().getPlayerInspectPageLink(warn.getBannedBy()), warn.getBannedBy()),
-                            expires
-                    );
-                }
-                for (LiteBansDBObj kick : kicks) {
-                    long expiry = kick.getExpiry();
-                    String expires = expiry <= 0 ? "Never" : FormatUtils.formatTimeStampSecond(expiry);
-                    table.addRow(
-                            "<span title=\"" + kick.getReason() + "\">Kick</span>",
-                            Html.LINK.parse(PlanAPI.getInstance().getPlayerInspectPageLink(kick.getBannedBy()), kick.getBannedBy()),
-                            expires
-                    );
+                for (Map.Entry<String, List<LiteBansDBObj>> entry : punishments.entrySet()) {
+                    for (LiteBansDBObj punishment : entry.getValue()) {
+                        long expiry = punishment.getExpiry();
+                        String expires = expiry <= 0 ? "Never" : FormatUtils.formatTimeStampSecond(expiry);
+                        table.addRow(
+                                "<span title=\"" + punishment.getReason() + "\">" + entry.getKey() + "</span>",
+                                Html.LINK.parse(PlanAPI.getInstance().getPlayerInspectPageLink(punishment.getBannedBy()), punishment.getBannedBy()),
+                                expires
+                        );
+                    }
                 }
             }
         } catch (DBOpException ex) {
@@ -213,10 +185,7 @@ public class LiteBansData extends PluginData implements BanData {
     @Override
     public Collection<UUID> filterBanned(Collection<UUID> collection) {
         try {
-            Set<UUID> banned = db.getBans().stream()
-                    .filter(LiteBansDBObj::isActive)
-                    .map(LiteBansDBObj::getUuid)
-                    .collect(Collectors.toSet());
+            Set<UUID> banned = db.getActiveBanUUIDs();
 
             return collection.stream().filter(banned::contains).collect(Collectors.toSet());
         } catch (DBOpException e) {
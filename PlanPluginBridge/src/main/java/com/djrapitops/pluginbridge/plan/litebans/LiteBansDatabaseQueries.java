@@ -9,9 +9,7 @@ import litebans.api.Database;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 
 /**
  * Class responsible for making queries to LiteBans database.
@@ -30,8 +28,12 @@ public class LiteBansDatabaseQueries extends Table {
     private final String selectSQL;
 
     public LiteBansDatabaseQueries(String tablePrefix) {
+        this(Database.get(), tablePrefix);
+    }
+
+    LiteBansDatabaseQueries(Database database, String tablePrefix) {
         super("litebans", null);
-        database = Database.get();
+        this.database = database;
         banTable = tablePrefix + "bans";
         mutesTable = tablePrefix + "mutes";
         warningsTable = tablePrefix + "warnings";
@@ -78,40 +80,104 @@ public class LiteBansDatabaseQueries extends Table {
     private List<LiteBansDBObj> processIntoObjects(ResultSet set) throws SQLException {
         List<LiteBansDBObj> objs = new ArrayList<>();
         while (set.next()) {
-            String uuidS = set.getString("uuid");
-            if (uuidS == null) {
-                continue;
-            }
-            UUID uuid;
-            try {
-                uuid = UUID.fromString(uuidS);
-            } catch (IllegalArgumentException e) {
-                continue;
-            }
-            String reason = set.getString("reason");
-            String bannedBy = set.getString("banned_by_name");
-            long until = set.getLong("until");
-            long time = set.getLong("time");
-            boolean active = set.getBoolean("active");
-            objs.add(new LiteBansDBObj(uuid, reason, bannedBy, until, active, time));
+            processIntoObject(set).ifPresent(objs::add);
         }
         return objs;
     }
 
+    private Optional<LiteBansDBObj> processIntoObject(ResultSet set) throws SQLException {
+        String uuidS = set.getString("uuid");
+        if (uuidS == null) {
+            return Optional.empty();
+        }
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(uuidS);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        String reason = set.getString("reason");
+        String bannedBy = set.getString("banned_by_name");
+        long until = set.getLong("until");
+        long time = set.getLong("time");
+        boolean active = set.getBoolean("active");
+        return Optional.of(new LiteBansDBObj(uuid, reason, bannedBy, until, active, time));
+    }
+
     public List<LiteBansDBObj> getBans(UUID playerUUID) {
         return getObjs(playerUUID, banTable);
     }
 
-    public List<LiteBansDBObj> getMutes(UUID playerUUID) {
-        return getObjs(playerUUID, mutesTable);
-    }
+    /**
+     * Get bans, mutes, warnings and kicks of a player with a single query.
+     *
+     * @param playerUUID UUID of the player.
+     * @return Map of Punishment name (Ban, Mute, Warning, Kick) - punishments, in that order.
+     */
+    public Map<String, List<LiteBansDBObj>> getPunishments(UUID playerUUID) {
+        String[][] punishmentTables = {
+                {"Ban", banTable}, {"Mute", mutesTable}, {"Warning", warningsTable}, {"Kick", kicksTable}
+        };
+        // UNION ALL needs the same columns from every table: LiteBans 2.x (API 0.3) creates bans, mutes,
+        // warnings and kicks with the same punishment columns, kicks included. Check selectSQL too if that changes.
+        StringBuilder sql = new StringBuilder();
+        for (String[] punishmentTable : punishmentTables) {
+            if (sql.length() > 0) {
+                sql.append(" UNION ALL ");
+            }
+            sql.append("SELECT '").append(punishmentTable[0])
+                    .append("' as punishment, uuid, reason, banned_by_name, until, active, time FROM ")
+                    .append(punishmentTable[1]).append(" WHERE uuid=?");
+        }
+
+        return query(new QueryStatement<Map<String, List<LiteBansDBObj>>>(sql.toString()) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (int i = 1; i <= punishmentTables.length; i++) {
+                    statement.setString(i, playerUUID.toString());
+                }
+            }
 
-    public List<LiteBansDBObj> getWarnings(UUID playerUUID) {
-        return getObjs(playerUUID, warningsTable);
+            @Override
+            public Map<String, List<LiteBansDBObj>> processResults(ResultSet set) throws SQLException {
+                Map<String, List<LiteBansDBObj>> punishments = new LinkedHashMap<>();
+                for (String[] punishmentTable : punishmentTables) {
+                    punishments.put(punishmentTable[0], new ArrayList<>());
+                }
+                while (set.next()) {
+                    String punishment = set.getString("punishment");
+                    processIntoObject(set).ifPresent(obj -> punishments.get(punishment).add(obj));
+                }
+                return punishments;
+            }
+        });
     }
 
-    public List<LiteBansDBObj> getKicks(UUID playerUUID) {
-        return getObjs(playerUUID, kicksTable);
+    public Set<UUID> getActiveBanUUIDs() {
+        String sql = "SELECT uuid FROM " + banTable + " WHERE active=?";
+
+        return query(new QueryStatement<Set<UUID>>(sql, 2000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setBoolean(1, true);
+            }
+
+            @Override
+            public Set<UUID> processResults(ResultSet set) throws SQLException {
+                Set<UUID> banned = new HashSet<>();
+                while (set.next()) {
+                    String uuidS = set.getString("uuid");
+                    try {
+                        if (uuidS != null) {
+                            banned.add(UUID.fromString(uuidS));
+                        }
+                    } catch (IllegalArgumentException ignore) {
+                        /* Not a player UUID, for example an IP ban */
+                    }
+                }
+                return banned;
+            }
+        });
     }
 
     private List<LiteBansDBObj> getObjs(UUID playerUUID, String table) {
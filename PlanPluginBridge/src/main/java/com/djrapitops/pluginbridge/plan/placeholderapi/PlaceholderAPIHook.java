@@ -1,5 +1,6 @@
 package com.djrapitops.pluginbridge.plan.placeholderapi;
 
+import com.djrapitops.plan.Plan;
 import com.djrapitops.plan.data.plugin.HookHandler;
 import com.djrapitops.pluginbridge.plan.Hook;
 import me.clip.placeholderapi.PlaceholderAPI;
@@ -24,8 +25,10 @@ public class PlaceholderAPIHook extends Hook {
 
     public void hook() throws NoClassDefFoundError {
         if (enabled) {
+            PlanPlaceholders placeholders = new PlanPlaceholders();
             PlaceholderAPI.unregisterPlaceholderHook("plan");
-            PlaceholderAPI.registerPlaceholderHook("plan", new PlanPlaceholders());
+            PlaceholderAPI.registerPlaceholderHook("plan", placeholders);
+            Plan.getInstance().registerListener(placeholders);
         }
     }
 }
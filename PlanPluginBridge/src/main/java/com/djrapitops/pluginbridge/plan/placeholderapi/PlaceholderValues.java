@@ -0,0 +1,196 @@
+/*
+ * Licence is provided in the jar as license.yml also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/license.yml
+ */
+package com.djrapitops.pluginbridge.plan.placeholderapi;
+
+import com.djrapitops.plan.api.exceptions.database.DBOpException;
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.containers.PlayerContainer;
+import com.djrapitops.plan.data.store.containers.ServerContainer;
+import com.djrapitops.plan.data.store.keys.PlayerKeys;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.system.cache.SessionCache;
+import com.djrapitops.plan.system.database.databases.Database;
+import com.djrapitops.plan.system.info.server.ServerInfo;
+import com.djrapitops.plan.system.processing.Processing;
+import com.djrapitops.plugin.api.TimeAmount;
+import com.djrapitops.plugin.api.utility.log.Log;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Snapshots of placeholder values, so that placeholder requests never wait for the database.
+ * <p>
+ * Server values are refreshed every minute. Player values are refreshed every 30 seconds, and when the active
+ * session of the player is not the one the values were calculated with.
+ * Refreshing is done on a processing thread, previous values are given until it is done.
+ * Values of a player are removed when they leave, see {@link #removePlayer(UUID)}. Values are only kept for players
+ * with an active session, so a refresh that finishes after the player has left does not add them back.
+ *
+ * @author Rsl1122
+ */
+public class PlaceholderValues {
+
+    private static final long SERVER_REFRESH_MS = TimeAmount.MINUTE.ms();
+    private static final long PLAYER_REFRESH_MS = TimeAmount.SECOND.ms() * 30L;
+    private static final long NO_SESSION = -1L;
+
+    private final Function<ServerContainer, Map<String, String>> serverValues;
+    private final Function<PlayerContainer, Map<String, String>> playerValues;
+    private final Supplier<ServerContainer> serverContainer;
+    private final Function<UUID, PlayerContainer> playerContainer;
+    private final Consumer<Runnable> executor;
+
+    private volatile Snapshot serverSnapshot;
+    private final AtomicBoolean refreshingServer;
+    private final Map<UUID, Snapshot> playerSnapshots;
+    private final Map<UUID, Boolean> refreshingPlayers;
+
+    /**
+     * Create a new PlaceholderValues.
+     *
+     * @param serverValues Function that calculates all server placeholders.
+     * @param playerValues Function that calculates all player placeholders.
+     */
+    public PlaceholderValues(
+            Function<ServerContainer, Map<String, String>> serverValues,
+            Function<PlayerContainer, Map<String, String>> playerValues
+    ) {
+        this(
+                serverValues, playerValues,
+                () -> Database.getActive().fetch().getServerContainer(ServerInfo.getServerUUID()),
+                uuid -> Database.getActive().fetch().getPlayerContainer(uuid),
+                Processing::submitNonCritical
+        );
+    }
+
+    PlaceholderValues(
+            Function<ServerContainer, Map<String, String>> serverValues,
+            Function<PlayerContainer, Map<String, String>> playerValues,
+            Supplier<ServerContainer> serverContainer,
+            Function<UUID, PlayerContainer> playerContainer,
+            Consumer<Runnable> executor
+    ) {
+        this.serverValues = serverValues;
+        this.playerValues = playerValues;
+        this.serverContainer = serverContainer;
+        this.playerContainer = playerContainer;
+        this.executor = executor;
+
+        refreshingServer = new AtomicBoolean(false);
+        playerSnapshots = new ConcurrentHashMap<>();
+        refreshingPlayers = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get a value of a server placeholder.
+     *
+     * @param identifier Lowercase identifier of the placeholder.
+     * @return Value, or null if the values have not been calculated yet.
+     */
+    public String getServerValue(String identifier) {
+        Snapshot snapshot = serverSnapshot;
+        if (snapshot == null || snapshot.isOlderThan(System.currentTimeMillis() - SERVER_REFRESH_MS)) {
+            refreshServerValues();
+        }
+        return snapshot != null ? snapshot.get(identifier) : null;
+    }
+
+    /**
+     * Get a value of a player placeholder.
+     *
+     * @param uuid       UUID of the player.
+     * @param identifier Lowercase identifier of the placeholder.
+     * @return Value, or null if the values of the player have not been calculated yet.
+     */
+    public String getPlayerValue(UUID uuid, String identifier) {
+        Snapshot snapshot = playerSnapshots.get(uuid);
+        if (snapshot == null
+                || snapshot.sessionStart != getSessionStart(SessionCache.getCachedSession(uuid))
+                || snapshot.isOlderThan(System.currentTimeMillis() - PLAYER_REFRESH_MS)) {
+            refreshPlayerValues(uuid);
+        }
+        return snapshot != null ? snapshot.get(identifier) : null;
+    }
+
+    /**
+     * Remove the values of a player who has left the server.
+     *
+     * @param uuid UUID of the player.
+     */
+    public void removePlayer(UUID uuid) {
+        // Marked as left first, so an ongoing refresh either sees the mark or finishes before the removal.
+        refreshingPlayers.computeIfPresent(uuid, (player, left) -> true);
+        playerSnapshots.remove(uuid);
+    }
+
+    private long getSessionStart(Optional<Session> session) {
+        return session.map(active -> active.getUnsafe(SessionKeys.START)).orElse(NO_SESSION);
+    }
+
+    private void refreshServerValues() {
+        if (!refreshingServer.compareAndSet(false, true)) {
+            return;
+        }
+        executor.accept(() -> {
+            try {
+                serverSnapshot = new Snapshot(serverValues.apply(serverContainer.get()), NO_SESSION);
+            } catch (DBOpException e) {
+                Log.toLog(this.getClass(), e);
+            } finally {
+                refreshingServer.set(false);
+            }
+        });
+    }
+
+    private void refreshPlayerValues(UUID uuid) {
+        if (refreshingPlayers.putIfAbsent(uuid, false) != null) {
+            return;
+        }
+        executor.accept(() -> {
+            Snapshot snapshot = null;
+            try {
+                Optional<Session> activeSession = SessionCache.getCachedSessionSnapshot(uuid);
+                PlayerContainer container = playerContainer.apply(uuid);
+                activeSession.ifPresent(session -> container.putRawData(PlayerKeys.ACTIVE_SESSION, session));
+                snapshot = new Snapshot(playerValues.apply(container), getSessionStart(activeSession));
+            } catch (DBOpException e) {
+                Log.toLog(this.getClass(), e);
+            } finally {
+                Snapshot refreshed = snapshot;
+                refreshingPlayers.compute(uuid, (player, left) -> {
+                    if (refreshed != null && !left && SessionCache.getCachedSession(uuid).isPresent()) {
+                        playerSnapshots.put(uuid, refreshed);
+                    }
+                    return null;
+                });
+            }
+        });
+    }
+
+    private static class Snapshot {
+        private final Map<String, String> values;
+        private final long sessionStart;
+        private final long created;
+
+        private Snapshot(Map<String, String> values, long sessionStart) {
+            this.values = values;
+            this.sessionStart = sessionStart;
+            created = System.currentTimeMillis();
+        }
+
+        private String get(String identifier) {
+            return values.get(identifier);
+        }
+
+        private boolean isOlderThan(long time) {
+            return created < time;
+        }
+    }
+}
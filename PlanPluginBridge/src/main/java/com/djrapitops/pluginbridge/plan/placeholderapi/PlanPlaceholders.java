@@ -8,27 +8,46 @@ import com.djrapitops.plan.data.store.keys.PlayerKeys;
 import com.djrapitops.plan.data.store.mutators.*;
 import com.djrapitops.plan.data.store.mutators.formatting.Formatters;
 import com.djrapitops.plan.system.PlanSystem;
-import com.djrapitops.plan.system.database.databases.Database;
-import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plugin.api.TimeAmount;
 import com.djrapitops.plugin.api.utility.log.Log;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
 
 import java.io.Serializable;
-import java.util.UUID;
+import java.util.*;
 
 /**
  * Placeholders of Plan.
+ * <p>
+ * Server and player values are given from {@link PlaceholderValues}, as placeholders are requested on the server
+ * thread, sometimes every second for each player. Values of a player are removed when they leave.
  *
  * @author Rsl1122
  */
-public class PlanPlaceholders extends PlaceholderExpansion {
+public class PlanPlaceholders extends PlaceholderExpansion implements Listener {
+
+    private static final Set<String> SERVER_PLACEHOLDERS = new HashSet<>(Arrays.asList(
+            "players_total", "players_new_day", "players_new_week", "players_new_month",
+            "players_unique_day", "players_unique_week", "players_unique_month",
+            "playtime_total", "session_avg", "session_count",
+            "kills_players", "kills_mobs", "deaths_total", "tps_day", "tps_drops_week"
+    ));
+    private static final Set<String> PLAYER_PLACEHOLDERS = new HashSet<>(Arrays.asList(
+            "playtime", "playtime_day", "playtime_week", "playtime_month",
+            "geolocation", "activity_index", "registered", "last_seen",
+            "player_kills", "mob_kills", "deaths"
+    ));
 
     private final PlanPlugin plugin;
+    private final PlaceholderValues values;
 
     public PlanPlaceholders() {
         plugin = PlanPlugin.getInstance();
+        values = new PlaceholderValues(this::getServerValues, this::getPlayerValues);
     }
 
     @Override
@@ -51,29 +70,27 @@ public class PlanPlaceholders extends PlaceholderExpansion {
         return plugin.getVersion();
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        values.removePlayer(event.getPlayer().getUniqueId());
+    }
+
     @Override
     public String onPlaceholderRequest(Player player, String identifier) {
-        Serializable planValue = getPlanValue(identifier);
-        if (planValue != null) {
-            return planValue.toString();
+        String placeholder = identifier.toLowerCase();
+        if (SERVER_PLACEHOLDERS.contains(placeholder)) {
+            return values.getServerValue(placeholder);
         }
-        Serializable serverValue = getServerValue(identifier);
-        if (serverValue != null) {
-            return serverValue.toString();
+        if (PLAYER_PLACEHOLDERS.contains(placeholder)) {
+            return player != null ? values.getPlayerValue(player.getUniqueId(), placeholder) : null;
         }
 
-        if (player != null) {
-            Serializable playerValue = getPlayerValue(player, identifier);
-            if (playerValue != null) {
-                return playerValue.toString();
-            }
-        }
-
-        return null;
+        Serializable planValue = getPlanValue(placeholder);
+        return planValue != null ? planValue.toString() : null;
     }
 
     private Serializable getPlanValue(String identifier) {
-        switch (identifier.toLowerCase()) {
+        switch (identifier) {
             case "address":
                 return PlanSystem.getInstance().getWebServerSystem().getWebServer().getAccessAddress();
             default:
@@ -81,9 +98,29 @@ public class PlanPlaceholders extends PlaceholderExpansion {
         }
     }
 
-    private Serializable getServerValue(String identifier) {
-        ServerContainer serverContainer = Database.getActive().fetch().getServerContainer(ServerInfo.getServerUUID());
+    private Map<String, String> getServerValues(ServerContainer serverContainer) {
+        Map<String, String> serverValues = new HashMap<>();
+        for (String identifier : SERVER_PLACEHOLDERS) {
+            Serializable value = getServerValue(serverContainer, identifier);
+            if (value != null) {
+                serverValues.put(identifier, value.toString());
+            }
+        }
+        return serverValues;
+    }
+
+    private Map<String, String> getPlayerValues(PlayerContainer playerContainer) {
+        Map<String, String> playerValues = new HashMap<>();
+        for (String identifier : PLAYER_PLACEHOLDERS) {
+            Serializable value = getPlayerValue(playerContainer, identifier);
+            if (value != null) {
+                playerValues.put(identifier, value.toString());
+            }
+        }
+        return playerValues;
+    }
 
+    private Serializable getServerValue(ServerContainer serverContainer, String identifier) {
         long now = System.currentTimeMillis();
         long dayAgo = now - TimeAmount.DAY.ms();
         long weekAgo = now - TimeAmount.WEEK.ms();
@@ -91,7 +128,7 @@ public class PlanPlaceholders extends PlaceholderExpansion {
 
         try {
             PlayersMutator playersMutator = PlayersMutator.forContainer(serverContainer);
-            switch (identifier.toLowerCase()) {
+            switch (identifier) {
                 case "players_total":
                     return playersMutator.count();
                 case "players_new_day":
@@ -131,10 +168,7 @@ public class PlanPlaceholders extends PlaceholderExpansion {
         return null;
     }
 
-    private Serializable getPlayerValue(Player player, String identifier) {
-        UUID uuid = player.getUniqueId();
-        PlayerContainer playerContainer = Database.getActive().fetch().getPlayerContainer(uuid);
-
+    private Serializable getPlayerValue(PlayerContainer playerContainer, String identifier) {
         long now = System.currentTimeMillis();
         long dayAgo = now - TimeAmount.DAY.ms();
         long weekAgo = now - TimeAmount.WEEK.ms();
@@ -142,7 +176,7 @@ public class PlanPlaceholders extends PlaceholderExpansion {
 
         try {
             SessionsMutator sessionsMutator = SessionsMutator.forContainer(playerContainer);
-            switch (identifier.toLowerCase()) {
+            switch (identifier) {
                 case "playtime":
                     return Formatters.timeAmount().apply(sessionsMutator.toPlaytime());
                 case "playtime_day":
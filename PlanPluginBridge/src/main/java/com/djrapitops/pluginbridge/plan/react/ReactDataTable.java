@@ -55,19 +55,22 @@ public class ReactDataTable extends Table {
         });
     }
 
-    public void addData(ReactValue value) throws SQLException {
+    public void addData(List<ReactValue> values) throws SQLException {
         String sql = "INSERT INTO " + tableName + " (" +
                 Col.SAMPLED_TYPE + ", " +
                 Col.DATE + ", " +
                 Col.MINUTE_AVERAGE +
                 ") VALUES (?, ?, ?)";
 
-        execute(new ExecStatement(sql) {
+        executeBatch(new ExecStatement(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, value.getType().name());
-                statement.setLong(2, value.getDate());
-                statement.setDouble(3, value.getDataValue());
+                for (ReactValue value : values) {
+                    statement.setString(1, value.getType().name());
+                    statement.setLong(2, value.getDate());
+                    statement.setDouble(3, value.getDataValue());
+                    statement.addBatch();
+                }
             }
         });
     }
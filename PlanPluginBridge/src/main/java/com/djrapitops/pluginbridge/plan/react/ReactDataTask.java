@@ -56,8 +56,12 @@ public class ReactDataTask extends AbsRunnable {
         try {
             GMap<SampledType, GraphSampleLine> samplers = React.instance.graphController.getG();
 
+            Map<SampledType, List<ReactValue>> toStore = new EnumMap<>(SampledType.class);
             for (SampledType type : STORED_TYPES) {
-                processType(samplers, type);
+                processType(samplers, type, toStore);
+            }
+            if (!toStore.isEmpty()) {
+                Processing.submitNonCritical(new ValueStoringProcessor(table, toStore));
             }
         } catch (Exception e) {
             Log.toLog(this.getClass(), e);
@@ -65,7 +69,7 @@ public class ReactDataTask extends AbsRunnable {
         }
     }
 
-    private void processType(GMap<SampledType, GraphSampleLine> samplers, SampledType type) {
+    private void processType(GMap<SampledType, GraphSampleLine> samplers, SampledType type, Map<SampledType, List<ReactValue>> toStore) {
         GMap<Long, Double> values = samplers.get(type).getPlotBoard().getBetween(M.ms() - 10000, M.ms());
         if (values.isEmpty()) {
             return;
@@ -77,7 +81,7 @@ public class ReactDataTask extends AbsRunnable {
                 .forEachOrdered(storedValues::add);
 
         if (storedValues.get(0).getDate() < System.currentTimeMillis() - TimeAmount.MINUTE.ms()) {
-            Processing.submitNonCritical(new ValueStoringProcessor(table, type, storedValues));
+            toStore.put(type, storedValues);
             history.remove(type);
         } else {
             history.put(type, storedValues);
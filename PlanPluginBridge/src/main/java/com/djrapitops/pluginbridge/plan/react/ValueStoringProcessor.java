@@ -4,41 +4,49 @@ import com.djrapitops.plugin.api.utility.log.Log;
 import com.volmit.react.api.SampledType;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Processor in charge of turning values into single numbers.
+ * <p>
+ * Averages of all types are stored with a single batch.
  *
  * @author Rsl1122
  */
 public class ValueStoringProcessor implements Runnable {
 
     private final ReactDataTable table;
-    private final SampledType type;
-    private final List<ReactValue> values;
+    private final Map<SampledType, List<ReactValue>> values;
 
-    public ValueStoringProcessor(ReactDataTable table, SampledType type, List<ReactValue> values) {
+    public ValueStoringProcessor(ReactDataTable table, Map<SampledType, List<ReactValue>> values) {
         this.table = table;
-        this.type = type;
         this.values = values;
     }
 
     @Override
     public void run() {
-        ReactValue average = avgValue(values);
+        List<ReactValue> averages = new ArrayList<>();
+        for (Map.Entry<SampledType, List<ReactValue>> entry : values.entrySet()) {
+            ReactValue average = avgValue(entry.getKey(), entry.getValue());
+            if (average != null) {
+                averages.add(average);
+            }
+        }
 
-        if (average == null) {
+        if (averages.isEmpty()) {
             return;
         }
 
         try {
-            table.addData(average);
+            table.addData(averages);
         } catch (SQLException e) {
             Log.toLog(this.getClass(), e);
         }
     }
 
-    private ReactValue avgValue(List<ReactValue> values) {
+    private ReactValue avgValue(SampledType type, List<ReactValue> values) {
         if (values.isEmpty()) {
             return null;
         }
@@ -0,0 +1,63 @@
+/*
+ * Licence is provided in the jar as license.yml also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/license.yml
+ */
+package com.djrapitops.pluginbridge.plan.aac;
+
+import me.konsolas.aac.api.HackType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import utilities.SQLiteMockUtil;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link HackerTable}.
+ *
+ * @author Rsl1122
+ */
+public class HackerTableTest {
+
+    private Connection connection;
+    private HackerTable table;
+
+    @Before
+    public void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+        table = new HackerTable(SQLiteMockUtil.mockSQLDB(connection));
+        table.createTable();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    public void noKicksGiveEmptyCounts() throws Exception {
+        assertTrue(table.getHackKickCounts().isEmpty());
+    }
+
+    @Test
+    public void kicksAreCountedPerPlayer() throws Exception {
+        UUID hacker = UUID.randomUUID();
+        UUID otherHacker = UUID.randomUUID();
+        table.insertHackRow(new HackObject(hacker, 1000L, HackType.FLY, 10));
+        table.insertHackRow(new HackObject(hacker, 2000L, HackType.SPEED, 20));
+        table.insertHackRow(new HackObject(hacker, 3000L, HackType.FLY, 30));
+        table.insertHackRow(new HackObject(otherHacker, 4000L, HackType.SPEED, 40));
+
+        Map<UUID, Integer> kickCounts = table.getHackKickCounts();
+
+        assertEquals(2, kickCounts.size());
+        assertEquals(3, (int) kickCounts.get(hacker));
+        assertEquals(1, (int) kickCounts.get(otherHacker));
+    }
+}
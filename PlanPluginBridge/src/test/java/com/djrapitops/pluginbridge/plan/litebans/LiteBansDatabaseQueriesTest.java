@@ -0,0 +1,107 @@
+/*
+ * Licence is provided in the jar as license.yml also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/license.yml
+ */
+package com.djrapitops.pluginbridge.plan.litebans;
+
+import litebans.api.Database;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.*;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link LiteBansDatabaseQueries} against tables with the LiteBans punishment columns.
+ *
+ * @author Rsl1122
+ */
+public class LiteBansDatabaseQueriesTest {
+
+    private static final String[] TABLES = {"litebans_bans", "litebans_mutes", "litebans_warnings", "litebans_kicks"};
+
+    private final UUID player = UUID.randomUUID();
+    private final UUID otherPlayer = UUID.randomUUID();
+
+    private Connection connection;
+    private LiteBansDatabaseQueries queries;
+
+    @Before
+    public void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement statement = connection.createStatement()) {
+            for (String table : TABLES) {
+                statement.execute("CREATE TABLE " + table + " (id integer PRIMARY KEY, uuid varchar(36), " +
+                        "ip varchar(45), reason varchar(2048), banned_by_uuid varchar(36), " +
+                        "banned_by_name varchar(128), time bigint NOT NULL, until bigint NOT NULL, " +
+                        "active boolean NOT NULL)");
+            }
+        }
+        Database database = mock(Database.class);
+        doAnswer(invocation -> connection.prepareStatement(invocation.getArgument(0)))
+                .when(database).prepareStatement(anyString());
+        queries = new LiteBansDatabaseQueries(database, "litebans_");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        connection.close();
+    }
+
+    private void insert(String table, UUID uuid, String reason, long time, boolean active) throws Exception {
+        String sql = "INSERT INTO " + table + " (uuid, reason, banned_by_name, time, until, active) " +
+                "VALUES (?, ?, 'Admin', ?, ?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, uuid != null ? uuid.toString() : "#");
+            statement.setString(2, reason);
+            statement.setLong(3, time);
+            statement.setLong(4, time + 1000L);
+            statement.setBoolean(5, active);
+            statement.execute();
+        }
+    }
+
+    @Test
+    public void punishmentsAreGroupedByTableInOrder() throws Exception {
+        insert("litebans_kicks", player, "Kicked", 4000L, false);
+        insert("litebans_bans", player, "Banned", 1000L, true);
+        insert("litebans_warnings", player, "Warned once", 2000L, true);
+        insert("litebans_warnings", player, "Warned twice", 3000L, true);
+        insert("litebans_mutes", otherPlayer, "Muted", 5000L, true);
+
+        Map<String, List<LiteBansDBObj>> punishments = queries.getPunishments(player);
+
+        assertEquals(Arrays.asList("Ban", "Mute", "Warning", "Kick"), new ArrayList<>(punishments.keySet()));
+        assertEquals(1, punishments.get("Ban").size());
+        assertTrue(punishments.get("Mute").isEmpty());
+        assertEquals(2, punishments.get("Warning").size());
+        assertEquals(1, punishments.get("Kick").size());
+
+        LiteBansDBObj ban = punishments.get("Ban").get(0);
+        assertEquals(player, ban.getUuid());
+        assertEquals("Banned", ban.getReason());
+        assertEquals("Admin", ban.getBannedBy());
+        assertEquals(1000L, ban.getTime());
+        assertEquals(2000L, ban.getExpiry());
+        assertTrue(ban.isActive());
+        assertFalse(punishments.get("Kick").get(0).isActive());
+    }
+
+    @Test
+    public void activeBansSkipInactiveAndIpBans() throws Exception {
+        insert("litebans_bans", player, "Banned", 1000L, true);
+        insert("litebans_bans", otherPlayer, "Unbanned", 1000L, false);
+        insert("litebans_bans", null, "IP ban", 1000L, true);
+
+        assertEquals(Collections.singleton(player), queries.getActiveBanUUIDs());
+    }
+}
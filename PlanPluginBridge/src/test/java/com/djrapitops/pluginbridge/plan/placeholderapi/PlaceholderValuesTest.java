@@ -0,0 +1,139 @@
+/*
+ * Licence is provided in the jar as license.yml also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/license.yml
+ */
+package com.djrapitops.pluginbridge.plan.placeholderapi;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.containers.PlayerContainer;
+import com.djrapitops.plan.data.store.containers.ServerContainer;
+import com.djrapitops.plan.system.cache.SessionCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link PlaceholderValues}.
+ *
+ * @author Rsl1122
+ */
+public class PlaceholderValuesTest {
+
+    private final UUID uuid = UUID.randomUUID();
+
+    private List<Runnable> submitted;
+    private AtomicInteger playerLoads;
+    private PlaceholderValues values;
+
+    @Before
+    public void setUp() {
+        submitted = new ArrayList<>();
+        playerLoads = new AtomicInteger();
+        values = new PlaceholderValues(
+                server -> Collections.singletonMap("players_total", "5"),
+                player -> Collections.singletonMap("playtime", Integer.toString(playerLoads.get())),
+                ServerContainer::new,
+                loaded -> {
+                    playerLoads.incrementAndGet();
+                    return new PlayerContainer();
+                },
+                submitted::add
+        );
+    }
+
+    @After
+    public void tearDown() {
+        SessionCache.clear();
+    }
+
+    private void runSubmitted() {
+        List<Runnable> toRun = new ArrayList<>(submitted);
+        submitted.clear();
+        toRun.forEach(Runnable::run);
+    }
+
+    private void startSession(long start) {
+        SessionCache.getActiveSessions().put(uuid, new Session(uuid, start, "World", "SURVIVAL"));
+    }
+
+    @Test
+    public void valuesAreNullUntilFirstLoad() {
+        startSession(1000L);
+        assertNull(values.getServerValue("players_total"));
+        assertNull(values.getPlayerValue(uuid, "playtime"));
+
+        runSubmitted();
+
+        assertEquals("5", values.getServerValue("players_total"));
+        assertEquals("1", values.getPlayerValue(uuid, "playtime"));
+    }
+
+    @Test
+    public void refreshIsSubmittedOnceWhileFresh() {
+        startSession(1000L);
+        values.getPlayerValue(uuid, "playtime");
+        values.getPlayerValue(uuid, "playtime");
+        values.getServerValue("players_total");
+        values.getServerValue("players_total");
+        assertEquals(2, submitted.size());
+
+        runSubmitted();
+        values.getPlayerValue(uuid, "playtime");
+        values.getServerValue("players_total");
+
+        assertTrue(submitted.isEmpty());
+        assertEquals(1, playerLoads.get());
+    }
+
+    @Test
+    public void newSessionRefreshesPlayerValues() {
+        startSession(1000L);
+        values.getPlayerValue(uuid, "playtime");
+        runSubmitted();
+
+        startSession(2000L);
+        assertEquals("1", values.getPlayerValue(uuid, "playtime"));
+        runSubmitted();
+
+        assertEquals("2", values.getPlayerValue(uuid, "playtime"));
+    }
+
+    @Test
+    public void valuesOfLeavingPlayerAreRemoved() {
+        startSession(1000L);
+        values.getPlayerValue(uuid, "playtime");
+        runSubmitted();
+
+        values.removePlayer(uuid);
+
+        assertNull(values.getPlayerValue(uuid, "playtime"));
+    }
+
+    @Test
+    public void refreshFinishingAfterQuitDoesNotKeepValues() {
+        startSession(1000L);
+        values.getPlayerValue(uuid, "playtime");
+
+        values.removePlayer(uuid);
+        runSubmitted();
+
+        assertNull(values.getPlayerValue(uuid, "playtime"));
+    }
+
+    @Test
+    public void valuesAreNotKeptWithoutSession() {
+        values.getPlayerValue(uuid, "playtime");
+        runSubmitted();
+
+        assertNull(values.getPlayerValue(uuid, "playtime"));
+        assertEquals(1, playerLoads.get());
+    }
+}
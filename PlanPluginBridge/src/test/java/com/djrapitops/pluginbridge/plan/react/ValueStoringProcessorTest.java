@@ -0,0 +1,86 @@
+/*
+ * Licence is provided in the jar as license.yml also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/license.yml
+ */
+package com.djrapitops.pluginbridge.plan.react;
+
+import com.djrapitops.plan.system.database.databases.sql.SQLDB;
+import com.volmit.react.api.SampledType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import utilities.SQLiteMockUtil;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link ValueStoringProcessor} storing averages with {@link ReactDataTable}.
+ *
+ * @author Rsl1122
+ */
+public class ValueStoringProcessorTest {
+
+    private Connection connection;
+    private SQLDB db;
+    private ReactDataTable table;
+
+    @Before
+    public void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+        db = SQLiteMockUtil.mockSQLDB(connection);
+        table = new ReactDataTable(db);
+        table.createTable();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    public void averagesOfAllTypesAreStoredWithOneBatch() throws Exception {
+        Map<SampledType, List<ReactValue>> values = new EnumMap<>(SampledType.class);
+        values.put(SampledType.ENT, Arrays.asList(
+                new ReactValue(SampledType.ENT, 1000L, 10.0),
+                new ReactValue(SampledType.ENT, 2000L, 20.0)
+        ));
+        values.put(SampledType.TICK, Arrays.asList(
+                new ReactValue(SampledType.TICK, 1000L, 5.0),
+                new ReactValue(SampledType.TICK, 2000L, 6.0),
+                new ReactValue(SampledType.TICK, 3000L, 7.0)
+        ));
+
+        new ValueStoringProcessor(table, values).run();
+
+        verify(db, times(1)).executeBatch(any());
+        Map<SampledType, List<ReactValue>> stored = table.getAllData();
+        assertEquals(2, stored.size());
+        assertAverage(1000L, 15.0, stored.get(SampledType.ENT));
+        assertAverage(1000L, 6.0, stored.get(SampledType.TICK));
+    }
+
+    @Test
+    public void emptyValuesAreNotStored() throws Exception {
+        Map<SampledType, List<ReactValue>> values = new EnumMap<>(SampledType.class);
+        values.put(SampledType.ENT, Collections.emptyList());
+
+        new ValueStoringProcessor(table, values).run();
+
+        verify(db, times(0)).executeBatch(any());
+        assertTrue(table.getAllData().isEmpty());
+    }
+
+    private void assertAverage(long expectedDate, double expectedAverage, List<ReactValue> stored) {
+        assertEquals(1, stored.size());
+        assertEquals(expectedDate, stored.get(0).getDate());
+        assertEquals(expectedAverage, stored.get(0).getDataValue(), 0.0001);
+    }
+}
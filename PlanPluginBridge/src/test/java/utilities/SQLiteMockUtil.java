@@ -0,0 +1,58 @@
+/*
+ * Licence is provided in the jar as license.yml also here:
+ * https://github.com/Rsl1122/Plan-PlayerAnalytics/blob/master/Plan/src/main/resources/license.yml
+ */
+package utilities;
+
+import com.djrapitops.plan.system.database.databases.sql.SQLDB;
+import com.djrapitops.plan.system.database.databases.sql.processing.ExecStatement;
+import com.djrapitops.plan.system.database.databases.sql.processing.QueryStatement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Mocks a SQLDB that runs the statements of Tables on a given SQLite connection.
+ *
+ * @author Rsl1122
+ */
+public class SQLiteMockUtil {
+
+    private SQLiteMockUtil() {
+        /* Static method class */
+    }
+
+    public static SQLDB mockSQLDB(Connection connection) {
+        SQLDB db = mock(SQLDB.class);
+        doReturn(false).when(db).isUsingMySQL();
+        doAnswer(invocation -> {
+            ExecStatement statement = invocation.getArgument(0);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(statement.getSql())) {
+                return statement.execute(preparedStatement);
+            }
+        }).when(db).execute(any(ExecStatement.class));
+        doAnswer(invocation -> {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(invocation.getArgument(0))) {
+                return preparedStatement.execute();
+            }
+        }).when(db).execute(anyString());
+        doAnswer(invocation -> {
+            ExecStatement statement = invocation.getArgument(0);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(statement.getSql())) {
+                statement.executeBatch(preparedStatement);
+            }
+            return null;
+        }).when(db).executeBatch(any(ExecStatement.class));
+        doAnswer(invocation -> {
+            QueryStatement<?> statement = invocation.getArgument(0);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(statement.getSql())) {
+                return statement.executeQuery(preparedStatement);
+            }
+        }).when(db).query(any(QueryStatement.class));
+        return db;
+    }
+}